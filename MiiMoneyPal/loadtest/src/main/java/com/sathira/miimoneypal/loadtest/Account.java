@@ -0,0 +1,15 @@
+package com.sathira.miimoneypal.loadtest;
+
+import java.util.List;
+
+/**
+ * A registered load-test user with the tokens and category IDs scenarios need.
+ */
+record Account(
+        String email,
+        String password,
+        String accessToken,
+        List<Long> expenseCategoryIds,
+        List<Long> incomeCategoryIds
+) {
+}
@@ -0,0 +1,118 @@
+package com.sathira.miimoneypal.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+/**
+ * Blocking HTTP client for the API that records latency and status per endpoint.
+ * Calls are meant to run on virtual threads, so blocking costs no platform thread.
+ * Endpoints are named by method and route template (e.g. {@code GET /api/transactions})
+ * so that paths with IDs or query strings aggregate together.
+ */
+final class ApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private volatile Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private volatile boolean recording = true;
+
+    ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Response with the parsed body, or {@code status == 0} when the request failed without one.
+     */
+    record Result(int status, JsonNode body) {
+
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    Result get(String endpoint, String pathAndQuery, String accessToken) {
+        return send(endpoint, request(pathAndQuery, accessToken).GET().build());
+    }
+
+    Result post(String endpoint, String path, String accessToken, Object body) {
+        return send(endpoint, request(path, accessToken)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)))
+                .build());
+    }
+
+    /**
+     * Turns per-endpoint recording on or off (off while seeding and warming up).
+     */
+    void recording(boolean recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Returns the stats recorded since the previous call and starts a fresh interval.
+     */
+    Map<String, EndpointStats.Snapshot> drain() {
+        Map<String, EndpointStats> interval = stats;
+        stats = new ConcurrentHashMap<>();
+        Map<String, EndpointStats.Snapshot> snapshots = new TreeMap<>();
+        interval.forEach((endpoint, endpointStats) -> snapshots.put(endpoint, endpointStats.snapshot()));
+        return snapshots;
+    }
+
+    private HttpRequest.Builder request(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+
+    private Result send(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        int status = 0;
+        JsonNode body = null;
+        try {
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            if (response.body().length > 0) {
+                body = objectMapper.readTree(response.body());
+            }
+        } catch (IOException e) {
+            // Connection refused, reset or timed out: counted as status 0
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (recording) {
+            stats.computeIfAbsent(endpoint, e -> new EndpointStats()).record(System.nanoTime() - start, status);
+        }
+        return new Result(status, body);
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot serialize request body", e);
+        }
+    }
+}
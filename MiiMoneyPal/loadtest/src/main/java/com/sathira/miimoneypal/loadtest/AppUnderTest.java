@@ -0,0 +1,173 @@
+package com.sathira.miimoneypal.loadtest;
+
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Postgres in a container plus the application's boot jar in a child JVM, started on a free
+ * port and stopped on close. The app gets its own process so the generator's threads and
+ * allocations never share a heap or JIT with the server being measured.
+ */
+final class AppUnderTest implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final PostgreSQLContainer<?> postgres;
+    private final Process app;
+    private final String baseUrl;
+    private final long launchedAt;
+    private Duration timeToFirstRequest;
+
+    private AppUnderTest(PostgreSQLContainer<?> postgres, Process app, String baseUrl, long launchedAt) {
+        this.postgres = postgres;
+        this.app = app;
+        this.baseUrl = baseUrl;
+        this.launchedAt = launchedAt;
+    }
+
+    static AppUnderTest start(Path appJar, Path logFile) throws IOException, InterruptedException {
+        return start(appJar, List.of(), logFile);
+    }
+
+    /**
+     * @param jvmArgs Extra JVM options for the application (e.g. an AOT cache)
+     */
+    static AppUnderTest start(Path appJar, List<String> jvmArgs, Path logFile) throws IOException, InterruptedException {
+        if (appJar == null || !Files.isRegularFile(appJar)) {
+            throw new IllegalArgumentException("Boot jar not found (pass --app-jar or --base-url): " + appJar);
+        }
+        List<String> launcher = new ArrayList<>();
+        launcher.add(ProcessHandle.current().info().command().orElse("java"));
+        launcher.addAll(jvmArgs);
+        launcher.add("-jar");
+        launcher.add(appJar.toString());
+        return launch(launcher, logFile);
+    }
+
+    /**
+     * Starts a GraalVM native image of the application instead of the jar.
+     */
+    static AppUnderTest startNative(Path binary, Path logFile) throws IOException, InterruptedException {
+        if (binary == null || !Files.isExecutable(binary)) {
+            throw new IllegalArgumentException("Native binary not found (./gradlew -Pnative nativeCompile): " + binary);
+        }
+        return launch(List.of(binary.toString()), logFile);
+    }
+
+    private static AppUnderTest launch(List<String> launcher, Path logFile) throws IOException, InterruptedException {
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest");
+        postgres.start();
+
+        int port = freePort();
+        Files.createDirectories(logFile.toAbsolutePath().getParent());
+        List<String> command = new ArrayList<>(launcher);
+        command.addAll(List.of(
+                "--server.port=" + port,
+                // Actuator on another free port; the API port still answers /readyz
+                "--management.server.port=" + freePort(),
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                // Every simulated phone logs in from the generator's address
+                "--auth.rate-limit.enabled=false"));
+        long launchedAt = System.nanoTime();
+        Process app = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+
+        AppUnderTest started = new AppUnderTest(postgres, app, "http://localhost:" + port, launchedAt);
+        try {
+            started.awaitHealthy();
+        } catch (IOException | RuntimeException e) {
+            started.close();
+            throw e;
+        }
+        return started;
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Resident set size of the application process in KiB ({@code VmRSS}, or the peak with
+     * {@code VmHWM}); -1 where /proc is not available.
+     */
+    long residentKilobytes(boolean peak) {
+        Path status = Path.of("/proc", Long.toString(app.pid()), "status");
+        String field = peak ? "VmHWM:" : "VmRSS:";
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith(field)) {
+                    return Long.parseLong(line.substring(field.length()).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Not Linux, or the process already exited
+        }
+        return -1;
+    }
+
+    /**
+     * From launching the application process to its first successful response.
+     */
+    Duration timeToFirstRequest() {
+        return timeToFirstRequest;
+    }
+
+    private void awaitHealthy() throws IOException, InterruptedException {
+        HttpClient http = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/readyz"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!app.isAlive()) {
+                throw new IOException("Application exited during startup with code " + app.exitValue());
+            }
+            try {
+                if (http.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    timeToFirstRequest = Duration.ofNanos(System.nanoTime() - launchedAt);
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(50);
+        }
+        throw new IOException("Application did not become healthy within " + STARTUP_TIMEOUT);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void close() {
+        app.destroy();
+        try {
+            if (!app.waitFor(30, TimeUnit.SECONDS)) {
+                app.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            app.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+        postgres.stop();
+    }
+}
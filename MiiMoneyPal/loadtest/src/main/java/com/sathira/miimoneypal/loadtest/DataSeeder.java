@@ -0,0 +1,99 @@
+package com.sathira.miimoneypal.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Registers the load-test accounts through the public API and gives each a year of history,
+ * so list and paging scenarios read realistic pages instead of empty ones.
+ * Goes through the API (not SQL) so it works against any running instance.
+ */
+final class DataSeeder {
+
+    private static final String PASSWORD = "LoadTest#2026";
+
+    private final ApiClient client;
+    private final long seed;
+
+    DataSeeder(ApiClient client, long seed) {
+        this.client = client;
+        this.seed = seed;
+    }
+
+    List<Account> seed(int users, int transactionsPerUser) throws InterruptedException {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<Future<Account>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                String email = "loadtest-" + runId + "-" + i + "@example.com";
+                Random random = new Random(seed + i);
+                futures.add(executor.submit(() -> seedAccount(email, random, transactionsPerUser)));
+            }
+        }
+
+        List<Account> accounts = new ArrayList<>(users);
+        for (Future<Account> future : futures) {
+            try {
+                accounts.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Seeding failed", e.getCause());
+            }
+        }
+        return accounts;
+    }
+
+    private Account seedAccount(String email, Random random, int transactions) {
+        ApiClient.Result registered = client.post("seed", "/api/auth/register", null,
+                Map.of("email", email, "password", PASSWORD));
+        if (!registered.ok()) {
+            throw new IllegalStateException("Register failed for " + email + " with status " + registered.status());
+        }
+        String token = registered.body().get("access_token").asText();
+
+        ApiClient.Result categories = client.get("seed", "/api/categories", token);
+        if (!categories.ok()) {
+            throw new IllegalStateException("Listing categories failed with status " + categories.status());
+        }
+        List<Long> expense = new ArrayList<>();
+        List<Long> income = new ArrayList<>();
+        for (JsonNode category : categories.body().get("categories")) {
+            if (category.path("is_system").asBoolean()) {
+                continue;
+            }
+            ("INCOME".equals(category.get("type").asText()) ? income : expense).add(category.get("id").asLong());
+        }
+        Account account = new Account(email, PASSWORD, token, List.copyOf(expense), List.copyOf(income));
+
+        LocalDate today = LocalDate.now();
+        for (int month = 0; month < 12; month++) {
+            postOrFail(account, Map.of(
+                    "type", "INCOME",
+                    "amount", new BigDecimal("250000.00"),
+                    "transaction_date", today.minusMonths(month).withDayOfMonth(1).toString(),
+                    "category_id", Scenarios.pick(account.incomeCategoryIds(), random),
+                    "note", "salary"));
+        }
+        for (int i = 0; i < transactions; i++) {
+            LocalDate date = today.minusDays(random.nextInt(365));
+            postOrFail(account, Scenarios.expense(account, random, date));
+        }
+        return account;
+    }
+
+    private void postOrFail(Account account, Map<String, Object> body) {
+        ApiClient.Result result = client.post("seed", "/api/transactions", account.accessToken(), body);
+        if (!result.ok()) {
+            throw new IllegalStateException("Seeding a transaction failed with status " + result.status());
+        }
+    }
+}
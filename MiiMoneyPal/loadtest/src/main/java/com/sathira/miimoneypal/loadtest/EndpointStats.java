@@ -0,0 +1,52 @@
+package com.sathira.miimoneypal.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and status counts of one endpoint (or of whole scenario iterations).
+ * Recording is lock-free and safe from any number of virtual threads.
+ */
+final class EndpointStats {
+
+    private final Recorder latencyMicros = new Recorder(3);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+    void record(long nanos, int status) {
+        latencyMicros.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos)));
+        requests.increment();
+        statusCounts.computeIfAbsent(status, s -> new LongAdder()).increment();
+        if (status == 0 || status >= 400) {
+            errors.increment();
+        }
+    }
+
+    Snapshot snapshot() {
+        Histogram histogram = latencyMicros.getIntervalHistogram();
+        Map<Integer, Long> statuses = new TreeMap<>();
+        statusCounts.forEach((status, count) -> statuses.put(status, count.sum()));
+        return new Snapshot(requests.sum(), errors.sum(), statuses, histogram);
+    }
+
+    /**
+     * Point-in-time view for reporting; status 0 means the request failed without a response.
+     */
+    record Snapshot(long requests, long errors, Map<Integer, Long> statusCounts, Histogram latencyMicros) {
+
+        double percentileMillis(double percentile) {
+            return latencyMicros.getTotalCount() == 0 ? 0 : latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        double maxMillis() {
+            return latencyMicros.getTotalCount() == 0 ? 0 : latencyMicros.getMaxValue() / 1000.0;
+        }
+    }
+}
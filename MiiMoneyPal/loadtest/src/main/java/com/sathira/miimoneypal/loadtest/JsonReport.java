@@ -0,0 +1,82 @@
+package com.sathira.miimoneypal.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Machine-readable run report: one entry per scenario with arrival counts, iteration
+ * latency and, per endpoint, throughput, error counts and p50/p95/p99/max in milliseconds.
+ */
+final class JsonReport {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final ObjectNode root = objectMapper.createObjectNode();
+    private final ArrayNode scenarios = root.putArray("scenarios");
+
+    JsonReport(LoadTestOptions options, String baseUrl) {
+        root.put("started_at", Instant.now().toString());
+        root.put("base_url", baseUrl);
+        ObjectNode settings = root.putObject("options");
+        settings.put("duration_seconds", options.duration().toSeconds());
+        settings.put("warmup_seconds", options.warmup().toSeconds());
+        settings.put("rate_multiplier", options.rateMultiplier());
+        settings.put("users", options.users());
+        settings.put("seed_transactions", options.seedTransactions());
+        settings.put("max_in_flight", options.maxInFlight());
+        settings.put("seed", options.seed());
+    }
+
+    void addScenario(Scenario scenario, double arrivalsPerSecond, OpenWorkload.Result result,
+                     Map<String, EndpointStats.Snapshot> endpoints) {
+        double seconds = result.elapsed().toNanos() / 1e9;
+
+        ObjectNode node = scenarios.addObject();
+        node.put("name", scenario.name());
+        node.put("description", scenario.description());
+        node.put("target_arrivals_per_second", arrivalsPerSecond);
+        node.put("arrivals", result.arrivals());
+        node.put("dropped", result.dropped());
+        node.put("failed_iterations", result.failed());
+        node.put("elapsed_seconds", round(seconds));
+        latency(node.putObject("iteration_latency_ms"), result.iterationLatency());
+
+        ObjectNode endpointNodes = node.putObject("endpoints");
+        endpoints.forEach((endpoint, snapshot) -> {
+            ObjectNode endpointNode = endpointNodes.putObject(endpoint);
+            endpointNode.put("requests", snapshot.requests());
+            endpointNode.put("errors", snapshot.errors());
+            endpointNode.put("throughput_per_second", round(snapshot.requests() / seconds));
+            ObjectNode statuses = endpointNode.putObject("status_counts");
+            snapshot.statusCounts().forEach((status, count) -> statuses.put(String.valueOf(status), count));
+            latency(endpointNode.putObject("latency_ms"), snapshot);
+        });
+    }
+
+    void write(Path output) throws IOException {
+        root.put("finished_at", Instant.now().toString());
+        Path parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        objectMapper.writeValue(output.toFile(), root);
+    }
+
+    private static void latency(ObjectNode node, EndpointStats.Snapshot snapshot) {
+        node.put("p50", round(snapshot.percentileMillis(50)));
+        node.put("p95", round(snapshot.percentileMillis(95)));
+        node.put("p99", round(snapshot.percentileMillis(99)));
+        node.put("max", round(snapshot.maxMillis()));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,80 @@
+package com.sathira.miimoneypal.loadtest;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offline load test entry point.
+ *
+ * <p>Starts Postgres and the application (or targets {@code --base-url}), seeds accounts,
+ * then runs each selected scenario as an open workload: an unrecorded warmup followed by a
+ * measured run. Results go to a JSON report so runs can be compared across commits.
+ *
+ * <p>Run with {@code ./gradlew :loadtest:run -Pargs="--duration-seconds=60"}.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        AppUnderTest app = null;
+        try {
+            String baseUrl = options.baseUrl();
+            if (baseUrl == null) {
+                Path log = options.output().toAbsolutePath().resolveSibling("app.log");
+                System.out.println("Starting Postgres and " + options.appJar() + " (log: " + log + ")");
+                app = AppUnderTest.start(options.appJar(), log);
+                baseUrl = app.baseUrl();
+            }
+            run(options, baseUrl);
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+    }
+
+    private static void run(LoadTestOptions options, String baseUrl) throws Exception {
+        ApiClient client = new ApiClient(baseUrl);
+
+        client.recording(false);
+        System.out.printf("Seeding %d users with %d transactions each%n", options.users(), options.seedTransactions());
+        List<Account> accounts = new DataSeeder(client, options.seed()).seed(options.users(), options.seedTransactions());
+
+        Map<String, Scenario> scenarios = Scenarios.create(client, accounts, options.seedTransactions());
+        JsonReport report = new JsonReport(options, baseUrl);
+
+        for (String name : options.scenarios()) {
+            Scenario scenario = scenarios.get(name);
+            if (scenario == null) {
+                throw new IllegalArgumentException("Unknown scenario '" + name + "', expected one of " + Scenarios.NAMES);
+            }
+            double rate = scenario.arrivalsPerSecond() * options.rateMultiplier();
+
+            if (!options.warmup().isZero()) {
+                System.out.printf("[%s] warming up for %ds%n", name, options.warmup().toSeconds());
+                client.recording(false);
+                OpenWorkload.run(rate, options.warmup(), options.maxInFlight(), options.seed(), scenario.iteration());
+            }
+
+            System.out.printf("[%s] running at %.1f arrivals/s for %ds%n", name, rate, options.duration().toSeconds());
+            client.drain();
+            client.recording(true);
+            OpenWorkload.Result result = OpenWorkload.run(
+                    rate, options.duration(), options.maxInFlight(), options.seed(), scenario.iteration());
+            client.recording(false);
+
+            report.addScenario(scenario, rate, result, client.drain());
+            System.out.printf("[%s] %d arrivals, %d dropped, %d failed, p99 %.1f ms%n", name,
+                    result.arrivals(), result.dropped(), result.failed(),
+                    result.iterationLatency().percentileMillis(99));
+        }
+
+        report.write(options.output());
+        System.out.println("Report written to " + options.output().toAbsolutePath());
+    }
+}
@@ -0,0 +1,63 @@
+package com.sathira.miimoneypal.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command-line options ({@code --name=value}).
+ *
+ * @param baseUrl          Target an already running app; when null Postgres and the app jar are started locally
+ * @param appJar           Boot jar to start when no base URL is given
+ * @param scenarios        Scenario names to run, in order
+ * @param duration         Measured duration of each scenario
+ * @param warmup           Unrecorded run of each scenario before measuring (JIT, pools, caches)
+ * @param rateMultiplier   Scales every scenario's default arrival rate
+ * @param users            Accounts registered before the run
+ * @param seedTransactions Expenses created per account before the run
+ * @param maxInFlight      Arrivals beyond this many running iterations are dropped (and reported)
+ * @param seed             Seed for arrival times and request parameters
+ * @param output           JSON report path
+ */
+record LoadTestOptions(
+        String baseUrl,
+        Path appJar,
+        List<String> scenarios,
+        Duration duration,
+        Duration warmup,
+        double rateMultiplier,
+        int users,
+        int seedTransactions,
+        int maxInFlight,
+        long seed,
+        Path output
+) {
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        String scenarios = values.getOrDefault("scenarios", String.join(",", Scenarios.NAMES));
+        return new LoadTestOptions(
+                values.get("base-url"),
+                values.containsKey("app-jar") ? Path.of(values.get("app-jar")) : null,
+                Arrays.stream(scenarios.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList(),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration-seconds", "30"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup-seconds", "10"))),
+                Double.parseDouble(values.getOrDefault("rate-multiplier", "1.0")),
+                Integer.parseInt(values.getOrDefault("users", "20")),
+                Integer.parseInt(values.getOrDefault("seed-transactions", "200")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "2000")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Path.of(values.getOrDefault("output", "build/loadtest/report.json"))
+        );
+    }
+}
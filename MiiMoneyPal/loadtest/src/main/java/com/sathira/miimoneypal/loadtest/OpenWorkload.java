@@ -0,0 +1,96 @@
+package com.sathira.miimoneypal.loadtest;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open workload model: scenario iterations arrive on a Poisson schedule regardless of how
+ * fast the server answers, the way independent phones do. A closed loop of N clients would
+ * instead slow its own arrivals when the server slows down and hide the queueing.
+ *
+ * <p>Each arrival runs on its own virtual thread. Iteration latency is measured from the
+ * scheduled arrival time, not from when the thread got to run, so a stalled generator or
+ * server cannot hide delay (no coordinated omission). Arrivals beyond {@code maxInFlight}
+ * are dropped and reported rather than queued without bound.
+ */
+final class OpenWorkload {
+
+    private OpenWorkload() {
+    }
+
+    /**
+     * One scenario iteration; returns false when any of its requests failed.
+     * The random is seeded per arrival so request parameters are reproducible.
+     */
+    @FunctionalInterface
+    interface Iteration {
+        boolean run(Random random);
+    }
+
+    record Result(
+            long arrivals,
+            long dropped,
+            long failed,
+            Duration elapsed,
+            EndpointStats.Snapshot iterationLatency
+    ) {
+    }
+
+    static Result run(double arrivalsPerSecond, Duration duration, int maxInFlight, long seed, Iteration iteration) {
+        Random schedule = new Random(seed);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        EndpointStats latency = new EndpointStats();
+        LongAdder failed = new LongAdder();
+        long arrivals = 0;
+        long dropped = 0;
+
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / arrivalsPerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        double nextArrival = start;
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (true) {
+                nextArrival += -Math.log(1 - schedule.nextDouble()) * meanGapNanos;
+                long intendedStart = (long) nextArrival;
+                if (intendedStart >= end) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                arrivals++;
+                if (!inFlight.tryAcquire()) {
+                    dropped++;
+                    continue;
+                }
+                long arrivalSeed = seed * 31 + arrivals;
+                executor.execute(() -> {
+                    boolean ok = false;
+                    try {
+                        ok = iteration.run(new Random(arrivalSeed));
+                    } catch (RuntimeException e) {
+                        // Treated like a failed request; the load must keep flowing
+                    } finally {
+                        latency.record(System.nanoTime() - intendedStart, ok ? 200 : 0);
+                        if (!ok) {
+                            failed.increment();
+                        }
+                        inFlight.release();
+                    }
+                });
+            }
+            // Closing the executor waits for the iterations still in flight
+        }
+
+        return new Result(arrivals, dropped, failed.sum(), Duration.ofNanos(System.nanoTime() - start), latency.snapshot());
+    }
+}
@@ -0,0 +1,8 @@
+package com.sathira.miimoneypal.loadtest;
+
+/**
+ * A named traffic pattern with its default arrival rate (iterations per second,
+ * scaled by {@code --rate-multiplier}).
+ */
+record Scenario(String name, String description, double arrivalsPerSecond, OpenWorkload.Iteration iteration) {
+}
@@ -0,0 +1,113 @@
+package com.sathira.miimoneypal.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Mobile traffic scenarios. Rates are rough shares of a busy evening: most traffic is
+ * opening the app and glancing at the month, then quick expense entry, then scrolling
+ * back through history; full exports are rare but heavy.
+ */
+final class Scenarios {
+
+    static final List<String> NAMES = List.of("login-burst", "dashboard", "quick-expense", "deep-paging", "csv-export");
+
+    private static final String LOGIN = "POST /api/auth/login";
+    private static final String LIST_CATEGORIES = "GET /api/categories";
+    private static final String LIST_TRANSACTIONS = "GET /api/transactions";
+    private static final String POST_TRANSACTION = "POST /api/transactions";
+
+    /** Largest page the list endpoint allows; used to walk the whole history. */
+    private static final int EXPORT_PAGE_SIZE = 100;
+
+    private Scenarios() {
+    }
+
+    static Map<String, Scenario> create(ApiClient client, List<Account> accounts, int seedTransactions) {
+        Map<String, Scenario> scenarios = new LinkedHashMap<>();
+        scenarios.put("login-burst", new Scenario("login-burst",
+                "App cold starts after a push notification: password login only",
+                50, random -> login(client, pick(accounts, random))));
+        scenarios.put("dashboard", new Scenario("dashboard",
+                "Open the app: expense categories, this month's transactions, last 30 days of income",
+                30, random -> dashboard(client, pick(accounts, random))));
+        scenarios.put("quick-expense", new Scenario("quick-expense",
+                "Add an expense from the home screen, then reload the first page",
+                20, random -> quickExpense(client, pick(accounts, random), random)));
+        scenarios.put("deep-paging", new Scenario("deep-paging",
+                "Scroll far back through the history: one page at a random offset",
+                20, random -> deepPage(client, pick(accounts, random), random, seedTransactions)));
+        scenarios.put("csv-export", new Scenario("csv-export",
+                "Export all transactions by walking every page of the list endpoint",
+                2, random -> export(client, pick(accounts, random))));
+        return scenarios;
+    }
+
+    private static boolean login(ApiClient client, Account account) {
+        return client.post(LOGIN, "/api/auth/login", null,
+                Map.of("email", account.email(), "password", account.password())).ok();
+    }
+
+    private static boolean dashboard(ApiClient client, Account account) {
+        LocalDate today = LocalDate.now();
+        String token = account.accessToken();
+        boolean categories = client.get(LIST_CATEGORIES, "/api/categories?type=EXPENSE", token).ok();
+        boolean month = client.get(LIST_TRANSACTIONS,
+                "/api/transactions?startDate=" + today.withDayOfMonth(1) + "&endDate=" + today + "&limit=100", token).ok();
+        boolean income = client.get(LIST_TRANSACTIONS,
+                "/api/transactions?type=INCOME&startDate=" + today.minusDays(30) + "&limit=20", token).ok();
+        return categories && month && income;
+    }
+
+    private static boolean quickExpense(ApiClient client, Account account, Random random) {
+        boolean created = client.post(POST_TRANSACTION, "/api/transactions", account.accessToken(),
+                expense(account, random, LocalDate.now())).ok();
+        boolean firstPage = client.get(LIST_TRANSACTIONS, "/api/transactions?limit=20", account.accessToken()).ok();
+        return created && firstPage;
+    }
+
+    private static boolean deepPage(ApiClient client, Account account, Random random, int seedTransactions) {
+        int offset = random.nextInt(Math.max(1, seedTransactions));
+        return client.get(LIST_TRANSACTIONS, "/api/transactions?offset=" + offset + "&limit=20",
+                account.accessToken()).ok();
+    }
+
+    private static boolean export(ApiClient client, Account account) {
+        int offset = 0;
+        while (true) {
+            ApiClient.Result page = client.get(LIST_TRANSACTIONS,
+                    "/api/transactions?offset=" + offset + "&limit=" + EXPORT_PAGE_SIZE, account.accessToken());
+            if (!page.ok() || page.body() == null) {
+                return false;
+            }
+            JsonNode hasNext = page.body().get("has_next");
+            if (hasNext == null || !hasNext.asBoolean()) {
+                return true;
+            }
+            offset += EXPORT_PAGE_SIZE;
+        }
+    }
+
+    /**
+     * Expense body with a plausible amount (mostly small, occasionally large) and a random category.
+     */
+    static Map<String, Object> expense(Account account, Random random, LocalDate date) {
+        double amount = Math.exp(random.nextGaussian() * 1.2 + 6.5);
+        return Map.of(
+                "type", "EXPENSE",
+                "amount", BigDecimal.valueOf(Math.max(1, Math.round(amount * 100)), 2),
+                "transaction_date", date.toString(),
+                "category_id", pick(account.expenseCategoryIds(), random),
+                "note", "load test");
+    }
+
+    static <T> T pick(List<T> items, Random random) {
+        return items.get(random.nextInt(items.size()));
+    }
+}
@@ -0,0 +1,112 @@
+package com.sathira.miimoneypal.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures time-to-first-request and memory footprint of the application's launch variants:
+ * <ul>
+ *   <li>{@code baseline} - the extracted boot jar on the JVM</li>
+ *   <li>{@code aot_cache} - the same jar with the JDK AOT cache and Spring AOT ({@code --aot-cache})</li>
+ *   <li>{@code native} - the GraalVM native image ({@code --native-binary})</li>
+ * </ul>
+ *
+ * <p>Each run gets a fresh Postgres container (started before the clock starts) and a new
+ * process; the time runs from process launch to the first 200 from {@code /readyz},
+ * and resident memory is read right after it (current and peak). Runs alternate between
+ * variants so drift affects all of them equally, and the median of each is reported.
+ *
+ * <p>Run with {@code ./gradlew :loadtest:measureStartup} (JVM vs AOT cache) or
+ * {@code ./gradlew -Pnative :loadtest:compareNative} (JVM vs native).
+ */
+public final class StartupProbe {
+
+    private StartupProbe() {
+    }
+
+    private record Sample(long millis, long rssKilobytes, long peakRssKilobytes) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        Path appJar = Path.of(options.get("app-jar"));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        Path output = Path.of(options.getOrDefault("output", "build/loadtest/startup.json"));
+        Path log = output.toAbsolutePath().resolveSibling("startup-app.log");
+
+        Map<String, Launcher> variants = new LinkedHashMap<>();
+        variants.put("baseline", () -> AppUnderTest.start(appJar, List.of(), log));
+        if (options.containsKey("aot-cache")) {
+            Path aotCache = Path.of(options.get("aot-cache"));
+            if (!Files.isRegularFile(aotCache)) {
+                throw new IllegalArgumentException("AOT cache not found (run ./gradlew aotCacheTraining): " + aotCache);
+            }
+            variants.put("aot_cache", () -> AppUnderTest.start(appJar,
+                    List.of("-XX:AOTCache=" + aotCache, "-Dspring.aot.enabled=true"), log));
+        }
+        if (options.containsKey("native-binary")) {
+            Path binary = Path.of(options.get("native-binary"));
+            variants.put("native", () -> AppUnderTest.startNative(binary, log));
+        }
+
+        Map<String, List<Sample>> samples = new LinkedHashMap<>();
+        for (int run = 0; run < runs; run++) {
+            for (Map.Entry<String, Launcher> variant : variants.entrySet()) {
+                try (AppUnderTest app = variant.getValue().start()) {
+                    Sample sample = new Sample(app.timeToFirstRequest().toMillis(),
+                            app.residentKilobytes(false), app.residentKilobytes(true));
+                    samples.computeIfAbsent(variant.getKey(), v -> new ArrayList<>()).add(sample);
+                    System.out.printf("run %d %-9s %5d ms  rss %7d KiB  peak %7d KiB%n", run + 1, variant.getKey(),
+                            sample.millis(), sample.rssKilobytes(), sample.peakRssKilobytes());
+                }
+            }
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        ObjectNode report = objectMapper.createObjectNode();
+        report.put("app_jar", appJar.toString());
+        report.put("java_version", Runtime.version().toString());
+        report.put("runs", runs);
+        samples.forEach((variant, values) -> {
+            ObjectNode node = report.putObject(variant);
+            node.put("time_to_first_request_ms", median(values.stream().map(Sample::millis).toList()));
+            node.put("rss_kib", median(values.stream().map(Sample::rssKilobytes).toList()));
+            node.put("peak_rss_kib", median(values.stream().map(Sample::peakRssKilobytes).toList()));
+            ArrayNode runsMillis = node.putArray("runs_ms");
+            values.forEach(sample -> runsMillis.add(sample.millis()));
+            System.out.printf("%-9s median %5d ms, rss %7d KiB%n", variant,
+                    node.get("time_to_first_request_ms").asLong(), node.get("rss_kib").asLong());
+        });
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        objectMapper.writeValue(output.toFile(), report);
+        System.out.println("Report written to " + output.toAbsolutePath());
+    }
+
+    @FunctionalInterface
+    private interface Launcher {
+        AppUnderTest start() throws Exception;
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = values.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+}
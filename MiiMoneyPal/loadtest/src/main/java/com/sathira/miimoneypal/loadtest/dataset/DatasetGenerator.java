@@ -0,0 +1,228 @@
+package com.sathira.miimoneypal.loadtest.dataset;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Synthetic multi-year dataset for benchmarks, bulk-loaded with {@code COPY}.
+ *
+ * <p>Users, categories and buckets are planned in memory (IDs reserved from the table
+ * sequences) and copied in one transaction. Transactions are then generated per user and
+ * streamed by {@code --workers} parallel COPY connections, one transaction each.
+ * Every generated user can log in with {@value #PASSWORD}.
+ *
+ * <p>Run against a Flyway-migrated database:
+ * {@code ./gradlew :loadtest:generateDataset -Pargs="--users=5000 --years=10 --seed=7"}.
+ * Emails include the seed, so load a second dataset with another seed or into a fresh database.
+ */
+public final class DatasetGenerator {
+
+    static final String PASSWORD = "Benchmark#2026";
+
+    private DatasetGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        DatasetOptions options = DatasetOptions.parse(args);
+        long start = System.nanoTime();
+        String passwordHash = BCrypt.hashpw(PASSWORD, BCrypt.gensalt(10));
+
+        List<GeneratedUser> users;
+        try (Connection connection = connect(options)) {
+            connection.setAutoCommit(false);
+            users = UserPlanner.plan(options,
+                    new SequenceIds(connection, "users"),
+                    new SequenceIds(connection, "categories"),
+                    new SequenceIds(connection, "buckets"));
+            try {
+                copyUsers(connection, users, passwordHash);
+                copyCategories(connection, users);
+                copyBuckets(connection, users);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                if ("23505".equals(e.getSQLState())) {
+                    throw new IllegalStateException(
+                            "Users for seed " + options.seed() + " already exist; use another --seed or a fresh database", e);
+                }
+                throw e;
+            }
+        }
+        System.out.printf("Loaded %d users with categories and buckets%n", users.size());
+
+        long transactions = copyTransactions(options, users);
+
+        try (Connection connection = connect(options); Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE users, categories, buckets, transactions");
+        }
+
+        double minutes = (System.nanoTime() - start) / 60e9;
+        System.out.printf("Loaded %d transactions in %.1f s (%.0f rows/min)%n",
+                transactions, minutes * 60, transactions / minutes);
+    }
+
+    private static void copyUsers(Connection connection, List<GeneratedUser> users, String passwordHash)
+            throws SQLException {
+        CopyStream copy = new CopyStream(connection, "users",
+                "id, email, password_hash, currency_symbol, created_at, updated_at");
+        try {
+            for (GeneratedUser user : users) {
+                String joined = user.joinedOn().atStartOfDay().toString();
+                copy.value(user.id()).value(user.email()).value(passwordHash).value("LKR")
+                        .value(joined).value(joined).endRow();
+            }
+            copy.finish();
+        } catch (SQLException | RuntimeException e) {
+            copy.cancel();
+            throw e;
+        }
+    }
+
+    private static void copyCategories(Connection connection, List<GeneratedUser> users) throws SQLException {
+        CopyStream copy = new CopyStream(connection, "categories",
+                "id, user_id, name, type, is_system, is_archived, created_at, updated_at");
+        try {
+            for (GeneratedUser user : users) {
+                String joined = user.joinedOn().atStartOfDay().toString();
+                for (GeneratedUser.Category category : user.categories()) {
+                    copy.value(category.id()).value(user.id()).value(category.name()).value(category.type())
+                            .value(category.system()).value(false).value(joined).value(joined).endRow();
+                }
+            }
+            copy.finish();
+        } catch (SQLException | RuntimeException e) {
+            copy.cancel();
+            throw e;
+        }
+    }
+
+    private static void copyBuckets(Connection connection, List<GeneratedUser> users) throws SQLException {
+        CopyStream copy = new CopyStream(connection, "buckets",
+                "id, user_id, name, type, target_amount, status, created_at, updated_at");
+        try {
+            for (GeneratedUser user : users) {
+                String joined = user.joinedOn().atStartOfDay().toString();
+                for (GeneratedUser.Bucket bucket : user.buckets()) {
+                    String updated = bucket.completedOn() == null ? joined : bucket.completedOn().atStartOfDay().toString();
+                    copy.value(bucket.id()).value(user.id()).value(bucket.name()).value(bucket.type())
+                            .value(bucket.targetAmount()).value(bucket.status()).value(joined).value(updated).endRow();
+                }
+            }
+            copy.finish();
+        } catch (SQLException | RuntimeException e) {
+            copy.cancel();
+            throw e;
+        }
+    }
+
+    /**
+     * Splits users round-robin across workers so heavy users spread evenly. Each worker commits
+     * once at the end; a failed worker rolls back only its own share.
+     */
+    private static long copyTransactions(DatasetOptions options, List<GeneratedUser> users) throws Exception {
+        TransactionGenerator generator = new TransactionGenerator(options.seed(), options.today());
+        ExecutorService executor = Executors.newFixedThreadPool(options.workers());
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int worker = 0; worker < options.workers(); worker++) {
+                int offset = worker;
+                results.add(executor.submit(() -> copyTransactions(options, generator, users, offset)));
+            }
+            long total = 0;
+            for (Future<Long> result : results) {
+                try {
+                    total += result.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Transaction load failed", e.getCause());
+                }
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private static long copyTransactions(DatasetOptions options, TransactionGenerator generator,
+                                         List<GeneratedUser> users, int offset) throws SQLException {
+        try (Connection connection = connect(options)) {
+            connection.setAutoCommit(false);
+            CopyStream copy = new CopyStream(connection, "transactions",
+                    "user_id, type, amount, transaction_date, category_id, bucket_id, note, created_at, updated_at");
+            try {
+                for (int i = offset; i < users.size(); i += options.workers()) {
+                    generator.generate(users.get(i), row -> write(copy, row));
+                }
+                copy.finish();
+                connection.commit();
+                return copy.rows();
+            } catch (SQLException | RuntimeException e) {
+                copy.cancel();
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private static void write(CopyStream copy, TransactionRow row) {
+        String created = row.createdAt().toString();
+        try {
+            copy.value(row.userId()).value(row.type()).value(row.amount()).value(row.transactionDate())
+                    .value(row.categoryId()).value(row.bucketId()).value(row.note())
+                    .value(created).value(created).endRow();
+        } catch (SQLException e) {
+            throw new IllegalStateException("COPY into transactions failed", e);
+        }
+    }
+
+    private static Connection connect(DatasetOptions options) throws SQLException {
+        return DriverManager.getConnection(options.jdbcUrl(), options.username(), options.password());
+    }
+
+    /**
+     * Reserves IDs from a table's sequence in blocks, so rows can reference each other before
+     * they are copied and the sequence stays ahead of every generated ID.
+     */
+    private static final class SequenceIds implements LongSupplier {
+
+        private static final int BLOCK = 10_000;
+
+        private final PreparedStatement nextBlock;
+        private final long[] ids = new long[BLOCK];
+        private int next = BLOCK;
+
+        SequenceIds(Connection connection, String table) throws SQLException {
+            this.nextBlock = connection.prepareStatement(
+                    "SELECT nextval(pg_get_serial_sequence('" + table + "', 'id')) FROM generate_series(1, " + BLOCK + ")");
+        }
+
+        @Override
+        public long getAsLong() {
+            if (next == BLOCK) {
+                try (ResultSet rs = nextBlock.executeQuery()) {
+                    for (int i = 0; i < BLOCK && rs.next(); i++) {
+                        ids[i] = rs.getLong(1);
+                    }
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Reserving IDs failed", e);
+                }
+                next = 0;
+            }
+            return ids[next++];
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.sathira.miimoneypal.loadtest.dataset;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command-line options ({@code --name=value}). Defaults target the compose.yaml database.
+ *
+ * @param jdbcUrl  Database to load into (schema must already be migrated by Flyway)
+ * @param username Database user
+ * @param password Database password
+ * @param users    Users to generate
+ * @param years    Longest account history; account ages are spread between 1 month and this
+ * @param seed     Same seed, same options and same {@code today} give the same dataset
+ * @param workers  Parallel COPY streams for transactions
+ * @param today    Last day of generated history
+ */
+record DatasetOptions(
+        String jdbcUrl,
+        String username,
+        String password,
+        int users,
+        int years,
+        long seed,
+        int workers,
+        LocalDate today
+) {
+    static DatasetOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        DatasetOptions options = new DatasetOptions(
+                values.getOrDefault("jdbc-url", "jdbc:postgresql://localhost:5433/mydatabase"),
+                values.getOrDefault("username", "myuser"),
+                values.getOrDefault("password", "secret"),
+                Integer.parseInt(values.getOrDefault("users", "1000")),
+                Integer.parseInt(values.getOrDefault("years", "10")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("workers", "4")),
+                LocalDate.parse(values.getOrDefault("today", LocalDate.now().toString()))
+        );
+        if (options.users() < 1 || options.years() < 1 || options.workers() < 1) {
+            throw new IllegalArgumentException("--users, --years and --workers must be at least 1");
+        }
+        return options;
+    }
+}
@@ -0,0 +1,48 @@
+package com.sathira.miimoneypal.loadtest.dataset;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A planned user with the categories and buckets their transactions will reference.
+ * IDs are reserved from the table sequences before any row is copied.
+ *
+ * @param index            Position in the dataset; seeds this user's transaction stream
+ * @param joinedOn         Account creation date, start of the user's history
+ * @param monthlyActivity  Mean expenses per month; log-normal across users, so a few users are very heavy
+ * @param monthlySalary    Salary income on the first days of each month
+ */
+record GeneratedUser(
+        long id,
+        int index,
+        String email,
+        LocalDate joinedOn,
+        double monthlyActivity,
+        BigDecimal monthlySalary,
+        List<Category> categories,
+        List<Bucket> buckets
+) {
+
+    record Category(long id, String name, String type, boolean system) {
+    }
+
+    /**
+     * @param targetAmount Only for SAVINGS_GOAL (table CHECK)
+     * @param completedOn  Day the goal is marked as spent (GOAL_COMPLETED, bucket ARCHIVED); null if never
+     */
+    record Bucket(long id, String name, String type, BigDecimal targetAmount, LocalDate completedOn) {
+
+        String status() {
+            return completedOn == null ? "ACTIVE" : "ARCHIVED";
+        }
+    }
+
+    List<Category> categoriesOfType(String type) {
+        return categories.stream().filter(c -> c.type().equals(type) && !c.system()).toList();
+    }
+
+    Category openingBalance() {
+        return categories.stream().filter(Category::system).findFirst().orElseThrow();
+    }
+}
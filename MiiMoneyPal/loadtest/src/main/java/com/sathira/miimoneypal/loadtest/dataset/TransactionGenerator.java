@@ -0,0 +1,177 @@
+package com.sathira.miimoneypal.loadtest.dataset;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Generates one user's transaction history month by month, in date order.
+ *
+ * <p>Rows respect the same rules the API enforces:
+ * <ul>
+ *   <li>INCOME/EXPENSE use a category of the same type, bucket types use a bucket (table CHECK)</li>
+ *   <li>Amounts are positive with two decimals</li>
+ *   <li>A bucket's running balance never goes negative: withdrawals are sized from the balance
+ *       at that date, and GOAL_COMPLETED takes exactly the remaining balance</li>
+ *   <li>No bucket activity after its goal is completed (the bucket is ARCHIVED)</li>
+ * </ul>
+ *
+ * <p>The stream is seeded per user, so output does not depend on how users are spread across workers.
+ */
+final class TransactionGenerator {
+
+    private static final List<String> NOTES = List.of(
+            "lunch", "bus fare", "groceries", "electricity bill", "movie", "pharmacy", "fuel",
+            "coffee", "internet", "birthday gift", "taxi", "dinner out", "water bill", "books");
+
+    /** Orders same-day events so completion comes after that day's deposits and withdrawals. */
+    private static final Comparator<Event> CHRONOLOGICAL =
+            Comparator.comparing(Event::date).thenComparing(e -> e.type().equals("GOAL_COMPLETED"));
+
+    private final long seed;
+    private final LocalDate today;
+
+    TransactionGenerator(long seed, LocalDate today) {
+        this.seed = seed;
+        this.today = today;
+    }
+
+    private record Event(String type, LocalDate date, GeneratedUser.Category category, GeneratedUser.Bucket bucket,
+                         BigDecimal amount) {
+    }
+
+    void generate(GeneratedUser user, Consumer<TransactionRow> sink) {
+        Random random = new Random(seed * 1_000_003L + user.index());
+        List<GeneratedUser.Category> income = user.categoriesOfType("INCOME");
+        List<GeneratedUser.Category> expense = user.categoriesOfType("EXPENSE");
+        Map<Long, BigDecimal> balances = new HashMap<>();
+
+        BigDecimal opening = money(user.monthlySalary().doubleValue() * (0.5 + random.nextDouble() * 2.5));
+        sink.accept(row(user, random, new Event("INCOME", user.joinedOn(), user.openingBalance(), null, opening)));
+
+        for (YearMonth month = YearMonth.from(user.joinedOn()); !month.isAfter(YearMonth.from(today));
+             month = month.plusMonths(1)) {
+            LocalDate from = max(month.atDay(1), user.joinedOn());
+            LocalDate to = min(month.atEndOfMonth(), today);
+            int days = (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+            List<Event> events = new ArrayList<>();
+
+            LocalDate payday = month.atDay(1 + random.nextInt(5));
+            if (!payday.isBefore(from) && !payday.isAfter(to)) {
+                events.add(new Event("INCOME", payday, income.get(0), null, user.monthlySalary()));
+            }
+            if (random.nextDouble() < 0.15) {
+                GeneratedUser.Category side = income.get(1 + random.nextInt(income.size() - 1));
+                events.add(new Event("INCOME", randomDay(random, from, days), side, null, logNormal(random, 15_000, 0.8)));
+            }
+
+            int expenses = poisson(random, user.monthlyActivity() * days / month.lengthOfMonth());
+            for (int i = 0; i < expenses; i++) {
+                int categoryIndex = random.nextInt(expense.size());
+                double median = 400 * (1 + categoryIndex % 5);
+                events.add(new Event("EXPENSE", randomDay(random, from, days), expense.get(categoryIndex), null,
+                        logNormal(random, median, 1.0)));
+            }
+
+            for (GeneratedUser.Bucket bucket : user.buckets()) {
+                if (bucket.completedOn() != null && bucket.completedOn().isBefore(from)) {
+                    continue;
+                }
+                if (random.nextDouble() < 0.6) {
+                    BigDecimal deposit = money(user.monthlySalary().doubleValue() * (0.02 + random.nextDouble() * 0.13));
+                    events.add(new Event("INVESTMENT", randomDay(random, from, days), null, bucket, deposit));
+                }
+                if (random.nextDouble() < 0.1) {
+                    events.add(new Event("WITHDRAWAL", randomDay(random, from, days), null, bucket, null));
+                }
+                if (bucket.completedOn() != null && !bucket.completedOn().isAfter(to)) {
+                    events.add(new Event("GOAL_COMPLETED", bucket.completedOn(), null, bucket, null));
+                }
+            }
+
+            events.sort(CHRONOLOGICAL);
+            for (Event event : events) {
+                if (event.bucket() == null) {
+                    sink.accept(row(user, random, event));
+                    continue;
+                }
+                GeneratedUser.Bucket bucket = event.bucket();
+                if (bucket.completedOn() != null && event.date().isAfter(bucket.completedOn())) {
+                    continue;
+                }
+                BigDecimal balance = balances.getOrDefault(bucket.id(), BigDecimal.ZERO);
+                BigDecimal amount = switch (event.type()) {
+                    case "INVESTMENT" -> event.amount();
+                    // Withdraw 10-60% of what is there; nothing to withdraw means no withdrawal
+                    case "WITHDRAWAL" -> balance.multiply(BigDecimal.valueOf(0.1 + random.nextDouble() * 0.5))
+                            .setScale(2, RoundingMode.DOWN);
+                    default -> balance;
+                };
+                if (amount.signum() <= 0) {
+                    continue;
+                }
+                balances.put(bucket.id(), event.type().equals("INVESTMENT") ? balance.add(amount) : balance.subtract(amount));
+                sink.accept(row(user, random, new Event(event.type(), event.date(), null, bucket, amount)));
+            }
+        }
+    }
+
+    private static TransactionRow row(GeneratedUser user, Random random, Event event) {
+        String note = event.type().equals("EXPENSE") && random.nextDouble() < 0.3
+                ? NOTES.get(random.nextInt(NOTES.size()))
+                : null;
+        return new TransactionRow(
+                user.id(),
+                event.type(),
+                event.amount(),
+                event.date(),
+                event.category() == null ? null : event.category().id(),
+                event.bucket() == null ? null : event.bucket().id(),
+                note,
+                event.date().atTime(7 + random.nextInt(16), random.nextInt(60), random.nextInt(60)));
+    }
+
+    private static LocalDate randomDay(Random random, LocalDate from, int days) {
+        return from.plusDays(random.nextInt(days));
+    }
+
+    private static BigDecimal logNormal(Random random, double median, double sigma) {
+        return money(median * Math.exp(random.nextGaussian() * sigma));
+    }
+
+    /** Positive amount with two decimals; DECIMAL(15,2) never comes close to overflowing here. */
+    private static BigDecimal money(double amount) {
+        return BigDecimal.valueOf(Math.max(100, Math.round(amount * 100)), 2);
+    }
+
+    /** Knuth's method for small means, normal approximation above 30. */
+    private static int poisson(Random random, double mean) {
+        if (mean > 30) {
+            return Math.max(0, (int) Math.round(mean + Math.sqrt(mean) * random.nextGaussian()));
+        }
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,20 @@
+package com.sathira.miimoneypal.loadtest.dataset;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the transactions table; exactly one of categoryId/bucketId is set (table CHECK).
+ */
+record TransactionRow(
+        long userId,
+        String type,
+        BigDecimal amount,
+        LocalDate transactionDate,
+        Long categoryId,
+        Long bucketId,
+        String note,
+        LocalDateTime createdAt
+) {
+}
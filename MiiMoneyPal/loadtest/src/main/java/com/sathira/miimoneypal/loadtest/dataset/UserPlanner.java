@@ -0,0 +1,110 @@
+package com.sathira.miimoneypal.loadtest.dataset;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+/**
+ * Plans users, categories and buckets. Pure: IDs come from the supplied sequences and all
+ * randomness from the seed, so the same inputs always produce the same plan.
+ */
+final class UserPlanner {
+
+    /** Mirrors CategorySeederService.DEFAULT_CATEGORIES: what every registered user starts with. */
+    static final List<String[]> DEFAULT_CATEGORIES = List.of(
+            new String[]{"Opening Balance", "INCOME", "system"},
+            new String[]{"Salary", "INCOME", ""},
+            new String[]{"Freelance", "INCOME", ""},
+            new String[]{"Gifts", "INCOME", ""},
+            new String[]{"Other Income", "INCOME", ""},
+            new String[]{"Food & Dining", "EXPENSE", ""},
+            new String[]{"Transportation", "EXPENSE", ""},
+            new String[]{"Utilities", "EXPENSE", ""},
+            new String[]{"Entertainment", "EXPENSE", ""},
+            new String[]{"Shopping", "EXPENSE", ""},
+            new String[]{"Healthcare", "EXPENSE", ""},
+            new String[]{"Other Expense", "EXPENSE", ""}
+    );
+
+    private static final List<String> EXTRA_EXPENSE_CATEGORIES = List.of(
+            "Rent", "Groceries", "Education", "Insurance", "Travel", "Subscriptions", "Pets", "Donations");
+    private static final List<String> GOAL_NAMES = List.of(
+            "Emergency Fund", "New Phone", "Vacation", "Wedding", "Car Down Payment", "Laptop");
+    private static final List<String> ASSET_NAMES = List.of(
+            "Fixed Deposit", "Unit Trust", "Gold", "Stocks", "Treasury Bills");
+
+    /** Median expenses per month and log-normal spread; sigma 1.0 gives a ~10x heavier top 5%. */
+    private static final double MEDIAN_MONTHLY_EXPENSES = 25;
+    private static final double ACTIVITY_SIGMA = 1.0;
+    private static final double MAX_MONTHLY_EXPENSES = 600;
+
+    private UserPlanner() {
+    }
+
+    static List<GeneratedUser> plan(DatasetOptions options, LongSupplier userIds, LongSupplier categoryIds,
+                                    LongSupplier bucketIds) {
+        Random random = new Random(options.seed());
+        List<GeneratedUser> users = new ArrayList<>(options.users());
+        long maxAgeDays = options.years() * 365L;
+
+        for (int index = 0; index < options.users(); index++) {
+            LocalDate joinedOn = options.today().minusDays(30 + (long) (random.nextDouble() * (maxAgeDays - 30)));
+            double activity = Math.min(MAX_MONTHLY_EXPENSES,
+                    MEDIAN_MONTHLY_EXPENSES * Math.exp(random.nextGaussian() * ACTIVITY_SIGMA));
+            BigDecimal salary = BigDecimal.valueOf(80_000 * Math.exp(random.nextGaussian() * 0.6))
+                    .setScale(-3, RoundingMode.HALF_UP).max(new BigDecimal("20000")).setScale(2);
+
+            List<GeneratedUser.Category> categories = new ArrayList<>();
+            for (String[] category : DEFAULT_CATEGORIES) {
+                categories.add(new GeneratedUser.Category(
+                        categoryIds.getAsLong(), category[0], category[1], !category[2].isEmpty()));
+            }
+            int extras = random.nextInt(EXTRA_EXPENSE_CATEGORIES.size() + 1) / 2;
+            for (int i = 0; i < extras; i++) {
+                categories.add(new GeneratedUser.Category(
+                        categoryIds.getAsLong(), EXTRA_EXPENSE_CATEGORIES.get(i), "EXPENSE", false));
+            }
+
+            users.add(new GeneratedUser(
+                    userIds.getAsLong(),
+                    index,
+                    "bench-" + options.seed() + "-" + index + "@example.com",
+                    joinedOn,
+                    activity,
+                    salary,
+                    List.copyOf(categories),
+                    planBuckets(random, bucketIds, joinedOn, options.today())
+            ));
+        }
+        return users;
+    }
+
+    private static List<GeneratedUser.Bucket> planBuckets(Random random, LongSupplier bucketIds,
+                                                          LocalDate joinedOn, LocalDate today) {
+        List<GeneratedUser.Bucket> buckets = new ArrayList<>();
+        long historyDays = ChronoUnit.DAYS.between(joinedOn, today);
+
+        int goals = random.nextInt(4);
+        for (int i = 0; i < goals; i++) {
+            BigDecimal target = BigDecimal.valueOf(50_000L * (1 + random.nextInt(40))).setScale(2);
+            // About a third of goals are reached and marked as spent part-way through the history
+            LocalDate completedOn = historyDays > 90 && random.nextInt(3) == 0
+                    ? joinedOn.plusDays(60 + (long) (random.nextDouble() * (historyDays - 60)))
+                    : null;
+            buckets.add(new GeneratedUser.Bucket(bucketIds.getAsLong(), GOAL_NAMES.get(i), "SAVINGS_GOAL",
+                    target, completedOn));
+        }
+
+        int assets = random.nextInt(3);
+        for (int i = 0; i < assets; i++) {
+            buckets.add(new GeneratedUser.Bucket(bucketIds.getAsLong(), ASSET_NAMES.get(i), "PERPETUAL_ASSET",
+                    null, null));
+        }
+        return List.copyOf(buckets);
+    }
+}
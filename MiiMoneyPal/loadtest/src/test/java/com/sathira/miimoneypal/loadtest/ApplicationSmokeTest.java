@@ -0,0 +1,143 @@
+package com.sathira.miimoneypal.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Black-box smoke tests against a launched application: the native image
+ * ({@code ./gradlew -Pnative :loadtest:smokeTest}) or the boot jar ({@code :loadtest:smokeTestJvm}).
+ * Walks the paths that depend on native hints: Flyway migrations, jOOQ records,
+ * JJWT signing and parsing, Jackson bodies and the security filter chain.
+ * Skipped unless {@code smoke.app} names the binary or jar.
+ */
+@EnabledIfSystemProperty(named = "smoke.app", matches = ".+")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ApplicationSmokeTest {
+
+    private static final String EMAIL = "smoke@example.com";
+    private static final String PASSWORD = "SmokeTest#2026";
+
+    private static AppUnderTest app;
+    private static ApiClient client;
+    private static String accessToken;
+    private static String refreshToken;
+    private static long expenseCategoryId;
+
+    @BeforeAll
+    static void startApplication() throws Exception {
+        Path target = Path.of(System.getProperty("smoke.app"));
+        Path log = Path.of(System.getProperty("smoke.log", "build/smoke/app.log"));
+        app = target.toString().endsWith(".jar")
+                ? AppUnderTest.start(target, log)
+                : AppUnderTest.startNative(target, log);
+        client = new ApiClient(app.baseUrl());
+    }
+
+    @AfterAll
+    static void stopApplication() {
+        if (app != null) {
+            app.close();
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Should report healthy after Flyway migrations")
+    void healthy() {
+        ApiClient.Result health = client.get("health", "/readyz", null);
+
+        assertThat(health.status()).isEqualTo(200);
+        assertThat(health.body().get("status").asText()).isEqualTo("UP");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Should register a user and issue signed tokens")
+    void register() {
+        ApiClient.Result registered = client.post("register", "/api/auth/register", null,
+                Map.of("email", EMAIL, "password", PASSWORD));
+
+        assertThat(registered.status()).isEqualTo(201);
+        assertThat(registered.body().get("access_token").asText()).contains(".");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Should log in with the registered credentials")
+    void login() {
+        ApiClient.Result login = client.post("login", "/api/auth/login", null,
+                Map.of("email", EMAIL, "password", PASSWORD));
+
+        assertThat(login.status()).isEqualTo(200);
+        accessToken = login.body().get("access_token").asText();
+        refreshToken = login.body().get("refresh_token").asText();
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Should list the seeded default categories")
+    void listCategories() {
+        ApiClient.Result categories = client.get("categories", "/api/categories?type=EXPENSE", accessToken);
+
+        assertThat(categories.status()).isEqualTo(200);
+        JsonNode first = categories.body().get("categories").get(0);
+        assertThat(first.get("type").asText()).isEqualTo("EXPENSE");
+        expenseCategoryId = first.get("id").asLong();
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Should create and list a transaction")
+    void createAndListTransaction() {
+        ApiClient.Result created = client.post("post transaction", "/api/transactions", accessToken, Map.of(
+                "type", "EXPENSE",
+                "amount", "1250.50",
+                "transaction_date", LocalDate.now().toString(),
+                "category_id", expenseCategoryId,
+                "note", "smoke"));
+        ApiClient.Result listed = client.get("list transactions", "/api/transactions?limit=10", accessToken);
+
+        assertThat(created.status()).isEqualTo(201);
+        assertThat(listed.status()).isEqualTo(200);
+        assertThat(listed.body().get("total_items").asLong()).isEqualTo(1);
+        assertThat(listed.body().get("items").get(0).get("amount").decimalValue()).isEqualByComparingTo("1250.50");
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Should reject requests without a valid token")
+    void rejectsAnonymous() {
+        assertThat(client.get("anonymous", "/api/transactions", null).status()).isEqualTo(401);
+        assertThat(client.get("forged", "/api/transactions", "not.a.jwt").status()).isEqualTo(401);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("Should rotate the refresh token and revoke the access token on logout")
+    void refreshAndLogout() {
+        ApiClient.Result refreshed = client.post("refresh", "/api/auth/refresh", null,
+                Map.of("refresh_token", refreshToken));
+        assertThat(refreshed.status()).isEqualTo(200);
+        String rotatedAccess = refreshed.body().get("access_token").asText();
+        String rotatedRefresh = refreshed.body().get("refresh_token").asText();
+
+        ApiClient.Result logout = client.post("logout", "/api/auth/logout", rotatedAccess,
+                Map.of("refresh_token", rotatedRefresh));
+
+        assertThat(logout.status()).isBetween(200, 204);
+        assertThat(client.get("after logout", "/api/categories", rotatedAccess).status()).isEqualTo(401);
+    }
+}
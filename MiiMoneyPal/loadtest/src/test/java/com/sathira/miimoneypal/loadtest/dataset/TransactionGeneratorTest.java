@@ -0,0 +1,133 @@
+package com.sathira.miimoneypal.loadtest.dataset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for UserPlanner and TransactionGenerator.
+ * Tests that generated rows satisfy the schema and business rules and that output is reproducible.
+ */
+class TransactionGeneratorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+    private static DatasetOptions options(long seed) {
+        return new DatasetOptions("jdbc:postgresql://unused", "u", "p", 100, 10, seed, 4, TODAY);
+    }
+
+    private static List<GeneratedUser> plan(long seed) {
+        AtomicLong users = new AtomicLong();
+        AtomicLong categories = new AtomicLong();
+        AtomicLong buckets = new AtomicLong();
+        return UserPlanner.plan(options(seed), users::incrementAndGet, categories::incrementAndGet, buckets::incrementAndGet);
+    }
+
+    private static List<TransactionRow> generate(long seed, List<GeneratedUser> users) {
+        TransactionGenerator generator = new TransactionGenerator(seed, TODAY);
+        List<TransactionRow> rows = new ArrayList<>();
+        users.forEach(user -> generator.generate(user, rows::add));
+        return rows;
+    }
+
+    @Test
+    @DisplayName("Should match category types and the category/bucket CHECK constraint")
+    void respectsConstraints() {
+        // Given
+        List<GeneratedUser> users = plan(42);
+        Map<Long, GeneratedUser.Category> categories = new HashMap<>();
+        Map<Long, Long> bucketOwners = new HashMap<>();
+        users.forEach(user -> {
+            user.categories().forEach(c -> categories.put(c.id(), c));
+            user.buckets().forEach(b -> bucketOwners.put(b.id(), user.id()));
+        });
+
+        // When
+        List<TransactionRow> rows = generate(42, users);
+
+        // Then
+        assertThat(rows).isNotEmpty().allSatisfy(row -> {
+            assertThat(row.amount()).isPositive();
+            assertThat(row.amount().scale()).isEqualTo(2);
+            assertThat(row.transactionDate()).isBeforeOrEqualTo(TODAY);
+            if (row.type().equals("INCOME") || row.type().equals("EXPENSE")) {
+                assertThat(row.bucketId()).isNull();
+                assertThat(categories.get(row.categoryId()).type()).isEqualTo(row.type());
+            } else {
+                assertThat(row.categoryId()).isNull();
+                assertThat(bucketOwners.get(row.bucketId())).isEqualTo(row.userId());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Should never take a bucket balance below zero and empty completed goals exactly")
+    void bucketBalancesNeverNegative() {
+        // Given
+        List<GeneratedUser> users = plan(7);
+        Map<Long, GeneratedUser.Bucket> buckets = new HashMap<>();
+        users.forEach(user -> user.buckets().forEach(b -> buckets.put(b.id(), b)));
+
+        // When
+        List<TransactionRow> rows = generate(7, users);
+
+        // Then
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        rows.stream().filter(row -> row.bucketId() != null).forEach(row -> {
+            BigDecimal balance = balances.getOrDefault(row.bucketId(), BigDecimal.ZERO);
+            balance = row.type().equals("INVESTMENT") ? balance.add(row.amount()) : balance.subtract(row.amount());
+            assertThat(balance.signum()).isGreaterThanOrEqualTo(0);
+            balances.put(row.bucketId(), balance);
+
+            LocalDate completedOn = buckets.get(row.bucketId()).completedOn();
+            if (completedOn != null) {
+                assertThat(row.transactionDate()).isBeforeOrEqualTo(completedOn);
+            }
+            if (row.type().equals("GOAL_COMPLETED")) {
+                assertThat(balance).isZero();
+                assertThat(row.transactionDate()).isEqualTo(completedOn);
+            }
+        });
+        assertThat(rows).anyMatch(row -> row.type().equals("WITHDRAWAL"));
+        assertThat(rows).anyMatch(row -> row.type().equals("GOAL_COMPLETED"));
+    }
+
+    @Test
+    @DisplayName("Should produce identical data for the same seed and different data for another")
+    void reproducibleBySeed() {
+        // When
+        List<TransactionRow> first = generate(42, plan(42));
+        List<TransactionRow> second = generate(42, plan(42));
+        List<TransactionRow> other = generate(43, plan(43));
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        assertThat(other).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("Should give a long tail of heavy users")
+    void longTailActivity() {
+        // Given
+        List<GeneratedUser> users = plan(42);
+        Map<Long, Long> perUser = new HashMap<>();
+
+        // When
+        generate(42, users).forEach(row -> perUser.merge(row.userId(), 1L, Long::sum));
+
+        // Then
+        List<Long> counts = perUser.values().stream().sorted().toList();
+        long median = counts.get(counts.size() / 2);
+        long top = counts.get(counts.size() - 1);
+        assertThat(top).isGreaterThan(median * 5);
+    }
+}
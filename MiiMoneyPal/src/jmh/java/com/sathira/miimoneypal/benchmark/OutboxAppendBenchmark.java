@@ -0,0 +1,114 @@
+package com.sathira.miimoneypal.benchmark;
+
+import com.sathira.miimoneypal.records.category.CategoryType;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
+import com.sathira.miimoneypal.records.transaction.Transaction;
+import com.sathira.miimoneypal.records.transaction.TransactionType;
+import com.sathira.miimoneypal.repository.OutboxRepository;
+import com.sathira.miimoneypal.rest.transactions.post.PostTransactionRepository;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static com.sathira.miimoneypal.jooq.tables.Categories.CATEGORIES;
+import static com.sathira.miimoneypal.jooq.tables.OutboxEvents.OUTBOX_EVENTS;
+import static com.sathira.miimoneypal.jooq.tables.Users.USERS;
+
+/**
+ * Cost of the transactional outbox on the write path: creating a transaction with
+ * and without the outbox_events append in the same database transaction.
+ *
+ * Runs the real PostTransactionRepository and OutboxRepository against the local
+ * compose database and commits every invocation, so the figures include the commit
+ * the two rows share. Rows are removed in tearDown.
+ * Override with -Djmh.db.url / -Djmh.db.user / -Djmh.db.password.
+ *
+ * Run: ./gradlew jmh -Pjmh.includes=OutboxAppendBenchmark  (SampleTime mode reports p50/p99/p99.9)
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class OutboxAppendBenchmark {
+
+    private Connection connection;
+    private PostTransactionRepository transactionRepository;
+    private OutboxRepository outboxRepository;
+    private Long userId;
+    private Transaction expense;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+                System.getProperty("jmh.db.url", "jdbc:postgresql://localhost:5433/mydatabase"),
+                System.getProperty("jmh.db.user", "myuser"),
+                System.getProperty("jmh.db.password", "secret"));
+        DSLContext dsl = DSL.using(connection, SQLDialect.POSTGRES);
+
+        // Committed owner and category rows; removed (with cascade) in tearDown
+        userId = dsl.insertInto(USERS)
+                .set(USERS.EMAIL, "jmh-" + System.nanoTime() + "@benchmark.local")
+                .set(USERS.PASSWORD_HASH, "x")
+                .returning(USERS.ID)
+                .fetchOne(USERS.ID);
+        Long categoryId = dsl.insertInto(CATEGORIES)
+                .set(CATEGORIES.USER_ID, userId)
+                .set(CATEGORIES.NAME, "Groceries")
+                .set(CATEGORIES.TYPE, CategoryType.EXPENSE.name())
+                .returning(CATEGORIES.ID)
+                .fetchOne(CATEGORIES.ID);
+
+        expense = Transaction.builder()
+                .userId(userId)
+                .type(TransactionType.EXPENSE)
+                .amount(new BigDecimal("12.50"))
+                .transactionDate(LocalDate.now())
+                .categoryId(categoryId)
+                .build();
+
+        connection.setAutoCommit(false);
+        transactionRepository = new PostTransactionRepository(dsl);
+        outboxRepository = new OutboxRepository(dsl);
+    }
+
+    @TearDown(Level.Invocation)
+    public void commit() throws Exception {
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connection.setAutoCommit(true);
+        DSLContext dsl = DSL.using(connection, SQLDialect.POSTGRES);
+        // outbox_events has no FK to users, so its rows do not cascade
+        dsl.deleteFrom(OUTBOX_EVENTS)
+                .where(OUTBOX_EVENTS.USER_ID.eq(userId))
+                .execute();
+        dsl.deleteFrom(USERS)
+                .where(USERS.ID.eq(userId))
+                .execute();
+        connection.close();
+    }
+
+    @Benchmark
+    public Transaction createTransaction() {
+        // Baseline: the INSERT ... RETURNING alone
+        return transactionRepository.create(expense);
+    }
+
+    @Benchmark
+    public Transaction createTransactionWithOutboxAppend() {
+        Transaction created = transactionRepository.create(expense);
+        outboxRepository.append(OutboxEventType.TRANSACTION_CREATED, created.id(), userId);
+        return created;
+    }
+}
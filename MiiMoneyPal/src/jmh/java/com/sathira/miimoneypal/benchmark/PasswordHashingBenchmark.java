@@ -0,0 +1,44 @@
+package com.sathira.miimoneypal.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login throughput per core at each BCrypt cost.
+ *
+ * A login is one matches() call, and a single benchmark thread saturates one core,
+ * so ops/s is logins/sec per core. Use it to size password.hashing.pool-size and
+ * to choose password.hashing.bcrypt-strength.
+ *
+ * Run: ./gradlew jmh -Pjmh.includes=PasswordHashingBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Threads(1)
+@Fork(1)
+@State(Scope.Thread)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"10", "11", "12", "13"})
+    private int strength;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private String storedHash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        storedHash = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean login() {
+        return passwordEncoder.matches(PASSWORD, storedHash);
+    }
+}
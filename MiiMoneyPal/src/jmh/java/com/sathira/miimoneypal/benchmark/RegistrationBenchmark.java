@@ -0,0 +1,102 @@
+package com.sathira.miimoneypal.benchmark;
+
+import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.category.DefaultCategory;
+import com.sathira.miimoneypal.repository.CategoryRepository;
+import com.sathira.miimoneypal.service.CategorySeederService;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.concurrent.TimeUnit;
+
+import static com.sathira.miimoneypal.jooq.tables.Users.USERS;
+
+/**
+ * Compares the cost of the two expensive parts of registration:
+ * BCrypt hashing vs. seeding the default categories.
+ *
+ * Category benchmarks run the real CategoryRepository against the local
+ * compose database (see build.gradle) and roll back after every invocation.
+ * Override with -Djmh.db.url / -Djmh.db.user / -Djmh.db.password.
+ *
+ * Run: ./gradlew jmh  (SampleTime mode reports p50/p99/p99.9)
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class RegistrationBenchmark {
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+
+    private Connection connection;
+    private CategoryRepository categoryRepository;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+                System.getProperty("jmh.db.url", "jdbc:postgresql://localhost:5433/mydatabase"),
+                System.getProperty("jmh.db.user", "myuser"),
+                System.getProperty("jmh.db.password", "secret"));
+        DSLContext dsl = DSL.using(connection, SQLDialect.POSTGRES);
+
+        // Committed owner row so the category FK holds; removed (with cascade) in tearDown
+        userId = dsl.insertInto(USERS)
+                .set(USERS.EMAIL, "jmh-" + System.nanoTime() + "@benchmark.local")
+                .set(USERS.PASSWORD_HASH, "x")
+                .returning(USERS.ID)
+                .fetchOne(USERS.ID);
+
+        connection.setAutoCommit(false);
+        categoryRepository = new CategoryRepository(dsl);
+    }
+
+    @TearDown(Level.Invocation)
+    public void rollback() throws Exception {
+        connection.rollback();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connection.setAutoCommit(true);
+        DSL.using(connection, SQLDialect.POSTGRES)
+                .deleteFrom(USERS)
+                .where(USERS.ID.eq(userId))
+                .execute();
+        connection.close();
+    }
+
+    @Benchmark
+    public String bcryptEncode() {
+        return passwordEncoder.encode("correct horse battery staple");
+    }
+
+    @Benchmark
+    public int seedCategoriesMultiRowInsert() {
+        return categoryRepository.saveAll(userId, CategorySeederService.DEFAULT_CATEGORIES);
+    }
+
+    @Benchmark
+    public int seedCategoriesOneByOne() {
+        // Baseline: one record.store() round trip per category
+        int inserted = 0;
+        for (DefaultCategory template : CategorySeederService.DEFAULT_CATEGORIES) {
+            categoryRepository.save(Category.builder()
+                    .userId(userId)
+                    .name(template.name())
+                    .type(template.type())
+                    .isSystem(template.isSystem())
+                    .build());
+            inserted++;
+        }
+        return inserted;
+    }
+}
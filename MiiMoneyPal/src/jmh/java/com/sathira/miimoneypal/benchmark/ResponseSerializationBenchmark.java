@@ -0,0 +1,80 @@
+package com.sathira.miimoneypal.benchmark;
+
+import com.sathira.miimoneypal.models.response.json.FieldSelectionModule;
+import com.sathira.miimoneypal.models.response.json.PrecompiledResponseModule;
+import com.sathira.miimoneypal.rest.transactions.list.ListTransactionsResponse;
+import com.sathira.miimoneypal.rest.transactions.list.TransactionSummary;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transaction page serialization: reflective Jackson vs PrecompiledResponseModule.
+ *
+ * Both mappers use the application's settings (SNAKE_CASE, ISO dates) and write to a
+ * byte[] like the HTTP message converter does. Compare ops/s and, with -prof gc,
+ * gc.alloc.rate.norm per page.
+ *
+ * Run: ./gradlew jmh -Pjmh.includes=ResponseSerializationBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private JsonMapper reflective;
+    private JsonMapper precompiled;
+    private ListTransactionsResponse page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        reflective = mapper().build();
+        precompiled = mapper().addModule(new PrecompiledResponseModule()).build();
+
+        List<TransactionSummary> items = new ArrayList<>(pageSize);
+        LocalDate date = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < pageSize; i++) {
+            BigDecimal amount = BigDecimal.valueOf(1_000 + i * 37L, 2);
+            boolean bucket = i % 5 == 0;
+            items.add(new TransactionSummary(
+                    (long) i, bucket ? "SAVINGS" : "EXPENSE", amount, "Rs. " + amount.toPlainString(),
+                    date.plusDays(i % 28),
+                    bucket ? null : 10L + i % 8, bucket ? null : "Category " + i % 8,
+                    bucket ? 3L : null, bucket ? "Emergency fund" : null,
+                    i % 3 == 0 ? null : "note " + i,
+                    date.plusDays(i % 28).atTime(12, i % 60)
+            ));
+        }
+        page = ListTransactionsResponse.of(items, 0, pageSize, 10_000);
+    }
+
+    private static JsonMapper.Builder mapper() {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .addModule(new FieldSelectionModule())
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    }
+
+    @Benchmark
+    public byte[] reflective() {
+        return reflective.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] precompiled() {
+        return precompiled.writeValueAsBytes(page);
+    }
+}
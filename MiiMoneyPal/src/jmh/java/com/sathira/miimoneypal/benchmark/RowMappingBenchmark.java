@@ -0,0 +1,121 @@
+package com.sathira.miimoneypal.benchmark;
+
+import com.sathira.miimoneypal.jooq.tables.records.TransactionsRecord;
+import com.sathira.miimoneypal.records.transaction.Transaction;
+import com.sathira.miimoneypal.records.transaction.TransactionType;
+import com.sathira.miimoneypal.repository.mapping.TransactionRows;
+import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep5;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.sathira.miimoneypal.jooq.tables.Categories.CATEGORIES;
+import static com.sathira.miimoneypal.jooq.tables.Transactions.TRANSACTIONS;
+import static com.sathira.miimoneypal.jooq.tables.Users.USERS;
+
+/**
+ * Reading a page of transactions: selectFrom + TransactionsRecord + Lombok builder
+ * (the previous repository mapping) vs TransactionRows (typed select, canonical constructor).
+ *
+ * Both read the same rows from the local compose database, so the difference is the
+ * per-row mapping. Run with the GC profiler and divide gc.alloc.rate.norm by rows for
+ * bytes allocated per row.
+ *
+ * Run: ./gradlew jmh -Pjmh.includes=RowMappingBenchmark -Pjmh.profilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class RowMappingBenchmark {
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private Connection connection;
+    private DSLContext dsl;
+    private Long userId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+                System.getProperty("jmh.db.url", "jdbc:postgresql://localhost:5433/mydatabase"),
+                System.getProperty("jmh.db.user", "myuser"),
+                System.getProperty("jmh.db.password", "secret"));
+        dsl = DSL.using(connection, SQLDialect.POSTGRES);
+
+        // Committed fixture (user, one category, `rows` expenses); removed with cascade in tearDown
+        userId = dsl.insertInto(USERS)
+                .set(USERS.EMAIL, "jmh-" + System.nanoTime() + "@benchmark.local")
+                .set(USERS.PASSWORD_HASH, "x")
+                .returning(USERS.ID)
+                .fetchOne(USERS.ID);
+        Long categoryId = dsl.insertInto(CATEGORIES)
+                .set(CATEGORIES.USER_ID, userId)
+                .set(CATEGORIES.NAME, "Benchmark")
+                .set(CATEGORIES.TYPE, "EXPENSE")
+                .returning(CATEGORIES.ID)
+                .fetchOne(CATEGORIES.ID);
+
+        InsertValuesStep5<TransactionsRecord, Long, String, BigDecimal, LocalDate, Long> insert = dsl.insertInto(
+                TRANSACTIONS, TRANSACTIONS.USER_ID, TRANSACTIONS.TYPE, TRANSACTIONS.AMOUNT,
+                TRANSACTIONS.TRANSACTION_DATE, TRANSACTIONS.CATEGORY_ID);
+        LocalDate date = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < rows; i++) {
+            insert = insert.values(userId, "EXPENSE", BigDecimal.valueOf(100 + i, 2), date.plusDays(i % 365), categoryId);
+        }
+        insert.execute();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        dsl.deleteFrom(USERS)
+                .where(USERS.ID.eq(userId))
+                .execute();
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Transaction> tableRecordAndBuilder() {
+        return dsl.selectFrom(TRANSACTIONS)
+                .where(TRANSACTIONS.USER_ID.eq(userId))
+                .fetch()
+                .map(RowMappingBenchmark::viaBuilder);
+    }
+
+    @Benchmark
+    public List<Transaction> typedSelectAndConstructor() {
+        return TransactionRows.select(dsl)
+                .from(TRANSACTIONS)
+                .where(TRANSACTIONS.USER_ID.eq(userId))
+                .fetch(TransactionRows.TRANSACTION);
+    }
+
+    /**
+     * The mapping the repositories used before TransactionRows.
+     */
+    private static Transaction viaBuilder(TransactionsRecord record) {
+        return Transaction.builder()
+                .id(record.getId())
+                .userId(record.getUserId())
+                .type(TransactionType.valueOf(record.getType()))
+                .amount(record.getAmount())
+                .transactionDate(record.getTransactionDate())
+                .categoryId(record.getCategoryId())
+                .bucketId(record.getBucketId())
+                .note(record.getNote())
+                .createdAt(record.getCreatedAt())
+                .updatedAt(record.getUpdatedAt())
+                .build();
+    }
+}
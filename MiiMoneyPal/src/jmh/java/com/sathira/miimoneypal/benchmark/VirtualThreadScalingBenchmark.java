@@ -0,0 +1,95 @@
+package com.sathira.miimoneypal.benchmark;
+
+import com.sathira.miimoneypal.concurrency.AdmissionControlledDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to serve a burst of concurrent requests on platform vs virtual threads.
+ *
+ * Each simulated request blocks outside the database for 20 ms (reading the request,
+ * a downstream call), then runs one query through the admission semaphore and a
+ * 10-connection Hikari pool - the shape of a typical jOOQ endpoint here. PLATFORM uses
+ * 200 threads (Tomcat's default max), so bursts above 200 queue for a thread;
+ * VIRTUAL starts one virtual thread per request and queues only for a connection.
+ *
+ * Requires the compose database. Run:
+ * ./gradlew jmh -Pjmh.includes=VirtualThreadScalingBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadScalingBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int POOL_SIZE = 10;
+    private static final long BLOCKING_IO_MILLIS = 20;
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private String mode;
+
+    @Param({"200", "1000", "5000"})
+    private int concurrentRequests;
+
+    private HikariDataSource pool;
+    private AdmissionControlledDataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl(System.getProperty("jmh.db.url", "jdbc:postgresql://localhost:5433/mydatabase"));
+        pool.setUsername(System.getProperty("jmh.db.user", "myuser"));
+        pool.setPassword(System.getProperty("jmh.db.password", "secret"));
+        pool.setMaximumPoolSize(POOL_SIZE);
+        // Long timeout: this measures queueing, not shedding
+        dataSource = new AdmissionControlledDataSource(pool, POOL_SIZE, 60_000, new SimpleMeterRegistry());
+
+        executor = "VIRTUAL".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.close();
+        pool.close();
+    }
+
+    @Benchmark
+    public long burst() throws Exception {
+        List<Future<Long>> responses = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            responses.add(executor.submit(this::request));
+        }
+        long total = 0;
+        for (Future<Long> response : responses) {
+            total += response.get();
+        }
+        return total;
+    }
+
+    private long request() throws Exception {
+        Thread.sleep(BLOCKING_IO_MILLIS);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT count(*) FROM categories");
+             ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
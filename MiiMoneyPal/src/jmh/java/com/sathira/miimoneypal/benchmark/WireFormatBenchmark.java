@@ -0,0 +1,129 @@
+package com.sathira.miimoneypal.benchmark;
+
+import com.sathira.miimoneypal.models.response.json.ColumnarResponseModule;
+import com.sathira.miimoneypal.models.response.json.FieldSelectionModule;
+import com.sathira.miimoneypal.models.response.json.PrecompiledResponseModule;
+import com.sathira.miimoneypal.rest.transactions.list.ListTransactionsResponse;
+import com.sathira.miimoneypal.rest.transactions.list.TransactionSummary;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.cfg.MapperBuilder;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Transaction page on the wire: row JSON vs columnar JSON vs CBOR, plain and gzipped.
+ *
+ * Serialization cost is the benchmark score (gzip variants include compression, as the
+ * server does it per response). Payload sizes are printed once per trial, e.g.
+ * "wire-format pageSize=100 json=<raw>/<gzip> columnar=... cbor=..." in bytes.
+ *
+ * Run: ./gradlew jmh -Pjmh.includes=WireFormatBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(1)
+@Fork(1)
+@State(Scope.Thread)
+public class WireFormatBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper json;
+    private ObjectMapper columnar;
+    private ObjectMapper cbor;
+    private ListTransactionsResponse page;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        json = configure(JsonMapper.builder()).build();
+        columnar = configure(JsonMapper.builder()).addModule(new ColumnarResponseModule()).build();
+        cbor = configure(CBORMapper.builder()).build();
+        page = ListTransactionsResponse.of(transactions(pageSize), 0, pageSize, 10_000);
+
+        System.out.printf("wire-format pageSize=%d json=%s columnar=%s cbor=%s (raw/gzip bytes)%n",
+                pageSize, sizes(json), sizes(columnar), sizes(cbor));
+    }
+
+    private static <M extends ObjectMapper, B extends MapperBuilder<M, B>> B configure(B builder) {
+        return builder
+                .findAndAddModules()
+                .addModule(new FieldSelectionModule())
+                .addModule(new PrecompiledResponseModule())
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    }
+
+    private String sizes(ObjectMapper mapper) throws IOException {
+        byte[] raw = mapper.writeValueAsBytes(page);
+        return raw.length + "/" + gzip(raw).length;
+    }
+
+    @Benchmark
+    public byte[] json() throws IOException {
+        return json.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] columnar() throws IOException {
+        return columnar.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] cbor() throws IOException {
+        return cbor.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] jsonGzip() throws IOException {
+        return gzip(json.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public byte[] columnarGzip() throws IOException {
+        return gzip(columnar.writeValueAsBytes(page));
+    }
+
+    @Benchmark
+    public byte[] cborGzip() throws IOException {
+        return gzip(cbor.writeValueAsBytes(page));
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<TransactionSummary> transactions(int count) {
+        List<TransactionSummary> items = new ArrayList<>(count);
+        LocalDate date = LocalDate.of(2026, 1, 1);
+        for (int i = 0; i < count; i++) {
+            BigDecimal amount = BigDecimal.valueOf(1_000 + i * 37L, 2);
+            boolean bucket = i % 5 == 0;
+            items.add(new TransactionSummary(
+                    (long) i, bucket ? "SAVINGS" : "EXPENSE", amount, "$" + amount.toPlainString(),
+                    date.plusDays(i % 28),
+                    bucket ? null : 10L + i % 8, bucket ? null : "Category " + i % 8,
+                    bucket ? 3L : null, bucket ? "Emergency fund" : null,
+                    i % 3 == 0 ? null : "note " + i,
+                    date.plusDays(i % 28).atTime(12, i % 60)
+            ));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,110 @@
+package com.sathira.miimoneypal.architecture;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times every {@link UseCase} / {@link AuthenticatedUseCase} execution and counts failures.
+ *
+ * <p>Meters:</p>
+ * <ul>
+ *   <li>{@code usecase.execution} (timer, tag {@code use_case}) - every call, successful or not,
+ *       published as a percentile histogram so quantiles can be aggregated in Prometheus</li>
+ *   <li>{@code usecase.errors} (counter, tags {@code use_case}, {@code exception}) - failed calls</li>
+ * </ul>
+ *
+ * <p>Meters are created on the first call per use case and looked up afterwards with a single
+ * map read; timing uses the registry clock directly, so a successful call allocates nothing.</p>
+ */
+public class UseCaseMetricsInterceptor implements MethodInterceptor {
+
+    static final String TIMER_NAME = "usecase.execution";
+    static final String ERROR_COUNTER_NAME = "usecase.errors";
+
+    private final Supplier<MeterRegistry> registrySupplier;
+    private final Map<Class<?>, UseCaseMeters> meters = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    /**
+     * @param registrySupplier resolved on first call, so the advisor can be created before the registry
+     */
+    public UseCaseMetricsInterceptor(Supplier<MeterRegistry> registrySupplier) {
+        this.registrySupplier = registrySupplier;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = registry();
+        UseCaseMeters useCase = meters.get(targetClass(invocation));
+        if (useCase == null) {
+            useCase = meters.computeIfAbsent(targetClass(invocation), type -> new UseCaseMeters(registry, type));
+        }
+
+        Clock clock = registry.config().clock();
+        long start = clock.monotonicTime();
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            useCase.error(e.getClass()).increment();
+            throw e;
+        } finally {
+            useCase.timer.record(clock.monotonicTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry current = registry;
+        if (current == null) {
+            current = registrySupplier.get();
+            registry = current;
+        }
+        return current;
+    }
+
+    private static Class<?> targetClass(MethodInvocation invocation) {
+        Object target = invocation.getThis();
+        return target != null ? AopUtils.getTargetClass(target) : invocation.getMethod().getDeclaringClass();
+    }
+
+    /**
+     * Timer and per-exception error counters of one use case.
+     */
+    private static final class UseCaseMeters {
+
+        private final MeterRegistry registry;
+        private final String name;
+        private final Timer timer;
+        private final Map<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+        UseCaseMeters(MeterRegistry registry, Class<?> type) {
+            this.registry = registry;
+            this.name = type.getSimpleName();
+            this.timer = Timer.builder(TIMER_NAME)
+                    .description("Use case execution time")
+                    .tag("use_case", name)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(registry);
+        }
+
+        Counter error(Class<?> exceptionType) {
+            return errors.computeIfAbsent(exceptionType, type -> Counter.builder(ERROR_COUNTER_NAME)
+                    .description("Use case executions that threw")
+                    .tag("use_case", name)
+                    .tag("exception", type.getSimpleName())
+                    .register(registry));
+        }
+    }
+}
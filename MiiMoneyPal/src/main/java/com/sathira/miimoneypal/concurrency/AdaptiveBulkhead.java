@@ -0,0 +1,201 @@
+package com.sathira.miimoneypal.concurrency;
+
+import com.sathira.miimoneypal.exception.DeadlineExceededException;
+import com.sathira.miimoneypal.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Named concurrency limit with a bounded wait queue.
+ *
+ * <p>At most {@link GradientLimit#limit()} requests run at once; up to {@code maxQueue}
+ * more wait (FIFO, at most {@code maxWaitMs}, never past the request's deadline) and
+ * anything beyond that is shed immediately with 503. Each handler method holds at most one
+ * connection at a time, so a bulkhead's maximum limit is also the most connections its
+ * endpoints can take from the pool.</p>
+ *
+ * <p>Records (tag {@code name}): {@code bulkhead.limit}, {@code bulkhead.active},
+ * {@code bulkhead.waiting} (gauges), {@code bulkhead.wait} (timer) and
+ * {@code bulkhead.rejected} (counter, tag {@code reason}: queue_full or timeout).</p>
+ */
+public class AdaptiveBulkhead {
+
+    private final String name;
+    private final GradientLimit limit;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitFreed = lock.newCondition();
+    private final Timer waitTimer;
+    private final Counter queueFull;
+    private final Counter timedOut;
+    private int active;
+    private int waiting;
+
+    /**
+     * @param maxQueue  Requests allowed to wait once the limit is reached; 0 rejects at once
+     * @param maxWaitMs How long a queued request waits before it is shed with 503
+     */
+    public AdaptiveBulkhead(String name, GradientLimit limit, int maxQueue, long maxWaitMs, MeterRegistry meterRegistry) {
+        if (maxQueue < 0) {
+            throw new IllegalArgumentException("maxQueue must not be negative");
+        }
+        this.name = name;
+        this.limit = limit;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+        this.waitTimer = Timer.builder("bulkhead.wait")
+                .description("Time spent waiting for a bulkhead permit")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.queueFull = rejectedCounter(meterRegistry, "queue_full");
+        this.timedOut = rejectedCounter(meterRegistry, "timeout");
+        Gauge.builder("bulkhead.limit", limit, GradientLimit::limit)
+                .description("Current concurrency limit of the bulkhead")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.active", this, AdaptiveBulkhead::active)
+                .description("Requests currently holding a bulkhead permit")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.waiting", this, AdaptiveBulkhead::waiting)
+                .description("Requests waiting for a bulkhead permit")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Takes a permit, waiting in the queue if the limit is reached.
+     *
+     * @throws ServiceUnavailableException if the queue is full or the wait timed out
+     * @throws DeadlineExceededException   if the request's deadline passed while waiting
+     */
+    public Permit acquire() {
+        RequestDeadline deadline = RequestDeadline.current();
+        long waitNanos = deadline != null
+                ? Math.min(maxWaitNanos, Math.max(deadline.remainingNanos(), 0))
+                : maxWaitNanos;
+
+        lock.lock();
+        try {
+            // Newcomers do not overtake requests already queued
+            if (waiting == 0 && active < limit.limit()) {
+                active++;
+                return new Permit();
+            }
+            if (waiting >= maxQueue) {
+                queueFull.increment();
+                throw new ServiceUnavailableException("Server is busy with " + name + " requests, please retry");
+            }
+            awaitPermit(waitNanos, deadline);
+            active++;
+            return new Permit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitPermit(long waitNanos, RequestDeadline deadline) {
+        long start = System.nanoTime();
+        waiting++;
+        try {
+            long remaining = waitNanos;
+            while (active >= limit.limit()) {
+                if (remaining <= 0) {
+                    if (deadline != null && deadline.expired()) {
+                        deadline.markExceeded();
+                        throw new DeadlineExceededException("Request deadline of " + deadline.budgetMillis()
+                                + " ms exceeded while waiting for the " + name + " bulkhead");
+                    }
+                    timedOut.increment();
+                    throw new ServiceUnavailableException("Server is busy with " + name + " requests, please retry");
+                }
+                remaining = permitFreed.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for the " + name + " bulkhead", e);
+        } finally {
+            waiting--;
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    int active() {
+        lock.lock();
+        try {
+            return active;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int waiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        return limit.limit();
+    }
+
+    private Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("bulkhead.rejected")
+                .description("Requests shed by a bulkhead")
+                .tag("name", name)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * A slot in the bulkhead; release exactly once when the request completes.
+     */
+    public final class Permit {
+
+        private final long acquiredAt = System.nanoTime();
+        private boolean released;
+
+        private Permit() {
+        }
+
+        /**
+         * Returns the slot and feeds the outcome to the limit.
+         *
+         * @param succeeded False for failures that signal overload (timeouts, 5xx)
+         */
+        public void release(boolean succeeded) {
+            long latencyNanos = System.nanoTime() - acquiredAt;
+            lock.lock();
+            try {
+                if (released) {
+                    return;
+                }
+                released = true;
+                if (succeeded) {
+                    limit.onSample(latencyNanos, active);
+                } else {
+                    limit.onDropped();
+                }
+                active--;
+                // signalAll: the limit may have grown by more than one slot
+                permitFreed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
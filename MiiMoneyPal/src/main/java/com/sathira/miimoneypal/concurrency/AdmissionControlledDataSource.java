@@ -0,0 +1,158 @@
+package com.sathira.miimoneypal.concurrency;
+
+import com.sathira.miimoneypal.exception.DeadlineExceededException;
+import com.sathira.miimoneypal.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource that admits at most {@code permits} concurrent connection holders.
+ *
+ * <p>With virtual threads, thousands of requests can reach the database layer at once.
+ * Hikari would park all of them in its own hand-off queue, where waiters spin and retry
+ * and every one of them times out together when the pool stays busy. This semaphore sits
+ * in front of the pool with the same number of permits: waiters queue fairly (FIFO), the
+ * pool only ever sees as many borrowers as it has connections, and a request that waits
+ * longer than the timeout is shed with 503 instead of holding its thread.</p>
+ *
+ * <p>The permit is released when the connection is closed (returned to the pool). Inside
+ * a request the wait is also cut short at the request's deadline.</p>
+ */
+public class AdmissionControlledDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long timeoutNanos;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    /**
+     * @param permits   Concurrent connection holders; normally the pool's maximum size
+     * @param timeoutMs How long to wait for a permit before failing with 503
+     */
+    public AdmissionControlledDataSource(DataSource target, int permits, long timeoutMs, MeterRegistry meterRegistry) {
+        super(target);
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be at least 1");
+        }
+        this.permits = new Semaphore(permits, true);
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        this.waitTimer = Timer.builder("db.admission.wait")
+                .description("Time spent waiting for a connection admission permit")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("db.admission.rejected")
+                .description("Connection requests shed after waiting for the admission timeout")
+                .register(meterRegistry);
+        Gauge.builder("db.admission.waiting", this.permits, Semaphore::getQueueLength)
+                .description("Threads waiting for a connection admission permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return admitted(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return admitted(() -> super.getConnection(username, password));
+    }
+
+    /**
+     * Permits currently free; for tests and diagnostics.
+     */
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() {
+        // Never wait past the request's deadline (RequestDeadline), if one is running
+        RequestDeadline deadline = RequestDeadline.current();
+        long waitNanos = deadline != null
+                ? Math.min(timeoutNanos, Math.max(deadline.remainingNanos(), 0))
+                : timeoutNanos;
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(waitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for a database connection", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            if (deadline != null && deadline.expired()) {
+                deadline.markExceeded();
+                throw new DeadlineExceededException("Request deadline of " + deadline.budgetMillis()
+                        + " ms exceeded while waiting for a database connection");
+            }
+            rejected.increment();
+            throw new ServiceUnavailableException("Database is busy, please retry");
+        }
+    }
+
+    private Connection admitted(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return releasingOnClose(connection);
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        default -> {
+                        }
+                    }
+                    if (method.getName().equals("close") && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
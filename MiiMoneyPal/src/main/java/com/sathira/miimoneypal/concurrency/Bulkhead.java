@@ -0,0 +1,32 @@
+package com.sathira.miimoneypal.concurrency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Bulkhead an endpoint runs in; unannotated endpoints run in {@value #INTERACTIVE}.
+ *
+ * <p>On a controller class it applies to all of its handler methods; a method-level
+ * annotation wins. See {@link BulkheadInterceptor}.</p>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+    /**
+     * Everyday requests (add expense, list, detail); the default.
+     */
+    String INTERACTIVE = "interactive";
+
+    /**
+     * Long, database-heavy requests (bulk edits, category merge chunks) that must not crowd out interactive ones.
+     */
+    String HEAVY = "heavy";
+
+    /**
+     * Name of the bulkhead, configured under {@code bulkhead.<name>.*}.
+     */
+    String value();
+}
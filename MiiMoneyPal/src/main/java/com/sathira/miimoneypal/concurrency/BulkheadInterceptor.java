@@ -0,0 +1,55 @@
+package com.sathira.miimoneypal.concurrency;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Runs every handler invocation inside its {@link Bulkhead}.
+ *
+ * <p>The permit is taken before the handler runs and returned in afterCompletion, where the
+ * outcome feeds the bulkhead's adaptive limit: 5xx responses (including 503 and 504 from
+ * saturated resources and missed deadlines) count as dropped, everything else as a latency
+ * sample. A request shed here never reaches the handler and gets 503 with Retry-After.</p>
+ *
+ * <p>Registered after {@link RequestDeadlineInterceptor} so queueing respects the deadline.
+ * Not registered for the batch endpoint: its sub-requests take their own permits.</p>
+ */
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+
+    private final Bulkheads bulkheads;
+
+    public BulkheadInterceptor(Bulkheads bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            request.setAttribute(PERMIT_ATTRIBUTE, bulkhead(handlerMethod).acquire());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdaptiveBulkhead.Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.release(ex == null && response.getStatus() < 500);
+        }
+    }
+
+    AdaptiveBulkhead bulkhead(HandlerMethod handler) {
+        Bulkhead annotation = handler.getMethodAnnotation(Bulkhead.class);
+        if (annotation == null) {
+            annotation = handler.getBeanType().getAnnotation(Bulkhead.class);
+        }
+        return bulkheads.get(annotation != null ? annotation.value() : Bulkhead.INTERACTIVE);
+    }
+}
@@ -0,0 +1,33 @@
+package com.sathira.miimoneypal.concurrency;
+
+import java.util.Map;
+
+/**
+ * The configured bulkheads by name; {@value Bulkhead#INTERACTIVE} is always present.
+ *
+ * <p>Used by {@link BulkheadInterceptor} for handler invocations, by the batch endpoint,
+ * whose sub-requests each take a permit from their own endpoint's bulkhead, and by the
+ * category merge job, whose chunks run in the {@value Bulkhead#HEAVY} bulkhead.</p>
+ */
+public class Bulkheads {
+
+    private final Map<String, AdaptiveBulkhead> bulkheads;
+
+    public Bulkheads(Map<String, AdaptiveBulkhead> bulkheads) {
+        if (!bulkheads.containsKey(Bulkhead.INTERACTIVE)) {
+            throw new IllegalArgumentException("The " + Bulkhead.INTERACTIVE + " bulkhead must be configured");
+        }
+        this.bulkheads = Map.copyOf(bulkheads);
+    }
+
+    /**
+     * @throws IllegalStateException if no bulkhead is configured with this name
+     */
+    public AdaptiveBulkhead get(String name) {
+        AdaptiveBulkhead bulkhead = bulkheads.get(name);
+        if (bulkhead == null) {
+            throw new IllegalStateException("No bulkhead configured with name " + name);
+        }
+        return bulkhead;
+    }
+}
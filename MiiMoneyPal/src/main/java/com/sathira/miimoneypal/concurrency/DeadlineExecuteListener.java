@@ -0,0 +1,69 @@
+package com.sathira.miimoneypal.concurrency;
+
+import com.sathira.miimoneypal.exception.DeadlineExceededException;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jOOQ listener that bounds every statement of a request by the request's remaining time.
+ *
+ * <ul>
+ *   <li>Once the deadline has passed, further statements are refused before they reach the database</li>
+ *   <li>Otherwise the JDBC query timeout is set to the remaining time, rounded up to whole seconds
+ *       (the JDBC unit); the driver cancels the statement on the server when it fires</li>
+ *   <li>A statement cancelled (SQLState 57014) after the deadline passed is rethrown as
+ *       DeadlineExceededException; other failures are left alone</li>
+ * </ul>
+ *
+ * <p>Registered after Spring Boot's exception translator, so its exception replaces the
+ * translated one.</p>
+ */
+public class DeadlineExecuteListener implements ExecuteListener {
+
+    static final String QUERY_CANCELED = "57014";
+
+    @Override
+    public void prepareEnd(ExecuteContext ctx) {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null || ctx.statement() == null) {
+            return;
+        }
+
+        long remainingNanos = deadline.remainingNanos();
+        if (remainingNanos <= 0) {
+            deadline.markExceeded();
+            throw new DeadlineExceededException("Request deadline of " + deadline.budgetMillis() + " ms exceeded");
+        }
+
+        try {
+            ctx.statement().setQueryTimeout(timeoutSeconds(remainingNanos));
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not set the query timeout", e);
+        }
+    }
+
+    @Override
+    public void exception(ExecuteContext ctx) {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null || ctx.exception() instanceof DeadlineExceededException) {
+            return;
+        }
+
+        SQLException sqlException = ctx.sqlException();
+        boolean cancelled = sqlException != null && QUERY_CANCELED.equals(sqlException.getSQLState());
+        if (cancelled && deadline.expired()) {
+            deadline.markExceeded();
+            ctx.exception(new DeadlineExceededException(
+                    "Request deadline of " + deadline.budgetMillis() + " ms exceeded during a database statement",
+                    ctx.exception()));
+        }
+    }
+
+    static int timeoutSeconds(long remainingNanos) {
+        long seconds = (remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        return (int) Math.min(Math.max(seconds, 1), Integer.MAX_VALUE);
+    }
+}
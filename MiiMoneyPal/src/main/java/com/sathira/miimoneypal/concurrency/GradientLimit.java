@@ -0,0 +1,82 @@
+package com.sathira.miimoneypal.concurrency;
+
+/**
+ * Concurrency limit that follows observed latency (gradient algorithm).
+ *
+ * <p>Keeps a slow-moving average of request latency as the "no queueing" baseline. Each
+ * completed request compares its latency with the baseline: while it stays within 1.5x the
+ * limit grows by about {@code sqrt(limit)}, and as latency rises further
+ * (work is queueing somewhere downstream, usually for database connections or I/O) the
+ * limit shrinks in proportion. Dropped requests (timeouts, 5xx)
+ * back the limit off by 10%. The result is smoothed and kept within [min, max].</p>
+ *
+ * <p>The limit only grows while it is actually used (at least half of it in flight), so a
+ * quiet period does not inflate it to the maximum.</p>
+ */
+public class GradientLimit {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BACKOFF = 0.9;
+    private static final int BASELINE_WINDOW = 100;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private double limit;
+    private double baselineNanos;
+
+    public GradientLimit(int minLimit, int initialLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "Expected 1 <= min <= initial <= max, got " + minLimit + ", " + initialLimit + ", " + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * Records a request that completed normally.
+     *
+     * @param latencyNanos How long the request held its permit
+     * @param inFlight     Requests in flight when it completed, including itself
+     */
+    public synchronized void onSample(long latencyNanos, int inFlight) {
+        if (latencyNanos <= 0) {
+            return;
+        }
+        if (baselineNanos == 0) {
+            baselineNanos = latencyNanos;
+        } else {
+            baselineNanos += (latencyNanos - baselineNanos) / BASELINE_WINDOW;
+            // Load went away: let a baseline recorded under queueing come back down quickly
+            if (baselineNanos > 2 * latencyNanos) {
+                baselineNanos *= 0.95;
+            }
+        }
+
+        if (inFlight < limit / 2) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * baselineNanos / latencyNanos));
+        // Probe for more only while latency is within tolerance; otherwise shrink in proportion
+        double target = gradient >= 1.0 ? limit + Math.sqrt(limit) : limit * gradient;
+        limit = clamp(limit * (1 - SMOOTHING) + target * SMOOTHING);
+    }
+
+    /**
+     * Records a request that failed in a way that signals overload (timeout, 5xx).
+     */
+    public synchronized void onDropped() {
+        limit = clamp(limit * BACKOFF);
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,103 @@
+package com.sathira.miimoneypal.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Deadline of the HTTP request on the current thread.
+ *
+ * <p>Started and finished by {@link RequestDeadlineInterceptor}; read by
+ * {@link DeadlineExecuteListener} (statement timeouts) and {@link AdmissionControlledDataSource}
+ * (connection wait). Work outside a request (scheduled jobs, startup, @Async) finds no
+ * current deadline and is not limited; work a request hands to other threads carries it
+ * along with {@link #wrap(Supplier)}.</p>
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+    private final long budgetMillis;
+    private volatile boolean exceeded;
+
+    private RequestDeadline(long budgetMillis, long deadlineNanos) {
+        this.budgetMillis = budgetMillis;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    static RequestDeadline start(long budgetMillis) {
+        RequestDeadline deadline = new RequestDeadline(
+                budgetMillis, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    static void finish() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Deadline of the request on this thread, or null outside a request.
+     */
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the task under this deadline on whichever thread calls it (e.g. batch sub-requests
+     * on virtual threads), restoring that thread's previous deadline afterwards.
+     */
+    public <T> Supplier<T> wrap(Supplier<T> task) {
+        return () -> {
+            RequestDeadline previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * A deadline for part of this request's work (e.g. a batch sub-request under its endpoint's
+     * {@link TimeBudget}) that ends after {@code budgetMillis} or with this deadline, whichever
+     * comes first. Misses are recorded on the new deadline only.
+     */
+    public RequestDeadline within(long budgetMillis) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        return deadlineNanos - this.deadlineNanos < 0
+                ? new RequestDeadline(budgetMillis, deadlineNanos)
+                : new RequestDeadline(this.budgetMillis, this.deadlineNanos);
+    }
+
+    public long budgetMillis() {
+        return budgetMillis;
+    }
+
+    /**
+     * Time left; zero or negative once the deadline has passed.
+     */
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    public boolean expired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * Records that the request failed because of the deadline (counted once per request).
+     */
+    public void markExceeded() {
+        exceeded = true;
+    }
+
+    public boolean exceeded() {
+        return exceeded;
+    }
+}
@@ -0,0 +1,93 @@
+package com.sathira.miimoneypal.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Starts a {@link RequestDeadline} for every handler invocation and publishes misses.
+ *
+ * <p>The budget is the handler's {@link TimeBudget} (method, then class), else the default,
+ * capped at the configured maximum. A client may send {@value #DEADLINE_HEADER} with the
+ * milliseconds it is willing to wait; that can only lower the budget, never raise it.</p>
+ *
+ * <p>The header is also how work stops when a client gives up. A blocking servlet thread
+ * cannot see a disconnect until it writes the response, so the server would otherwise keep
+ * running statements for an abandoned request. A client that sends its own timeout here
+ * has its statements cancelled at about the moment it stops waiting.</p>
+ *
+ * <p>Records {@code http.request.deadline.exceeded} (counter, tag {@code uri}) when the
+ * request failed because of its deadline.</p>
+ */
+@Slf4j
+public class RequestDeadlineInterceptor implements HandlerInterceptor {
+
+    public static final String DEADLINE_HEADER = "X-Request-Deadline-Ms";
+
+    private final long defaultBudgetMillis;
+    private final long maxBudgetMillis;
+    private final MeterRegistry meterRegistry;
+
+    public RequestDeadlineInterceptor(long defaultBudgetMillis, long maxBudgetMillis, MeterRegistry meterRegistry) {
+        this.defaultBudgetMillis = defaultBudgetMillis;
+        this.maxBudgetMillis = maxBudgetMillis;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RequestDeadline.start(budgetMillis(request, handlerMethod));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return;
+        }
+        RequestDeadline.finish();
+
+        if (deadline.exceeded()) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            Counter.builder("http.request.deadline.exceeded")
+                    .description("Requests failed because their time budget ran out")
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} exceeded its {} ms deadline", request.getMethod(), uri, deadline.budgetMillis());
+        }
+    }
+
+    long budgetMillis(HttpServletRequest request, HandlerMethod handler) {
+        TimeBudget budget = handler.getMethodAnnotation(TimeBudget.class);
+        if (budget == null) {
+            budget = handler.getBeanType().getAnnotation(TimeBudget.class);
+        }
+        long endpointBudget = budget != null ? Math.min(budget.millis(), maxBudgetMillis) : defaultBudgetMillis;
+
+        String header = request.getHeader(DEADLINE_HEADER);
+        if (header != null) {
+            try {
+                long requested = Long.parseLong(header.trim());
+                if (requested > 0) {
+                    return Math.min(requested, endpointBudget);
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring malformed {} header: {}", DEADLINE_HEADER, header);
+            }
+        }
+        return endpointBudget;
+    }
+}
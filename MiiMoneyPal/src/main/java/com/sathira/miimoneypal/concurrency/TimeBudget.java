@@ -0,0 +1,22 @@
+package com.sathira.miimoneypal.concurrency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Time budget of an endpoint, overriding request-deadline.default-ms.
+ *
+ * <p>On a controller class it applies to all of its handler methods; a method-level
+ * annotation wins. See {@link RequestDeadlineInterceptor}.</p>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeBudget {
+
+    /**
+     * Budget in milliseconds, measured from when the handler is selected.
+     */
+    long millis();
+}
@@ -0,0 +1,72 @@
+package com.sathira.miimoneypal.config;
+
+import com.sathira.miimoneypal.concurrency.AdaptiveBulkhead;
+import com.sathira.miimoneypal.concurrency.BulkheadInterceptor;
+import com.sathira.miimoneypal.concurrency.Bulkheads;
+import com.sathira.miimoneypal.concurrency.GradientLimit;
+import com.sathira.miimoneypal.constants.EndPoints;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bulkheads for /api endpoints (see Bulkhead and BulkheadInterceptor).
+ *
+ * <p>One AdaptiveBulkhead per name in {@code bulkhead.names}, each configured under
+ * {@code bulkhead.<name>.*}: min-limit, initial-limit, max-limit (adaptive concurrency
+ * range), max-queue and max-wait-ms. The interceptor is ordered after the request
+ * deadline interceptor so a queued request never waits past its deadline. The batch
+ * endpoint is excluded; BatchUseCase takes a permit per sub-request from the same bulkheads.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig implements WebMvcConfigurer {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final Bulkheads bulkheads;
+
+    public BulkheadConfig(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        Map<String, AdaptiveBulkhead> bulkheads = new LinkedHashMap<>();
+        for (String name : environment.getProperty("bulkhead.names", String[].class, new String[]{"interactive"})) {
+            bulkheads.put(name.trim(), bulkhead(name.trim()));
+        }
+        this.bulkheads = new Bulkheads(bulkheads);
+    }
+
+    @Bean
+    public Bulkheads bulkheads() {
+        return bulkheads;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new BulkheadInterceptor(bulkheads))
+                .addPathPatterns("/api/**")
+                .excludePathPatterns(EndPoints.BATCH)
+                .order(1);
+    }
+
+    private AdaptiveBulkhead bulkhead(String name) {
+        String prefix = "bulkhead." + name + ".";
+        GradientLimit limit = new GradientLimit(
+                environment.getProperty(prefix + "min-limit", Integer.class, 1),
+                environment.getProperty(prefix + "initial-limit", Integer.class, 10),
+                environment.getProperty(prefix + "max-limit", Integer.class, 100));
+        return new AdaptiveBulkhead(
+                name,
+                limit,
+                environment.getProperty(prefix + "max-queue", Integer.class, 50),
+                environment.getProperty(prefix + "max-wait-ms", Long.class, 1000L),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,51 @@
+package com.sathira.miimoneypal.config;
+
+import com.sathira.miimoneypal.concurrency.AdmissionControlledDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Puts AdmissionControlledDataSource in front of the connection pool.
+ *
+ * <p>Requests, @Async and @Scheduled work run on virtual threads when
+ * {@code spring.threads.virtual.enabled=true}; nothing then limits how many of them reach
+ * the pool at once. The admission semaphore is sized to the Hikari maximum pool size unless
+ * {@code db.admission.permits} is set. Flyway, jOOQ and the transaction manager all see the
+ * wrapped DataSource; {@code unwrap(HikariDataSource.class)} still reaches the pool.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+public class ConnectionAdmissionConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static BeanPostProcessor connectionAdmissionPostProcessor(
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)
+                        || bean instanceof AdmissionControlledDataSource
+                        || !environment.getProperty("db.admission.enabled", Boolean.class, true)) {
+                    return bean;
+                }
+                int permits = environment.getProperty("db.admission.permits", Integer.class, 0);
+                if (permits <= 0) {
+                    permits = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+                }
+                long timeoutMs = environment.getProperty("db.admission.timeout-ms", Long.class, 2000L);
+                return new AdmissionControlledDataSource(dataSource, permits, timeoutMs, meterRegistry.getObject());
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.sathira.miimoneypal.config;
+
+import com.sathira.miimoneypal.models.response.json.FieldSelectionModule;
+import com.sathira.miimoneypal.models.response.json.PrecompiledResponseModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.JacksonModule;
+
+/**
+ * Registers the precompiled response serializers and the fields= selection with the
+ * application JsonMapper.
+ *
+ * <p>MVC serializes with Spring Boot's Jackson 3 ({@code tools.jackson}) mapper, whose
+ * auto-configuration registers every {@link JacksonModule} bean; the spring.jackson.*
+ * settings (SNAKE_CASE) still apply to everything else.
+ * Set json.precompiled-serializers.enabled=false to fall back to the reflective path; the
+ * fields= selection applies on both paths.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+public class JacksonConfig {
+
+    @Bean
+    public JacksonModule fieldSelectionModule() {
+        return new FieldSelectionModule();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "json.precompiled-serializers.enabled", havingValue = "true", matchIfMissing = true)
+    public JacksonModule precompiledResponseModule() {
+        return new PrecompiledResponseModule();
+    }
+}
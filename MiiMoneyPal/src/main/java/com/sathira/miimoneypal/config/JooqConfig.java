@@ -0,0 +1,38 @@
+package com.sathira.miimoneypal.config;
+
+import com.sathira.miimoneypal.concurrency.DeadlineExecuteListener;
+import com.sathira.miimoneypal.observability.QueryStatsListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jooq.ExecuteListenerProvider;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers jOOQ execute listeners on the Spring-managed DSLContext.
+ * Spring Boot's jOOQ auto-configuration picks up every ExecuteListenerProvider bean.
+ */
+@Configuration
+public class JooqConfig {
+
+    @Bean
+    public ExecuteListenerProvider queryStatsListenerProvider(
+            MeterRegistry meterRegistry,
+            @Value("${db.query-stats.slow-query-threshold-ms:200}") long slowQueryThresholdMillis,
+            @Value("${db.query-stats.log-bind-values:false}") boolean logBindValues
+    ) {
+        return new DefaultExecuteListenerProvider(
+                new QueryStatsListener(meterRegistry, slowQueryThresholdMillis, logBindValues)
+        );
+    }
+
+    /**
+     * Bounds statements by the request deadline. Unordered, so it runs after Spring Boot's
+     * exception translator (order 0) and its DeadlineExceededException is the one thrown.
+     */
+    @Bean
+    public ExecuteListenerProvider deadlineListenerProvider() {
+        return new DefaultExecuteListenerProvider(new DeadlineExecuteListener());
+    }
+}
@@ -0,0 +1,52 @@
+package com.sathira.miimoneypal.config;
+
+import com.sathira.miimoneypal.architecture.AuthenticatedUseCase;
+import com.sathira.miimoneypal.architecture.UseCase;
+import com.sathira.miimoneypal.architecture.UseCaseMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+import java.lang.reflect.Method;
+
+/**
+ * Wraps every UseCase / AuthenticatedUseCase bean with UseCaseMetricsInterceptor.
+ *
+ * <p>The advisor is registered with the infrastructure role so Spring Boot's default
+ * auto-proxy creator (the one that already applies @Transactional) picks it up without
+ * AspectJ. Beans that are already proxied get the interceptor added to their proxy.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor useCaseMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new DefaultPointcutAdvisor(
+                new UseCaseExecutePointcut(),
+                new UseCaseMetricsInterceptor(meterRegistry::getObject)
+        );
+    }
+
+    /**
+     * Matches execute(..) on classes implementing either use case interface.
+     */
+    private static final class UseCaseExecutePointcut extends StaticMethodMatcherPointcut {
+
+        UseCaseExecutePointcut() {
+            setClassFilter(type -> UseCase.class.isAssignableFrom(type)
+                    || AuthenticatedUseCase.class.isAssignableFrom(type));
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return "execute".equals(method.getName());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.sathira.miimoneypal.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * GraalVM native image hints for what Spring AOT cannot infer on its own.
+ * Only read at build time (processAot); has no effect on the JVM.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeHintsConfig.MiiMoneyPalRuntimeHints.class)
+public class NativeHintsConfig {
+
+    /**
+     * <ul>
+     *   <li>jOOQ generated classes - tables, keys and records are instantiated and read reflectively
+     *       by jOOQ (record factories, table field discovery)</li>
+     *   <li>Flyway migrations - SQL scripts are classpath resources</li>
+     *   <li>JJWT - the API module loads its implementation and the Jackson serializer by class name</li>
+     *   <li>Domain records - registered for Jackson binding (accessors, canonical constructors);
+     *       their Lombok builders are ordinary compiled code and need no hints</li>
+     *   <li>The JDK proxy AdmissionControlledDataSource puts around pooled connections</li>
+     * </ul>
+     */
+    static class MiiMoneyPalRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final String JOOQ_PACKAGE = "com/sathira/miimoneypal/jooq";
+        private static final String RECORDS_PACKAGE = "com/sathira/miimoneypal/records";
+
+        /** Classes JJWT 0.12 resolves with Classes.newInstance / Classes.forName. */
+        private static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+                "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardKeyOperations",
+                "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+                "io.jsonwebtoken.impl.security.StandardCurves",
+                "io.jsonwebtoken.impl.security.KeysBridge",
+                "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+        );
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (String type : classNames(classLoader, JOOQ_PACKAGE)) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.ACCESS_DECLARED_FIELDS);
+            }
+
+            hints.resources().registerPattern("db/migration/*.sql");
+
+            for (String type : JJWT_IMPLEMENTATIONS) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.io.*");
+
+            BindingReflectionHintsRegistrar binding = new BindingReflectionHintsRegistrar();
+            for (String type : classNames(classLoader, RECORDS_PACKAGE)) {
+                if (ClassUtils.isPresent(type, classLoader)) {
+                    binding.registerReflectionHints(hints.reflection(), ClassUtils.resolveClassName(type, classLoader));
+                }
+            }
+
+            hints.proxies().registerJdkProxy(Connection.class);
+        }
+
+        /**
+         * Every class under the package (nested classes included), found by scanning the build classpath.
+         */
+        private static List<String> classNames(ClassLoader classLoader, String packagePath) {
+            try {
+                Resource[] resources = new PathMatchingResourcePatternResolver(classLoader)
+                        .getResources("classpath*:" + packagePath + "/**/*.class");
+                String root = packagePath + "/";
+                return Arrays.stream(resources)
+                        .map(resource -> {
+                            try {
+                                String url = resource.getURL().toString();
+                                return url.substring(url.lastIndexOf(root), url.length() - ".class".length());
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        })
+                        .map(path -> path.replace('/', '.'))
+                        .filter(name -> !name.endsWith("package-info"))
+                        .toList();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Scanning " + packagePath + " failed", e);
+            }
+        }
+    }
+}
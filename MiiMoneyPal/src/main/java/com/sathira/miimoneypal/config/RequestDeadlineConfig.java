@@ -0,0 +1,38 @@
+package com.sathira.miimoneypal.config;
+
+import com.sathira.miimoneypal.concurrency.RequestDeadlineInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-request time budgets (see RequestDeadlineInterceptor and DeadlineExecuteListener).
+ * Without the interceptor no deadline is ever started and the jOOQ listener is a no-op.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "request-deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestDeadlineConfig implements WebMvcConfigurer {
+
+    private final long defaultBudgetMillis;
+    private final long maxBudgetMillis;
+    private final MeterRegistry meterRegistry;
+
+    public RequestDeadlineConfig(
+            @Value("${request-deadline.default-ms:5000}") long defaultBudgetMillis,
+            @Value("${request-deadline.max-ms:60000}") long maxBudgetMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.defaultBudgetMillis = defaultBudgetMillis;
+        this.maxBudgetMillis = maxBudgetMillis;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestDeadlineInterceptor(defaultBudgetMillis, maxBudgetMillis, meterRegistry))
+                .addPathPatterns("/api/**");
+    }
+}
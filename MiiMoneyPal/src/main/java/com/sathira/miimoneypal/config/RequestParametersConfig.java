@@ -0,0 +1,21 @@
+package com.sathira.miimoneypal.config;
+
+import com.sathira.miimoneypal.models.request.RequestParametersArgumentResolver;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Lets GET handler methods take RequestParameters and build their request DTO with its
+ * static from factory, the same factory the batch endpoint uses.
+ */
+@Configuration(proxyBeanMethods = false)
+public class RequestParametersConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new RequestParametersArgumentResolver());
+    }
+}
@@ -0,0 +1,15 @@
+package com.sathira.miimoneypal.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (e.g. expired refresh token purge) and @Async methods.
+ * With spring.threads.virtual.enabled=true Spring Boot runs both on virtual threads.
+ */
+@Configuration
+@EnableScheduling
+@EnableAsync
+public class SchedulingConfig {
+}
@@ -1,10 +1,14 @@
 package com.sathira.miimoneypal.config;
 
 import com.sathira.miimoneypal.constants.EndPoints;
+import com.sathira.miimoneypal.security.BoundedPasswordEncoder;
 import com.sathira.miimoneypal.security.JwtAccessDeniedHandler;
 import com.sathira.miimoneypal.security.JwtAuthenticationEntryPoint;
 import com.sathira.miimoneypal.security.jwt.JwtAuthenticationFilter;
+import com.sathira.miimoneypal.security.ratelimit.AuthRateLimitFilter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,8 +20,8 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -38,9 +42,11 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final AuthRateLimitFilter authRateLimitFilter;
     private final JwtAuthenticationEntryPoint authenticationEntryPoint;
     private final JwtAccessDeniedHandler accessDeniedHandler;
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
 
     /**
      * Public endpoints that don't require authentication.
@@ -53,14 +59,22 @@ public class SecurityConfig {
     };
 
     /**
-     * Actuator and health check endpoints.
+     * Actuator endpoints safe to expose on the public port (load balancer / orchestrator probes).
      */
-    private static final String[] ACTUATOR_ENDPOINTS = {
-            "/actuator/**",
-            "/health",
-            "/info"
+    private static final String[] PUBLIC_ACTUATOR_ENDPOINTS = {
+            "/actuator/health",
+            "/actuator/health/**",
+            "/actuator/info",
+            "/livez",
+            "/readyz"
     };
 
+    /**
+     * Port the actuator is served on when management.server.port is set (-1 = same port as the API).
+     */
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
@@ -86,8 +100,13 @@ public class SecurityConfig {
                         // Public auth endpoints
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
 
-                        // Actuator endpoints
-                        .requestMatchers(ACTUATOR_ENDPOINTS).permitAll()
+                        // Health and info probes
+                        .requestMatchers(PUBLIC_ACTUATOR_ENDPOINTS).permitAll()
+
+                        // Metrics and prometheus only on the separate management port (keep it off
+                        // the public network); on the API port no other actuator endpoint is reachable
+                        .requestMatchers(this::isManagementPort).permitAll()
+                        .requestMatchers("/actuator/**").denyAll()
 
                         // Preflight OPTIONS requests
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
@@ -99,12 +118,28 @@ public class SecurityConfig {
                 // Add JWT filter before UsernamePasswordAuthenticationFilter
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
 
+                // Rate limit public auth endpoints before any credential work happens
+                .addFilterBefore(authRateLimitFilter, JwtAuthenticationFilter.class)
+
                 .build();
     }
 
+    private boolean isManagementPort(HttpServletRequest request) {
+        return managementPort > 0 && request.getLocalPort() == managementPort;
+    }
+
+    /**
+     * BCrypt on a dedicated bounded pool so login bursts cannot occupy request threads.
+     * A pool size of 0 means one hashing thread per available processor.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${password.hashing.bcrypt-strength:10}") int strength,
+            @Value("${password.hashing.pool-size:0}") int poolSize,
+            @Value("${password.hashing.queue-capacity:64}") int queueCapacity
+    ) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(strength, threads, queueCapacity);
     }
 
     /**
@@ -115,15 +150,17 @@ public class SecurityConfig {
      * <ul>
      *   <li>Uses DaoAuthenticationProvider for database-backed authentication</li>
      *   <li>Loads users via UserDetailsService (AppUserDetailsService)</li>
-     *   <li>Verifies passwords using BCryptPasswordEncoder</li>
+     *   <li>Verifies passwords using the bounded BCrypt encoder</li>
+     *   <li>Rehashes on successful login when the stored cost differs from the configured one</li>
      * </ul>
      *
      * @return configured AuthenticationManager
      */
     @Bean
-    public AuthenticationManager authenticationManager() {
+    public AuthenticationManager authenticationManager(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return new ProviderManager(authProvider);
     }
 
@@ -0,0 +1,68 @@
+package com.sathira.miimoneypal.config;
+
+import com.sathira.miimoneypal.models.response.json.ColumnarJsonHttpMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.util.List;
+
+/**
+ * Compact wire formats for mobile clients, selected with the Accept header:
+ * - application/cbor: the same document as JSON, binary-encoded (any endpoint, responses only)
+ * - application/vnd.miimoneypal.columnar+json: one array per field (transaction and category lists)
+ *
+ * Both converters follow the application's Jackson 3 JsonMapper (Spring Boot's, the one MVC writes
+ * JSON with), so naming, date format, fields= and the precompiled serializers stay in sync with
+ * JSON. Response compression for all three types is configured under server.compression.*.
+ */
+@Configuration(proxyBeanMethods = false)
+public class WireFormatConfig implements WebMvcConfigurer {
+
+    private final JsonMapper jsonMapper;
+    private final List<JacksonModule> modules;
+
+    public WireFormatConfig(JsonMapper jsonMapper, ObjectProvider<JacksonModule> modules) {
+        this.jsonMapper = jsonMapper;
+        this.modules = modules.orderedStream().toList();
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Replace the default CBOR converter (if any), which uses an unconfigured mapper
+        converters.removeIf(JacksonCborHttpMessageConverter.class::isInstance);
+        converters.add(new JacksonCborHttpMessageConverter(cborMapper()) {
+            // Request bodies stay JSON: the CBOR mapper mirrors only what shapes responses
+            @Override
+            public boolean canRead(Class<?> clazz, MediaType mediaType) {
+                return false;
+            }
+
+            @Override
+            public boolean canRead(ResolvableType type, MediaType mediaType) {
+                return false;
+            }
+        });
+        converters.addFirst(new ColumnarJsonHttpMessageConverter(jsonMapper));
+    }
+
+    /**
+     * CBOR mapper with the JSON mapper's naming strategy and the application's modules.
+     * Jackson 3 mappers are immutable and a JsonMapper cannot be rebuilt for another format, so
+     * the settings that shape the document are applied again; the rest are Jackson's defaults on
+     * both mappers.
+     */
+    private CBORMapper cborMapper() {
+        return CBORMapper.builder()
+                .propertyNamingStrategy(jsonMapper.serializationConfig().getPropertyNamingStrategy())
+                .addModules(modules)
+                .build();
+    }
+}
@@ -28,6 +28,8 @@ public final class EndPoints {
     // ===========================================
     public static final String TRANSACTIONS = API_BASE + "/transactions";
     public static final String TRANSACTIONS_BY_ID = TRANSACTIONS + "/{id}";
+    public static final String TRANSACTIONS_BULK_RECATEGORIZE = TRANSACTIONS + "/bulk/recategorize";
+    public static final String TRANSACTIONS_BULK_DELETE = TRANSACTIONS + "/bulk/delete";
 
     // ===========================================
     // Category Endpoints
@@ -36,6 +38,7 @@ public final class EndPoints {
     public static final String CATEGORIES_BY_ID = CATEGORIES + "/{id}";
     public static final String CATEGORIES_ARCHIVE = CATEGORIES_BY_ID + "/archive";
     public static final String CATEGORIES_MERGE = CATEGORIES_BY_ID + "/merge";
+    public static final String CATEGORIES_MERGE_JOB = CATEGORIES + "/merge-jobs/{jobId}";
 
     // ===========================================
     // Bucket Endpoints
@@ -51,6 +54,11 @@ public final class EndPoints {
     public static final String DASHBOARD = API_BASE + "/dashboard";
     public static final String DASHBOARD_MONTHLY = DASHBOARD + "/monthly";
 
+    // ===========================================
+    // Batch Endpoint
+    // ===========================================
+    public static final String BATCH = API_BASE + "/batch";
+
     // ===========================================
     // Settings Endpoints
     // ===========================================
@@ -0,0 +1,17 @@
+package com.sathira.miimoneypal.exception;
+
+/**
+ * Exception thrown when a request runs out of its time budget (endpoint budget or the
+ * client's X-Request-Deadline-Ms), before or during a database statement.
+ * Results in HTTP 504 with error "Deadline Exceeded".
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
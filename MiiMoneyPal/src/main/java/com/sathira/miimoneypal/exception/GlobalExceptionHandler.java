@@ -2,11 +2,13 @@ package com.sathira.miimoneypal.exception;
 
 import com.sathira.miimoneypal.models.response.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -18,6 +20,7 @@ import java.util.List;
 /**
  * Global exception handler for consistent error responses across the API.
  * Converts exceptions to standardized ErrorResponse format.
+ * Every handler takes (exception, WebRequest): BatchUseCase calls them the same way for sub-requests.
  */
 @Slf4j
 @RestControllerAdvice
@@ -130,6 +133,110 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    /**
+     * Handle optimistic locking conflicts (stale updated_at version).
+     */
+    @ExceptionHandler(StaleUpdateException.class)
+    public ResponseEntity<ErrorResponse> handleStaleUpdate(
+            StaleUpdateException ex,
+            WebRequest request
+    ) {
+        log.warn("Stale update: {}", ex.getMessage());
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                ex.getMessage(),
+                getPath(request)
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    /**
+     * Handle rate limit violations.
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(
+            TooManyRequestsException ex,
+            WebRequest request
+    ) {
+        log.warn("Rate limited: {}", ex.getMessage());
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                ex.getMessage(),
+                getPath(request)
+        );
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
+    /**
+     * Handle load shedding from saturated bounded resources.
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(
+            ServiceUnavailableException ex,
+            WebRequest request
+    ) {
+        log.warn("Service unavailable: {}", ex.getMessage());
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                getPath(request)
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    /**
+     * Handle requests that ran out of their time budget (RequestDeadline).
+     * 504 with its own error string so clients can tell it apart from load shedding (503).
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ErrorResponse> handleDeadlineExceeded(
+            DeadlineExceededException ex,
+            WebRequest request
+    ) {
+        log.warn("Deadline exceeded: {}", ex.getMessage());
+
+        ErrorResponse response = new ErrorResponse(
+                HttpStatus.GATEWAY_TIMEOUT.value(),
+                "Deadline Exceeded",
+                "The request did not complete within its time budget",
+                getPath(request)
+        );
+
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(response);
+    }
+
+    /**
+     * A transaction could not start because no connection was admitted in time
+     * (AdmissionControlledDataSource); shed like any other saturated resource, or
+     * reported as a deadline miss when the request's deadline cut the wait short.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleCannotCreateTransaction(
+            CannotCreateTransactionException ex,
+            WebRequest request
+    ) {
+        if (ex.getCause() instanceof ServiceUnavailableException unavailable) {
+            return handleServiceUnavailable(unavailable, request);
+        }
+        if (ex.getCause() instanceof DeadlineExceededException deadlineExceeded) {
+            return handleDeadlineExceeded(deadlineExceeded, request);
+        }
+        return handleAllOtherExceptions(ex, request);
+    }
+
     /**
      * Handle bad credentials (wrong password, etc.).
      */
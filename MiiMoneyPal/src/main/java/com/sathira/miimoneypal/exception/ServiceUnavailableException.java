@@ -0,0 +1,17 @@
+package com.sathira.miimoneypal.exception;
+
+/**
+ * Exception thrown when a bounded resource is saturated and the request is shed.
+ * Results in HTTP 503 Service Unavailable response with a Retry-After header.
+ * Examples: password hashing pool and queue are full during a login burst.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.sathira.miimoneypal.exception;
+
+/**
+ * Exception thrown when an update carries a version (updated_at) that no longer
+ * matches the stored row, i.e. someone else modified it since the client read it.
+ * Results in HTTP 409 Conflict response.
+ */
+public class StaleUpdateException extends RuntimeException {
+
+    public StaleUpdateException(String message) {
+        super(message);
+    }
+
+    public StaleUpdateException(String resourceName, Long id) {
+        super(String.format("%s with id %d was modified by another request. Reload and try again.", resourceName, id));
+    }
+}
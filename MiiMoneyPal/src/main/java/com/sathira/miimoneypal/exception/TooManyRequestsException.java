@@ -0,0 +1,20 @@
+package com.sathira.miimoneypal.exception;
+
+/**
+ * Exception thrown when a client or account exceeds its request rate.
+ * Results in HTTP 429 Too Many Requests response with a Retry-After header.
+ * Examples: repeated login attempts for the same email.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,53 @@
+package com.sathira.miimoneypal.models.request;
+
+import com.sathira.miimoneypal.exception.BadRequestException;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.util.MultiValueMap;
+
+import java.util.Map;
+
+/**
+ * Path variables and query parameters of a GET request, converted on demand.
+ *
+ * <p>Request DTOs of GET endpoints build themselves from these with a static {@code from}
+ * factory, so a controller and the batch endpoint (which addresses the same endpoints by path)
+ * bind the same names, types and defaults. Controllers receive an instance as a handler method
+ * argument (see {@link RequestParametersArgumentResolver}); values are converted with MVC's
+ * conversion service either way.</p>
+ */
+public final class RequestParameters {
+
+    private final Map<String, String> pathVariables;
+    private final MultiValueMap<String, String> queryParams;
+    private final ConversionService conversionService;
+
+    /**
+     * @param pathVariables URI template variables of the matched route
+     * @param queryParams   Decoded query parameters
+     */
+    public RequestParameters(Map<String, String> pathVariables, MultiValueMap<String, String> queryParams,
+                             ConversionService conversionService) {
+        this.pathVariables = pathVariables;
+        this.queryParams = queryParams;
+        this.conversionService = conversionService;
+    }
+
+    /**
+     * Value of the path variable with this name, else of the first query parameter.
+     *
+     * @return The converted value, or null when the parameter is absent
+     * @throws BadRequestException if the value cannot be converted to the type
+     */
+    public <T> T get(String name, Class<T> type) {
+        String raw = pathVariables.containsKey(name) ? pathVariables.get(name) : queryParams.getFirst(name);
+        if (raw == null) {
+            return null;
+        }
+        try {
+            return conversionService.convert(raw, type);
+        } catch (ConversionException e) {
+            throw new BadRequestException("Invalid value for '" + name + "': " + raw);
+        }
+    }
+}
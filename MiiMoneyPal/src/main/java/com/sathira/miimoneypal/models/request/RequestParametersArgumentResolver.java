@@ -0,0 +1,49 @@
+package com.sathira.miimoneypal.models.request;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.lang.NonNull;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves {@link RequestParameters} handler method arguments from the current request,
+ * converting with the conversion service MVC's data binders use.
+ */
+public class RequestParametersArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return RequestParameters.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(@NonNull MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  @NonNull NativeWebRequest webRequest, WebDataBinderFactory binderFactory)
+            throws Exception {
+        @SuppressWarnings("unchecked")
+        Map<String, String> pathVariables = (Map<String, String>) webRequest.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        MultiValueMap<String, String> queryParams = new LinkedMultiValueMap<>();
+        webRequest.getParameterMap().forEach((name, values) -> queryParams.put(name, List.of(values)));
+
+        if (binderFactory == null) {
+            throw new IllegalStateException("RequestParameters requires a WebDataBinderFactory");
+        }
+        ConversionService conversionService = binderFactory.createBinder(webRequest, null, "requestParameters")
+                .getConversionService();
+        if (conversionService == null) {
+            throw new IllegalStateException("No conversion service configured for data binding");
+        }
+        return new RequestParameters(pathVariables != null ? pathVariables : Map.of(), queryParams, conversionService);
+    }
+}
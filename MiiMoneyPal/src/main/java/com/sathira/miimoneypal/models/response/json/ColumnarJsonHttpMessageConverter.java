@@ -0,0 +1,59 @@
+package com.sathira.miimoneypal.models.response.json;
+
+import com.sathira.miimoneypal.rest.categories.list.ListCategoriesResponse;
+import com.sathira.miimoneypal.rest.transactions.list.ListTransactionsResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+
+/**
+ * Writes the list responses in columnar form when the client sends
+ * {@code Accept: application/vnd.miimoneypal.columnar+json}.
+ *
+ * <p>Write-only and limited to the types ColumnarResponseModule knows. It sits in front of
+ * the regular JSON converter, which also accepts application/*+json and would otherwise
+ * write row JSON under the columnar content type. It never offers its type when asked
+ * without one (canWrite with a null media type), so it adds nothing to the producible
+ * types and Accept: *&#47;* or a missing Accept header still negotiates row JSON; an explicit
+ * columnar Accept matches the JSON converter's application/*+json and is then written
+ * here. Other endpoints fall through to row JSON.</p>
+ */
+public class ColumnarJsonHttpMessageConverter extends JacksonJsonHttpMessageConverter {
+
+    public static final MediaType COLUMNAR_JSON = MediaType.parseMediaType("application/vnd.miimoneypal.columnar+json");
+
+    /**
+     * @param jsonMapper the application mapper; it is rebuilt with the columnar module, not modified
+     */
+    public ColumnarJsonHttpMessageConverter(JsonMapper jsonMapper) {
+        super(jsonMapper.rebuild().addModule(new ColumnarResponseModule()).build());
+        setSupportedMediaTypes(List.of(COLUMNAR_JSON));
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(ResolvableType type, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return mediaType != null && isColumnar(clazz) && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(ResolvableType type, Class<?> clazz, MediaType mediaType) {
+        return mediaType != null && isColumnar(clazz) && super.canWrite(type, clazz, mediaType);
+    }
+
+    private static boolean isColumnar(Class<?> clazz) {
+        return ListTransactionsResponse.class.equals(clazz) || ListCategoriesResponse.class.equals(clazz);
+    }
+}
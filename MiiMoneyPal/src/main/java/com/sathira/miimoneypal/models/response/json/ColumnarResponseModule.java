@@ -0,0 +1,177 @@
+package com.sathira.miimoneypal.models.response.json;
+
+import com.sathira.miimoneypal.records.transaction.TransactionField;
+import com.sathira.miimoneypal.rest.categories.list.CategorySummary;
+import com.sathira.miimoneypal.rest.categories.list.ListCategoriesResponse;
+import com.sathira.miimoneypal.rest.transactions.list.ListTransactionsResponse;
+import com.sathira.miimoneypal.rest.transactions.list.TransactionSummary;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.sathira.miimoneypal.models.response.json.ResponseFieldNames.*;
+
+/**
+ * Columnar ("one array per field") form of the list responses, served for
+ * {@link ColumnarJsonHttpMessageConverter#COLUMNAR_JSON}.
+ *
+ * <p>Row JSON repeats every field name per item; here each name appears once and the
+ * values follow as an array, index i of every array belonging to item i. Pagination
+ * fields are unchanged. formatted_amount is left out: it is derived from amount and the
+ * client formats it in its own locale. With fields= only the selected columns are written.</p>
+ *
+ * <pre>
+ * {"items":{"id":[1,2],"type":["EXPENSE","INCOME"],"amount":[12.50,900.00],...},
+ *  "page":0,"size":20,"total_items":2,"total_pages":1,"has_next":false,"has_previous":false}
+ * </pre>
+ */
+public class ColumnarResponseModule extends SimpleModule {
+
+    /**
+     * Keyed by the field each column writes; EnumMap iterates in field (= response) order.
+     */
+    private static final Map<TransactionField, Column<TransactionSummary>> TRANSACTION_COLUMNS = new EnumMap<>(Map.of(
+            TransactionField.ID, new Column<>(ID, (row, gen, ctxt) -> writeLong(gen, row.id())),
+            TransactionField.TYPE, new Column<>(TYPE, (row, gen, ctxt) -> gen.writeString(row.type())),
+            TransactionField.AMOUNT,
+            new Column<>(AMOUNT, (row, gen, ctxt) -> ctxt.writeValue(gen, row.amount())),
+            TransactionField.TRANSACTION_DATE, new Column<>(TRANSACTION_DATE,
+                    (row, gen, ctxt) -> ctxt.writeValue(gen, row.transactionDate())),
+            TransactionField.CATEGORY_ID,
+            new Column<>(CATEGORY_ID, (row, gen, ctxt) -> writeLong(gen, row.categoryId())),
+            TransactionField.CATEGORY_NAME,
+            new Column<>(CATEGORY_NAME, (row, gen, ctxt) -> gen.writeString(row.categoryName())),
+            TransactionField.BUCKET_ID, new Column<>(BUCKET_ID, (row, gen, ctxt) -> writeLong(gen, row.bucketId())),
+            TransactionField.BUCKET_NAME,
+            new Column<>(BUCKET_NAME, (row, gen, ctxt) -> gen.writeString(row.bucketName())),
+            TransactionField.NOTE, new Column<>(NOTE, (row, gen, ctxt) -> gen.writeString(row.note())),
+            TransactionField.CREATED_AT,
+            new Column<>(CREATED_AT, (row, gen, ctxt) -> ctxt.writeValue(gen, row.createdAt()))
+    ));
+
+    private static final List<Column<TransactionSummary>> ALL_TRANSACTION_COLUMNS =
+            transactionColumns(TransactionField.SUMMARY);
+
+    private static final List<Column<CategorySummary>> CATEGORY_COLUMNS = List.of(
+            new Column<>(ID, (row, gen, ctxt) -> writeLong(gen, row.id())),
+            new Column<>(NAME, (row, gen, ctxt) -> gen.writeString(row.name())),
+            new Column<>(TYPE, (row, gen, ctxt) -> gen.writeString(row.type())),
+            new Column<>(COLOR, (row, gen, ctxt) -> gen.writeString(row.color())),
+            new Column<>(ICON, (row, gen, ctxt) -> gen.writeString(row.icon())),
+            new Column<>(IS_SYSTEM, (row, gen, ctxt) -> writeBoolean(gen, row.isSystem())),
+            new Column<>(IS_ARCHIVED, (row, gen, ctxt) -> writeBoolean(gen, row.isArchived()))
+    );
+
+    public ColumnarResponseModule() {
+        super("ColumnarResponseModule");
+        addSerializer(ListTransactionsResponse.class, new ListTransactionsColumnarSerializer());
+        addSerializer(ListCategoriesResponse.class, new ListCategoriesColumnarSerializer());
+    }
+
+    @FunctionalInterface
+    private interface CellWriter<T> {
+        void write(T row, JsonGenerator gen, SerializationContext ctxt);
+    }
+
+    private record Column<T>(SerializableString name, CellWriter<T> cell) {
+    }
+
+    static final class ListTransactionsColumnarSerializer extends StdSerializer<ListTransactionsResponse> {
+
+        ListTransactionsColumnarSerializer() {
+            super(ListTransactionsResponse.class);
+        }
+
+        @Override
+        public void serialize(ListTransactionsResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            gen.writeName(ITEMS);
+            List<Column<TransactionSummary>> columns = value.fields().equals(TransactionField.SUMMARY)
+                    ? ALL_TRANSACTION_COLUMNS
+                    : transactionColumns(value.fields());
+            writeColumns(value.items(), columns, gen, ctxt);
+            gen.writeName(PAGE);
+            gen.writeNumber(value.page());
+            gen.writeName(SIZE);
+            gen.writeNumber(value.size());
+            gen.writeName(TOTAL_ITEMS);
+            gen.writeNumber(value.totalItems());
+            gen.writeName(TOTAL_PAGES);
+            gen.writeNumber(value.totalPages());
+            gen.writeName(HAS_NEXT);
+            gen.writeBoolean(value.hasNext());
+            gen.writeName(HAS_PREVIOUS);
+            gen.writeBoolean(value.hasPrevious());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class ListCategoriesColumnarSerializer extends StdSerializer<ListCategoriesResponse> {
+
+        ListCategoriesColumnarSerializer() {
+            super(ListCategoriesResponse.class);
+        }
+
+        @Override
+        public void serialize(ListCategoriesResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            gen.writeName(CATEGORIES);
+            writeColumns(value.categories(), CATEGORY_COLUMNS, gen, ctxt);
+            gen.writeName(TOTAL);
+            gen.writeNumber(value.total());
+            gen.writeEndObject();
+        }
+    }
+
+    private static List<Column<TransactionSummary>> transactionColumns(Set<TransactionField> fields) {
+        List<Column<TransactionSummary>> columns = new ArrayList<>(TRANSACTION_COLUMNS.size());
+        TRANSACTION_COLUMNS.forEach((field, column) -> {
+            if (fields.contains(field)) {
+                columns.add(column);
+            }
+        });
+        return List.copyOf(columns);
+    }
+
+    private static <T> void writeColumns(List<T> rows, List<Column<T>> columns, JsonGenerator gen,
+                                         SerializationContext ctxt) {
+        if (rows == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        for (Column<T> column : columns) {
+            gen.writeName(column.name());
+            gen.writeStartArray(rows, rows.size());
+            for (T row : rows) {
+                column.cell().write(row, gen, ctxt);
+            }
+            gen.writeEndArray();
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeLong(JsonGenerator gen, Long value) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    private static void writeBoolean(JsonGenerator gen, Boolean value) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeBoolean(value);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.sathira.miimoneypal.models.response.json;
+
+import com.sathira.miimoneypal.records.transaction.TransactionField;
+import com.sathira.miimoneypal.records.transaction.TransactionFieldSelection;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.BeanDescription;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.ValueSerializerModifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies the fields= selection on the reflective path: a property of a
+ * {@link TransactionFieldSelection} response is written only if its field is selected.
+ *
+ * <p>This is a property filter keyed on the response's own {@code fields()}, installed as a
+ * serializer modifier rather than a {@code @JsonFilter} so no FilterProvider has to be set on
+ * every mapper; WireFormatConfig registers it on the CBOR mapper too. Properties are
+ * matched to fields by wire name, so the mapper must use SNAKE_CASE. The precompiled
+ * serializers make the same check by hand (PrecompiledResponseModuleTest compares the bytes).</p>
+ */
+public class FieldSelectionModule extends SimpleModule {
+
+    public FieldSelectionModule() {
+        super("FieldSelectionModule");
+        setSerializerModifier(new ValueSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+                                                             BeanDescription.Supplier beanDesc,
+                                                             List<BeanPropertyWriter> beanProperties) {
+                if (!TransactionFieldSelection.class.isAssignableFrom(beanDesc.getBeanClass())) {
+                    return beanProperties;
+                }
+                List<BeanPropertyWriter> writers = new ArrayList<>(beanProperties.size());
+                for (BeanPropertyWriter writer : beanProperties) {
+                    TransactionField field = TransactionField.fromWireName(writer.getName());
+                    writers.add(field != null ? new SelectedFieldWriter(writer, field) : writer);
+                }
+                return writers;
+            }
+        });
+    }
+
+    /**
+     * Writes the property only when the response selects its field.
+     */
+    private static final class SelectedFieldWriter extends BeanPropertyWriter {
+
+        private final TransactionField field;
+
+        SelectedFieldWriter(BeanPropertyWriter base, TransactionField field) {
+            super(base);
+            this.field = field;
+        }
+
+        @Override
+        public void serializeAsProperty(Object bean, JsonGenerator gen, SerializationContext ctxt) throws Exception {
+            if (((TransactionFieldSelection) bean).fields().contains(field)) {
+                super.serializeAsProperty(bean, gen, ctxt);
+            }
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.sathira.miimoneypal.models.response.json;
+
+import com.sathira.miimoneypal.records.transaction.TransactionField;
+import com.sathira.miimoneypal.rest.categories.list.CategorySummary;
+import com.sathira.miimoneypal.rest.categories.list.ListCategoriesResponse;
+import com.sathira.miimoneypal.rest.transactions.get.GetTransactionResponse;
+import com.sathira.miimoneypal.rest.transactions.list.ListTransactionsResponse;
+import com.sathira.miimoneypal.rest.transactions.list.TransactionSummary;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static com.sathira.miimoneypal.models.response.json.ResponseFieldNames.*;
+
+/**
+ * Hand-compiled serializers for the hottest responses (transaction and category lists,
+ * transaction detail).
+ *
+ * <p>The default path introspects each record once, then on every write walks a generic
+ * property list and invokes accessors reflectively. These serializers call the accessors
+ * directly and write field names from pre-encoded snake_case {@link SerializedString}s
+ * (quoted UTF-8 bytes computed once). Dates and decimals still go through the mapper's own
+ * serializers, resolved once, so the output is byte-for-byte what the reflective path
+ * writes under the same configuration (PrecompiledResponseModuleTest guards this).</p>
+ *
+ * <p>Field order and names must follow the record components: adding a component to one
+ * of these records requires adding it here (the test fails until it is).</p>
+ *
+ * <p>Transaction responses carry the fields selected with fields=; only those are written,
+ * as on the reflective path with {@link FieldSelectionModule}.</p>
+ */
+public class PrecompiledResponseModule extends SimpleModule {
+
+    public PrecompiledResponseModule() {
+        super("PrecompiledResponseModule");
+        addSerializer(TransactionSummary.class, new TransactionSummarySerializer());
+        addSerializer(ListTransactionsResponse.class, new ListTransactionsResponseSerializer());
+        addSerializer(GetTransactionResponse.class, new GetTransactionResponseSerializer());
+        addSerializer(CategorySummary.class, new CategorySummarySerializer());
+        addSerializer(ListCategoriesResponse.class, new ListCategoriesResponseSerializer());
+    }
+
+    /**
+     * Base class holding the mapper's serializers for the value types that depend on
+     * configuration (date format, BigDecimal as plain, ...), looked up once in resolve().
+     */
+    private abstract static class RecordSerializer<T> extends StdSerializer<T> {
+
+        private ValueSerializer<Object> bigDecimal;
+        private ValueSerializer<Object> localDate;
+        private ValueSerializer<Object> localDateTime;
+
+        RecordSerializer(Class<T> type) {
+            super(type);
+        }
+
+        @Override
+        public void resolve(SerializationContext ctxt) {
+            bigDecimal = ctxt.findValueSerializer(BigDecimal.class);
+            localDate = ctxt.findValueSerializer(LocalDate.class);
+            localDateTime = ctxt.findValueSerializer(LocalDateTime.class);
+        }
+
+        static void write(JsonGenerator gen, SerializableString name, String value) {
+            gen.writeName(name);
+            gen.writeString(value);
+        }
+
+        static void write(JsonGenerator gen, SerializableString name, Long value) {
+            gen.writeName(name);
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeNumber(value);
+            }
+        }
+
+        static void write(JsonGenerator gen, SerializableString name, Boolean value) {
+            gen.writeName(name);
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                gen.writeBoolean(value);
+            }
+        }
+
+        void write(JsonGenerator gen, SerializationContext ctxt, SerializableString name, BigDecimal value) {
+            writeWith(bigDecimal, gen, ctxt, name, value);
+        }
+
+        void write(JsonGenerator gen, SerializationContext ctxt, SerializableString name, LocalDate value) {
+            writeWith(localDate, gen, ctxt, name, value);
+        }
+
+        void write(JsonGenerator gen, SerializationContext ctxt, SerializableString name, LocalDateTime value) {
+            writeWith(localDateTime, gen, ctxt, name, value);
+        }
+
+        private static void writeWith(ValueSerializer<Object> serializer, JsonGenerator gen, SerializationContext ctxt,
+                                      SerializableString name, Object value) {
+            gen.writeName(name);
+            if (value == null) {
+                gen.writeNull();
+            } else {
+                serializer.serialize(value, gen, ctxt);
+            }
+        }
+    }
+
+    static final class TransactionSummarySerializer extends RecordSerializer<TransactionSummary> {
+
+        TransactionSummarySerializer() {
+            super(TransactionSummary.class);
+        }
+
+        @Override
+        public void serialize(TransactionSummary value, JsonGenerator gen, SerializationContext ctxt) {
+            Set<TransactionField> fields = value.fields();
+            gen.writeStartObject(value);
+            if (fields.contains(TransactionField.ID)) {
+                write(gen, ID, value.id());
+            }
+            if (fields.contains(TransactionField.TYPE)) {
+                write(gen, TYPE, value.type());
+            }
+            if (fields.contains(TransactionField.AMOUNT)) {
+                write(gen, ctxt, AMOUNT, value.amount());
+            }
+            if (fields.contains(TransactionField.FORMATTED_AMOUNT)) {
+                write(gen, FORMATTED_AMOUNT, value.formattedAmount());
+            }
+            if (fields.contains(TransactionField.TRANSACTION_DATE)) {
+                write(gen, ctxt, TRANSACTION_DATE, value.transactionDate());
+            }
+            if (fields.contains(TransactionField.CATEGORY_ID)) {
+                write(gen, CATEGORY_ID, value.categoryId());
+            }
+            if (fields.contains(TransactionField.CATEGORY_NAME)) {
+                write(gen, CATEGORY_NAME, value.categoryName());
+            }
+            if (fields.contains(TransactionField.BUCKET_ID)) {
+                write(gen, BUCKET_ID, value.bucketId());
+            }
+            if (fields.contains(TransactionField.BUCKET_NAME)) {
+                write(gen, BUCKET_NAME, value.bucketName());
+            }
+            if (fields.contains(TransactionField.NOTE)) {
+                write(gen, NOTE, value.note());
+            }
+            if (fields.contains(TransactionField.CREATED_AT)) {
+                write(gen, ctxt, CREATED_AT, value.createdAt());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class ListTransactionsResponseSerializer extends RecordSerializer<ListTransactionsResponse> {
+
+        private final TransactionSummarySerializer item = new TransactionSummarySerializer();
+
+        ListTransactionsResponseSerializer() {
+            super(ListTransactionsResponse.class);
+        }
+
+        @Override
+        public void resolve(SerializationContext ctxt) {
+            super.resolve(ctxt);
+            item.resolve(ctxt);
+        }
+
+        @Override
+        public void serialize(ListTransactionsResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            gen.writeName(ITEMS);
+            writeList(value.items(), summary -> item.serialize(summary, gen, ctxt), gen);
+            gen.writeName(PAGE);
+            gen.writeNumber(value.page());
+            gen.writeName(SIZE);
+            gen.writeNumber(value.size());
+            gen.writeName(TOTAL_ITEMS);
+            gen.writeNumber(value.totalItems());
+            gen.writeName(TOTAL_PAGES);
+            gen.writeNumber(value.totalPages());
+            gen.writeName(HAS_NEXT);
+            gen.writeBoolean(value.hasNext());
+            gen.writeName(HAS_PREVIOUS);
+            gen.writeBoolean(value.hasPrevious());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class GetTransactionResponseSerializer extends RecordSerializer<GetTransactionResponse> {
+
+        GetTransactionResponseSerializer() {
+            super(GetTransactionResponse.class);
+        }
+
+        @Override
+        public void serialize(GetTransactionResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            Set<TransactionField> fields = value.fields();
+            gen.writeStartObject(value);
+            if (fields.contains(TransactionField.ID)) {
+                write(gen, ID, value.id());
+            }
+            if (fields.contains(TransactionField.TYPE)) {
+                write(gen, TYPE, value.type());
+            }
+            if (fields.contains(TransactionField.AMOUNT)) {
+                write(gen, ctxt, AMOUNT, value.amount());
+            }
+            if (fields.contains(TransactionField.FORMATTED_AMOUNT)) {
+                write(gen, FORMATTED_AMOUNT, value.formattedAmount());
+            }
+            if (fields.contains(TransactionField.TRANSACTION_DATE)) {
+                write(gen, ctxt, TRANSACTION_DATE, value.transactionDate());
+            }
+            if (fields.contains(TransactionField.CATEGORY_ID)) {
+                write(gen, CATEGORY_ID, value.categoryId());
+            }
+            if (fields.contains(TransactionField.CATEGORY_NAME)) {
+                write(gen, CATEGORY_NAME, value.categoryName());
+            }
+            if (fields.contains(TransactionField.CATEGORY_TYPE)) {
+                write(gen, CATEGORY_TYPE, value.categoryType());
+            }
+            if (fields.contains(TransactionField.BUCKET_ID)) {
+                write(gen, BUCKET_ID, value.bucketId());
+            }
+            if (fields.contains(TransactionField.BUCKET_NAME)) {
+                write(gen, BUCKET_NAME, value.bucketName());
+            }
+            if (fields.contains(TransactionField.BUCKET_TYPE)) {
+                write(gen, BUCKET_TYPE, value.bucketType());
+            }
+            if (fields.contains(TransactionField.NOTE)) {
+                write(gen, NOTE, value.note());
+            }
+            if (fields.contains(TransactionField.CREATED_AT)) {
+                write(gen, ctxt, CREATED_AT, value.createdAt());
+            }
+            if (fields.contains(TransactionField.UPDATED_AT)) {
+                write(gen, ctxt, UPDATED_AT, value.updatedAt());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class CategorySummarySerializer extends RecordSerializer<CategorySummary> {
+
+        CategorySummarySerializer() {
+            super(CategorySummary.class);
+        }
+
+        @Override
+        public void serialize(CategorySummary value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            write(gen, ID, value.id());
+            write(gen, NAME, value.name());
+            write(gen, TYPE, value.type());
+            write(gen, COLOR, value.color());
+            write(gen, ICON, value.icon());
+            write(gen, IS_SYSTEM, value.isSystem());
+            write(gen, IS_ARCHIVED, value.isArchived());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class ListCategoriesResponseSerializer extends RecordSerializer<ListCategoriesResponse> {
+
+        private ValueSerializer<Object> item;
+
+        ListCategoriesResponseSerializer() {
+            super(ListCategoriesResponse.class);
+        }
+
+        @Override
+        public void resolve(SerializationContext ctxt) {
+            super.resolve(ctxt);
+            item = ctxt.findValueSerializer(CategorySummary.class);
+        }
+
+        @Override
+        public void serialize(ListCategoriesResponse value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            gen.writeName(CATEGORIES);
+            writeList(value.categories(), category -> item.serialize(category, gen, ctxt), gen);
+            gen.writeName(TOTAL);
+            gen.writeNumber(value.total());
+            gen.writeEndObject();
+        }
+    }
+
+    private static <T> void writeList(List<T> items, Consumer<T> writer, JsonGenerator gen) {
+        if (items == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray(items, items.size());
+        for (T element : items) {
+            if (element == null) {
+                gen.writeNull();
+            } else {
+                writer.accept(element);
+            }
+        }
+        gen.writeEndArray();
+    }
+}
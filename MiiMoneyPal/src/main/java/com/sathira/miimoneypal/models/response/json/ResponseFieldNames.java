@@ -0,0 +1,43 @@
+package com.sathira.miimoneypal.models.response.json;
+
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+
+/**
+ * Pre-encoded snake_case field names shared by the hand-written serializers.
+ * SerializedString caches the quoted UTF-8 bytes, so each name is encoded once per JVM.
+ */
+final class ResponseFieldNames {
+
+    static final SerializableString ID = new SerializedString("id");
+    static final SerializableString TYPE = new SerializedString("type");
+    static final SerializableString AMOUNT = new SerializedString("amount");
+    static final SerializableString FORMATTED_AMOUNT = new SerializedString("formatted_amount");
+    static final SerializableString TRANSACTION_DATE = new SerializedString("transaction_date");
+    static final SerializableString CATEGORY_ID = new SerializedString("category_id");
+    static final SerializableString CATEGORY_NAME = new SerializedString("category_name");
+    static final SerializableString CATEGORY_TYPE = new SerializedString("category_type");
+    static final SerializableString BUCKET_ID = new SerializedString("bucket_id");
+    static final SerializableString BUCKET_NAME = new SerializedString("bucket_name");
+    static final SerializableString BUCKET_TYPE = new SerializedString("bucket_type");
+    static final SerializableString NOTE = new SerializedString("note");
+    static final SerializableString CREATED_AT = new SerializedString("created_at");
+    static final SerializableString UPDATED_AT = new SerializedString("updated_at");
+    static final SerializableString ITEMS = new SerializedString("items");
+    static final SerializableString PAGE = new SerializedString("page");
+    static final SerializableString SIZE = new SerializedString("size");
+    static final SerializableString TOTAL_ITEMS = new SerializedString("total_items");
+    static final SerializableString TOTAL_PAGES = new SerializedString("total_pages");
+    static final SerializableString HAS_NEXT = new SerializedString("has_next");
+    static final SerializableString HAS_PREVIOUS = new SerializedString("has_previous");
+    static final SerializableString NAME = new SerializedString("name");
+    static final SerializableString COLOR = new SerializedString("color");
+    static final SerializableString ICON = new SerializedString("icon");
+    static final SerializableString IS_SYSTEM = new SerializedString("is_system");
+    static final SerializableString IS_ARCHIVED = new SerializedString("is_archived");
+    static final SerializableString CATEGORIES = new SerializedString("categories");
+    static final SerializableString TOTAL = new SerializedString("total");
+
+    private ResponseFieldNames() {
+    }
+}
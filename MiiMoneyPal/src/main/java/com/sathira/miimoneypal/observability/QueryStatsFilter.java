@@ -0,0 +1,73 @@
+package com.sathira.miimoneypal.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scopes {@link RequestQueryStats} to each HTTP request and publishes them when it completes.
+ *
+ * <p>Records {@code http.request.db.statements} (summary, tag {@code uri}) and logs the totals
+ * at debug level, so N+1 query patterns show up per endpoint. The stats stay on the request as
+ * {@link RequestQueryStats#REQUEST_ATTRIBUTE}, which is how integration tests check statement
+ * budgets.</p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryStatsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.start();
+        request.setAttribute(RequestQueryStats.REQUEST_ATTRIBUTE, stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.finish();
+            if (stats.statements() > 0) {
+                publish(request, stats);
+            }
+        }
+    }
+
+    private void publish(HttpServletRequest request, RequestQueryStats stats) {
+        // Route template (e.g. /api/transactions/{id}) keeps the tag cardinality bounded
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.request.db.statements")
+                .description("SQL statements issued per HTTP request")
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.statements());
+
+        log.debug("{} {}: {} statement(s), {} ms DB, {} row(s)",
+                request.getMethod(), uri, stats.statements(),
+                TimeUnit.NANOSECONDS.toMillis(stats.dbNanos()), stats.rows());
+    }
+}
@@ -0,0 +1,116 @@
+package com.sathira.miimoneypal.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Query;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jOOQ listener that times every statement.
+ *
+ * <ul>
+ *   <li>Adds statement count, DB time and fetched rows to the current {@link RequestQueryStats}</li>
+ *   <li>Records {@code db.query} (timer, tags {@code repository}, {@code method}) with a percentile
+ *       histogram - the caller is the nearest {@code *Repository} frame on the stack</li>
+ *   <li>Logs statements slower than the threshold with their SQL (bind values inlined if enabled)</li>
+ * </ul>
+ *
+ * <p>One instance is shared by all executions; per-statement state lives in {@link ExecuteContext#data()}.</p>
+ */
+@Slf4j
+public class QueryStatsListener implements ExecuteListener {
+
+    static final String TIMER_NAME = "db.query";
+
+    static final String START_KEY = QueryStatsListener.class.getName() + ".start";
+    private static final String APP_PACKAGE = "com.sathira.miimoneypal.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdNanos;
+    private final boolean logBindValues;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public QueryStatsListener(MeterRegistry meterRegistry, long slowQueryThresholdMillis, boolean logBindValues) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis);
+        this.logBindValues = logBindValues;
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        ctx.data(START_KEY, System.nanoTime());
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        Object start = ctx.data(START_KEY);
+        if (!(start instanceof Long startNanos)) {
+            return;
+        }
+        long nanos = System.nanoTime() - startNanos;
+
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.recordStatement(nanos);
+        }
+
+        String caller = callerRepositoryMethod();
+        timers.computeIfAbsent(caller, this::newTimer).record(nanos, TimeUnit.NANOSECONDS);
+
+        if (nanos >= slowQueryThresholdNanos) {
+            log.warn("Slow query ({} ms) in {}: {}", TimeUnit.NANOSECONDS.toMillis(nanos), caller, sql(ctx));
+        }
+    }
+
+    @Override
+    public void recordEnd(ExecuteContext ctx) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.recordRow();
+        }
+    }
+
+    private String sql(ExecuteContext ctx) {
+        Query query = ctx.query();
+        if (logBindValues && query != null) {
+            return ctx.dsl().renderInlined(query);
+        }
+        return ctx.sql();
+    }
+
+    private Timer newTimer(String caller) {
+        int dot = caller.lastIndexOf('.');
+        return Timer.builder(TIMER_NAME)
+                .description("SQL statement execution time by repository method")
+                .tag("repository", dot < 0 ? caller : caller.substring(0, dot))
+                .tag("method", dot < 0 ? "unknown" : caller.substring(dot + 1))
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    /**
+     * "SimpleClassName.method" of the nearest repository on the stack, or "other".
+     */
+    private static String callerRepositoryMethod() {
+        Optional<String> caller = STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE)
+                        && frame.getClassName().endsWith("Repository"))
+                .findFirst()
+                .map(frame -> {
+                    String className = frame.getClassName();
+                    return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                }));
+        return caller.orElse("other");
+    }
+}
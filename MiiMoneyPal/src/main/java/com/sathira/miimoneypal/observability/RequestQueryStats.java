@@ -0,0 +1,88 @@
+package com.sathira.miimoneypal.observability;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * SQL statement count, DB time and rows fetched for the HTTP request on the current thread.
+ *
+ * <p>Started and finished by {@link QueryStatsFilter}; updated by {@link QueryStatsListener}.
+ * Statements run outside a request (scheduled jobs, startup) find no current stats and are
+ * only recorded in the per-method timers. Work a request hands to other threads (batch
+ * sub-requests) is counted with {@link #wrap(Supplier)}, so the counters are atomic.</p>
+ */
+public final class RequestQueryStats {
+
+    /**
+     * Request attribute holding the request's stats, readable after the response is complete.
+     */
+    public static final String REQUEST_ATTRIBUTE = RequestQueryStats.class.getName();
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong dbNanos = new AtomicLong();
+    private final AtomicLong rows = new AtomicLong();
+
+    private RequestQueryStats() {
+    }
+
+    static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void finish() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Stats of the request on this thread, or null outside a request.
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the task with this request's stats on whichever thread calls it, restoring that
+     * thread's previous stats afterwards.
+     */
+    public <T> Supplier<T> wrap(Supplier<T> task) {
+        return () -> {
+            RequestQueryStats previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                return task.get();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    void recordStatement(long nanos) {
+        statements.incrementAndGet();
+        dbNanos.addAndGet(nanos);
+    }
+
+    void recordRow() {
+        rows.incrementAndGet();
+    }
+
+    public int statements() {
+        return statements.get();
+    }
+
+    public long dbNanos() {
+        return dbNanos.get();
+    }
+
+    public long rows() {
+        return rows.get();
+    }
+}
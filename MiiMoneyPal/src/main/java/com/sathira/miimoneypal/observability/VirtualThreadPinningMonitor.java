@@ -0,0 +1,133 @@
+package com.sathira.miimoneypal.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams JFR events that show virtual threads losing their carrier or contending:
+ * <ul>
+ *   <li>{@code jdk.VirtualThreadPinned} - a virtual thread blocked while pinned to its carrier
+ *       (native frames, class initialisation, or a JDBC driver holding a monitor)</li>
+ *   <li>{@code jdk.JavaMonitorEnter} - a thread waited to enter a contended monitor</li>
+ *   <li>{@code jdk.VirtualThreadSubmitFailed} - the scheduler could not start or unpark a virtual thread</li>
+ * </ul>
+ *
+ * Each event increments {@code jvm.threads.virtual.pinned}, {@code jvm.monitor.contended} or
+ * {@code jvm.threads.virtual.submit.failed}, tagged with the first application frame (or the
+ * top frame), and is logged at WARN with its duration so the offending call site is visible.
+ * Off by default: the stream costs a little CPU and stack walking on every recorded event.
+ */
+@Slf4j
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String APP_PACKAGE = "com.sathira.miimoneypal.";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration pinnedThreshold;
+    private final Duration contentionThreshold;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${diagnostics.virtual-threads.enabled:false}") boolean enabled,
+            @Value("${diagnostics.virtual-threads.pinned-threshold-ms:20}") long pinnedThresholdMs,
+            @Value("${diagnostics.virtual-threads.contention-threshold-ms:20}") long contentionThresholdMs
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.pinnedThreshold = Duration.ofMillis(pinnedThresholdMs);
+        this.contentionThreshold = Duration.ofMillis(contentionThresholdMs);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable("jdk.VirtualThreadPinned").withThreshold(pinnedThreshold).withStackTrace();
+        recording.enable("jdk.JavaMonitorEnter").withThreshold(contentionThreshold).withStackTrace();
+        recording.enable("jdk.VirtualThreadSubmitFailed").withStackTrace();
+        recording.onEvent("jdk.VirtualThreadPinned", e -> record("jvm.threads.virtual.pinned", e));
+        recording.onEvent("jdk.JavaMonitorEnter", e -> record("jvm.monitor.contended", e));
+        recording.onEvent("jdk.VirtualThreadSubmitFailed", e -> record("jvm.threads.virtual.submit.failed", e));
+        recording.startAsync();
+        stream = recording;
+        log.info("Virtual thread diagnostics started (pinned >= {} ms, monitor contention >= {} ms)",
+                pinnedThreshold.toMillis(), contentionThreshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream current = stream;
+        stream = null;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void record(String meter, RecordedEvent event) {
+        String site = callSite(event.getStackTrace());
+        counters.computeIfAbsent(meter + '|' + site, key -> Counter.builder(meter)
+                        .tag("site", site)
+                        .register(meterRegistry))
+                .increment();
+
+        if (log.isWarnEnabled()) {
+            log.warn("{} for {} ms at {}{}", event.getEventType().getName(), event.getDuration().toMillis(), site,
+                    frames(event.getStackTrace()));
+        }
+    }
+
+    /**
+     * First application frame, so the tag points at our code rather than the driver internals.
+     */
+    private static String callSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APP_PACKAGE)) {
+                return describe(frame);
+            }
+        }
+        return describe(stackTrace.getFrames().getFirst());
+    }
+
+    private static String frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder frames = new StringBuilder();
+        stackTrace.getFrames().stream().limit(LOGGED_FRAMES)
+                .forEach(frame -> frames.append("\n\tat ").append(describe(frame)));
+        return frames.toString();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.substring(type.lastIndexOf('.') + 1) + '.' + frame.getMethod().getName();
+    }
+}
@@ -0,0 +1,23 @@
+package com.sathira.miimoneypal.outbox;
+
+import com.sathira.miimoneypal.records.outbox.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Hook for reacting to data changes off the request path
+ * (cache invalidation, rollups, notifications, audit).
+ *
+ * Every bean implementing this interface receives each drained batch.
+ * Delivery is at-least-once: a batch is redelivered if any listener throws,
+ * so implementations must be idempotent. Ordering is by event ID within a batch only.
+ */
+public interface OutboxEventListener {
+
+    /**
+     * Handle a batch of events. Runs inside the draining transaction.
+     *
+     * @param events events ordered by ID
+     */
+    void onEvents(List<OutboxEvent> events);
+}
@@ -0,0 +1,137 @@
+package com.sathira.miimoneypal.outbox;
+
+import com.sathira.miimoneypal.records.outbox.OutboxEvent;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Background publisher that drains the transactional outbox.
+ *
+ * Runs on a single virtual thread per node. Each iteration locks a batch with
+ * SELECT ... FOR UPDATE SKIP LOCKED, hands it to every OutboxEventListener and
+ * deletes it, all in one transaction - nodes never process the same batch twice
+ * concurrently, and a failed batch is rolled back and retried after a back-off.
+ * Polls only when the previous batch was not full.
+ *
+ * With no OutboxEventListener beans the publisher does not drain at all, so events
+ * are kept rather than deleted unhandled; OutboxPurger removes them once they are older
+ * than the retention period, which bounds the table until a consumer is deployed.
+ */
+@Slf4j
+@Component
+public class OutboxPublisher implements SmartLifecycle {
+
+    private final OutboxDataAccess outboxDataAccess;
+    private final List<OutboxEventListener> listeners;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pollInterval;
+
+    private volatile Thread worker;
+    private volatile boolean running;
+
+    public OutboxPublisher(
+            OutboxDataAccess outboxDataAccess,
+            List<OutboxEventListener> listeners,
+            TransactionTemplate transactionTemplate,
+            @Value("${outbox.publisher.enabled:true}") boolean enabled,
+            @Value("${outbox.publisher.batch-size:100}") int batchSize,
+            @Value("${outbox.publisher.poll-interval-ms:500}") long pollIntervalMs
+    ) {
+        this.outboxDataAccess = outboxDataAccess;
+        this.listeners = listeners;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollInterval = Duration.ofMillis(pollIntervalMs);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            log.info("Outbox publisher disabled");
+            return;
+        }
+        if (listeners.isEmpty()) {
+            log.info("Outbox publisher idle: no OutboxEventListener beans, events are kept for the retention period");
+            return;
+        }
+        running = true;
+        worker = Thread.ofVirtual().name("outbox-publisher").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+            try {
+                current.join(pollInterval.multipliedBy(4));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Drain one batch in its own transaction.
+     *
+     * @return number of events handled
+     */
+    int drainBatch() {
+        if (listeners.isEmpty()) {
+            return 0;
+        }
+        Integer drained = transactionTemplate.execute(status -> {
+            List<OutboxEvent> events = outboxDataAccess.lockNextBatch(batchSize);
+            if (events.isEmpty()) {
+                return 0;
+            }
+            for (OutboxEventListener listener : listeners) {
+                listener.onEvents(events);
+            }
+            outboxDataAccess.deleteByIds(events.stream().map(OutboxEvent::id).toList());
+            return events.size();
+        });
+        return drained != null ? drained : 0;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                int drained = drainBatch();
+                if (drained > 0) {
+                    log.debug("Published {} outbox events", drained);
+                }
+                if (drained < batchSize) {
+                    Thread.sleep(pollInterval);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Outbox batch failed, retrying after back-off", e);
+                try {
+                    Thread.sleep(pollInterval.multipliedBy(10));
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.sathira.miimoneypal.outbox;
+
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Periodically deletes outbox events older than the retention period, in bounded batches.
+ *
+ * Bounds the table while no OutboxEventListener drains it (every mutation still appends),
+ * and drops events a failing listener has kept back for longer than a consumer could use them.
+ */
+@Slf4j
+@Component
+public class OutboxPurger {
+
+    private final OutboxDataAccess outboxDataAccess;
+    private final boolean hasListeners;
+    private final Duration retention;
+    private final int batchSize;
+
+    public OutboxPurger(
+            OutboxDataAccess outboxDataAccess,
+            List<OutboxEventListener> listeners,
+            @Value("${outbox.retention-ms:604800000}") long retentionMs,
+            @Value("${outbox.purge-batch-size:1000}") int batchSize
+    ) {
+        this.outboxDataAccess = outboxDataAccess;
+        this.hasListeners = !listeners.isEmpty();
+        this.retention = Duration.ofMillis(retentionMs);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${outbox.purge-interval-ms:3600000}",
+            fixedDelayString = "${outbox.purge-interval-ms:3600000}"
+    )
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long total = 0;
+        int deleted;
+        do {
+            deleted = outboxDataAccess.deleteCreatedBeforeBatch(cutoff, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total == 0) {
+            return;
+        }
+        if (hasListeners) {
+            log.warn("Purged {} outbox event(s) older than {} that were never published", total, retention);
+        } else {
+            log.info("Purged {} outbox event(s) older than {} (no OutboxEventListener registered)", total, retention);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.sathira.miimoneypal.records.auth;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Domain record for a stored refresh token.
+ *
+ * Only the hash of the token ID is kept. A token is usable while it is
+ * neither rotated nor revoked and has not expired.
+ */
+@Builder
+public record RefreshToken(
+        Long id,
+        String tokenHash,
+        UUID familyId,
+        Long userId,
+        LocalDateTime expiresAt,
+        LocalDateTime rotatedAt,
+        LocalDateTime revokedAt,
+        LocalDateTime createdAt
+) {
+    /**
+     * Compact constructor for validation.
+     * Required fields: tokenHash, familyId, userId, expiresAt
+     */
+    public RefreshToken {
+        Objects.requireNonNull(tokenHash, "tokenHash must not be null");
+        Objects.requireNonNull(familyId, "familyId must not be null");
+        Objects.requireNonNull(userId, "userId must not be null");
+        Objects.requireNonNull(expiresAt, "expiresAt must not be null");
+    }
+
+    /**
+     * A rotated token presented again means it was copied: the family must be revoked.
+     */
+    public boolean isRotated() {
+        return rotatedAt != null;
+    }
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.sathira.miimoneypal.records.auth;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A revoked refresh-token family and the time after which none of its tokens can be valid.
+ */
+public record RevokedTokenFamily(
+        UUID familyId,
+        LocalDateTime expiresAt
+) {
+}
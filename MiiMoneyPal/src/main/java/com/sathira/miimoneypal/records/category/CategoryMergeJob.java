@@ -0,0 +1,37 @@
+package com.sathira.miimoneypal.records.category;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Domain record for a background category merge (category_merge_jobs).
+ *
+ * Progress counters are updated in the same transaction as each moved chunk,
+ * so they never run ahead of the data.
+ */
+@Builder
+public record CategoryMergeJob(
+        Long id,
+        Long userId,
+        Long sourceCategoryId,
+        Long targetCategoryId,
+        MergeJobStatus status,
+        long transactionsMoved,
+        int chunks,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) {
+    /**
+     * Compact constructor for validation.
+     * Required fields: userId, sourceCategoryId, targetCategoryId, status
+     */
+    public CategoryMergeJob {
+        Objects.requireNonNull(userId, "userId must not be null");
+        Objects.requireNonNull(sourceCategoryId, "sourceCategoryId must not be null");
+        Objects.requireNonNull(targetCategoryId, "targetCategoryId must not be null");
+        Objects.requireNonNull(status, "status must not be null");
+    }
+}
@@ -0,0 +1,18 @@
+package com.sathira.miimoneypal.records.category;
+
+import java.util.Objects;
+
+/**
+ * User-independent template for a category seeded on registration.
+ * The owning user ID is supplied at insert time.
+ */
+public record DefaultCategory(
+        String name,
+        CategoryType type,
+        boolean isSystem
+) {
+    public DefaultCategory {
+        Objects.requireNonNull(name, "name must not be null");
+        Objects.requireNonNull(type, "type must not be null");
+    }
+}
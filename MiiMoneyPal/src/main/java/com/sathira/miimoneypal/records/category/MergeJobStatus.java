@@ -0,0 +1,14 @@
+package com.sathira.miimoneypal.records.category;
+
+/**
+ * Status of a background category merge.
+ *
+ * RUNNING: Transactions are being moved to the target in chunks.
+ * COMPLETED: All transactions were moved and the source category was deleted.
+ * FAILED: The merge stopped; the source stays archived and a new merge request resumes it.
+ */
+public enum MergeJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,30 @@
+package com.sathira.miimoneypal.records.outbox;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Domain record for a change event read from the outbox.
+ *
+ * Events are deliberately compact: they say what changed and for whom,
+ * and consumers re-read current state if they need more.
+ */
+@Builder
+public record OutboxEvent(
+        Long id,
+        OutboxEventType eventType,
+        Long aggregateId,
+        Long userId,
+        LocalDateTime createdAt
+) {
+    /**
+     * Compact constructor for validation.
+     * Required fields: eventType, userId
+     */
+    public OutboxEvent {
+        Objects.requireNonNull(eventType, "eventType must not be null");
+        Objects.requireNonNull(userId, "userId must not be null");
+    }
+}
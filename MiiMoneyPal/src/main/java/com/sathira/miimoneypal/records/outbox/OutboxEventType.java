@@ -0,0 +1,17 @@
+package com.sathira.miimoneypal.records.outbox;
+
+/**
+ * Kinds of data change recorded in the transactional outbox.
+ */
+public enum OutboxEventType {
+    TRANSACTION_CREATED,
+    TRANSACTION_UPDATED,
+    TRANSACTION_DELETED,
+    TRANSACTIONS_RECATEGORIZED,
+    TRANSACTIONS_BULK_DELETED,
+    CATEGORY_CREATED,
+    CATEGORY_UPDATED,
+    CATEGORY_ARCHIVED,
+    CATEGORY_DELETED,
+    CATEGORY_MERGED
+}
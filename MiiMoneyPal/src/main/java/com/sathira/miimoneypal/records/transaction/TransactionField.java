@@ -0,0 +1,94 @@
+package com.sathira.miimoneypal.records.transaction;
+
+import com.sathira.miimoneypal.exception.BadRequestException;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Response fields a client can select with the fields= parameter of the transaction
+ * list and detail endpoints (sparse fieldsets).
+ *
+ * Wire names are the snake_case response field names ("category_name", ...). Constants are
+ * declared in response field order, so iterating an EnumSet of them writes fields in the
+ * same order as the full response.
+ */
+public enum TransactionField {
+    ID,
+    TYPE,
+    AMOUNT,
+    FORMATTED_AMOUNT,
+    TRANSACTION_DATE,
+    CATEGORY_ID,
+    CATEGORY_NAME,
+    CATEGORY_TYPE,
+    BUCKET_ID,
+    BUCKET_NAME,
+    BUCKET_TYPE,
+    NOTE,
+    CREATED_AT,
+    UPDATED_AT;
+
+    /**
+     * Fields of a list item (GET /api/transactions).
+     */
+    public static final Set<TransactionField> SUMMARY = Collections.unmodifiableSet(EnumSet.of(
+            ID, TYPE, AMOUNT, FORMATTED_AMOUNT, TRANSACTION_DATE, CATEGORY_ID, CATEGORY_NAME,
+            BUCKET_ID, BUCKET_NAME, NOTE, CREATED_AT));
+
+    /**
+     * Fields of the transaction detail (GET /api/transactions/{id}).
+     */
+    public static final Set<TransactionField> DETAIL = Collections.unmodifiableSet(EnumSet.allOf(TransactionField.class));
+
+    /**
+     * Name of the field in responses and in the fields= parameter.
+     */
+    public String wireName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Parse a comma-separated fields= value against the fields an endpoint offers.
+     * The id is always included so clients can key the results.
+     *
+     * @param fields  comma-separated wire names; null or blank selects every allowed field
+     * @param allowed fields the endpoint offers (SUMMARY or DETAIL)
+     * @return the selected fields
+     * @throws BadRequestException if a name is not one of the allowed fields
+     */
+    public static Set<TransactionField> parse(String fields, Set<TransactionField> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return allowed;
+        }
+        EnumSet<TransactionField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            TransactionField field = fromWireName(trimmed);
+            if (field == null || !allowed.contains(field)) {
+                throw new BadRequestException("Unknown field '" + trimmed + "'. Allowed fields: "
+                        + allowed.stream().map(TransactionField::wireName).collect(Collectors.joining(", ")));
+            }
+            selected.add(field);
+        }
+        return selected.equals(allowed) ? allowed : Collections.unmodifiableSet(selected);
+    }
+
+    /**
+     * The field with this wire name, or null if there is none.
+     */
+    public static TransactionField fromWireName(String wireName) {
+        for (TransactionField field : values()) {
+            if (field.wireName().equals(wireName)) {
+                return field;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.sathira.miimoneypal.records.transaction;
+
+import java.util.Set;
+
+/**
+ * A transaction response that carries the fields selected with fields=.
+ *
+ * Only the selected fields are written, whichever serializer writes the response: the
+ * reflective path (FieldSelectionModule), the precompiled serializers and the columnar form.
+ */
+public interface TransactionFieldSelection {
+
+    /**
+     * Fields to write; properties whose wire name is not a selected field are omitted.
+     */
+    Set<TransactionField> fields();
+}
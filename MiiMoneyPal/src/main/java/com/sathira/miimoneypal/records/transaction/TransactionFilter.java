@@ -0,0 +1,28 @@
+package com.sathira.miimoneypal.records.transaction;
+
+import java.time.LocalDate;
+
+/**
+ * Filter criteria shared by transaction listing and bulk operations.
+ * All fields are optional; null means "no restriction".
+ */
+public record TransactionFilter(
+        TransactionType type,
+        LocalDate startDate,
+        LocalDate endDate,
+        Long categoryId,
+        Long bucketId,
+        String searchTerm
+) {
+    /**
+     * Check if no filter is set (i.e. the filter matches every transaction of the user).
+     */
+    public boolean isEmpty() {
+        return type == null
+                && startDate == null
+                && endDate == null
+                && categoryId == null
+                && bucketId == null
+                && (searchTerm == null || searchTerm.isBlank());
+    }
+}
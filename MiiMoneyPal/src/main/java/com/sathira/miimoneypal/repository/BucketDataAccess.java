@@ -3,6 +3,8 @@ package com.sathira.miimoneypal.repository;
 import com.sathira.miimoneypal.records.bucket.Bucket;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -17,6 +19,12 @@ public interface BucketDataAccess {
      */
     Optional<Bucket> findById(Long id);
 
+    /**
+     * Find buckets by IDs (without user filtering) in one query.
+     * Used when fetching related data for display; missing IDs are simply absent.
+     */
+    List<Bucket> findAllByIds(Collection<Long> ids);
+
     /**
      * Find bucket by ID with user ownership validation.
      * Used when creating/updating transactions to ensure user owns the bucket.
@@ -1,14 +1,14 @@
 package com.sathira.miimoneypal.repository;
 
-import com.sathira.miimoneypal.jooq.tables.records.BucketsRecord;
 import com.sathira.miimoneypal.records.bucket.Bucket;
-import com.sathira.miimoneypal.records.bucket.BucketStatus;
-import com.sathira.miimoneypal.records.bucket.BucketType;
+import com.sathira.miimoneypal.repository.mapping.BucketRows;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import static com.sathira.miimoneypal.jooq.tables.Buckets.BUCKETS;
@@ -26,19 +26,27 @@ public class BucketRepository implements BucketDataAccess {
 
     @Override
     public Optional<Bucket> findById(Long id) {
-        return dsl.selectFrom(BUCKETS)
+        return BucketRows.select(dsl)
+                .from(BUCKETS)
                 .where(BUCKETS.ID.eq(id))
-                .fetchOptional()
-                .map(this::toDomainRecord);
+                .fetchOptional(BucketRows.BUCKET);
+    }
+
+    @Override
+    public List<Bucket> findAllByIds(Collection<Long> ids) {
+        return BucketRows.select(dsl)
+                .from(BUCKETS)
+                .where(BUCKETS.ID.in(ids))
+                .fetch(BucketRows.BUCKET);
     }
 
     @Override
     public Optional<Bucket> findByIdAndUserId(Long id, Long userId) {
-        return dsl.selectFrom(BUCKETS)
+        return BucketRows.select(dsl)
+                .from(BUCKETS)
                 .where(BUCKETS.ID.eq(id))
                 .and(BUCKETS.USER_ID.eq(userId))
-                .fetchOptional()
-                .map(this::toDomainRecord);
+                .fetchOptional(BucketRows.BUCKET);
     }
 
     @Override
@@ -83,19 +91,4 @@ public class BucketRepository implements BucketDataAccess {
 
         return balance != null ? balance : BigDecimal.ZERO;
     }
-
-    /**
-     * Convert jOOQ BucketsRecord to domain Bucket record.
-     */
-    private Bucket toDomainRecord(BucketsRecord record) {
-        return Bucket.builder()
-                .id(record.getId())
-                .userId(record.getUserId())
-                .name(record.getName())
-                .type(BucketType.valueOf(record.getType()))
-                .targetAmount(record.getTargetAmount())
-                .status(BucketStatus.valueOf(record.getStatus()))
-                .createdAt(record.getCreatedAt())
-                .build();
-    }
 }
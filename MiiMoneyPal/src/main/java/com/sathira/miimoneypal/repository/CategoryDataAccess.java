@@ -2,7 +2,10 @@ package com.sathira.miimoneypal.repository;
 
 import com.sathira.miimoneypal.records.category.Category;
 import com.sathira.miimoneypal.records.category.CategoryType;
+import com.sathira.miimoneypal.records.category.DefaultCategory;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +21,12 @@ public interface CategoryDataAccess {
      */
     Optional<Category> findById(Long id);
 
+    /**
+     * Find categories by IDs (without user filtering) in one query.
+     * Used when fetching related data for display; missing IDs are simply absent.
+     */
+    List<Category> findAllByIds(Collection<Long> ids);
+
     /**
      * Find category by ID with user ownership validation.
      * Used when creating/updating transactions to ensure user owns the category.
@@ -59,12 +68,30 @@ public interface CategoryDataAccess {
     Category save(Category category);
 
     /**
-     * Update an existing category.
+     * Insert several categories for a user in a single multi-row INSERT.
+     * Used for registration seeding; generated IDs are not returned.
+     * @param userId The owning user ID
+     * @param categories The category templates to insert
+     * @return Number of rows inserted
+     */
+    int saveAll(Long userId, List<DefaultCategory> categories);
+
+    /**
+     * Update an existing category in a single UPDATE ... RETURNING statement.
      * @param category The category with updated fields
      * @return The updated category
      */
     Category update(Category category);
 
+    /**
+     * Update a non-system category only if its updated_at still equals the expected version.
+     * Ownership, protection and version checks are part of the UPDATE, so no prior read is needed.
+     * @return The updated category, or empty if no row matched
+     * @throws com.sathira.miimoneypal.exception.DuplicateResourceException if the new name is already taken
+     */
+    Optional<Category> updateIfUnmodified(Long id, Long userId, String name, String color, String icon,
+                                          LocalDateTime expectedUpdatedAt);
+
     /**
      * Hard delete a category by ID.
      * Should only be called when the category has no transactions.
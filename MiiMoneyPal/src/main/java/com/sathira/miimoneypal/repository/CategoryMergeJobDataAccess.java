@@ -0,0 +1,76 @@
+package com.sathira.miimoneypal.repository;
+
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Data access interface for background category merge jobs.
+ *
+ * This is a SHARED data access interface because the merge endpoint starts and
+ * advances jobs while the merge job endpoint reports on them.
+ */
+public interface CategoryMergeJobDataAccess {
+
+    /**
+     * Record a new RUNNING job, unless one is already running for the source category.
+     *
+     * @return the new job, or empty if the source already has a running job
+     */
+    Optional<CategoryMergeJob> insertIfNoneRunning(Long sourceCategoryId, Long targetCategoryId, Long userId);
+
+    /**
+     * Find a job by ID with user ownership validation.
+     */
+    Optional<CategoryMergeJob> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Find the running job for a source category.
+     */
+    Optional<CategoryMergeJob> findRunningBySourceCategoryId(Long sourceCategoryId);
+
+    /**
+     * Whether a running job is moving transactions into the category.
+     */
+    boolean existsRunningByTargetCategoryId(Long targetCategoryId);
+
+    /**
+     * Find running jobs no runner holds: never claimed, or with an expired lease.
+     */
+    List<CategoryMergeJob> findUnclaimedRunning(LocalDateTime now);
+
+    /**
+     * Claim a running job for a runner, if no runner holds it (never claimed, or lease expired).
+     *
+     * @return false if another runner holds the job or it is no longer running
+     */
+    boolean claim(Long id, String owner, LocalDateTime now, LocalDateTime until);
+
+    /**
+     * Extend the lease of a job the runner holds. Call in each chunk transaction: the row
+     * lock keeps the job from being claimed away while the chunk runs.
+     *
+     * @return false if the job was claimed by another runner or is no longer running
+     */
+    boolean renewClaim(Long id, String owner, LocalDateTime until);
+
+    /**
+     * Add a moved chunk to the job's progress.
+     * Call in the transaction that moved the chunk.
+     */
+    void recordChunk(Long id, int transactionsMoved);
+
+    /**
+     * Mark a running job COMPLETED, if the runner still holds it.
+     *
+     * @return false if the job was no longer running or held by another runner
+     */
+    boolean markCompleted(Long id, String owner);
+
+    /**
+     * Mark a running job FAILED with the failure message, if the runner still holds it.
+     */
+    void markFailed(Long id, String owner, String error);
+}
@@ -0,0 +1,165 @@
+package com.sathira.miimoneypal.repository;
+
+import com.sathira.miimoneypal.jooq.tables.records.CategoryMergeJobsRecord;
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+import com.sathira.miimoneypal.records.category.MergeJobStatus;
+import com.sathira.miimoneypal.repository.mapping.EnumLookup;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.sathira.miimoneypal.jooq.tables.CategoryMergeJobs.CATEGORY_MERGE_JOBS;
+
+/**
+ * jOOQ implementation of CategoryMergeJobDataAccess.
+ * The partial unique index idx_category_merge_jobs_running keeps one running job per
+ * source category; inserts use ON CONFLICT DO NOTHING against it. Runners hold a job
+ * through claimed_by/claimed_until, checked by every progress and final-status UPDATE.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CategoryMergeJobRepository implements CategoryMergeJobDataAccess {
+
+    private static final EnumLookup<MergeJobStatus> STATUSES = EnumLookup.of(MergeJobStatus.class);
+
+    /**
+     * Longest failure message stored (error VARCHAR(500)).
+     */
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final DSLContext dsl;
+
+    @Override
+    public Optional<CategoryMergeJob> insertIfNoneRunning(Long sourceCategoryId, Long targetCategoryId, Long userId) {
+        return dsl.insertInto(CATEGORY_MERGE_JOBS)
+                .set(CATEGORY_MERGE_JOBS.USER_ID, userId)
+                .set(CATEGORY_MERGE_JOBS.SOURCE_CATEGORY_ID, sourceCategoryId)
+                .set(CATEGORY_MERGE_JOBS.TARGET_CATEGORY_ID, targetCategoryId)
+                .set(CATEGORY_MERGE_JOBS.STATUS, MergeJobStatus.RUNNING.name())
+                .onConflictDoNothing()
+                .returning()
+                .fetchOptional()
+                .map(this::toDomainRecord);
+    }
+
+    @Override
+    public Optional<CategoryMergeJob> findByIdAndUserId(Long id, Long userId) {
+        return dsl.selectFrom(CATEGORY_MERGE_JOBS)
+                .where(CATEGORY_MERGE_JOBS.ID.eq(id))
+                .and(CATEGORY_MERGE_JOBS.USER_ID.eq(userId))
+                .fetchOptional()
+                .map(this::toDomainRecord);
+    }
+
+    @Override
+    public Optional<CategoryMergeJob> findRunningBySourceCategoryId(Long sourceCategoryId) {
+        return dsl.selectFrom(CATEGORY_MERGE_JOBS)
+                .where(CATEGORY_MERGE_JOBS.SOURCE_CATEGORY_ID.eq(sourceCategoryId))
+                .and(CATEGORY_MERGE_JOBS.STATUS.eq(MergeJobStatus.RUNNING.name()))
+                .fetchOptional()
+                .map(this::toDomainRecord);
+    }
+
+    @Override
+    public boolean existsRunningByTargetCategoryId(Long targetCategoryId) {
+        return dsl.fetchExists(CATEGORY_MERGE_JOBS,
+                CATEGORY_MERGE_JOBS.TARGET_CATEGORY_ID.eq(targetCategoryId)
+                        .and(CATEGORY_MERGE_JOBS.STATUS.eq(MergeJobStatus.RUNNING.name())));
+    }
+
+    @Override
+    public List<CategoryMergeJob> findUnclaimedRunning(LocalDateTime now) {
+        return dsl.selectFrom(CATEGORY_MERGE_JOBS)
+                .where(CATEGORY_MERGE_JOBS.STATUS.eq(MergeJobStatus.RUNNING.name()))
+                .and(unclaimed(now))
+                .orderBy(CATEGORY_MERGE_JOBS.ID)
+                .fetch(this::toDomainRecord);
+    }
+
+    @Override
+    public boolean claim(Long id, String owner, LocalDateTime now, LocalDateTime until) {
+        // Conditional UPDATE: of two runners claiming at once, the second re-checks the
+        // lease after the first commits and matches nothing
+        return dsl.update(CATEGORY_MERGE_JOBS)
+                .set(CATEGORY_MERGE_JOBS.CLAIMED_BY, owner)
+                .set(CATEGORY_MERGE_JOBS.CLAIMED_UNTIL, until)
+                .where(CATEGORY_MERGE_JOBS.ID.eq(id))
+                .and(CATEGORY_MERGE_JOBS.STATUS.eq(MergeJobStatus.RUNNING.name()))
+                .and(unclaimed(now))
+                .execute() > 0;
+    }
+
+    @Override
+    public boolean renewClaim(Long id, String owner, LocalDateTime until) {
+        return dsl.update(CATEGORY_MERGE_JOBS)
+                .set(CATEGORY_MERGE_JOBS.CLAIMED_UNTIL, until)
+                .where(CATEGORY_MERGE_JOBS.ID.eq(id))
+                .and(CATEGORY_MERGE_JOBS.STATUS.eq(MergeJobStatus.RUNNING.name()))
+                .and(CATEGORY_MERGE_JOBS.CLAIMED_BY.eq(owner))
+                .execute() > 0;
+    }
+
+    private static Condition unclaimed(LocalDateTime now) {
+        return CATEGORY_MERGE_JOBS.CLAIMED_UNTIL.isNull().or(CATEGORY_MERGE_JOBS.CLAIMED_UNTIL.lt(now));
+    }
+
+    @Override
+    public void recordChunk(Long id, int transactionsMoved) {
+        dsl.update(CATEGORY_MERGE_JOBS)
+                .set(CATEGORY_MERGE_JOBS.TRANSACTIONS_MOVED, CATEGORY_MERGE_JOBS.TRANSACTIONS_MOVED.plus((long) transactionsMoved))
+                .set(CATEGORY_MERGE_JOBS.CHUNKS, CATEGORY_MERGE_JOBS.CHUNKS.plus(1))
+                .where(CATEGORY_MERGE_JOBS.ID.eq(id))
+                .execute();
+    }
+
+    @Override
+    public boolean markCompleted(Long id, String owner) {
+        return finish(id, owner, MergeJobStatus.COMPLETED, null);
+    }
+
+    @Override
+    public void markFailed(Long id, String owner, String error) {
+        String message = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        finish(id, owner, MergeJobStatus.FAILED, message);
+    }
+
+    /**
+     * Move a running job held by the runner to a final status; a job that already finished,
+     * or that another runner took over, is left alone.
+     */
+    private boolean finish(Long id, String owner, MergeJobStatus status, String error) {
+        return dsl.update(CATEGORY_MERGE_JOBS)
+                .set(CATEGORY_MERGE_JOBS.STATUS, status.name())
+                .set(CATEGORY_MERGE_JOBS.ERROR, error)
+                .set(CATEGORY_MERGE_JOBS.FINISHED_AT, LocalDateTime.now())
+                .where(CATEGORY_MERGE_JOBS.ID.eq(id))
+                .and(CATEGORY_MERGE_JOBS.STATUS.eq(MergeJobStatus.RUNNING.name()))
+                .and(CATEGORY_MERGE_JOBS.CLAIMED_BY.eq(owner))
+                .execute() > 0;
+    }
+
+    /**
+     * Convert jOOQ CategoryMergeJobsRecord to domain CategoryMergeJob record.
+     */
+    private CategoryMergeJob toDomainRecord(CategoryMergeJobsRecord record) {
+        return CategoryMergeJob.builder()
+                .id(record.getId())
+                .userId(record.getUserId())
+                .sourceCategoryId(record.getSourceCategoryId())
+                .targetCategoryId(record.getTargetCategoryId())
+                .status(STATUSES.parse(record.getStatus()))
+                .transactionsMoved(record.getTransactionsMoved())
+                .chunks(record.getChunks())
+                .error(record.getError())
+                .createdAt(record.getCreatedAt())
+                .finishedAt(record.getFinishedAt())
+                .build();
+    }
+}
@@ -1,13 +1,19 @@
 package com.sathira.miimoneypal.repository;
 
+import com.sathira.miimoneypal.exception.DuplicateResourceException;
 import com.sathira.miimoneypal.jooq.tables.records.CategoriesRecord;
 import com.sathira.miimoneypal.records.category.Category;
 import com.sathira.miimoneypal.records.category.CategoryType;
+import com.sathira.miimoneypal.records.category.DefaultCategory;
+import com.sathira.miimoneypal.repository.mapping.CategoryRows;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep7;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,19 +32,27 @@ public class CategoryRepository implements CategoryDataAccess {
 
     @Override
     public Optional<Category> findById(Long id) {
-        return dsl.selectFrom(CATEGORIES)
+        return CategoryRows.select(dsl)
+                .from(CATEGORIES)
                 .where(CATEGORIES.ID.eq(id))
-                .fetchOptional()
-                .map(this::toDomainRecord);
+                .fetchOptional(CategoryRows.CATEGORY);
+    }
+
+    @Override
+    public List<Category> findAllByIds(Collection<Long> ids) {
+        return CategoryRows.select(dsl)
+                .from(CATEGORIES)
+                .where(CATEGORIES.ID.in(ids))
+                .fetch(CategoryRows.CATEGORY);
     }
 
     @Override
     public Optional<Category> findByIdAndUserId(Long id, Long userId) {
-        return dsl.selectFrom(CATEGORIES)
+        return CategoryRows.select(dsl)
+                .from(CATEGORIES)
                 .where(CATEGORIES.ID.eq(id))
                 .and(CATEGORIES.USER_ID.eq(userId))
-                .fetchOptional()
-                .map(this::toDomainRecord);
+                .fetchOptional(CategoryRows.CATEGORY);
     }
 
     @Override
@@ -70,7 +84,8 @@ public class CategoryRepository implements CategoryDataAccess {
 
     @Override
     public List<Category> findAllByUserId(Long userId, CategoryType type, boolean includeArchived) {
-        var query = dsl.selectFrom(CATEGORIES)
+        var query = CategoryRows.select(dsl)
+                .from(CATEGORIES)
                 .where(CATEGORIES.USER_ID.eq(userId));
 
         // Apply type filter if provided
@@ -84,8 +99,7 @@ public class CategoryRepository implements CategoryDataAccess {
         }
 
         return query.orderBy(CATEGORIES.NAME.asc())
-                .fetch()
-                .map(this::toDomainRecord);
+                .fetch(CategoryRows.CATEGORY);
     }
 
     @Override
@@ -102,20 +116,69 @@ public class CategoryRepository implements CategoryDataAccess {
         record.setUpdatedAt(LocalDateTime.now());
 
         record.store();
-        return toDomainRecord(record);
+        return CategoryRows.toCategory(record);
+    }
+
+    @Override
+    public int saveAll(Long userId, List<DefaultCategory> categories) {
+        if (categories.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        InsertValuesStep7<CategoriesRecord, Long, String, String, Boolean, Boolean, LocalDateTime, LocalDateTime> insert =
+                dsl.insertInto(CATEGORIES,
+                        CATEGORIES.USER_ID,
+                        CATEGORIES.NAME,
+                        CATEGORIES.TYPE,
+                        CATEGORIES.IS_SYSTEM,
+                        CATEGORIES.IS_ARCHIVED,
+                        CATEGORIES.CREATED_AT,
+                        CATEGORIES.UPDATED_AT);
+
+        // One VALUES tuple per category -> a single round trip
+        for (DefaultCategory category : categories) {
+            insert = insert.values(userId, category.name(), category.type().name(),
+                    category.isSystem(), false, now, now);
+        }
+        return insert.execute();
     }
 
     @Override
     public Category update(Category category) {
-        dsl.update(CATEGORIES)
+        return dsl.update(CATEGORIES)
                 .set(CATEGORIES.NAME, category.name())
                 .set(CATEGORIES.COLOR, category.color())
                 .set(CATEGORIES.ICON, category.icon())
                 .set(CATEGORIES.UPDATED_AT, LocalDateTime.now())
                 .where(CATEGORIES.ID.eq(category.id()))
-                .execute();
+                .and(CATEGORIES.USER_ID.eq(category.userId()))
+                .returning()
+                .fetchOptional()
+                .map(CategoryRows::toCategory)
+                .orElseThrow(() -> new IllegalStateException("Category update failed - no rows affected"));
+    }
 
-        return findById(category.id()).orElseThrow();
+    @Override
+    public Optional<Category> updateIfUnmodified(Long id, Long userId, String name, String color, String icon,
+                                                 LocalDateTime expectedUpdatedAt) {
+        try {
+            return dsl.update(CATEGORIES)
+                    .set(CATEGORIES.NAME, name)
+                    .set(CATEGORIES.COLOR, color)
+                    .set(CATEGORIES.ICON, icon)
+                    .set(CATEGORIES.UPDATED_AT, LocalDateTime.now())
+                    .where(CATEGORIES.ID.eq(id))
+                    .and(CATEGORIES.USER_ID.eq(userId))
+                    .and(CATEGORIES.IS_SYSTEM.eq(false))
+                    .and(CATEGORIES.UPDATED_AT.eq(expectedUpdatedAt))
+                    .returning()
+                    .fetchOptional()
+                    .map(CategoryRows::toCategory);
+        } catch (DuplicateKeyException e) {
+            // UNIQUE(user_id, name, type) replaces the separate existence check
+            throw new DuplicateResourceException("Category with name '" + name + "' already exists for this type");
+        }
     }
 
     @Override
@@ -133,22 +196,4 @@ public class CategoryRepository implements CategoryDataAccess {
                 .where(CATEGORIES.ID.eq(id))
                 .execute();
     }
-
-    /**
-     * Convert jOOQ CategoriesRecord to domain Category record.
-     */
-    private Category toDomainRecord(CategoriesRecord record) {
-        return Category.builder()
-                .id(record.getId())
-                .userId(record.getUserId())
-                .name(record.getName())
-                .type(CategoryType.valueOf(record.getType()))
-                .color(record.getColor())
-                .icon(record.getIcon())
-                .isSystem(record.getIsSystem())
-                .isArchived(record.getIsArchived())
-                .createdAt(record.getCreatedAt())
-                .updatedAt(record.getUpdatedAt())
-                .build();
-    }
 }
@@ -0,0 +1,50 @@
+package com.sathira.miimoneypal.repository;
+
+import com.sathira.miimoneypal.records.outbox.OutboxEvent;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data access interface for the transactional outbox.
+ *
+ * This is a SHARED data access interface because every mutating transaction and
+ * category endpoint appends to it, and the background publisher drains it.
+ */
+public interface OutboxDataAccess {
+
+    /**
+     * Append an event. Must be called inside the transaction that makes the change,
+     * so the event is committed (or rolled back) together with it.
+     *
+     * @param eventType   what happened
+     * @param aggregateId ID of the changed entity (null for bulk changes)
+     * @param userId      owner of the changed data
+     */
+    void append(OutboxEventType eventType, Long aggregateId, Long userId);
+
+    /**
+     * Lock the oldest pending events, skipping rows another node already holds.
+     * Must run inside a transaction; locks are released on commit/rollback.
+     *
+     * @param limit maximum number of events
+     * @return locked events ordered by ID
+     */
+    List<OutboxEvent> lockNextBatch(int limit);
+
+    /**
+     * Delete handled events (same transaction as lockNextBatch).
+     *
+     * @param ids event IDs
+     */
+    void deleteByIds(List<Long> ids);
+
+    /**
+     * Delete up to {@code limit} of the oldest events created at or before the cutoff,
+     * skipping rows a publisher currently holds.
+     *
+     * @return number of rows deleted (less than limit means nothing older is left)
+     */
+    int deleteCreatedBeforeBatch(LocalDateTime cutoff, int limit);
+}
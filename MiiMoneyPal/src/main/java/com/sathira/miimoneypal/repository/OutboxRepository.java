@@ -0,0 +1,84 @@
+package com.sathira.miimoneypal.repository;
+
+import com.sathira.miimoneypal.jooq.tables.records.OutboxEventsRecord;
+import com.sathira.miimoneypal.records.outbox.OutboxEvent;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
+import com.sathira.miimoneypal.repository.mapping.EnumLookup;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.sathira.miimoneypal.jooq.tables.OutboxEvents.OUTBOX_EVENTS;
+import static org.jooq.impl.DSL.select;
+
+/**
+ * jOOQ implementation of OutboxDataAccess.
+ * Appends are a single-row INSERT; draining uses SELECT ... FOR UPDATE SKIP LOCKED
+ * so several app nodes can drain the same table without blocking each other.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository implements OutboxDataAccess {
+
+    private static final EnumLookup<OutboxEventType> EVENT_TYPES = EnumLookup.of(OutboxEventType.class);
+
+    private final DSLContext dsl;
+
+    @Override
+    public void append(OutboxEventType eventType, Long aggregateId, Long userId) {
+        dsl.insertInto(OUTBOX_EVENTS)
+                .set(OUTBOX_EVENTS.EVENT_TYPE, eventType.name())
+                .set(OUTBOX_EVENTS.AGGREGATE_ID, aggregateId)
+                .set(OUTBOX_EVENTS.USER_ID, userId)
+                .execute();
+    }
+
+    @Override
+    public List<OutboxEvent> lockNextBatch(int limit) {
+        return dsl.selectFrom(OUTBOX_EVENTS)
+                .orderBy(OUTBOX_EVENTS.ID)
+                .limit(limit)
+                .forUpdate()
+                .skipLocked()
+                .fetch(this::toDomainRecord);
+    }
+
+    @Override
+    public void deleteByIds(List<Long> ids) {
+        dsl.deleteFrom(OUTBOX_EVENTS)
+                .where(OUTBOX_EVENTS.ID.in(ids))
+                .execute();
+    }
+
+    @Override
+    public int deleteCreatedBeforeBatch(LocalDateTime cutoff, int limit) {
+        // Oldest first by primary key; SKIP LOCKED leaves a batch being drained to the publisher
+        return dsl.deleteFrom(OUTBOX_EVENTS)
+                .where(OUTBOX_EVENTS.ID.in(
+                        select(OUTBOX_EVENTS.ID)
+                                .from(OUTBOX_EVENTS)
+                                .where(OUTBOX_EVENTS.CREATED_AT.le(cutoff))
+                                .orderBy(OUTBOX_EVENTS.ID)
+                                .limit(limit)
+                                .forUpdate()
+                                .skipLocked()
+                ))
+                .execute();
+    }
+
+    /**
+     * Convert jOOQ OutboxEventsRecord to domain OutboxEvent record.
+     */
+    private OutboxEvent toDomainRecord(OutboxEventsRecord record) {
+        return OutboxEvent.builder()
+                .id(record.getId())
+                .eventType(EVENT_TYPES.parse(record.getEventType()))
+                .aggregateId(record.getAggregateId())
+                .userId(record.getUserId())
+                .createdAt(record.getCreatedAt())
+                .build();
+    }
+}
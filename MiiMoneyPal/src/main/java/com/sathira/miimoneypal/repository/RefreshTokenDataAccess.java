@@ -0,0 +1,63 @@
+package com.sathira.miimoneypal.repository;
+
+import com.sathira.miimoneypal.records.auth.RefreshToken;
+import com.sathira.miimoneypal.records.auth.RevokedTokenFamily;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Data access contract for the refresh token store.
+ *
+ * SHARED because login, register, refresh and logout all issue or revoke tokens.
+ */
+public interface RefreshTokenDataAccess {
+
+    /**
+     * Record a newly issued refresh token.
+     */
+    void save(String tokenHash, UUID familyId, Long userId, LocalDateTime expiresAt);
+
+    /**
+     * Mark a token as rotated in one conditional UPDATE ... RETURNING.
+     * Matches only a token that is not yet rotated, not revoked and not expired,
+     * so two concurrent refreshes with the same token cannot both succeed. Also
+     * requires that no token of its family is revoked: a token inserted while the
+     * family was being revoked is not covered by that UPDATE, and is refused here.
+     *
+     * @return the token as it was before rotation, or empty if it was not usable
+     */
+    Optional<RefreshToken> markRotated(String tokenHash, LocalDateTime now);
+
+    /**
+     * Find a token by hash regardless of state.
+     * Only used on the failure path to tell reuse from an unknown token.
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Revoke every token in a family that is not already revoked.
+     * @return number of tokens revoked
+     */
+    int revokeFamily(UUID familyId, Long userId, LocalDateTime now);
+
+    /**
+     * Whether any token in the family has been revoked.
+     * Confirms a positive from the in-memory revocation filter.
+     */
+    boolean isFamilyRevoked(UUID familyId);
+
+    /**
+     * Families revoked but not yet expired, with their latest expiry.
+     * Used to warm the in-memory revocation filter on startup.
+     */
+    List<RevokedTokenFamily> findRevokedFamilies(LocalDateTime now);
+
+    /**
+     * Delete up to {@code limit} expired tokens.
+     * @return number of rows deleted (less than limit means nothing is left)
+     */
+    int deleteExpiredBatch(LocalDateTime now, int limit);
+}
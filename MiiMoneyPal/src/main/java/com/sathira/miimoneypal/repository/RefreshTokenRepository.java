@@ -0,0 +1,129 @@
+package com.sathira.miimoneypal.repository;
+
+import com.sathira.miimoneypal.jooq.tables.RefreshTokens;
+import com.sathira.miimoneypal.jooq.tables.records.RefreshTokensRecord;
+import com.sathira.miimoneypal.records.auth.RefreshToken;
+import com.sathira.miimoneypal.records.auth.RevokedTokenFamily;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.sathira.miimoneypal.jooq.tables.RefreshTokens.REFRESH_TOKENS;
+import static org.jooq.impl.DSL.max;
+import static org.jooq.impl.DSL.select;
+import static org.jooq.impl.DSL.selectOne;
+
+/**
+ * jOOQ implementation of RefreshTokenDataAccess.
+ * Rotation is a single conditional UPDATE ... RETURNING; the happy path never reads first.
+ * Its NOT EXISTS guard walks idx_refresh_tokens_family.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepository implements RefreshTokenDataAccess {
+
+    /**
+     * Other tokens of the same family, for the revoked-family guard in markRotated.
+     */
+    private static final RefreshTokens FAMILY = REFRESH_TOKENS.as("family");
+
+    private final DSLContext dsl;
+
+    @Override
+    public void save(String tokenHash, UUID familyId, Long userId, LocalDateTime expiresAt) {
+        dsl.insertInto(REFRESH_TOKENS)
+                .set(REFRESH_TOKENS.TOKEN_HASH, tokenHash)
+                .set(REFRESH_TOKENS.FAMILY_ID, familyId)
+                .set(REFRESH_TOKENS.USER_ID, userId)
+                .set(REFRESH_TOKENS.EXPIRES_AT, expiresAt)
+                .execute();
+    }
+
+    @Override
+    public Optional<RefreshToken> markRotated(String tokenHash, LocalDateTime now) {
+        return dsl.update(REFRESH_TOKENS)
+                .set(REFRESH_TOKENS.ROTATED_AT, now)
+                .where(REFRESH_TOKENS.TOKEN_HASH.eq(tokenHash))
+                .and(REFRESH_TOKENS.ROTATED_AT.isNull())
+                .and(REFRESH_TOKENS.REVOKED_AT.isNull())
+                .and(REFRESH_TOKENS.EXPIRES_AT.gt(now))
+                .andNotExists(selectOne()
+                        .from(FAMILY)
+                        .where(FAMILY.FAMILY_ID.eq(REFRESH_TOKENS.FAMILY_ID))
+                        .and(FAMILY.REVOKED_AT.isNotNull()))
+                .returning()
+                .fetchOptional()
+                .map(this::toDomainRecord);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return dsl.selectFrom(REFRESH_TOKENS)
+                .where(REFRESH_TOKENS.TOKEN_HASH.eq(tokenHash))
+                .fetchOptional()
+                .map(this::toDomainRecord);
+    }
+
+    @Override
+    public int revokeFamily(UUID familyId, Long userId, LocalDateTime now) {
+        return dsl.update(REFRESH_TOKENS)
+                .set(REFRESH_TOKENS.REVOKED_AT, now)
+                .where(REFRESH_TOKENS.FAMILY_ID.eq(familyId))
+                .and(REFRESH_TOKENS.USER_ID.eq(userId))
+                .and(REFRESH_TOKENS.REVOKED_AT.isNull())
+                .execute();
+    }
+
+    @Override
+    public boolean isFamilyRevoked(UUID familyId) {
+        return dsl.fetchExists(
+                dsl.selectFrom(REFRESH_TOKENS)
+                        .where(REFRESH_TOKENS.FAMILY_ID.eq(familyId))
+                        .and(REFRESH_TOKENS.REVOKED_AT.isNotNull())
+        );
+    }
+
+    @Override
+    public List<RevokedTokenFamily> findRevokedFamilies(LocalDateTime now) {
+        return dsl.select(REFRESH_TOKENS.FAMILY_ID, max(REFRESH_TOKENS.EXPIRES_AT))
+                .from(REFRESH_TOKENS)
+                .where(REFRESH_TOKENS.REVOKED_AT.isNotNull())
+                .and(REFRESH_TOKENS.EXPIRES_AT.gt(now))
+                .groupBy(REFRESH_TOKENS.FAMILY_ID)
+                .fetch(record -> new RevokedTokenFamily(record.value1(), record.value2()));
+    }
+
+    @Override
+    public int deleteExpiredBatch(LocalDateTime now, int limit) {
+        // Bounded DELETE keeps each statement's locks and WAL small
+        return dsl.deleteFrom(REFRESH_TOKENS)
+                .where(REFRESH_TOKENS.ID.in(
+                        select(REFRESH_TOKENS.ID)
+                                .from(REFRESH_TOKENS)
+                                .where(REFRESH_TOKENS.EXPIRES_AT.le(now))
+                                .limit(limit)
+                ))
+                .execute();
+    }
+
+    /**
+     * Convert jOOQ RefreshTokensRecord to domain RefreshToken record.
+     */
+    private RefreshToken toDomainRecord(RefreshTokensRecord record) {
+        return RefreshToken.builder()
+                .id(record.getId())
+                .tokenHash(record.getTokenHash())
+                .familyId(record.getFamilyId())
+                .userId(record.getUserId())
+                .expiresAt(record.getExpiresAt())
+                .rotatedAt(record.getRotatedAt())
+                .revokedAt(record.getRevokedAt())
+                .createdAt(record.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.sathira.miimoneypal.repository;
+
+import com.sathira.miimoneypal.records.transaction.TransactionFilter;
+import org.jooq.Condition;
+import org.jooq.impl.DSL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.sathira.miimoneypal.jooq.tables.Transactions.TRANSACTIONS;
+
+/**
+ * Builds the jOOQ WHERE condition for a TransactionFilter.
+ *
+ * Shared by the list endpoint and the bulk operations so that "the transactions
+ * you see" and "the transactions a bulk operation touches" always mean the same thing.
+ */
+public final class TransactionFilterConditions {
+
+    private TransactionFilterConditions() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Build dynamic WHERE condition based on provided filters.
+     * Always includes user_id filter for security.
+     */
+    public static Condition matching(Long userId, TransactionFilter filter) {
+        List<Condition> conditions = new ArrayList<>();
+
+        // Always filter by user_id for security
+        conditions.add(TRANSACTIONS.USER_ID.eq(userId));
+
+        // Optional filters
+        if (filter.type() != null) {
+            conditions.add(TRANSACTIONS.TYPE.eq(filter.type().name()));
+        }
+
+        if (filter.startDate() != null) {
+            conditions.add(TRANSACTIONS.TRANSACTION_DATE.greaterOrEqual(filter.startDate()));
+        }
+
+        if (filter.endDate() != null) {
+            conditions.add(TRANSACTIONS.TRANSACTION_DATE.lessOrEqual(filter.endDate()));
+        }
+
+        if (filter.categoryId() != null) {
+            conditions.add(TRANSACTIONS.CATEGORY_ID.eq(filter.categoryId()));
+        }
+
+        if (filter.bucketId() != null) {
+            conditions.add(TRANSACTIONS.BUCKET_ID.eq(filter.bucketId()));
+        }
+
+        if (filter.searchTerm() != null && !filter.searchTerm().isBlank()) {
+            // Case-insensitive search in notes using ILIKE (PostgreSQL)
+            conditions.add(TRANSACTIONS.NOTE.likeIgnoreCase("%" + filter.searchTerm() + "%"));
+        }
+
+        // Combine all conditions with AND
+        return DSL.and(conditions);
+    }
+}
@@ -0,0 +1,82 @@
+package com.sathira.miimoneypal.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sathira.miimoneypal.records.user.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Bounded in-process cache of users, looked up by ID or by email.
+ *
+ * <p>Users are stored once, by ID. The email index only maps a lower-cased email to an ID,
+ * and a hit is accepted only if the cached user still has that email - so evicting by ID
+ * is enough even when an update changes the email.</p>
+ *
+ * <p>Writers call {@link #evict(Long)}. Inside a transaction the entry is evicted again
+ * after commit/rollback, so a read later in the same transaction cannot leave uncommitted
+ * (or rolled-back) data cached. Entries also expire after a fixed TTL, which bounds
+ * staleness from writes made by other instances.</p>
+ */
+@Component
+public class UserCache {
+
+    private final Cache<Long, User> byId;
+    private final Cache<String, Long> idByEmail;
+
+    public UserCache(
+            @Value("${users.cache.maximum-size:10000}") long maximumSize,
+            @Value("${users.cache.ttl-ms:300000}") long ttlMillis
+    ) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+        this.idByEmail = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .build();
+    }
+
+    public Optional<User> getById(Long id) {
+        return Optional.ofNullable(byId.getIfPresent(id));
+    }
+
+    public Optional<User> getByEmail(String email) {
+        Long id = idByEmail.getIfPresent(normalize(email));
+        if (id == null) {
+            return Optional.empty();
+        }
+        return getById(id).filter(user -> user.email().equalsIgnoreCase(email));
+    }
+
+    public void put(User user) {
+        byId.put(user.id(), user);
+        idByEmail.put(normalize(user.email()), user.id());
+    }
+
+    /**
+     * Evict a user now and, inside a transaction, again once it completes.
+     */
+    public void evict(Long id) {
+        byId.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    byId.invalidate(id);
+                }
+            });
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
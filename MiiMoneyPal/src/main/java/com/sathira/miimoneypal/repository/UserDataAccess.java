@@ -54,11 +54,22 @@ public interface UserDataAccess {
     boolean existsByEmail(String email);
 
     /**
-     * Update user's currency symbol.
+     * Update user's currency symbol in a single UPDATE ... RETURNING statement.
      *
      * @param userId the user ID
      * @param currencySymbol the new currency symbol (e.g., "USD", "LKR", "EUR")
+     * @return the updated user, so callers need no follow-up read
      * @throws com.sathira.miimoneypal.exception.ResourceNotFoundException if user not found
      */
-    void updateCurrencySymbol(Long userId, String currencySymbol);
+    User updateCurrencySymbol(Long userId, String currencySymbol);
+
+    /**
+     * Replace a user's password hash (e.g. BCrypt cost upgrade on login).
+     *
+     * @param userId the user ID
+     * @param passwordHash the new encoded password hash
+     * @return the updated user
+     * @throws com.sathira.miimoneypal.exception.ResourceNotFoundException if user not found
+     */
+    User updatePasswordHash(Long userId, String passwordHash);
 }
@@ -4,9 +4,9 @@ import com.sathira.miimoneypal.exception.DuplicateResourceException;
 import com.sathira.miimoneypal.exception.ResourceNotFoundException;
 import com.sathira.miimoneypal.jooq.tables.records.UsersRecord;
 import com.sathira.miimoneypal.records.user.User;
+import com.sathira.miimoneypal.repository.mapping.UserRows;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
-import org.jooq.exception.DataAccessException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Repository;
 
@@ -19,28 +19,46 @@ import static com.sathira.miimoneypal.jooq.tables.Users.USERS;
  * jOOQ-based implementation of UserDataAccess.
  *
  * Uses DSLContext for type-safe SQL operations.
- * Converts between jOOQ UsersRecord and domain User record.
+ * Rows are mapped to the domain User record by UserRows.
+ *
+ * Lookups by ID and email go through UserCache first; every UPDATE evicts the user.
+ * Inserts are not cached - a new user is cached on first read.
  */
 @Repository
 @RequiredArgsConstructor
 public class UserRepository implements UserDataAccess {
 
     private final DSLContext dsl;
+    private final UserCache userCache;
 
     @Override
     public Optional<User> findByEmail(String email) {
-        return dsl.selectFrom(USERS)
+        Optional<User> cached = userCache.getByEmail(email);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<User> user = UserRows.select(dsl)
+                .from(USERS)
                 .where(USERS.EMAIL.equalIgnoreCase(email))
-                .fetchOptional()
-                .map(UserRepository::toDomainRecord);
+                .fetchOptional(UserRows.USER);
+        user.ifPresent(userCache::put);
+        return user;
     }
 
     @Override
     public Optional<User> findById(Long id) {
-        return dsl.selectFrom(USERS)
+        Optional<User> cached = userCache.getById(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<User> user = UserRows.select(dsl)
+                .from(USERS)
                 .where(USERS.ID.eq(id))
-                .fetchOptional()
-                .map(UserRepository::toDomainRecord);
+                .fetchOptional(UserRows.USER);
+        user.ifPresent(userCache::put);
+        return user;
     }
 
     @Override
@@ -62,16 +80,37 @@ public class UserRepository implements UserDataAccess {
     }
 
     @Override
-    public void updateCurrencySymbol(Long userId, String currencySymbol) {
-        int rowsUpdated = dsl.update(USERS)
+    public User updateCurrencySymbol(Long userId, String currencySymbol) {
+        UsersRecord record = dsl.update(USERS)
                 .set(USERS.CURRENCY_SYMBOL, currencySymbol)
                 .set(USERS.UPDATED_AT, LocalDateTime.now())
                 .where(USERS.ID.eq(userId))
-                .execute();
+                .returning()
+                .fetchOne();
+        userCache.evict(userId);
+
+        if (record == null) {
+            throw new ResourceNotFoundException("User", userId);
+        }
+
+        return UserRows.toUser(record);
+    }
+
+    @Override
+    public User updatePasswordHash(Long userId, String passwordHash) {
+        UsersRecord record = dsl.update(USERS)
+                .set(USERS.PASSWORD_HASH, passwordHash)
+                .set(USERS.UPDATED_AT, LocalDateTime.now())
+                .where(USERS.ID.eq(userId))
+                .returning()
+                .fetchOne();
+        userCache.evict(userId);
 
-        if (rowsUpdated == 0) {
+        if (record == null) {
             throw new ResourceNotFoundException("User", userId);
         }
+
+        return UserRows.toUser(record);
     }
 
     // ========== Private Helper Methods ==========
@@ -106,31 +145,15 @@ public class UserRepository implements UserDataAccess {
                 throw new IllegalStateException("Failed to insert user - no record returned");
             }
 
-            return toDomainRecord(record);
+            return UserRows.toUser(record);
 
-        } catch (DataAccessException e) {
-            // Check for unique constraint violation using SQLState code (23505 = unique_violation)
-            // This is more robust than checking error message text
-            if (isDuplicateKeyViolation(e)) {
-                throw new DuplicateResourceException("User", "email", user.email());
-            }
-            throw e; // Re-throw unexpected database errors
+        } catch (DuplicateKeyException e) {
+            // Spring Boot's jOOQ exception translator maps SQLState 23505 (unique_violation)
+            // to DuplicateKeyException; the only unique key on users is the email
+            throw new DuplicateResourceException("User", "email", user.email());
         }
     }
 
-    /**
-     * Check if the exception is a duplicate key (unique constraint) violation.
-     * Uses SQLState code 23505 which is JDBC/PostgreSQL standard for unique violations.
-     */
-    private boolean isDuplicateKeyViolation(DataAccessException e) {
-        // Check for Spring's DuplicateKeyException wrapper
-        if (e.getCause() instanceof DuplicateKeyException) {
-            return true;
-        }
-        // Fallback: Check error message for constraint name (PostgreSQL specific)
-        return e.getMessage() != null && e.getMessage().contains("users_email_key");
-    }
-
     /**
      * Update existing user.
      *
@@ -147,28 +170,12 @@ public class UserRepository implements UserDataAccess {
                 .where(USERS.ID.eq(user.id()))
                 .returning()
                 .fetchOne();
+        userCache.evict(user.id());
 
         if (record == null) {
             throw new ResourceNotFoundException("User", user.id());
         }
 
-        return toDomainRecord(record);
-    }
-
-    /**
-     * Convert jOOQ UsersRecord to immutable domain User record.
-     *
-     * @param record the jOOQ record from database
-     * @return domain User record with all fields populated
-     */
-    private static User toDomainRecord(UsersRecord record) {
-        return User.builder()
-                .id(record.getId())
-                .email(record.getEmail())
-                .passwordHash(record.getPasswordHash())
-                .currencySymbol(record.getCurrencySymbol())
-                .createdAt(record.getCreatedAt())
-                .updatedAt(record.getUpdatedAt())
-                .build();
+        return UserRows.toUser(record);
     }
 }
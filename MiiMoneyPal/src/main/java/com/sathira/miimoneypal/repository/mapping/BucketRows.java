@@ -0,0 +1,48 @@
+package com.sathira.miimoneypal.repository.mapping;
+
+import com.sathira.miimoneypal.records.bucket.Bucket;
+import com.sathira.miimoneypal.records.bucket.BucketStatus;
+import com.sathira.miimoneypal.records.bucket.BucketType;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record8;
+import org.jooq.RecordMapper;
+import org.jooq.Records;
+import org.jooq.SelectSelectStep;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static com.sathira.miimoneypal.jooq.tables.Buckets.BUCKETS;
+
+/**
+ * Row mapping for buckets (see TransactionRows for the approach).
+ */
+public final class BucketRows {
+
+    private static final EnumLookup<BucketType> TYPES = EnumLookup.of(BucketType.class);
+    private static final EnumLookup<BucketStatus> STATUSES = EnumLookup.of(BucketStatus.class);
+
+    private static final Field<BucketType> TYPE = BUCKETS.TYPE.convertFrom(TYPES::parse);
+    private static final Field<BucketStatus> STATUS = BUCKETS.STATUS.convertFrom(STATUSES::parse);
+
+    public static final RecordMapper<Record8<Long, Long, String, BucketType, BigDecimal, BucketStatus,
+            LocalDateTime, LocalDateTime>, Bucket> BUCKET = Records.mapping(Bucket::new);
+
+    private BucketRows() {
+    }
+
+    public static SelectSelectStep<Record8<Long, Long, String, BucketType, BigDecimal, BucketStatus,
+            LocalDateTime, LocalDateTime>> select(DSLContext dsl) {
+        return dsl.select(
+                BUCKETS.ID,
+                BUCKETS.USER_ID,
+                BUCKETS.NAME,
+                TYPE,
+                BUCKETS.TARGET_AMOUNT,
+                STATUS,
+                BUCKETS.CREATED_AT,
+                BUCKETS.UPDATED_AT
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package com.sathira.miimoneypal.repository.mapping;
+
+import com.sathira.miimoneypal.jooq.tables.records.CategoriesRecord;
+import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.category.CategoryType;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record10;
+import org.jooq.RecordMapper;
+import org.jooq.Records;
+import org.jooq.SelectSelectStep;
+
+import java.time.LocalDateTime;
+
+import static com.sathira.miimoneypal.jooq.tables.Categories.CATEGORIES;
+
+/**
+ * Row mapping for categories (see TransactionRows for the approach).
+ */
+public final class CategoryRows {
+
+    private static final EnumLookup<CategoryType> TYPES = EnumLookup.of(CategoryType.class);
+
+    private static final Field<CategoryType> TYPE = CATEGORIES.TYPE.convertFrom(TYPES::parse);
+
+    public static final RecordMapper<Record10<Long, Long, String, CategoryType, String, String, Boolean, Boolean,
+            LocalDateTime, LocalDateTime>, Category> CATEGORY = Records.mapping(Category::new);
+
+    private CategoryRows() {
+    }
+
+    public static SelectSelectStep<Record10<Long, Long, String, CategoryType, String, String, Boolean, Boolean,
+            LocalDateTime, LocalDateTime>> select(DSLContext dsl) {
+        return dsl.select(
+                CATEGORIES.ID,
+                CATEGORIES.USER_ID,
+                CATEGORIES.NAME,
+                TYPE,
+                CATEGORIES.COLOR,
+                CATEGORIES.ICON,
+                CATEGORIES.IS_SYSTEM,
+                CATEGORIES.IS_ARCHIVED,
+                CATEGORIES.CREATED_AT,
+                CATEGORIES.UPDATED_AT
+        );
+    }
+
+    /**
+     * Maps a CategoriesRecord from store() or UPDATE ... RETURNING (single rows).
+     */
+    public static Category toCategory(CategoriesRecord record) {
+        return new Category(
+                record.getId(),
+                record.getUserId(),
+                record.getName(),
+                TYPES.parse(record.getType()),
+                record.getColor(),
+                record.getIcon(),
+                record.getIsSystem(),
+                record.getIsArchived(),
+                record.getCreatedAt(),
+                record.getUpdatedAt()
+        );
+    }
+}
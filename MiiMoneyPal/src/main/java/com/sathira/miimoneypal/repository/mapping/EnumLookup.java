@@ -0,0 +1,44 @@
+package com.sathira.miimoneypal.repository.mapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Precomputed name -> constant table for enums stored as VARCHAR columns.
+ *
+ * Equivalent to Enum.valueOf for valid names, but resolved against a table built once
+ * per enum instead of going through Class.enumConstantDirectory() on every row, and
+ * with an error message that names the enum.
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+    private final Class<E> type;
+    private final Map<String, E> byName;
+
+    private EnumLookup(Class<E> type) {
+        this.type = type;
+        E[] constants = type.getEnumConstants();
+        Map<String, E> names = new HashMap<>(constants.length * 2);
+        for (E constant : constants) {
+            names.put(constant.name(), constant);
+        }
+        this.byName = Map.copyOf(names);
+    }
+
+    public static <E extends Enum<E>> EnumLookup<E> of(Class<E> type) {
+        return new EnumLookup<>(type);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the name is not a constant of the enum
+     */
+    public E parse(String name) {
+        Objects.requireNonNull(name, () -> type.getSimpleName() + " value must not be null");
+        E constant = byName.get(name);
+        if (constant == null) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " value: " + name);
+        }
+        return constant;
+    }
+}
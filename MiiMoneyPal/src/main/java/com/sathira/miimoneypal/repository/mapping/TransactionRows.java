@@ -0,0 +1,108 @@
+package com.sathira.miimoneypal.repository.mapping;
+
+import com.sathira.miimoneypal.jooq.tables.records.TransactionsRecord;
+import com.sathira.miimoneypal.records.transaction.Transaction;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
+import com.sathira.miimoneypal.records.transaction.TransactionType;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record10;
+import org.jooq.RecordMapper;
+import org.jooq.Records;
+import org.jooq.SelectSelectStep;
+import org.jooq.impl.DSL;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static com.sathira.miimoneypal.jooq.tables.Transactions.TRANSACTIONS;
+
+/**
+ * Row mapping for transactions.
+ *
+ * Reads select the columns in Transaction's canonical-constructor order and map each row
+ * with TRANSACTION, so a row becomes one generic record and one Transaction: no
+ * TransactionsRecord (which also keeps a copy of the original values and change flags)
+ * and no builder. The column/constructor match is checked by the compiler through the
+ * Record10 type parameters.
+ *
+ * Usage: {@code TransactionRows.select(dsl).from(TRANSACTIONS).where(...).fetch(TransactionRows.TRANSACTION)}
+ */
+public final class TransactionRows {
+
+    private static final EnumLookup<TransactionType> TYPES = EnumLookup.of(TransactionType.class);
+
+    private static final Field<TransactionType> TYPE = TRANSACTIONS.TYPE.convertFrom(TYPES::parse);
+
+    public static final RecordMapper<Record10<Long, Long, TransactionType, BigDecimal, LocalDate, Long, Long, String,
+            LocalDateTime, LocalDateTime>, Transaction> TRANSACTION = Records.mapping(Transaction::new);
+
+    private TransactionRows() {
+    }
+
+    public static SelectSelectStep<Record10<Long, Long, TransactionType, BigDecimal, LocalDate, Long, Long, String,
+            LocalDateTime, LocalDateTime>> select(DSLContext dsl) {
+        return dsl.select(
+                TRANSACTIONS.ID,
+                TRANSACTIONS.USER_ID,
+                TYPE,
+                TRANSACTIONS.AMOUNT,
+                TRANSACTIONS.TRANSACTION_DATE,
+                TRANSACTIONS.CATEGORY_ID,
+                TRANSACTIONS.BUCKET_ID,
+                TRANSACTIONS.NOTE,
+                TRANSACTIONS.CREATED_AT,
+                TRANSACTIONS.UPDATED_AT
+        );
+    }
+
+    /**
+     * Same row shape as select(dsl), narrowed to the columns the requested response fields need.
+     *
+     * NOTE and UPDATED_AT are read only when selected; a NULL literal takes their place otherwise.
+     * The remaining columns are required by Transaction's invariants and are all held by
+     * idx_transactions_user_date_covering, so a list page without the note can be answered from
+     * the index alone.
+     */
+    public static SelectSelectStep<Record10<Long, Long, TransactionType, BigDecimal, LocalDate, Long, Long, String,
+            LocalDateTime, LocalDateTime>> select(DSLContext dsl, Set<TransactionField> fields) {
+        Field<String> note = fields.contains(TransactionField.NOTE)
+                ? TRANSACTIONS.NOTE
+                : DSL.inline(null, TRANSACTIONS.NOTE);
+        Field<LocalDateTime> updatedAt = fields.contains(TransactionField.UPDATED_AT)
+                ? TRANSACTIONS.UPDATED_AT
+                : DSL.inline(null, TRANSACTIONS.UPDATED_AT);
+        return dsl.select(
+                TRANSACTIONS.ID,
+                TRANSACTIONS.USER_ID,
+                TYPE,
+                TRANSACTIONS.AMOUNT,
+                TRANSACTIONS.TRANSACTION_DATE,
+                TRANSACTIONS.CATEGORY_ID,
+                TRANSACTIONS.BUCKET_ID,
+                note,
+                TRANSACTIONS.CREATED_AT,
+                updatedAt
+        );
+    }
+
+    /**
+     * Maps a TransactionsRecord from INSERT/UPDATE ... RETURNING (single rows).
+     */
+    public static Transaction toTransaction(TransactionsRecord record) {
+        return new Transaction(
+                record.getId(),
+                record.getUserId(),
+                TYPES.parse(record.getType()),
+                record.getAmount(),
+                record.getTransactionDate(),
+                record.getCategoryId(),
+                record.getBucketId(),
+                record.getNote(),
+                record.getCreatedAt(),
+                record.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package com.sathira.miimoneypal.repository.mapping;
+
+import com.sathira.miimoneypal.jooq.tables.records.UsersRecord;
+import com.sathira.miimoneypal.records.user.User;
+import org.jooq.DSLContext;
+import org.jooq.Record6;
+import org.jooq.RecordMapper;
+import org.jooq.Records;
+import org.jooq.SelectSelectStep;
+
+import java.time.LocalDateTime;
+
+import static com.sathira.miimoneypal.jooq.tables.Users.USERS;
+
+/**
+ * Row mapping for users (see TransactionRows for the approach).
+ */
+public final class UserRows {
+
+    public static final RecordMapper<Record6<Long, String, String, String, LocalDateTime, LocalDateTime>, User> USER =
+            Records.mapping(User::new);
+
+    private UserRows() {
+    }
+
+    public static SelectSelectStep<Record6<Long, String, String, String, LocalDateTime, LocalDateTime>> select(
+            DSLContext dsl) {
+        return dsl.select(
+                USERS.ID,
+                USERS.EMAIL,
+                USERS.PASSWORD_HASH,
+                USERS.CURRENCY_SYMBOL,
+                USERS.CREATED_AT,
+                USERS.UPDATED_AT
+        );
+    }
+
+    /**
+     * Maps a UsersRecord from INSERT/UPDATE ... RETURNING (single rows).
+     */
+    public static User toUser(UsersRecord record) {
+        return new User(
+                record.getId(),
+                record.getEmail(),
+                record.getPasswordHash(),
+                record.getCurrencySymbol(),
+                record.getCreatedAt(),
+                record.getUpdatedAt()
+        );
+    }
+}
@@ -4,16 +4,21 @@ import com.sathira.miimoneypal.constants.EndPoints;
 import com.sathira.miimoneypal.rest.auth.login.LoginRequest;
 import com.sathira.miimoneypal.rest.auth.login.LoginResponse;
 import com.sathira.miimoneypal.rest.auth.login.LoginUseCase;
+import com.sathira.miimoneypal.rest.auth.logout.LogoutRequest;
+import com.sathira.miimoneypal.rest.auth.logout.LogoutResponse;
+import com.sathira.miimoneypal.rest.auth.logout.LogoutUseCase;
 import com.sathira.miimoneypal.rest.auth.refresh.RefreshRequest;
 import com.sathira.miimoneypal.rest.auth.refresh.RefreshResponse;
 import com.sathira.miimoneypal.rest.auth.refresh.RefreshUseCase;
 import com.sathira.miimoneypal.rest.auth.register.RegisterRequest;
 import com.sathira.miimoneypal.rest.auth.register.RegisterResponse;
 import com.sathira.miimoneypal.rest.auth.register.RegisterUseCase;
+import com.sathira.miimoneypal.security.AppUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -21,12 +26,13 @@ import org.springframework.web.bind.annotation.RestController;
 
 /**
  * REST controller for authentication endpoints.
- * All endpoints are public (configured in SecurityConfig).
+ * All endpoints except logout are public (configured in SecurityConfig).
  *
  * Endpoints:
  * - POST /api/auth/register - Create new user account
  * - POST /api/auth/login    - Authenticate and get tokens
- * - POST /api/auth/refresh  - Refresh access token
+ * - POST /api/auth/refresh  - Rotate refresh token and get new access token
+ * - POST /api/auth/logout   - Revoke the refresh token's session (authenticated)
  */
 @RestController
 @RequestMapping(EndPoints.AUTH)
@@ -36,6 +42,7 @@ public class AuthController {
     private final RegisterUseCase registerUseCase;
     private final LoginUseCase loginUseCase;
     private final RefreshUseCase refreshUseCase;
+    private final LogoutUseCase logoutUseCase;
 
     /**
      * Register a new user account.
@@ -63,13 +70,30 @@ public class AuthController {
 
     /**
      * Refresh access token using refresh token.
+     * The presented refresh token is spent; the response carries its replacement.
      *
      * @param request Refresh token
-     * @return New access token
+     * @return New access token and rotated refresh token
      */
     @PostMapping("/refresh")
     public ResponseEntity<RefreshResponse> refresh(@Valid @RequestBody RefreshRequest request) {
         RefreshResponse response = refreshUseCase.execute(request);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Revoke the session that the given refresh token belongs to.
+     *
+     * @param request Refresh token of the session to end
+     * @param user Authenticated user (from access token)
+     * @return Confirmation message
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<LogoutResponse> logout(
+            @Valid @RequestBody LogoutRequest request,
+            @AuthenticationPrincipal AppUser user
+    ) {
+        LogoutResponse response = logoutUseCase.execute(request, user);
+        return ResponseEntity.ok(response);
+    }
 }
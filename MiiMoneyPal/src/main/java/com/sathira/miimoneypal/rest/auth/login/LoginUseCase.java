@@ -5,6 +5,8 @@ import com.sathira.miimoneypal.records.user.User;
 import com.sathira.miimoneypal.repository.UserDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
 import com.sathira.miimoneypal.security.jwt.JwtTokenProvider;
+import com.sathira.miimoneypal.security.refresh.RefreshTokenService;
+import com.sathira.miimoneypal.security.ratelimit.AuthRateLimiter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -22,22 +24,30 @@ import org.springframework.stereotype.Service;
  * Error Handling:
  * - BadCredentialsException thrown by AuthenticationManager for invalid credentials
  * - Handled by GlobalExceptionHandler -> 401 Unauthorized
+ * - TooManyRequestsException when the email exceeds its login rate -> 429
  */
 @Service
 @RequiredArgsConstructor
 public class LoginUseCase implements UseCase<LoginRequest, LoginResponse> {
 
     private final AuthenticationManager authenticationManager;
+    private final AuthRateLimiter authRateLimiter;
     private final UserDataAccess userDataAccess;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
     private final LoginResponseBuilder responseBuilder;
 
     @Override
     public LoginResponse execute(LoginRequest request) {
+        String email = request.email().toLowerCase().trim();
+
+        // 0. Per-account rate limit before any BCrypt work (throws TooManyRequestsException)
+        authRateLimiter.checkEmail(email);
+
         // 1. Authenticate via Spring Security (throws BadCredentialsException if invalid)
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
-                        request.email().toLowerCase().trim(),
+                        email,
                         request.password()
                 )
         );
@@ -46,12 +56,13 @@ public class LoginUseCase implements UseCase<LoginRequest, LoginResponse> {
         AppUser appUser = (AppUser) authentication.getPrincipal();
 
         // 3. Fetch full user record for response (includes currencySymbol)
+        //    Served from UserCache - loadUserByUsername just loaded this user
         User user = userDataAccess.findById(appUser.getId())
                 .orElseThrow(); // Should never happen after successful auth
 
-        // 4. Generate JWT tokens
+        // 4. Generate JWT tokens (refresh token starts a new server-tracked family)
         String accessToken = jwtTokenProvider.generateAccessToken(appUser);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(appUser);
+        String refreshToken = refreshTokenService.issue(appUser);
 
         // 5. Build and return response
         return responseBuilder.build(user, accessToken, refreshToken);
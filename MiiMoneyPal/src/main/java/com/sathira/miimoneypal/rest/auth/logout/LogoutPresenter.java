@@ -0,0 +1,15 @@
+package com.sathira.miimoneypal.rest.auth.logout;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Presenter for logout response.
+ */
+@Component
+public class LogoutPresenter implements LogoutResponseBuilder {
+
+    @Override
+    public LogoutResponse build() {
+        return new LogoutResponse("Logged out successfully");
+    }
+}
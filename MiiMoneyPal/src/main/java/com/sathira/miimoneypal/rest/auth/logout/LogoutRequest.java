@@ -0,0 +1,12 @@
+package com.sathira.miimoneypal.rest.auth.logout;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Request DTO for logout.
+ * The refresh token identifies the session (token family) to revoke.
+ */
+public record LogoutRequest(
+    @NotBlank(message = "Refresh token is required")
+    String refreshToken
+) {}
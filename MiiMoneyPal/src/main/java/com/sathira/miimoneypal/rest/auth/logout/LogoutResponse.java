@@ -0,0 +1,10 @@
+package com.sathira.miimoneypal.rest.auth.logout;
+
+import com.sathira.miimoneypal.models.response.ApiResponse;
+
+/**
+ * Response DTO for logout.
+ */
+public record LogoutResponse(
+    String message
+) implements ApiResponse {}
@@ -0,0 +1,8 @@
+package com.sathira.miimoneypal.rest.auth.logout;
+
+/**
+ * Interface for building logout response.
+ */
+public interface LogoutResponseBuilder {
+    LogoutResponse build();
+}
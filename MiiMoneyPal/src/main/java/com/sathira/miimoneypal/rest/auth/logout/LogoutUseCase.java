@@ -0,0 +1,59 @@
+package com.sathira.miimoneypal.rest.auth.logout;
+
+import com.sathira.miimoneypal.architecture.AuthenticatedUseCase;
+import com.sathira.miimoneypal.exception.BadRequestException;
+import com.sathira.miimoneypal.security.AppUser;
+import com.sathira.miimoneypal.security.denylist.AccessTokenDenylist;
+import com.sathira.miimoneypal.security.jwt.JwtTokenProvider;
+import com.sathira.miimoneypal.security.jwt.RefreshTokenClaims;
+import com.sathira.miimoneypal.security.refresh.RefreshTokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Use case for logout.
+ *
+ * Business Rules:
+ * 1. Refresh token must be a valid refresh token
+ * 2. Refresh token must belong to the authenticated user
+ * 3. The token's whole family is revoked, so neither it nor any token rotated from it can be used again
+ * 4. The access token used for this request is denylisted until it expires
+ * 5. Logging out an already revoked session succeeds (idempotent)
+ */
+@Service
+@RequiredArgsConstructor
+public class LogoutUseCase implements AuthenticatedUseCase<LogoutRequest, LogoutResponse> {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final LogoutResponseBuilder responseBuilder;
+
+    @Override
+    public LogoutResponse execute(LogoutRequest request, AppUser user) {
+        String refreshToken = request.refreshToken();
+
+        // 1. Validate token
+        if (!jwtTokenProvider.validateToken(refreshToken) || !jwtTokenProvider.isRefreshToken(refreshToken)) {
+            throw new BadRequestException("Invalid refresh token");
+        }
+
+        // 2. Verify ownership
+        RefreshTokenClaims claims = jwtTokenProvider.getRefreshClaims(refreshToken);
+        if (!user.getId().equals(claims.userId())) {
+            throw new BadRequestException("Refresh token does not belong to the current user");
+        }
+
+        // 3. Revoke the family (legacy untracked tokens have nothing to revoke)
+        if (claims.isTracked()) {
+            refreshTokenService.revokeFamily(claims.familyId(), user.getId());
+        }
+
+        // 4. Denylist the current access token (tokens issued before jti was added cannot be)
+        if (user.getTokenId() != null && user.getTokenExpiresAt() != null) {
+            accessTokenDenylist.revoke(user.getTokenId(), user.getTokenExpiresAt());
+        }
+
+        return responseBuilder.build();
+    }
+}
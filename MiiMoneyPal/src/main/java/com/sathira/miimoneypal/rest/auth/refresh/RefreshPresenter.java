@@ -10,15 +10,18 @@ import org.springframework.stereotype.Component;
 public class RefreshPresenter implements RefreshResponseBuilder {
 
     private final long accessTokenExpiration;
+    private final long refreshTokenExpiration;
 
     public RefreshPresenter(
-            @Value("${jwt.access-token-expiration:86400000}") long accessTokenExpiration
+            @Value("${jwt.access-token-expiration:86400000}") long accessTokenExpiration,
+            @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpiration
     ) {
         this.accessTokenExpiration = accessTokenExpiration;
+        this.refreshTokenExpiration = refreshTokenExpiration;
     }
 
     @Override
-    public RefreshResponse build(String accessToken) {
-        return new RefreshResponse(accessToken, accessTokenExpiration);
+    public RefreshResponse build(String accessToken, String refreshToken) {
+        return new RefreshResponse(accessToken, accessTokenExpiration, refreshToken, refreshTokenExpiration);
     }
 }
@@ -4,9 +4,12 @@ import com.sathira.miimoneypal.models.response.ApiResponse;
 
 /**
  * Response DTO for successful token refresh.
- * Returns new access token (refresh token unchanged).
+ * Returns a new access token and the rotated refresh token; the presented
+ * refresh token is spent and must not be used again.
  */
 public record RefreshResponse(
     String accessToken,
-    Long accessTokenExpiresIn
+    Long accessTokenExpiresIn,
+    String refreshToken,
+    Long refreshTokenExpiresIn
 ) implements ApiResponse {}
@@ -4,5 +4,5 @@ package com.sathira.miimoneypal.rest.auth.refresh;
  * Interface for building refresh response.
  */
 public interface RefreshResponseBuilder {
-    RefreshResponse build(String accessToken);
+    RefreshResponse build(String accessToken, String refreshToken);
 }
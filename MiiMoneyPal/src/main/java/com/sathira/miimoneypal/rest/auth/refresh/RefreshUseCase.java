@@ -2,14 +2,22 @@ package com.sathira.miimoneypal.rest.auth.refresh;
 
 import com.sathira.miimoneypal.architecture.UseCase;
 import com.sathira.miimoneypal.exception.BadRequestException;
+import com.sathira.miimoneypal.records.auth.RefreshToken;
 import com.sathira.miimoneypal.records.user.User;
+import com.sathira.miimoneypal.repository.RefreshTokenDataAccess;
 import com.sathira.miimoneypal.repository.UserDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
 import com.sathira.miimoneypal.security.Role;
 import com.sathira.miimoneypal.security.jwt.JwtTokenProvider;
+import com.sathira.miimoneypal.security.jwt.RefreshTokenClaims;
+import com.sathira.miimoneypal.security.refresh.RefreshTokenService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 /**
  * Use case for refreshing access token.
@@ -18,20 +26,26 @@ import org.springframework.stereotype.Service;
  * 1. Refresh token must be valid (not expired, correct signature)
  * 2. Token must be of type "refresh" (not an access token)
  * 3. User must still exist in the database
- * 4. Returns new access token (refresh token is NOT rotated)
+ * 4. Token family must not be revoked (logout / earlier reuse)
+ * 5. Refresh token is rotated: the presented token is spent and a new one in the same family is returned
+ * 6. Presenting an already-rotated token is reuse: the whole family is revoked
  *
- * Security Note: Refresh token rotation (returning new refresh token each time)
- * is a V2 enhancement for better security. MVP uses simpler approach.
+ * Transaction: rotation and issuing the new token commit together. The family
+ * revocation on reuse is kept even though the request then fails.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefreshUseCase implements UseCase<RefreshRequest, RefreshResponse> {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDataAccess userDataAccess;
+    private final RefreshTokenDataAccess refreshTokenDataAccess;
+    private final RefreshTokenService refreshTokenService;
     private final RefreshResponseBuilder responseBuilder;
 
     @Override
+    @Transactional(noRollbackFor = BadCredentialsException.class)
     public RefreshResponse execute(RefreshRequest request) {
         String refreshToken = request.refreshToken();
 
@@ -45,12 +59,26 @@ public class RefreshUseCase implements UseCase<RefreshRequest, RefreshResponse>
             throw new BadRequestException("Token is not a refresh token");
         }
 
-        // 3. Extract user ID and verify user still exists
-        Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
-        User user = userDataAccess.findById(userId)
+        // 3. Extract claims and verify user still exists
+        RefreshTokenClaims claims = jwtTokenProvider.getRefreshClaims(refreshToken);
+        User user = userDataAccess.findById(claims.userId())
                 .orElseThrow(() -> new BadCredentialsException("User not found"));
 
-        // 4. Generate new access token
+        if (!claims.isTracked()) {
+            throw new BadCredentialsException("Refresh token is no longer supported, please log in again");
+        }
+
+        // 4. Revoked family? In-memory filter first; the store is only read on a possible hit
+        if (refreshTokenService.isFamilyRevoked(claims.familyId())) {
+            throw new BadCredentialsException("Refresh token has been revoked");
+        }
+
+        // 5. Spend the presented token (conditional UPDATE - no prior read)
+        String tokenHash = RefreshTokenService.hash(claims.tokenId());
+        RefreshToken spent = refreshTokenDataAccess.markRotated(tokenHash, LocalDateTime.now())
+                .orElseThrow(() -> rejectUnusableToken(tokenHash));
+
+        // 6. Issue new access token and rotated refresh token
         AppUser appUser = AppUser.builder()
                 .id(user.id())
                 .email(user.email())
@@ -59,8 +87,25 @@ public class RefreshUseCase implements UseCase<RefreshRequest, RefreshResponse>
                 .build();
 
         String newAccessToken = jwtTokenProvider.generateAccessToken(appUser);
+        String newRefreshToken = refreshTokenService.issue(appUser, spent.familyId());
+
+        // 7. Build and return response
+        return responseBuilder.build(newAccessToken, newRefreshToken);
+    }
 
-        // 5. Build and return response
-        return responseBuilder.build(newAccessToken);
+    /**
+     * The token could not be rotated. If it was already rotated, someone is replaying it:
+     * revoke the family so both the thief and the legitimate client must log in again.
+     */
+    private BadCredentialsException rejectUnusableToken(String tokenHash) {
+        return refreshTokenDataAccess.findByTokenHash(tokenHash)
+                .filter(token -> token.isRotated() && !token.isRevoked())
+                .map(token -> {
+                    log.warn("Refresh token reuse detected for user {} (family {}) - revoking family",
+                            token.userId(), token.familyId());
+                    refreshTokenService.revokeFamily(token.familyId(), token.userId());
+                    return new BadCredentialsException("Refresh token reuse detected, please log in again");
+                })
+                .orElseGet(() -> new BadCredentialsException("Refresh token has been revoked or expired"));
     }
 }
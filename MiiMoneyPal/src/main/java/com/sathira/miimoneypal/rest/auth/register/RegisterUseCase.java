@@ -6,6 +6,9 @@ import com.sathira.miimoneypal.repository.UserDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
 import com.sathira.miimoneypal.security.Role;
 import com.sathira.miimoneypal.security.jwt.JwtTokenProvider;
+import com.sathira.miimoneypal.security.refresh.RefreshTokenService;
+import com.sathira.miimoneypal.security.ratelimit.AuthRateLimiter;
+import com.sathira.miimoneypal.service.CategorySeederService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -19,25 +22,35 @@ import org.springframework.transaction.annotation.Transactional;
  * 2. Password is hashed with BCrypt before storage
  * 3. Returns JWT tokens for immediate login after registration
  * 4. Default currency is LKR if not specified
+ * 5. Default categories (incl. system "Opening Balance") are seeded in the same transaction
+ * 6. Registrations are rate limited per email (429 when exceeded)
  */
 @Service
 @RequiredArgsConstructor
 public class RegisterUseCase implements UseCase<RegisterRequest, RegisterResponse> {
 
     private final UserDataAccess userDataAccess;
+    private final CategorySeederService categorySeederService;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final AuthRateLimiter authRateLimiter;
     private final RegisterResponseBuilder responseBuilder;
 
     @Override
     @Transactional
     public RegisterResponse execute(RegisterRequest request) {
+        String email = request.email().toLowerCase().trim();
+
+        // 0. Per-email rate limit before BCrypt (throws TooManyRequestsException)
+        authRateLimiter.checkEmail(email);
+
         // 1. Hash password with BCrypt
         String passwordHash = passwordEncoder.encode(request.password());
 
         // 2. Create user domain object
         User newUser = User.builder()
-                .email(request.email().toLowerCase().trim())
+                .email(email)
                 .passwordHash(passwordHash)
                 .currencySymbol(request.currencySymbol())  // null defaults to LKR in User record
                 .build();
@@ -45,7 +58,10 @@ public class RegisterUseCase implements UseCase<RegisterRequest, RegisterRespons
         // 3. Save user (throws DuplicateResourceException if email exists)
         User savedUser = userDataAccess.save(newUser);
 
-        // 4. Generate JWT tokens for immediate login
+        // 4. Seed default categories (single multi-row INSERT)
+        categorySeederService.seedDefaults(savedUser.id());
+
+        // 5. Generate JWT tokens (refresh token starts a new server-tracked family) for immediate login
         AppUser appUser = AppUser.builder()
                 .id(savedUser.id())
                 .email(savedUser.email())
@@ -54,9 +70,9 @@ public class RegisterUseCase implements UseCase<RegisterRequest, RegisterRespons
                 .build();
 
         String accessToken = jwtTokenProvider.generateAccessToken(appUser);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(appUser);
+        String refreshToken = refreshTokenService.issue(appUser);
 
-        // 5. Build and return response
+        // 6. Build and return response
         return responseBuilder.build(savedUser, accessToken, refreshToken);
     }
 }
@@ -0,0 +1,44 @@
+package com.sathira.miimoneypal.rest.batch;
+
+import com.sathira.miimoneypal.constants.EndPoints;
+import com.sathira.miimoneypal.security.AppUser;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller for batched reads.
+ * Requires authentication (JWT token), checked once for the whole batch.
+ *
+ * Endpoints:
+ * - POST /api/batch - Run up to 10 GET sub-requests in one round trip
+ */
+@RestController
+@RequestMapping(EndPoints.BATCH)
+@RequiredArgsConstructor
+public class BatchController {
+
+    private final BatchUseCase batchUseCase;
+
+    /**
+     * Run several GET sub-requests concurrently and return their responses in order.
+     * The batch itself returns 200; each item carries its own status and body.
+     *
+     * @param request Sub-requests (optional id, method, path with query string)
+     * @param user    Authenticated user (injected by Spring Security)
+     * @return One response item per sub-request
+     */
+    @PostMapping
+    public ResponseEntity<BatchResponse> batch(
+            @Valid @RequestBody BatchRequest request,
+            @AuthenticationPrincipal AppUser user
+    ) {
+        BatchResponse response = batchUseCase.execute(request, user);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,37 @@
+package com.sathira.miimoneypal.rest.batch;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request DTO for POST /api/batch.
+ * Several read requests answered in one round trip (app start: categories, recent transactions, ...).
+ */
+public record BatchRequest(
+        @NotEmpty(message = "At least one sub-request is required")
+        @Size(max = 10, message = "A batch must not exceed 10 sub-requests")
+        List<@Valid Item> requests
+) {
+
+    /**
+     * A single sub-request, addressed like the endpoint it targets.
+     */
+    public record Item(
+            String id,                  // Optional: echoed back in the response item
+            String method,              // Optional: only GET is supported (default: GET)
+
+            @NotBlank(message = "Path is required")
+            String path                 // Endpoint path and query, e.g. /api/transactions?limit=20
+    ) {
+        /**
+         * Constructor with default value for method.
+         */
+        public Item {
+            method = (method != null) ? method : "GET";
+        }
+    }
+}
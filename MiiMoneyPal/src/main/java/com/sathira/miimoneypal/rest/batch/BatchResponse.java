@@ -0,0 +1,28 @@
+package com.sathira.miimoneypal.rest.batch;
+
+import com.sathira.miimoneypal.models.response.ApiResponse;
+
+import java.util.List;
+
+/**
+ * Response DTO for POST /api/batch.
+ * One item per sub-request, in request order; each carries its own status.
+ */
+public record BatchResponse(
+        List<Item> responses
+) implements ApiResponse {
+
+    /**
+     * Outcome of a single sub-request.
+     *
+     * @param id     The sub-request's id, if it had one
+     * @param status HTTP status the endpoint would have returned on its own
+     * @param body   The endpoint's response, or an ErrorResponse
+     */
+    public record Item(
+            String id,
+            int status,
+            ApiResponse body
+    ) {
+    }
+}
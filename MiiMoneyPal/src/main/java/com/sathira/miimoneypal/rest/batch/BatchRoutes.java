@@ -0,0 +1,165 @@
+package com.sathira.miimoneypal.rest.batch;
+
+import com.sathira.miimoneypal.concurrency.Bulkhead;
+import com.sathira.miimoneypal.concurrency.TimeBudget;
+import com.sathira.miimoneypal.constants.EndPoints;
+import com.sathira.miimoneypal.models.request.RequestParameters;
+import com.sathira.miimoneypal.models.response.ApiResponse;
+import com.sathira.miimoneypal.rest.categories.CategoryController;
+import com.sathira.miimoneypal.rest.categories.get.GetCategoryRequest;
+import com.sathira.miimoneypal.rest.categories.get.GetCategoryUseCase;
+import com.sathira.miimoneypal.rest.categories.list.ListCategoriesRequest;
+import com.sathira.miimoneypal.rest.categories.list.ListCategoriesUseCase;
+import com.sathira.miimoneypal.rest.transactions.TransactionController;
+import com.sathira.miimoneypal.rest.transactions.get.GetTransactionRequest;
+import com.sathira.miimoneypal.rest.transactions.get.GetTransactionUseCase;
+import com.sathira.miimoneypal.rest.transactions.list.ListTransactionsRequest;
+import com.sathira.miimoneypal.rest.transactions.list.ListTransactionsUseCase;
+import com.sathira.miimoneypal.security.AppUser;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Read endpoints that can be called from a batch, addressed by their REST paths.
+ *
+ * <p>Each route calls the same use case as its controller method and builds its request with
+ * the same factory ({@code from(RequestParameters)} on the request DTO), converting with MVC's
+ * conversion service, so a sub-request accepts exactly what the endpoint accepts on its own.
+ * Only side-effect-free GETs are listed, which is what lets sub-requests run concurrently in
+ * any order.</p>
+ *
+ * <p>Each route also names its controller method, whose {@link TimeBudget} and {@link Bulkhead}
+ * (method, then class) the sub-request runs under, as it would on its own.</p>
+ */
+@Component
+public class BatchRoutes {
+
+    private final ConversionService conversionService;
+    private final List<Route> routes;
+
+    public BatchRoutes(
+            GetTransactionUseCase getTransactionUseCase,
+            ListTransactionsUseCase listTransactionsUseCase,
+            GetCategoryUseCase getCategoryUseCase,
+            ListCategoriesUseCase listCategoriesUseCase,
+            @Qualifier("mvcConversionService") ConversionService conversionService
+    ) {
+        this.conversionService = conversionService;
+        this.routes = List.of(
+                route(EndPoints.TRANSACTIONS_BY_ID, TransactionController.class, "getTransaction",
+                        (params, user) -> getTransactionUseCase.execute(GetTransactionRequest.from(params), user)),
+                route(EndPoints.TRANSACTIONS, TransactionController.class, "listTransactions",
+                        (params, user) -> listTransactionsUseCase.execute(ListTransactionsRequest.from(params), user)),
+                route(EndPoints.CATEGORIES_BY_ID, CategoryController.class, "getCategory",
+                        (params, user) -> getCategoryUseCase.execute(GetCategoryRequest.from(params), user)),
+                route(EndPoints.CATEGORIES, CategoryController.class, "listCategories",
+                        (params, user) -> listCategoriesUseCase.execute(ListCategoriesRequest.from(params), user))
+        );
+    }
+
+    /**
+     * Binds a sub-request path (with optional query string) to its use case.
+     *
+     * @return The call to run, or null when no batchable endpoint matches the path
+     */
+    Call resolve(String pathAndQuery) {
+        UriComponents uri = UriComponentsBuilder.fromUriString(pathAndQuery).build();
+        PathContainer path = PathContainer.parsePath(uri.getPath() != null ? uri.getPath() : "");
+        for (Route route : routes) {
+            PathPattern.PathMatchInfo match = route.pattern().matchAndExtract(path);
+            if (match != null) {
+                return new Call(route, new RequestParameters(
+                        match.getUriVariables(), decode(uri.getQueryParams()), conversionService));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Query parameters as the servlet container would present them: decoded, "" for a name without value.
+     */
+    private static MultiValueMap<String, String> decode(MultiValueMap<String, String> raw) {
+        MultiValueMap<String, String> decoded = new LinkedMultiValueMap<>();
+        raw.forEach((name, values) -> values.forEach(value -> decoded.add(
+                URLDecoder.decode(name, StandardCharsets.UTF_8),
+                value != null ? URLDecoder.decode(value, StandardCharsets.UTF_8) : "")));
+        return decoded;
+    }
+
+    private static Route route(String pattern, Class<?> controller, String method, Handler handler) {
+        Method endpoint = ReflectionUtils.findMethod(controller, method, (Class<?>[]) null);
+        if (endpoint == null) {
+            throw new IllegalStateException("No handler method " + controller.getSimpleName() + "." + method);
+        }
+        TimeBudget budget = annotation(endpoint, TimeBudget.class);
+        Bulkhead bulkhead = annotation(endpoint, Bulkhead.class);
+        return new Route(
+                PathPatternParser.defaultInstance.parse(pattern),
+                handler,
+                budget != null ? budget.millis() : 0,
+                bulkhead != null ? bulkhead.value() : Bulkhead.INTERACTIVE);
+    }
+
+    private static <A extends Annotation> A annotation(Method method, Class<A> type) {
+        A annotation = method.getAnnotation(type);
+        return annotation != null ? annotation : method.getDeclaringClass().getAnnotation(type);
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        ApiResponse handle(RequestParameters params, AppUser user);
+    }
+
+    /**
+     * @param budgetMillis The endpoint's time budget, or 0 when it has none (the batch's deadline applies)
+     */
+    private record Route(PathPattern pattern, Handler handler, long budgetMillis, String bulkhead) {
+    }
+
+    /**
+     * A sub-request matched to its route, ready to run as a given user.
+     */
+    static final class Call {
+
+        private final Route route;
+        private final RequestParameters params;
+
+        private Call(Route route, RequestParameters params) {
+            this.route = route;
+            this.params = params;
+        }
+
+        ApiResponse execute(AppUser user) {
+            return route.handler().handle(params, user);
+        }
+
+        /**
+         * The endpoint's {@link TimeBudget} in milliseconds, or 0 when it has none.
+         */
+        long budgetMillis() {
+            return route.budgetMillis();
+        }
+
+        /**
+         * Name of the endpoint's {@link Bulkhead}.
+         */
+        String bulkhead() {
+            return route.bulkhead();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.sathira.miimoneypal.rest.batch;
+
+import com.sathira.miimoneypal.architecture.AuthenticatedUseCase;
+import com.sathira.miimoneypal.concurrency.AdaptiveBulkhead;
+import com.sathira.miimoneypal.concurrency.Bulkheads;
+import com.sathira.miimoneypal.concurrency.RequestDeadline;
+import com.sathira.miimoneypal.exception.BadRequestException;
+import com.sathira.miimoneypal.exception.GlobalExceptionHandler;
+import com.sathira.miimoneypal.exception.ResourceNotFoundException;
+import com.sathira.miimoneypal.models.response.ApiResponse;
+import com.sathira.miimoneypal.observability.RequestQueryStats;
+import com.sathira.miimoneypal.security.AppUser;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * UseCase for answering several read requests in one round trip.
+ *
+ * Business Rules:
+ * - Only GET sub-requests to batchable endpoints (BatchRoutes); anything else fails on its own
+ * - Sub-requests are independent: they run concurrently on virtual threads (at most
+ *   batch.max-concurrency at once) and a failing one does not affect the others
+ * - Each item gets the status and body its endpoint would have returned, errors mapped by
+ *   GlobalExceptionHandler (a 500 item if the matching handler cannot be called), in request order
+ * - Each sub-request runs under its endpoint's @TimeBudget (never past the batch's deadline) and
+ *   holds a permit of its endpoint's @Bulkhead, so a batch counts like the requests it replaces
+ *
+ * The caller is authenticated once for the whole batch (JwtAuthenticationFilter on POST /api/batch);
+ * every sub-request runs as that user, in its own transaction. Its statements count towards the
+ * batch's RequestQueryStats.
+ */
+@Slf4j
+@Service
+public class BatchUseCase implements AuthenticatedUseCase<BatchRequest, BatchResponse> {
+
+    private final BatchRoutes routes;
+    private final GlobalExceptionHandler exceptionHandler;
+    private final ExceptionHandlerMethodResolver exceptionHandlerMethods;
+    private final Bulkheads bulkheads;
+    private final int maxConcurrency;
+
+    public BatchUseCase(
+            BatchRoutes routes,
+            GlobalExceptionHandler exceptionHandler,
+            ObjectProvider<Bulkheads> bulkheads,
+            @Value("${batch.max-concurrency:4}") int maxConcurrency
+    ) {
+        this.routes = routes;
+        this.exceptionHandler = exceptionHandler;
+        this.exceptionHandlerMethods = new ExceptionHandlerMethodResolver(ClassUtils.getUserClass(exceptionHandler));
+        this.bulkheads = bulkheads.getIfAvailable();
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public BatchResponse execute(BatchRequest request, AppUser user) {
+        // 1. Capture what the sub-request threads need from the request thread
+        HttpServletRequest batchRequest = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
+                .getRequest();
+        RequestDeadline deadline = RequestDeadline.current();
+        RequestQueryStats stats = RequestQueryStats.current();
+        Semaphore slots = new Semaphore(maxConcurrency);
+
+        // 2. Run every sub-request on its own virtual thread; close() waits for all of them
+        List<Future<BatchResponse.Item>> results = new ArrayList<>(request.requests().size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (BatchRequest.Item item : request.requests()) {
+                Supplier<BatchResponse.Item> task = () -> run(item, user, batchRequest, slots);
+                Supplier<BatchResponse.Item> bound = deadline != null ? deadline.wrap(task) : task;
+                Supplier<BatchResponse.Item> counted = stats != null ? stats.wrap(bound) : bound;
+                results.add(executor.submit(counted::get));
+            }
+        }
+
+        // 3. Collect in request order (run() never throws)
+        return new BatchResponse(results.stream().map(Future::resultNow).toList());
+    }
+
+    private BatchResponse.Item run(BatchRequest.Item item, AppUser user, HttpServletRequest batchRequest,
+                                   Semaphore slots) {
+        slots.acquireUninterruptibly();
+        try {
+            BatchRoutes.Call call = resolve(item);
+            Supplier<BatchResponse.Item> endpoint = () -> runInBulkhead(item, call, user, batchRequest);
+            RequestDeadline deadline = RequestDeadline.current();
+            if (deadline != null && call.budgetMillis() > 0) {
+                endpoint = deadline.within(call.budgetMillis()).wrap(endpoint);
+            }
+            return endpoint.get();
+        } catch (Exception e) {
+            return error(item, e, batchRequest);
+        } finally {
+            slots.release();
+        }
+    }
+
+    /**
+     * Runs the call holding a permit of its endpoint's bulkhead, released with the outcome
+     * the interceptor would have reported (5xx counts as dropped).
+     */
+    private BatchResponse.Item runInBulkhead(BatchRequest.Item item, BatchRoutes.Call call, AppUser user,
+                                             HttpServletRequest batchRequest) {
+        AdaptiveBulkhead.Permit permit = bulkheads != null ? bulkheads.get(call.bulkhead()).acquire() : null;
+        BatchResponse.Item result = null;
+        try {
+            result = new BatchResponse.Item(item.id(), HttpStatus.OK.value(), call.execute(user));
+        } catch (Exception e) {
+            result = error(item, e, batchRequest);
+        } finally {
+            if (permit != null) {
+                permit.release(result != null && result.status() < 500);
+            }
+        }
+        return result;
+    }
+
+    private BatchRoutes.Call resolve(BatchRequest.Item item) {
+        if (!HttpMethod.GET.matches(item.method())) {
+            throw new BadRequestException("Only GET sub-requests can be batched");
+        }
+        BatchRoutes.Call call = routes.resolve(item.path());
+        if (call == null) {
+            throw new ResourceNotFoundException("No batchable endpoint matches " + item.path());
+        }
+        return call;
+    }
+
+    /**
+     * Maps the failure through the same @ExceptionHandler the endpoint would have used,
+     * with the sub-request's path in the error body.
+     */
+    private BatchResponse.Item error(BatchRequest.Item item, Exception ex, HttpServletRequest batchRequest) {
+        ResponseEntity<?> response = handle(ex, subRequest(batchRequest, item.path()));
+        return new BatchResponse.Item(item.id(), response.getStatusCode().value(), (ApiResponse) response.getBody());
+    }
+
+    /**
+     * Calls the handler as {@code (exception, WebRequest)}. A handler declared otherwise, or one
+     * that fails, would lose the item (and with it the batch), so it is answered by the catch-all
+     * 500 handler instead.
+     */
+    private ResponseEntity<?> handle(Exception ex, WebRequest request) {
+        Method handler = exceptionHandlerMethods.resolveMethod(ex);
+        if (handler != null) {
+            try {
+                if (ReflectionUtils.invokeMethod(handler, exceptionHandler, ex, request)
+                        instanceof ResponseEntity<?> response && response.getBody() instanceof ApiResponse) {
+                    return response;
+                }
+                log.error("Exception handler {} returned no ApiResponse for {}",
+                        handler.getName(), ex.getClass().getName());
+            } catch (RuntimeException e) {
+                log.error("Exception handler {} could not map {}", handler.getName(), ex.getClass().getName(), e);
+            }
+        }
+        return exceptionHandler.handleAllOtherExceptions(ex, request);
+    }
+
+    private static WebRequest subRequest(HttpServletRequest batchRequest, String path) {
+        String requestUri = UriComponentsBuilder.fromUriString(path).build().getPath();
+        return new ServletWebRequest(new HttpServletRequestWrapper(batchRequest) {
+            @Override
+            public String getRequestURI() {
+                return requestUri;
+            }
+        });
+    }
+}
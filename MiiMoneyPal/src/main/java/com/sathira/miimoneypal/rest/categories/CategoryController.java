@@ -1,7 +1,7 @@
 package com.sathira.miimoneypal.rest.categories;
 
 import com.sathira.miimoneypal.constants.EndPoints;
-import com.sathira.miimoneypal.records.category.CategoryType;
+import com.sathira.miimoneypal.models.request.RequestParameters;
 import com.sathira.miimoneypal.rest.categories.delete.DeleteCategoryRequest;
 import com.sathira.miimoneypal.rest.categories.delete.DeleteCategoryResponse;
 import com.sathira.miimoneypal.rest.categories.delete.DeleteCategoryUseCase;
@@ -11,6 +11,12 @@ import com.sathira.miimoneypal.rest.categories.get.GetCategoryUseCase;
 import com.sathira.miimoneypal.rest.categories.list.ListCategoriesRequest;
 import com.sathira.miimoneypal.rest.categories.list.ListCategoriesResponse;
 import com.sathira.miimoneypal.rest.categories.list.ListCategoriesUseCase;
+import com.sathira.miimoneypal.rest.categories.merge.MergeCategoryRequest;
+import com.sathira.miimoneypal.rest.categories.merge.MergeCategoryResponse;
+import com.sathira.miimoneypal.rest.categories.merge.MergeCategoryUseCase;
+import com.sathira.miimoneypal.rest.categories.mergejob.GetMergeJobRequest;
+import com.sathira.miimoneypal.rest.categories.mergejob.GetMergeJobResponse;
+import com.sathira.miimoneypal.rest.categories.mergejob.GetMergeJobUseCase;
 import com.sathira.miimoneypal.rest.categories.post.PostCategoryRequest;
 import com.sathira.miimoneypal.rest.categories.post.PostCategoryResponse;
 import com.sathira.miimoneypal.rest.categories.post.PostCategoryUseCase;
@@ -41,6 +47,8 @@ public class CategoryController {
     private final ListCategoriesUseCase listCategoriesUseCase;
     private final PutCategoryUseCase putCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
+    private final MergeCategoryUseCase mergeCategoryUseCase;
+    private final GetMergeJobUseCase getMergeJobUseCase;
 
     /**
      * Create a new category.
@@ -63,17 +71,17 @@ public class CategoryController {
      * Get a single category by ID.
      * GET /api/categories/{id}
      *
-     * @param id The category ID
+     * @param params The category ID path variable, bound by GetCategoryRequest.from
      * @param user The authenticated user
      * @return 200 OK with the category, or 404 if not found
      */
     @GetMapping("/{id}")
     public ResponseEntity<GetCategoryResponse> getCategory(
-            @PathVariable Long id,
+            RequestParameters params,
             @AuthenticationPrincipal AppUser user
     ) {
         GetCategoryResponse response = getCategoryUseCase.execute(
-                new GetCategoryRequest(id),
+                GetCategoryRequest.from(params),
                 user
         );
         return ResponseEntity.ok(response);
@@ -87,19 +95,17 @@ public class CategoryController {
      * - type: Filter by INCOME or EXPENSE
      * - includeArchived: Include archived categories (default: false)
      *
-     * @param type Optional category type filter
-     * @param includeArchived Whether to include archived categories
+     * @param params The query parameters above, bound by ListCategoriesRequest.from
      * @param user The authenticated user
      * @return 200 OK with the list of categories
      */
     @GetMapping
     public ResponseEntity<ListCategoriesResponse> listCategories(
-            @RequestParam(required = false) CategoryType type,
-            @RequestParam(required = false) Boolean includeArchived,
+            RequestParameters params,
             @AuthenticationPrincipal AppUser user
     ) {
         ListCategoriesResponse response = listCategoriesUseCase.execute(
-                new ListCategoriesRequest(type, includeArchived),
+                ListCategoriesRequest.from(params),
                 user
         );
         return ResponseEntity.ok(response);
@@ -155,4 +161,49 @@ public class CategoryController {
         );
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Merge a category into another category of the same type.
+     * POST /api/categories/{id}/merge
+     *
+     * Archives the source and starts a background job that moves its transactions to the
+     * target in bounded chunks, then deletes the source. Poll the job for progress.
+     *
+     * @param id The source category ID
+     * @param request The merge request (target category ID)
+     * @param user The authenticated user
+     * @return 202 Accepted with the merge job ID
+     */
+    @PostMapping("/{id}/merge")
+    public ResponseEntity<MergeCategoryResponse> mergeCategory(
+            @PathVariable Long id,
+            @Valid @RequestBody MergeCategoryRequest request,
+            @AuthenticationPrincipal AppUser user
+    ) {
+        MergeCategoryResponse response = mergeCategoryUseCase.execute(
+                new MergeCategoryRequest(id, request.targetCategoryId()),
+                user
+        );
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Get the status and progress of a category merge.
+     * GET /api/categories/merge-jobs/{jobId}
+     *
+     * @param jobId The merge job ID
+     * @param user The authenticated user
+     * @return 200 OK with status, transactions moved and remaining
+     */
+    @GetMapping("/merge-jobs/{jobId}")
+    public ResponseEntity<GetMergeJobResponse> getMergeJob(
+            @PathVariable Long jobId,
+            @AuthenticationPrincipal AppUser user
+    ) {
+        GetMergeJobResponse response = getMergeJobUseCase.execute(
+                new GetMergeJobRequest(jobId),
+                user
+        );
+        return ResponseEntity.ok(response);
+    }
 }
@@ -4,6 +4,8 @@ import com.sathira.miimoneypal.architecture.AuthenticatedUseCase;
 import com.sathira.miimoneypal.exception.BusinessRuleException;
 import com.sathira.miimoneypal.exception.ResourceNotFoundException;
 import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteCategoryUseCase implements AuthenticatedUseCase<DeleteCategoryRequest, DeleteCategoryResponse> {
 
     private final DeleteCategoryDataAccess dataAccess;
+    private final OutboxDataAccess outboxDataAccess;
     private final DeleteCategoryResponseBuilder responseBuilder;
 
     @Override
@@ -43,10 +46,12 @@ public class DeleteCategoryUseCase implements AuthenticatedUseCase<DeleteCategor
         if (hasTransactions) {
             // Soft delete (archive) if transactions exist
             dataAccess.softDelete(request.id());
+            outboxDataAccess.append(OutboxEventType.CATEGORY_ARCHIVED, request.id(), user.getId());
             return responseBuilder.buildArchivedResponse(request.id());
         } else {
             // Hard delete if no transactions
             dataAccess.hardDelete(request.id());
+            outboxDataAccess.append(OutboxEventType.CATEGORY_DELETED, request.id(), user.getId());
             return responseBuilder.buildDeletedResponse(request.id());
         }
     }
@@ -1,5 +1,7 @@
 package com.sathira.miimoneypal.rest.categories.get;
 
+import com.sathira.miimoneypal.exception.BadRequestException;
+import com.sathira.miimoneypal.models.request.RequestParameters;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
@@ -11,4 +13,13 @@ public record GetCategoryRequest(
         @Positive(message = "Category ID must be positive")
         Long id
 ) {
+
+    /**
+     * Binds the id path variable of GET /api/categories/{id}, directly or inside a batch.
+     *
+     * @throws BadRequestException if the id is not a number
+     */
+    public static GetCategoryRequest from(RequestParameters params) {
+        return new GetCategoryRequest(params.get("id", Long.class));
+    }
 }
@@ -1,5 +1,7 @@
 package com.sathira.miimoneypal.rest.categories.list;
 
+import com.sathira.miimoneypal.exception.BadRequestException;
+import com.sathira.miimoneypal.models.request.RequestParameters;
 import com.sathira.miimoneypal.records.category.CategoryType;
 
 /**
@@ -17,4 +19,16 @@ public record ListCategoriesRequest(
             includeArchived = false;
         }
     }
+
+    /**
+     * Binds the query parameters of GET /api/categories, directly or inside a batch.
+     *
+     * @throws BadRequestException if a value cannot be converted
+     */
+    public static ListCategoriesRequest from(RequestParameters params) {
+        return new ListCategoriesRequest(
+                params.get("type", CategoryType.class),
+                params.get("includeArchived", Boolean.class)
+        );
+    }
 }
@@ -0,0 +1,126 @@
+package com.sathira.miimoneypal.rest.categories.merge;
+
+import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Data access interface for category merge operation.
+ * Reassignment is chunked so each statement only locks a bounded number of rows,
+ * and progress is recorded on a category_merge_jobs row.
+ */
+public interface MergeCategoryDataAccess {
+
+    /**
+     * Find category by ID with user ownership validation.
+     * @param id The category ID
+     * @param userId The user ID
+     * @return Optional containing the category if found and owned by user
+     */
+    Optional<Category> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Lock both categories of a merge (in ID order) until the transaction ends.
+     * Concurrent merges touching either category wait here, so their checks and job
+     * inserts are serialized.
+     * @param sourceCategoryId The category being merged away
+     * @param targetCategoryId The category receiving the transactions
+     */
+    void lockCategories(Long sourceCategoryId, Long targetCategoryId);
+
+    /**
+     * Archive the source category so no new transactions can reference it during the merge.
+     * @param id The category ID
+     */
+    void archive(Long id);
+
+    /**
+     * Record a running merge job, unless the source already has one.
+     * @param sourceCategoryId The category being merged away
+     * @param targetCategoryId The category receiving the transactions
+     * @param userId The owner user ID
+     * @return The new job, or empty if a job for the source is already running
+     */
+    Optional<CategoryMergeJob> startJob(Long sourceCategoryId, Long targetCategoryId, Long userId);
+
+    /**
+     * Find the running merge job of a source category.
+     * @param sourceCategoryId The category being merged away
+     * @return Optional containing the running job
+     */
+    Optional<CategoryMergeJob> findRunningJob(Long sourceCategoryId);
+
+    /**
+     * Whether a running merge job is moving transactions into the category.
+     * @param categoryId The category ID
+     * @return true if the category is the target of a running job
+     */
+    boolean isMergeTarget(Long categoryId);
+
+    /**
+     * Find running merge jobs no runner holds (never claimed, or lease expired).
+     * @return Unclaimed running jobs ordered by ID
+     */
+    List<CategoryMergeJob> findUnclaimedJobs();
+
+    /**
+     * Claim a running job for this run, unless another runner holds it.
+     * @param jobId The merge job ID
+     * @param owner Token of this run
+     * @param lease How long the claim lasts without renewal
+     * @return false if another runner holds the job or it is no longer running
+     */
+    boolean claimJob(Long jobId, String owner, Duration lease);
+
+    /**
+     * Extend this run's claim (same transaction as the chunk it guards).
+     * @param jobId The merge job ID
+     * @param owner Token of this run
+     * @param lease How long the claim lasts without renewal
+     * @return false if the job was taken over or is no longer running
+     */
+    boolean renewJob(Long jobId, String owner, Duration lease);
+
+    /**
+     * Move at most chunkSize of the user's transactions from source to target category.
+     * Uses idx_transactions_category to find the chunk and locks only those rows.
+     * @param sourceCategoryId The category being merged away
+     * @param targetCategoryId The category receiving the transactions
+     * @param userId The owner user ID
+     * @param chunkSize Maximum rows to move
+     * @return Number of transactions moved (0 when the source is empty)
+     */
+    int reassignChunk(Long sourceCategoryId, Long targetCategoryId, Long userId, int chunkSize);
+
+    /**
+     * Add a moved chunk to the job's progress (same transaction as the chunk).
+     * @param jobId The merge job ID
+     * @param transactionsMoved Rows moved by the chunk
+     */
+    void recordChunk(Long jobId, int transactionsMoved);
+
+    /**
+     * Mark the job COMPLETED, if this run still holds it.
+     * @param jobId The merge job ID
+     * @param owner Token of this run
+     * @return false if the job was no longer running or held by another run
+     */
+    boolean completeJob(Long jobId, String owner);
+
+    /**
+     * Mark the job FAILED, if this run still holds it.
+     * @param jobId The merge job ID
+     * @param owner Token of this run
+     * @param error The failure message
+     */
+    void failJob(Long jobId, String owner, String error);
+
+    /**
+     * Hard delete the (now empty) source category.
+     * @param id The category ID
+     */
+    void deleteById(Long id);
+}
@@ -0,0 +1,167 @@
+package com.sathira.miimoneypal.rest.categories.merge;
+
+import com.sathira.miimoneypal.concurrency.AdaptiveBulkhead;
+import com.sathira.miimoneypal.concurrency.Bulkhead;
+import com.sathira.miimoneypal.concurrency.Bulkheads;
+import com.sathira.miimoneypal.exception.ServiceUnavailableException;
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Moves a merge job's transactions off the request thread.
+ *
+ * Runs on the @Async executor, where no request deadline applies (RequestDeadline is
+ * per request thread), so a large merge is not cut short by the endpoint's time budget.
+ * A run first claims the job with its own token and a lease; each chunk renews the lease
+ * and commits together with the job's progress counters, so only one run on one node
+ * moves a job's rows. A run that loses its claim (its lease expired and another node
+ * took over) stops without touching the job. Every chunk holds a permit of the
+ * {@value Bulkhead#HEAVY} bulkhead, like the bulk edit endpoints, so merges share their
+ * connection budget instead of competing with interactive requests; a full bulkhead
+ * delays the next chunk rather than failing the job. The source is deleted, and the job marked
+ * COMPLETED, in one final transaction only once it is empty. Any failure marks the job
+ * FAILED and leaves the archived source for a repeated merge request to finish.
+ */
+@Slf4j
+@Component
+public class MergeCategoryJobRunner {
+
+    /**
+     * Chunk result meaning the claim was lost; no rows were moved.
+     */
+    private static final int LOST_CLAIM = -1;
+
+    /**
+     * Pause before asking a full heavy bulkhead for a permit again.
+     */
+    private static final Duration BULKHEAD_RETRY_DELAY = Duration.ofMillis(500);
+
+    private final MergeCategoryDataAccess dataAccess;
+    private final OutboxDataAccess outboxDataAccess;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration lease;
+    private final AdaptiveBulkhead bulkhead;
+
+    public MergeCategoryJobRunner(
+            MergeCategoryDataAccess dataAccess,
+            OutboxDataAccess outboxDataAccess,
+            TransactionTemplate transactionTemplate,
+            ObjectProvider<Bulkheads> bulkheads,
+            @Value("${categories.merge.chunk-size:500}") int chunkSize,
+            @Value("${categories.merge.lease-ms:60000}") long leaseMs
+    ) {
+        this.dataAccess = dataAccess;
+        this.outboxDataAccess = outboxDataAccess;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.lease = Duration.ofMillis(leaseMs);
+        Bulkheads available = bulkheads.getIfAvailable();
+        this.bulkhead = available != null ? available.get(Bulkhead.HEAVY) : null;
+    }
+
+    /**
+     * Run the job to completion (or failure) on the @Async executor, unless another run holds it.
+     * @param job The running merge job
+     */
+    @Async
+    public void run(CategoryMergeJob job) {
+        Long sourceId = job.sourceCategoryId();
+        Long targetId = job.targetCategoryId();
+        // One token per run, so a second run of the same job on this node is a different owner too
+        String owner = UUID.randomUUID().toString();
+        if (!dataAccess.claimJob(job.id(), owner, lease)) {
+            log.debug("Merge job {} is held by another runner", job.id());
+            return;
+        }
+        try {
+            // 1. Move transactions in bounded chunks, one short transaction per chunk
+            long transactionsMoved = job.transactionsMoved();
+            int chunks = job.chunks();
+            while (true) {
+                Integer moved = inBulkhead(() -> transactionTemplate.execute(status -> {
+                    if (!dataAccess.renewJob(job.id(), owner, lease)) {
+                        return LOST_CLAIM;
+                    }
+                    int count = dataAccess.reassignChunk(sourceId, targetId, job.userId(), chunkSize);
+                    if (count > 0) {
+                        dataAccess.recordChunk(job.id(), count);
+                    }
+                    return count;
+                }));
+                if (moved == null || moved == 0) {
+                    break;
+                }
+                if (moved == LOST_CLAIM) {
+                    log.warn("Merge job {} was taken over by another runner after {} chunks", job.id(), chunks);
+                    return;
+                }
+                transactionsMoved += moved;
+                chunks++;
+                log.info("Merge job {} ({} into {}): chunk {} moved {} transactions ({} total)",
+                        job.id(), sourceId, targetId, chunks, moved, transactionsMoved);
+            }
+
+            // 2. Delete the source only once it no longer has transactions
+            //    (FK ON DELETE RESTRICT fails the delete if any remain). A job this run no
+            //    longer holds is left alone, so the event is appended once.
+            long total = transactionsMoved;
+            int chunkCount = chunks;
+            inBulkhead(() -> {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (dataAccess.completeJob(job.id(), owner)) {
+                        dataAccess.deleteById(sourceId);
+                        outboxDataAccess.append(OutboxEventType.CATEGORY_MERGED, sourceId, job.userId());
+                        log.info("Merge job {} completed: category {} merged into {}, {} transactions in {} chunks",
+                                job.id(), sourceId, targetId, total, chunkCount);
+                    }
+                });
+                return null;
+            });
+        } catch (InterruptedException e) {
+            // Shutting down: the job stays RUNNING and is claimed again once the lease expires
+            Thread.currentThread().interrupt();
+            log.info("Merge job {} interrupted while waiting for the {} bulkhead", job.id(), Bulkhead.HEAVY);
+        } catch (RuntimeException e) {
+            log.error("Merge job {} ({} into {}) failed", job.id(), sourceId, targetId, e);
+            dataAccess.failJob(job.id(), owner, e.getMessage());
+        }
+    }
+
+    /**
+     * Run one transaction holding a heavy bulkhead permit, waiting for one as long as it takes.
+     */
+    private <T> T inBulkhead(Supplier<T> transaction) throws InterruptedException {
+        if (bulkhead == null) {
+            return transaction.get();
+        }
+        AdaptiveBulkhead.Permit permit;
+        while (true) {
+            try {
+                permit = bulkhead.acquire();
+                break;
+            } catch (ServiceUnavailableException e) {
+                Thread.sleep(BULKHEAD_RETRY_DELAY);
+            }
+        }
+        boolean succeeded = false;
+        try {
+            T result = transaction.get();
+            succeeded = true;
+            return result;
+        } finally {
+            permit.release(succeeded);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.sathira.miimoneypal.rest.categories.merge;
+
+import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+import org.springframework.stereotype.Component;
+
+/**
+ * Presenter for category merge operation.
+ */
+@Component
+public class MergeCategoryPresenter implements MergeCategoryResponseBuilder {
+
+    @Override
+    public MergeCategoryResponse build(Category source, Category target, CategoryMergeJob job) {
+        return new MergeCategoryResponse(
+                true,
+                "Merging category '" + source.name() + "' into '" + target.name() + "'",
+                job.id(),
+                job.status(),
+                source.id(),
+                target.id()
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package com.sathira.miimoneypal.rest.categories.merge;
+
+import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+import com.sathira.miimoneypal.repository.CategoryDataAccess;
+import com.sathira.miimoneypal.repository.CategoryMergeJobDataAccess;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.sathira.miimoneypal.jooq.tables.Categories.CATEGORIES;
+import static com.sathira.miimoneypal.jooq.tables.Transactions.TRANSACTIONS;
+
+/**
+ * Repository implementation for category merge operation.
+ * Category and job lookups delegate to the shared CategoryDataAccess and
+ * CategoryMergeJobDataAccess; the chunked transaction reassignment is
+ * merge-specific and uses jOOQ directly.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MergeCategoryRepository implements MergeCategoryDataAccess {
+
+    private final DSLContext dsl;
+    private final CategoryDataAccess categoryDataAccess;
+    private final CategoryMergeJobDataAccess mergeJobDataAccess;
+
+    @Override
+    public Optional<Category> findByIdAndUserId(Long id, Long userId) {
+        return categoryDataAccess.findByIdAndUserId(id, userId);
+    }
+
+    @Override
+    public void lockCategories(Long sourceCategoryId, Long targetCategoryId) {
+        // FOR NO KEY UPDATE conflicts with itself but not with the FK checks of transaction inserts
+        dsl.select(CATEGORIES.ID)
+                .from(CATEGORIES)
+                .where(CATEGORIES.ID.in(sourceCategoryId, targetCategoryId))
+                .orderBy(CATEGORIES.ID)
+                .forNoKeyUpdate()
+                .fetch();
+    }
+
+    @Override
+    public void archive(Long id) {
+        categoryDataAccess.archive(id);
+    }
+
+    @Override
+    public Optional<CategoryMergeJob> startJob(Long sourceCategoryId, Long targetCategoryId, Long userId) {
+        return mergeJobDataAccess.insertIfNoneRunning(sourceCategoryId, targetCategoryId, userId);
+    }
+
+    @Override
+    public Optional<CategoryMergeJob> findRunningJob(Long sourceCategoryId) {
+        return mergeJobDataAccess.findRunningBySourceCategoryId(sourceCategoryId);
+    }
+
+    @Override
+    public boolean isMergeTarget(Long categoryId) {
+        return mergeJobDataAccess.existsRunningByTargetCategoryId(categoryId);
+    }
+
+    @Override
+    public List<CategoryMergeJob> findUnclaimedJobs() {
+        return mergeJobDataAccess.findUnclaimedRunning(LocalDateTime.now());
+    }
+
+    @Override
+    public boolean claimJob(Long jobId, String owner, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        return mergeJobDataAccess.claim(jobId, owner, now, now.plus(lease));
+    }
+
+    @Override
+    public boolean renewJob(Long jobId, String owner, Duration lease) {
+        return mergeJobDataAccess.renewClaim(jobId, owner, LocalDateTime.now().plus(lease));
+    }
+
+    @Override
+    public int reassignChunk(Long sourceCategoryId, Long targetCategoryId, Long userId, int chunkSize) {
+        // UPDATE ... WHERE id IN (SELECT id ... LIMIT n FOR UPDATE):
+        // the subquery walks idx_transactions_category and locks only this chunk
+        return dsl.update(TRANSACTIONS)
+                .set(TRANSACTIONS.CATEGORY_ID, targetCategoryId)
+                .set(TRANSACTIONS.UPDATED_AT, LocalDateTime.now())
+                .where(TRANSACTIONS.ID.in(
+                        dsl.select(TRANSACTIONS.ID)
+                                .from(TRANSACTIONS)
+                                .where(TRANSACTIONS.CATEGORY_ID.eq(sourceCategoryId))
+                                .and(TRANSACTIONS.USER_ID.eq(userId))
+                                .limit(chunkSize)
+                                .forUpdate()
+                ))
+                .execute();
+    }
+
+    @Override
+    public void recordChunk(Long jobId, int transactionsMoved) {
+        mergeJobDataAccess.recordChunk(jobId, transactionsMoved);
+    }
+
+    @Override
+    public boolean completeJob(Long jobId, String owner) {
+        return mergeJobDataAccess.markCompleted(jobId, owner);
+    }
+
+    @Override
+    public void failJob(Long jobId, String owner, String error) {
+        mergeJobDataAccess.markFailed(jobId, owner, error);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        categoryDataAccess.deleteById(id);
+    }
+}
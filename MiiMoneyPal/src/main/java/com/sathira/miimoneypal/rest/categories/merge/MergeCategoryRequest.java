@@ -0,0 +1,17 @@
+package com.sathira.miimoneypal.rest.categories.merge;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Request DTO for merging a category into another.
+ * The source ID comes from the path; the body only carries the target.
+ */
+public record MergeCategoryRequest(
+        Long id,  // Source category ID, populated from the path variable
+
+        @NotNull(message = "Target category ID is required")
+        @Positive(message = "Target category ID must be positive")
+        Long targetCategoryId
+) {
+}
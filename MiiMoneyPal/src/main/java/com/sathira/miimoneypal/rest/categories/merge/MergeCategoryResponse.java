@@ -0,0 +1,18 @@
+package com.sathira.miimoneypal.rest.categories.merge;
+
+import com.sathira.miimoneypal.models.response.ApiResponse;
+import com.sathira.miimoneypal.records.category.MergeJobStatus;
+
+/**
+ * Response DTO for an accepted category merge (202).
+ * Progress is reported by GET /api/categories/merge-jobs/{jobId}.
+ */
+public record MergeCategoryResponse(
+        boolean success,
+        String message,
+        Long jobId,
+        MergeJobStatus status,
+        Long sourceCategoryId,
+        Long targetCategoryId
+) implements ApiResponse {
+}
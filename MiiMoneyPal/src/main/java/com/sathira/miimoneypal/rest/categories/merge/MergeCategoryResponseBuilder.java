@@ -0,0 +1,19 @@
+package com.sathira.miimoneypal.rest.categories.merge;
+
+import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+
+/**
+ * Response builder interface for category merge operation.
+ */
+public interface MergeCategoryResponseBuilder {
+
+    /**
+     * Build a response for an accepted merge.
+     * @param source The category being merged away
+     * @param target The category receiving the transactions
+     * @param job The running merge job
+     * @return The response DTO
+     */
+    MergeCategoryResponse build(Category source, Category target, CategoryMergeJob job);
+}
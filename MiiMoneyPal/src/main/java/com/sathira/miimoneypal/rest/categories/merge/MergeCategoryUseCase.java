@@ -0,0 +1,138 @@
+package com.sathira.miimoneypal.rest.categories.merge;
+
+import com.sathira.miimoneypal.architecture.AuthenticatedUseCase;
+import com.sathira.miimoneypal.exception.BadRequestException;
+import com.sathira.miimoneypal.exception.BusinessRuleException;
+import com.sathira.miimoneypal.exception.ResourceNotFoundException;
+import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+import com.sathira.miimoneypal.security.AppUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Use case for merging one category into another.
+ *
+ * Business Rules:
+ * - User can only merge their own categories
+ * - Source and target must differ and have the same type
+ * - System categories cannot be merged away; target must not be archived
+ * - No chains: the target must not be merging away, the source must not be receiving a merge
+ * - All source transactions are moved to the target, then the source is deleted
+ *
+ * The request only validates, archives the source (so no new transactions can
+ * reference it) and records a category_merge_jobs row, in one transaction holding
+ * both category rows; MergeCategoryJobRunner moves the transactions in the background
+ * once it commits and the client polls the job. Repeating the request while the job
+ * runs returns the same job. Jobs whose runner stopped are resumed by whichever node claims
+ * them first (see resumeRunningJobs).
+ * Type and amount never change, so bucket balances and monthly summaries are unaffected.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MergeCategoryUseCase implements AuthenticatedUseCase<MergeCategoryRequest, MergeCategoryResponse> {
+
+    private final MergeCategoryDataAccess dataAccess;
+    private final MergeCategoryJobRunner jobRunner;
+    private final MergeCategoryResponseBuilder responseBuilder;
+
+    @Override
+    @Transactional
+    public MergeCategoryResponse execute(MergeCategoryRequest request, AppUser user) {
+        // 1. Lock both categories, so merges touching either one run their checks one at a time
+        //    and the chain checks below cannot race with another merge's job insert
+        if (request.id().equals(request.targetCategoryId())) {
+            throw new BadRequestException("Cannot merge a category into itself");
+        }
+        dataAccess.lockCategories(request.id(), request.targetCategoryId());
+
+        // 2. Validate source and target
+        Category source = dataAccess.findByIdAndUserId(request.id(), user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+        Category target = dataAccess.findByIdAndUserId(request.targetCategoryId(), user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Target category not found"));
+
+        if (source.isProtected()) {
+            throw new BusinessRuleException("System categories cannot be merged");
+        }
+        if (target.isArchived()) {
+            throw new BusinessRuleException("Cannot merge into archived category: " + target.name());
+        }
+        if (source.type() != target.type()) {
+            throw new BusinessRuleException(
+                    String.format("Cannot merge %s category '%s' into %s category '%s'",
+                            source.type(), source.name(), target.type(), target.name())
+            );
+        }
+
+        // 3. Report the job that is already merging this source
+        Optional<CategoryMergeJob> running = dataAccess.findRunningJob(source.id());
+        if (running.isPresent()) {
+            if (!running.get().targetCategoryId().equals(target.id())) {
+                throw new BusinessRuleException(
+                        String.format("Category '%s' is already being merged into category %d",
+                                source.name(), running.get().targetCategoryId())
+                );
+            }
+            return responseBuilder.build(source, target, running.get());
+        }
+
+        // 4. Refuse chains: a running job would keep moving rows into a source, or out of a target,
+        //    that this merge is about to empty or delete
+        if (dataAccess.findRunningJob(target.id()).isPresent()) {
+            throw new BusinessRuleException(
+                    String.format("Category '%s' is being merged into another category", target.name()));
+        }
+        if (dataAccess.isMergeTarget(source.id())) {
+            throw new BusinessRuleException(
+                    String.format("Category '%s' is still receiving transactions from another merge", source.name()));
+        }
+
+        // 5. Archive the source so new transactions cannot be attached mid-merge, and record
+        //    the job in the same transaction
+        if (!source.isArchived()) {
+            dataAccess.archive(source.id());
+        }
+        CategoryMergeJob job = dataAccess.startJob(source.id(), target.id(), user.getId())
+                .orElseThrow(() -> new IllegalStateException("Merge job for category " + source.id() + " already running"));
+
+        // 6. The runner is @Async: hand it the job only once the job row is committed
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                jobRunner.run(job);
+            }
+        });
+
+        return responseBuilder.build(source, target, job);
+    }
+
+    /**
+     * Resume running jobs no runner holds: those interrupted by a stop or crash, on this
+     * node or another, once their lease has expired. Runs on startup and every lease
+     * period; each runner claims its job first, so a job is only ever run by one node.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${categories.merge.lease-ms:60000}",
+            fixedDelayString = "${categories.merge.lease-ms:60000}"
+    )
+    public void resumeRunningJobs() {
+        List<CategoryMergeJob> jobs = dataAccess.findUnclaimedJobs();
+        jobs.forEach(jobRunner::run);
+        if (!jobs.isEmpty()) {
+            log.info("Handing {} unclaimed category merge jobs to the runner", jobs.size());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.sathira.miimoneypal.rest.categories.mergejob;
+
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+
+import java.util.Optional;
+
+/**
+ * Data access interface for GET merge job operation.
+ */
+public interface GetMergeJobDataAccess {
+
+    /**
+     * Find merge job by ID with user ownership validation.
+     * @param id The job ID
+     * @param userId The user ID
+     * @return Optional containing the job if found and owned by user
+     */
+    Optional<CategoryMergeJob> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Count the user's transactions still on the source category.
+     * Uses idx_transactions_category.
+     * @param sourceCategoryId The category being merged away
+     * @param userId The owner user ID
+     * @return Number of transactions not yet moved
+     */
+    long countRemaining(Long sourceCategoryId, Long userId);
+}
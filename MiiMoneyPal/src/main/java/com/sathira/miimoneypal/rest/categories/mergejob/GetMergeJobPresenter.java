@@ -0,0 +1,27 @@
+package com.sathira.miimoneypal.rest.categories.mergejob;
+
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+import org.springframework.stereotype.Component;
+
+/**
+ * Presenter for GET merge job operation.
+ */
+@Component
+public class GetMergeJobPresenter implements GetMergeJobResponseBuilder {
+
+    @Override
+    public GetMergeJobResponse build(CategoryMergeJob job, long transactionsRemaining) {
+        return new GetMergeJobResponse(
+                job.id(),
+                job.status(),
+                job.sourceCategoryId(),
+                job.targetCategoryId(),
+                job.transactionsMoved(),
+                transactionsRemaining,
+                job.chunks(),
+                job.error(),
+                job.createdAt(),
+                job.finishedAt()
+        );
+    }
+}
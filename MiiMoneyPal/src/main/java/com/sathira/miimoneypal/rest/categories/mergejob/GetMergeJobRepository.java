@@ -0,0 +1,37 @@
+package com.sathira.miimoneypal.rest.categories.mergejob;
+
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+import com.sathira.miimoneypal.repository.CategoryMergeJobDataAccess;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+import static com.sathira.miimoneypal.jooq.tables.Transactions.TRANSACTIONS;
+
+/**
+ * Repository implementation for GET merge job operation.
+ * Job lookups delegate to the shared CategoryMergeJobDataAccess; the remaining
+ * count is specific to this endpoint and uses jOOQ directly.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GetMergeJobRepository implements GetMergeJobDataAccess {
+
+    private final DSLContext dsl;
+    private final CategoryMergeJobDataAccess mergeJobDataAccess;
+
+    @Override
+    public Optional<CategoryMergeJob> findByIdAndUserId(Long id, Long userId) {
+        return mergeJobDataAccess.findByIdAndUserId(id, userId);
+    }
+
+    @Override
+    public long countRemaining(Long sourceCategoryId, Long userId) {
+        return dsl.fetchCount(
+                TRANSACTIONS,
+                TRANSACTIONS.CATEGORY_ID.eq(sourceCategoryId).and(TRANSACTIONS.USER_ID.eq(userId))
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.sathira.miimoneypal.rest.categories.mergejob;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Request DTO for polling a category merge job.
+ */
+public record GetMergeJobRequest(
+        @NotNull(message = "Job ID is required")
+        @Positive(message = "Job ID must be positive")
+        Long jobId
+) {
+}
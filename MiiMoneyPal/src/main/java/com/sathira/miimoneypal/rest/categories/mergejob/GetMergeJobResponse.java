@@ -0,0 +1,24 @@
+package com.sathira.miimoneypal.rest.categories.mergejob;
+
+import com.sathira.miimoneypal.models.response.ApiResponse;
+import com.sathira.miimoneypal.records.category.MergeJobStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a category merge job.
+ * transactionsRemaining counts the transactions still on the source category.
+ */
+public record GetMergeJobResponse(
+        Long jobId,
+        MergeJobStatus status,
+        Long sourceCategoryId,
+        Long targetCategoryId,
+        long transactionsMoved,
+        long transactionsRemaining,
+        int chunks,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) implements ApiResponse {
+}
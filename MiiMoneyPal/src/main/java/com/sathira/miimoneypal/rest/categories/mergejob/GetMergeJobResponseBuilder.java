@@ -0,0 +1,17 @@
+package com.sathira.miimoneypal.rest.categories.mergejob;
+
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+
+/**
+ * Response builder interface for GET merge job operation.
+ */
+public interface GetMergeJobResponseBuilder {
+
+    /**
+     * Build a response from the job and its remaining transaction count.
+     * @param job The merge job
+     * @param transactionsRemaining Transactions still on the source category
+     * @return The response DTO
+     */
+    GetMergeJobResponse build(CategoryMergeJob job, long transactionsRemaining);
+}
@@ -0,0 +1,39 @@
+package com.sathira.miimoneypal.rest.categories.mergejob;
+
+import com.sathira.miimoneypal.architecture.AuthenticatedUseCase;
+import com.sathira.miimoneypal.exception.ResourceNotFoundException;
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+import com.sathira.miimoneypal.records.category.MergeJobStatus;
+import com.sathira.miimoneypal.security.AppUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for polling a category merge job.
+ *
+ * Business Rules:
+ * - User can only see their own merge jobs
+ * - Returns 404 if the job is not found or doesn't belong to user
+ * - A completed job has no transactions remaining (the source is gone)
+ */
+@Service
+@RequiredArgsConstructor
+public class GetMergeJobUseCase implements AuthenticatedUseCase<GetMergeJobRequest, GetMergeJobResponse> {
+
+    private final GetMergeJobDataAccess dataAccess;
+    private final GetMergeJobResponseBuilder responseBuilder;
+
+    @Override
+    @Transactional(readOnly = true)
+    public GetMergeJobResponse execute(GetMergeJobRequest request, AppUser user) {
+        CategoryMergeJob job = dataAccess.findByIdAndUserId(request.jobId(), user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Merge job not found"));
+
+        long remaining = job.status() == MergeJobStatus.COMPLETED
+                ? 0
+                : dataAccess.countRemaining(job.sourceCategoryId(), user.getId());
+
+        return responseBuilder.build(job, remaining);
+    }
+}
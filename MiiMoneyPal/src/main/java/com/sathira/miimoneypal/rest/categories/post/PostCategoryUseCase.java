@@ -3,6 +3,8 @@ package com.sathira.miimoneypal.rest.categories.post;
 import com.sathira.miimoneypal.architecture.AuthenticatedUseCase;
 import com.sathira.miimoneypal.exception.DuplicateResourceException;
 import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class PostCategoryUseCase implements AuthenticatedUseCase<PostCategoryRequest, PostCategoryResponse> {
 
     private final PostCategoryDataAccess dataAccess;
+    private final OutboxDataAccess outboxDataAccess;
     private final PostCategoryResponseBuilder responseBuilder;
 
     @Override
@@ -52,6 +55,9 @@ public class PostCategoryUseCase implements AuthenticatedUseCase<PostCategoryReq
         // Save to database
         Category savedCategory = dataAccess.save(category);
 
+        // Record change event in the same transaction
+        outboxDataAccess.append(OutboxEventType.CATEGORY_CREATED, savedCategory.id(), user.getId());
+
         // Transform to response DTO
         return responseBuilder.build(savedCategory);
     }
@@ -3,6 +3,7 @@ package com.sathira.miimoneypal.rest.categories.put;
 import com.sathira.miimoneypal.records.category.Category;
 import com.sathira.miimoneypal.records.category.CategoryType;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -35,4 +36,18 @@ public interface PutCategoryDataAccess {
      * @return The updated category
      */
     Category update(Category category);
+
+    /**
+     * Update a non-system category only if it still carries the expected version.
+     * @param id The category ID
+     * @param userId The user ID
+     * @param name The new (normalized) name
+     * @param color The new color
+     * @param icon The new icon
+     * @param expectedUpdatedAt The updated_at value the client edited
+     * @return The updated category, or empty if not found, protected or modified since
+     * @throws com.sathira.miimoneypal.exception.DuplicateResourceException if the name is already taken
+     */
+    Optional<Category> updateIfUnmodified(Long id, Long userId, String name, String color, String icon,
+                                          LocalDateTime expectedUpdatedAt);
 }
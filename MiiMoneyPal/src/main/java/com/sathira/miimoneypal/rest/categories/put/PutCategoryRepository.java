@@ -6,6 +6,7 @@ import com.sathira.miimoneypal.repository.CategoryDataAccess;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 /**
@@ -32,4 +33,10 @@ public class PutCategoryRepository implements PutCategoryDataAccess {
     public Category update(Category category) {
         return categoryDataAccess.update(category);
     }
+
+    @Override
+    public Optional<Category> updateIfUnmodified(Long id, Long userId, String name, String color, String icon,
+                                                 LocalDateTime expectedUpdatedAt) {
+        return categoryDataAccess.updateIfUnmodified(id, userId, name, color, icon, expectedUpdatedAt);
+    }
 }
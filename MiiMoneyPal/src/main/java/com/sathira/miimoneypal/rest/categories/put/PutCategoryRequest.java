@@ -5,9 +5,13 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 
+import java.time.LocalDateTime;
+
 /**
  * Request DTO for updating a category.
  * Note: Category type cannot be changed after creation.
+ * Optional updatedAt is the version the client edited; when present the update
+ * only applies if the category has not been modified since (optimistic locking).
  */
 public record PutCategoryRequest(
         @NotNull(message = "ID is required")
@@ -22,6 +26,8 @@ public record PutCategoryRequest(
         String color,
 
         @Size(max = 50, message = "Icon must not exceed 50 characters")
-        String icon
+        String icon,
+
+        LocalDateTime updatedAt
 ) {
 }
@@ -4,7 +4,10 @@ import com.sathira.miimoneypal.architecture.AuthenticatedUseCase;
 import com.sathira.miimoneypal.exception.BusinessRuleException;
 import com.sathira.miimoneypal.exception.DuplicateResourceException;
 import com.sathira.miimoneypal.exception.ResourceNotFoundException;
+import com.sathira.miimoneypal.exception.StaleUpdateException;
 import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,17 +23,25 @@ import org.springframework.transaction.annotation.Transactional;
  * - Name must be unique per user per type (if renaming)
  * - Name is normalized (trimmed)
  * - Cannot un-archive via update (separate endpoint if needed)
+ * - If the client sends updated_at, the update only applies to that version (409 otherwise)
+ *   and runs as a single UPDATE ... RETURNING without reading the category first
  */
 @Service
 @RequiredArgsConstructor
 public class PutCategoryUseCase implements AuthenticatedUseCase<PutCategoryRequest, PutCategoryResponse> {
 
     private final PutCategoryDataAccess dataAccess;
+    private final OutboxDataAccess outboxDataAccess;
     private final PutCategoryResponseBuilder responseBuilder;
 
     @Override
     @Transactional
     public PutCategoryResponse execute(PutCategoryRequest request, AppUser user) {
+        // Versioned updates are checked by the UPDATE itself
+        if (request.updatedAt() != null) {
+            return executeVersioned(request, user);
+        }
+
         // Find existing category with user ownership validation
         Category existingCategory = dataAccess.findByIdAndUserId(request.id(), user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
@@ -68,7 +79,47 @@ public class PutCategoryUseCase implements AuthenticatedUseCase<PutCategoryReque
         // Update in database
         Category savedCategory = dataAccess.update(updatedCategory);
 
+        // Record change event in the same transaction
+        outboxDataAccess.append(OutboxEventType.CATEGORY_UPDATED, savedCategory.id(), user.getId());
+
         // Transform to response DTO
         return responseBuilder.build(savedCategory);
     }
+
+    /**
+     * Single-statement update guarded by ownership, system flag and updated_at version.
+     * Name uniqueness is enforced by the database constraint instead of a prior lookup.
+     */
+    private PutCategoryResponse executeVersioned(PutCategoryRequest request, AppUser user) {
+        String normalizedName = request.name().trim();
+
+        Category savedCategory = dataAccess.updateIfUnmodified(
+                        request.id(),
+                        user.getId(),
+                        normalizedName,
+                        request.color(),
+                        request.icon(),
+                        request.updatedAt()
+                )
+                .orElseThrow(() -> explainRejectedUpdate(request, user));
+        outboxDataAccess.append(OutboxEventType.CATEGORY_UPDATED, savedCategory.id(), user.getId());
+
+        return responseBuilder.build(savedCategory);
+    }
+
+    /**
+     * Work out why a versioned update matched no row (failure path only).
+     */
+    private RuntimeException explainRejectedUpdate(PutCategoryRequest request, AppUser user) {
+        Category existingCategory = dataAccess.findByIdAndUserId(request.id(), user.getId())
+                .orElse(null);
+
+        if (existingCategory == null) {
+            return new ResourceNotFoundException("Category not found");
+        }
+        if (existingCategory.isProtected()) {
+            return new BusinessRuleException("System categories cannot be updated");
+        }
+        return new StaleUpdateException("Category", request.id());
+    }
 }
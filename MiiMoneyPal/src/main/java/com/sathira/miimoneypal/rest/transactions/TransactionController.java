@@ -1,7 +1,15 @@
 package com.sathira.miimoneypal.rest.transactions;
 
+import com.sathira.miimoneypal.concurrency.Bulkhead;
+import com.sathira.miimoneypal.concurrency.TimeBudget;
 import com.sathira.miimoneypal.constants.EndPoints;
-import com.sathira.miimoneypal.records.transaction.TransactionType;
+import com.sathira.miimoneypal.models.request.RequestParameters;
+import com.sathira.miimoneypal.rest.transactions.bulkdelete.BulkDeleteTransactionsRequest;
+import com.sathira.miimoneypal.rest.transactions.bulkdelete.BulkDeleteTransactionsResponse;
+import com.sathira.miimoneypal.rest.transactions.bulkdelete.BulkDeleteTransactionsUseCase;
+import com.sathira.miimoneypal.rest.transactions.bulkrecategorize.BulkRecategorizeRequest;
+import com.sathira.miimoneypal.rest.transactions.bulkrecategorize.BulkRecategorizeResponse;
+import com.sathira.miimoneypal.rest.transactions.bulkrecategorize.BulkRecategorizeUseCase;
 import com.sathira.miimoneypal.rest.transactions.delete.DeleteTransactionRequest;
 import com.sathira.miimoneypal.rest.transactions.delete.DeleteTransactionResponse;
 import com.sathira.miimoneypal.rest.transactions.delete.DeleteTransactionUseCase;
@@ -25,11 +33,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDate;
-
 /**
  * REST controller for transaction CRUD operations.
  * All endpoints require authentication (JWT token).
+ * Time budgets: 3 s for list (search), 15 s for bulk operations, request-deadline.default-ms otherwise.
+ * Bulk operations run in the heavy bulkhead so they cannot crowd out everyday requests.
  *
  * Endpoints:
  * - POST   /api/transactions       - Create new transaction
@@ -37,6 +45,8 @@ import java.time.LocalDate;
  * - GET    /api/transactions       - List transactions with filters
  * - PUT    /api/transactions/{id}  - Update transaction
  * - DELETE /api/transactions/{id}  - Delete transaction
+ * - POST   /api/transactions/bulk/recategorize - Move filtered transactions to a category
+ * - POST   /api/transactions/bulk/delete       - Delete filtered transactions
  */
 @RestController
 @RequestMapping(EndPoints.TRANSACTIONS)
@@ -48,6 +58,8 @@ public class TransactionController {
     private final ListTransactionsUseCase listTransactionsUseCase;
     private final PutTransactionUseCase putTransactionUseCase;
     private final DeleteTransactionUseCase deleteTransactionUseCase;
+    private final BulkRecategorizeUseCase bulkRecategorizeUseCase;
+    private final BulkDeleteTransactionsUseCase bulkDeleteTransactionsUseCase;
 
     /**
      * Create a new transaction.
@@ -68,16 +80,17 @@ public class TransactionController {
     /**
      * Get a single transaction by ID.
      *
-     * @param id   Transaction ID from path variable
-     * @param user Authenticated user (injected by Spring Security)
+     * @param params Transaction ID from path variable; optional fields (comma-separated response
+     *               fields to return, default: all). Bound by GetTransactionRequest.from
+     * @param user   Authenticated user (injected by Spring Security)
      * @return Transaction details with related entity information
      */
     @GetMapping("/{id}")
     public ResponseEntity<GetTransactionResponse> getTransaction(
-            @PathVariable Long id,
+            RequestParameters params,
             @AuthenticationPrincipal AppUser user
     ) {
-        GetTransactionRequest request = new GetTransactionRequest(id);
+        GetTransactionRequest request = GetTransactionRequest.from(params);
         GetTransactionResponse response = getTransactionUseCase.execute(request, user);
         return ResponseEntity.ok(response);
     }
@@ -85,32 +98,20 @@ public class TransactionController {
     /**
      * List transactions with optional filters and pagination.
      *
-     * @param type       Optional: filter by transaction type
-     * @param startDate  Optional: filter transactions on or after this date
-     * @param endDate    Optional: filter transactions on or before this date
-     * @param categoryId Optional: filter by category ID
-     * @param bucketId   Optional: filter by bucket ID
-     * @param searchTerm Optional: search in transaction notes
-     * @param offset     Pagination offset (default: 0)
-     * @param limit      Pagination limit (default: 20, max: 100)
-     * @param user       Authenticated user (injected by Spring Security)
+     * @param params Optional query parameters, bound by ListTransactionsRequest.from:
+     *               type, startDate, endDate, categoryId, bucketId, searchTerm (in notes),
+     *               offset (default: 0), limit (default: 20, max: 100) and fields
+     *               (comma-separated item fields to return, default: all)
+     * @param user   Authenticated user (injected by Spring Security)
      * @return Paginated list of transactions with metadata
      */
     @GetMapping
+    @TimeBudget(millis = 3_000)
     public ResponseEntity<ListTransactionsResponse> listTransactions(
-            @RequestParam(required = false) TransactionType type,
-            @RequestParam(required = false) LocalDate startDate,
-            @RequestParam(required = false) LocalDate endDate,
-            @RequestParam(required = false) Long categoryId,
-            @RequestParam(required = false) Long bucketId,
-            @RequestParam(required = false) String searchTerm,
-            @RequestParam(required = false) Integer offset,
-            @RequestParam(required = false) Integer limit,
+            RequestParameters params,
             @AuthenticationPrincipal AppUser user
     ) {
-        ListTransactionsRequest request = new ListTransactionsRequest(
-                type, startDate, endDate, categoryId, bucketId, searchTerm, offset, limit
-        );
+        ListTransactionsRequest request = ListTransactionsRequest.from(params);
         ListTransactionsResponse response = listTransactionsUseCase.execute(request, user);
         return ResponseEntity.ok(response);
     }
@@ -156,4 +157,42 @@ public class TransactionController {
         DeleteTransactionResponse response = deleteTransactionUseCase.execute(request, user);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Move all transactions matching the list filters to another category.
+     * Only transactions whose type matches the target category are moved.
+     *
+     * @param request Filters (same as list) and target category ID
+     * @param user    Authenticated user (injected by Spring Security)
+     * @return Number of transactions moved
+     */
+    @PostMapping("/bulk/recategorize")
+    @TimeBudget(millis = 15_000)
+    @Bulkhead(Bulkhead.HEAVY)
+    public ResponseEntity<BulkRecategorizeResponse> bulkRecategorize(
+            @Valid @RequestBody BulkRecategorizeRequest request,
+            @AuthenticationPrincipal AppUser user
+    ) {
+        BulkRecategorizeResponse response = bulkRecategorizeUseCase.execute(request, user);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Delete all transactions matching the list filters.
+     * System-generated transactions are skipped.
+     *
+     * @param request Filters (same as list)
+     * @param user    Authenticated user (injected by Spring Security)
+     * @return Number of transactions deleted
+     */
+    @PostMapping("/bulk/delete")
+    @TimeBudget(millis = 15_000)
+    @Bulkhead(Bulkhead.HEAVY)
+    public ResponseEntity<BulkDeleteTransactionsResponse> bulkDelete(
+            @Valid @RequestBody BulkDeleteTransactionsRequest request,
+            @AuthenticationPrincipal AppUser user
+    ) {
+        BulkDeleteTransactionsResponse response = bulkDeleteTransactionsUseCase.execute(request, user);
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,21 @@
+package com.sathira.miimoneypal.rest.transactions.bulkdelete;
+
+import com.sathira.miimoneypal.records.transaction.TransactionFilter;
+
+/**
+ * Data access contract for bulk transaction deletion.
+ * Enforces user-scoped queries for security.
+ */
+public interface BulkDeleteTransactionsDataAccess {
+
+    /**
+     * Delete one batch of matching transactions.
+     * GOAL_COMPLETED transactions are excluded in the statement itself.
+     *
+     * @param userId    owner user ID
+     * @param filter    list filters selecting the transactions
+     * @param batchSize maximum rows per statement
+     * @return number of transactions deleted (0 when nothing is left to delete)
+     */
+    int deleteBatch(Long userId, TransactionFilter filter, int batchSize);
+}
@@ -0,0 +1,19 @@
+package com.sathira.miimoneypal.rest.transactions.bulkdelete;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Presenter for bulk delete response.
+ */
+@Component
+public class BulkDeleteTransactionsPresenter implements BulkDeleteTransactionsResponseBuilder {
+
+    @Override
+    public BulkDeleteTransactionsResponse build(long transactionsDeleted, int batches) {
+        return new BulkDeleteTransactionsResponse(
+                transactionsDeleted + " transactions deleted",
+                transactionsDeleted,
+                batches
+        );
+    }
+}
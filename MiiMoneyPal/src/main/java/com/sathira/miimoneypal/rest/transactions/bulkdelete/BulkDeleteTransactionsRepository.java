@@ -0,0 +1,36 @@
+package com.sathira.miimoneypal.rest.transactions.bulkdelete;
+
+import com.sathira.miimoneypal.records.transaction.TransactionFilter;
+import com.sathira.miimoneypal.records.transaction.TransactionType;
+import com.sathira.miimoneypal.repository.TransactionFilterConditions;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import static com.sathira.miimoneypal.jooq.tables.Transactions.TRANSACTIONS;
+
+/**
+ * jOOQ implementation for bulk transaction deletion.
+ * Runs set-based DELETEs limited to one batch of rows per statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkDeleteTransactionsRepository implements BulkDeleteTransactionsDataAccess {
+
+    private final DSLContext dsl;
+
+    @Override
+    public int deleteBatch(Long userId, TransactionFilter filter, int batchSize) {
+        return dsl.deleteFrom(TRANSACTIONS)
+                .where(TRANSACTIONS.ID.in(
+                        dsl.select(TRANSACTIONS.ID)
+                                .from(TRANSACTIONS)
+                                .where(TransactionFilterConditions.matching(userId, filter))
+                                // System-generated transactions are never deleted by users
+                                .and(TRANSACTIONS.TYPE.ne(TransactionType.GOAL_COMPLETED.name()))
+                                .limit(batchSize)
+                                .forUpdate()
+                ))
+                .execute();
+    }
+}
@@ -0,0 +1,14 @@
+package com.sathira.miimoneypal.rest.transactions.bulkdelete;
+
+import com.sathira.miimoneypal.models.response.ApiResponse;
+
+/**
+ * Response DTO for bulk transaction deletion.
+ * System-generated transactions matching the filters are skipped, not counted.
+ */
+public record BulkDeleteTransactionsResponse(
+        String message,
+        long transactionsDeleted,
+        int batches
+) implements ApiResponse {
+}
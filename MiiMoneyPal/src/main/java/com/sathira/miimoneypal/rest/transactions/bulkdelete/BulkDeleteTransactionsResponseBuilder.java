@@ -0,0 +1,16 @@
+package com.sathira.miimoneypal.rest.transactions.bulkdelete;
+
+/**
+ * Interface for building bulk delete response.
+ */
+public interface BulkDeleteTransactionsResponseBuilder {
+
+    /**
+     * Build response from affected counts.
+     *
+     * @param transactionsDeleted number of transactions deleted
+     * @param batches             number of batches the delete ran in
+     * @return response DTO
+     */
+    BulkDeleteTransactionsResponse build(long transactionsDeleted, int batches);
+}
@@ -0,0 +1,73 @@
+package com.sathira.miimoneypal.rest.transactions.bulkdelete;
+
+import com.sathira.miimoneypal.architecture.AuthenticatedUseCase;
+import com.sathira.miimoneypal.exception.BadRequestException;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
+import com.sathira.miimoneypal.security.AppUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * UseCase for deleting every transaction that matches the list filters.
+ *
+ * Business Rules:
+ * - At least one filter is required (no accidental "delete everything")
+ * - System-generated (GOAL_COMPLETED) transactions are skipped (enforced in the DELETE itself)
+ *
+ * Runs in bounded batches, each in its own short transaction, so row locks stay short.
+ */
+@Service
+public class BulkDeleteTransactionsUseCase
+        implements AuthenticatedUseCase<BulkDeleteTransactionsRequest, BulkDeleteTransactionsResponse> {
+
+    private final BulkDeleteTransactionsDataAccess dataAccess;
+    private final OutboxDataAccess outboxDataAccess;
+    private final BulkDeleteTransactionsResponseBuilder responseBuilder;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public BulkDeleteTransactionsUseCase(
+            BulkDeleteTransactionsDataAccess dataAccess,
+            OutboxDataAccess outboxDataAccess,
+            BulkDeleteTransactionsResponseBuilder responseBuilder,
+            TransactionTemplate transactionTemplate,
+            @Value("${transactions.bulk.batch-size:500}") int batchSize
+    ) {
+        this.dataAccess = dataAccess;
+        this.outboxDataAccess = outboxDataAccess;
+        this.responseBuilder = responseBuilder;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public BulkDeleteTransactionsResponse execute(BulkDeleteTransactionsRequest request, AppUser user) {
+        // 1. Refuse unfiltered bulk deletes
+        if (request.filter().isEmpty()) {
+            throw new BadRequestException("Bulk operations require at least one filter");
+        }
+
+        // 2. Delete in bounded batches, one short transaction (and one outbox event) per batch
+        long transactionsDeleted = 0;
+        int batches = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                int count = dataAccess.deleteBatch(user.getId(), request.filter(), batchSize);
+                if (count > 0) {
+                    outboxDataAccess.append(OutboxEventType.TRANSACTIONS_BULK_DELETED, null, user.getId());
+                }
+                return count;
+            });
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            transactionsDeleted += deleted;
+            batches++;
+        }
+
+        // 3. Build and return response
+        return responseBuilder.build(transactionsDeleted, batches);
+    }
+}
@@ -0,0 +1,36 @@
+package com.sathira.miimoneypal.rest.transactions.bulkrecategorize;
+
+import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.transaction.TransactionFilter;
+
+import java.util.Optional;
+
+/**
+ * Data access contract for bulk recategorization.
+ * Enforces user-scoped queries for security.
+ */
+public interface BulkRecategorizeDataAccess {
+
+    /**
+     * Find the target category with user ownership validation.
+     *
+     * @param id     category ID
+     * @param userId owner user ID
+     * @return Optional containing the category if found and owned by user
+     */
+    Optional<Category> findCategoryByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Move one batch of matching transactions to the target category.
+     * The type rule is part of the statement: only transactions whose type equals the
+     * (owned, non-archived) target category's type are touched, so GOAL_COMPLETED and
+     * bucket transactions can never be recategorized.
+     *
+     * @param userId           owner user ID
+     * @param filter           list filters selecting the transactions
+     * @param targetCategoryId category to move them to
+     * @param batchSize        maximum rows per statement
+     * @return number of transactions updated (0 when nothing is left to move)
+     */
+    int recategorizeBatch(Long userId, TransactionFilter filter, Long targetCategoryId, int batchSize);
+}
@@ -0,0 +1,21 @@
+package com.sathira.miimoneypal.rest.transactions.bulkrecategorize;
+
+import com.sathira.miimoneypal.records.category.Category;
+import org.springframework.stereotype.Component;
+
+/**
+ * Presenter for bulk recategorize response.
+ */
+@Component
+public class BulkRecategorizePresenter implements BulkRecategorizeResponseBuilder {
+
+    @Override
+    public BulkRecategorizeResponse build(Category targetCategory, long transactionsUpdated, int batches) {
+        return new BulkRecategorizeResponse(
+                transactionsUpdated + " transactions moved to '" + targetCategory.name() + "'",
+                targetCategory.id(),
+                transactionsUpdated,
+                batches
+        );
+    }
+}
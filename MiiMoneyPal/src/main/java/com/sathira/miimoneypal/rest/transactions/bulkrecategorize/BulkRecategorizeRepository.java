@@ -0,0 +1,58 @@
+package com.sathira.miimoneypal.rest.transactions.bulkrecategorize;
+
+import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.transaction.TransactionFilter;
+import com.sathira.miimoneypal.repository.CategoryDataAccess;
+import com.sathira.miimoneypal.repository.TransactionFilterConditions;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.sathira.miimoneypal.jooq.tables.Categories.CATEGORIES;
+import static com.sathira.miimoneypal.jooq.tables.Transactions.TRANSACTIONS;
+
+/**
+ * jOOQ implementation for bulk recategorization.
+ * Runs set-based UPDATEs limited to one batch of rows per statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BulkRecategorizeRepository implements BulkRecategorizeDataAccess {
+
+    private final DSLContext dsl;
+    private final CategoryDataAccess categoryDataAccess;
+
+    @Override
+    public Optional<Category> findCategoryByIdAndUserId(Long id, Long userId) {
+        return categoryDataAccess.findByIdAndUserId(id, userId);
+    }
+
+    @Override
+    public int recategorizeBatch(Long userId, TransactionFilter filter, Long targetCategoryId, int batchSize) {
+        // Type rule in SQL: transaction type must equal the target category's type
+        // (NULL - matching nothing - if the category is not the user's or is archived)
+        var targetCategoryType = dsl.select(CATEGORIES.TYPE)
+                .from(CATEGORIES)
+                .where(CATEGORIES.ID.eq(targetCategoryId))
+                .and(CATEGORIES.USER_ID.eq(userId))
+                .and(CATEGORIES.IS_ARCHIVED.eq(false));
+
+        return dsl.update(TRANSACTIONS)
+                .set(TRANSACTIONS.CATEGORY_ID, targetCategoryId)
+                .set(TRANSACTIONS.UPDATED_AT, LocalDateTime.now())
+                .where(TRANSACTIONS.ID.in(
+                        dsl.select(TRANSACTIONS.ID)
+                                .from(TRANSACTIONS)
+                                .where(TransactionFilterConditions.matching(userId, filter))
+                                .and(TRANSACTIONS.TYPE.eq(targetCategoryType))
+                                // Already-moved rows drop out, so repeated batches make progress
+                                .and(TRANSACTIONS.CATEGORY_ID.ne(targetCategoryId))
+                                .limit(batchSize)
+                                .forUpdate()
+                ))
+                .execute();
+    }
+}
@@ -0,0 +1,36 @@
+package com.sathira.miimoneypal.rest.transactions.bulkrecategorize;
+
+import com.sathira.miimoneypal.records.transaction.TransactionFilter;
+import com.sathira.miimoneypal.records.transaction.TransactionType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+
+/**
+ * Request DTO for moving all transactions that match the list filters to another category.
+ * Filters mean the same as in GET /api/transactions; at least one must be set.
+ * Used as input validation for POST /api/transactions/bulk/recategorize.
+ */
+public record BulkRecategorizeRequest(
+        TransactionType type,           // Optional: filter by transaction type
+        LocalDate startDate,            // Optional: filter transactions on or after this date
+        LocalDate endDate,              // Optional: filter transactions on or before this date
+        Long categoryId,                // Optional: filter by current category
+        Long bucketId,                  // Optional: filter by bucket
+
+        @Size(max = 100, message = "Search term must not exceed 100 characters")
+        String searchTerm,              // Optional: search in transaction notes
+
+        @NotNull(message = "Target category ID is required")
+        @Positive(message = "Target category ID must be positive")
+        Long targetCategoryId
+) {
+    /**
+     * Filter part of the request.
+     */
+    public TransactionFilter filter() {
+        return new TransactionFilter(type, startDate, endDate, categoryId, bucketId, searchTerm);
+    }
+}
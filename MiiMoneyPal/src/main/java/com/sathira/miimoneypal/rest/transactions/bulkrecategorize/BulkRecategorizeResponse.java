@@ -0,0 +1,15 @@
+package com.sathira.miimoneypal.rest.transactions.bulkrecategorize;
+
+import com.sathira.miimoneypal.models.response.ApiResponse;
+
+/**
+ * Response DTO for bulk recategorization.
+ * Only INCOME/EXPENSE transactions whose type matches the target category are counted.
+ */
+public record BulkRecategorizeResponse(
+        String message,
+        Long targetCategoryId,
+        long transactionsUpdated,
+        int batches
+) implements ApiResponse {
+}
@@ -0,0 +1,19 @@
+package com.sathira.miimoneypal.rest.transactions.bulkrecategorize;
+
+import com.sathira.miimoneypal.records.category.Category;
+
+/**
+ * Interface for building bulk recategorize response.
+ */
+public interface BulkRecategorizeResponseBuilder {
+
+    /**
+     * Build response from the target category and affected counts.
+     *
+     * @param targetCategory      the category transactions were moved to
+     * @param transactionsUpdated number of transactions updated
+     * @param batches             number of batches the update ran in
+     * @return response DTO
+     */
+    BulkRecategorizeResponse build(Category targetCategory, long transactionsUpdated, int batches);
+}
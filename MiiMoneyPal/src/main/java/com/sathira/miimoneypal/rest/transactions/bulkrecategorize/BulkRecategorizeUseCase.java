@@ -0,0 +1,86 @@
+package com.sathira.miimoneypal.rest.transactions.bulkrecategorize;
+
+import com.sathira.miimoneypal.architecture.AuthenticatedUseCase;
+import com.sathira.miimoneypal.exception.BadRequestException;
+import com.sathira.miimoneypal.exception.BusinessRuleException;
+import com.sathira.miimoneypal.exception.ResourceNotFoundException;
+import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
+import com.sathira.miimoneypal.security.AppUser;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * UseCase for moving every transaction that matches the list filters to another category.
+ *
+ * Business Rules:
+ * - At least one filter is required (no accidental "recategorize everything")
+ * - Target category must belong to the user and not be archived
+ * - Only transactions whose type matches the target category type are moved
+ *   (enforced in the UPDATE itself; bucket and system transactions are never touched)
+ *
+ * Runs in bounded batches, each in its own short transaction, so row locks stay short.
+ */
+@Service
+public class BulkRecategorizeUseCase
+        implements AuthenticatedUseCase<BulkRecategorizeRequest, BulkRecategorizeResponse> {
+
+    private final BulkRecategorizeDataAccess dataAccess;
+    private final OutboxDataAccess outboxDataAccess;
+    private final BulkRecategorizeResponseBuilder responseBuilder;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public BulkRecategorizeUseCase(
+            BulkRecategorizeDataAccess dataAccess,
+            OutboxDataAccess outboxDataAccess,
+            BulkRecategorizeResponseBuilder responseBuilder,
+            TransactionTemplate transactionTemplate,
+            @Value("${transactions.bulk.batch-size:500}") int batchSize
+    ) {
+        this.dataAccess = dataAccess;
+        this.outboxDataAccess = outboxDataAccess;
+        this.responseBuilder = responseBuilder;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public BulkRecategorizeResponse execute(BulkRecategorizeRequest request, AppUser user) {
+        // 1. Refuse unfiltered bulk updates
+        if (request.filter().isEmpty()) {
+            throw new BadRequestException("Bulk operations require at least one filter");
+        }
+
+        // 2. Validate target category (SQL re-checks ownership/archival per batch)
+        Category targetCategory = dataAccess.findCategoryByIdAndUserId(request.targetCategoryId(), user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found or access denied"));
+
+        if (targetCategory.isArchived()) {
+            throw new BusinessRuleException("Cannot use archived category: " + targetCategory.name());
+        }
+
+        // 3. Update in bounded batches, one short transaction (and one outbox event) per batch
+        long transactionsUpdated = 0;
+        int batches = 0;
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> {
+                int count = dataAccess.recategorizeBatch(user.getId(), request.filter(), targetCategory.id(), batchSize);
+                if (count > 0) {
+                    outboxDataAccess.append(OutboxEventType.TRANSACTIONS_RECATEGORIZED, null, user.getId());
+                }
+                return count;
+            });
+            if (updated == null || updated == 0) {
+                break;
+            }
+            transactionsUpdated += updated;
+            batches++;
+        }
+
+        // 4. Build and return response
+        return responseBuilder.build(targetCategory, transactionsUpdated, batches);
+    }
+}
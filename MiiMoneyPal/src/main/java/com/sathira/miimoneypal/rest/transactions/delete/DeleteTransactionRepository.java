@@ -1,8 +1,7 @@
 package com.sathira.miimoneypal.rest.transactions.delete;
 
-import com.sathira.miimoneypal.jooq.tables.records.TransactionsRecord;
 import com.sathira.miimoneypal.records.transaction.Transaction;
-import com.sathira.miimoneypal.records.transaction.TransactionType;
+import com.sathira.miimoneypal.repository.mapping.TransactionRows;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
 import org.springframework.stereotype.Repository;
@@ -23,11 +22,11 @@ public class DeleteTransactionRepository implements DeleteTransactionDataAccess
 
     @Override
     public Optional<Transaction> findByIdAndUserId(Long id, Long userId) {
-        return dsl.selectFrom(TRANSACTIONS)
+        return TransactionRows.select(dsl)
+                .from(TRANSACTIONS)
                 .where(TRANSACTIONS.ID.eq(id))
                 .and(TRANSACTIONS.USER_ID.eq(userId))
-                .fetchOptional()
-                .map(this::toDomainRecord);
+                .fetchOptional(TransactionRows.TRANSACTION);
     }
 
     @Override
@@ -39,22 +38,4 @@ public class DeleteTransactionRepository implements DeleteTransactionDataAccess
 
         return deletedRows > 0;
     }
-
-    /**
-     * Convert jOOQ TransactionsRecord to domain Transaction record.
-     */
-    private Transaction toDomainRecord(TransactionsRecord record) {
-        return Transaction.builder()
-                .id(record.getId())
-                .userId(record.getUserId())
-                .type(TransactionType.valueOf(record.getType()))
-                .amount(record.getAmount())
-                .transactionDate(record.getTransactionDate())
-                .categoryId(record.getCategoryId())
-                .bucketId(record.getBucketId())
-                .note(record.getNote())
-                .createdAt(record.getCreatedAt())
-                .updatedAt(record.getUpdatedAt())
-                .build();
-    }
 }
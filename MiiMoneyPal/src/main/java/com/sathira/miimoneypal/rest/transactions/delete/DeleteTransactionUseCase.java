@@ -3,8 +3,10 @@ package com.sathira.miimoneypal.rest.transactions.delete;
 import com.sathira.miimoneypal.architecture.AuthenticatedUseCase;
 import com.sathira.miimoneypal.exception.BadRequestException;
 import com.sathira.miimoneypal.exception.ResourceNotFoundException;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
 import com.sathira.miimoneypal.records.transaction.Transaction;
 import com.sathira.miimoneypal.records.transaction.TransactionType;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ public class DeleteTransactionUseCase
         implements AuthenticatedUseCase<DeleteTransactionRequest, DeleteTransactionResponse> {
 
     private final DeleteTransactionDataAccess transactionDataAccess;
+    private final OutboxDataAccess outboxDataAccess;
     private final DeleteTransactionResponseBuilder responseBuilder;
 
     @Override
@@ -45,7 +48,10 @@ public class DeleteTransactionUseCase
             throw new IllegalStateException("Transaction deletion failed unexpectedly");
         }
 
-        // 4. Build and return confirmation response
+        // 4. Record change event in the same transaction
+        outboxDataAccess.append(OutboxEventType.TRANSACTION_DELETED, request.id(), user.getId());
+
+        // 5. Build and return confirmation response
         return responseBuilder.build(request.id());
     }
 }
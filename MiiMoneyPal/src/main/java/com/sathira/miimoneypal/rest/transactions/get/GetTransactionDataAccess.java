@@ -1,8 +1,10 @@
 package com.sathira.miimoneypal.rest.transactions.get;
 
 import com.sathira.miimoneypal.records.transaction.Transaction;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Data access contract for fetching a single transaction.
@@ -15,7 +17,8 @@ public interface GetTransactionDataAccess {
      *
      * @param id     transaction ID
      * @param userId owner user ID
+     * @param fields response fields the row is loaded for (columns no field needs are left null)
      * @return Optional containing the transaction if found and belongs to user, empty otherwise
      */
-    Optional<Transaction> findByIdAndUserId(Long id, Long userId);
+    Optional<Transaction> findByIdAndUserId(Long id, Long userId, Set<TransactionField> fields);
 }
@@ -3,10 +3,12 @@ package com.sathira.miimoneypal.rest.transactions.get;
 import com.sathira.miimoneypal.records.bucket.Bucket;
 import com.sathira.miimoneypal.records.category.Category;
 import com.sathira.miimoneypal.records.transaction.Transaction;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
 import org.springframework.stereotype.Component;
 
 import java.text.NumberFormat;
 import java.util.Locale;
+import java.util.Set;
 
 /**
  * Presenter for GET transaction response.
@@ -18,22 +20,24 @@ public class GetTransactionPresenter implements GetTransactionResponseBuilder {
     private static final NumberFormat CURRENCY_FORMATTER = NumberFormat.getCurrencyInstance(Locale.US);
 
     @Override
-    public GetTransactionResponse build(Transaction transaction, Category category, Bucket bucket) {
+    public GetTransactionResponse build(Transaction transaction, Category category, Bucket bucket,
+                                        Set<TransactionField> fields) {
         return new GetTransactionResponse(
                 transaction.id(),
                 transaction.type().name(),
                 transaction.amount(),
-                formatAmount(transaction.amount()),
+                fields.contains(TransactionField.FORMATTED_AMOUNT) ? formatAmount(transaction.amount()) : null,
                 transaction.transactionDate(),
-                category != null ? category.id() : null,
+                transaction.categoryId(),
                 category != null ? category.name() : null,
                 category != null ? category.type().name() : null,
-                bucket != null ? bucket.id() : null,
+                transaction.bucketId(),
                 bucket != null ? bucket.name() : null,
                 bucket != null ? bucket.type().name() : null,
                 transaction.note(),
                 transaction.createdAt(),
-                transaction.updatedAt()
+                transaction.updatedAt(),
+                fields
         );
     }
 
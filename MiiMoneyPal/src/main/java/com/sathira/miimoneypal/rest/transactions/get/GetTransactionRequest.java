@@ -1,8 +1,13 @@
 package com.sathira.miimoneypal.rest.transactions.get;
 
+import com.sathira.miimoneypal.exception.BadRequestException;
+import com.sathira.miimoneypal.models.request.RequestParameters;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
+import java.util.Set;
+
 /**
  * Request DTO for fetching a single transaction by ID.
  * Used as input validation for GET /api/transactions/{id}.
@@ -10,5 +15,27 @@ import jakarta.validation.constraints.Positive;
 public record GetTransactionRequest(
         @NotNull(message = "Transaction ID is required")
         @Positive(message = "Transaction ID must be positive")
-        Long id
-) {}
+        Long id,
+
+        Set<TransactionField> fields    // Fields to load and return (default: all)
+) {
+    /**
+     * Constructor with default value for fields.
+     */
+    public GetTransactionRequest {
+        fields = (fields != null) ? fields : TransactionField.DETAIL;
+    }
+
+    /**
+     * Binds the id path variable and the fields= parameter of GET /api/transactions/{id},
+     * directly or inside a batch.
+     *
+     * @throws BadRequestException if the id is not a number or fields names an unknown field
+     */
+    public static GetTransactionRequest from(RequestParameters params) {
+        return new GetTransactionRequest(
+                params.get("id", Long.class),
+                TransactionField.parse(params.get("fields", String.class), TransactionField.DETAIL)
+        );
+    }
+}
@@ -1,14 +1,19 @@
 package com.sathira.miimoneypal.rest.transactions.get;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.sathira.miimoneypal.models.response.ApiResponse;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
+import com.sathira.miimoneypal.records.transaction.TransactionFieldSelection;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 /**
  * Response DTO for fetching a single transaction.
  * Returns full transaction details including related entity information.
+ * Only the fields in {@code fields} are written (fields= parameter); the rest are omitted.
  */
 public record GetTransactionResponse(
         Long id,
@@ -24,5 +29,30 @@ public record GetTransactionResponse(
         String bucketType,        // SAVINGS_GOAL or PERPETUAL_ASSET
         String note,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
-) implements ApiResponse {}
+        LocalDateTime updatedAt,
+        @JsonIgnore
+        Set<TransactionField> fields
+) implements ApiResponse, TransactionFieldSelection {
+    /**
+     * Response with every field selected.
+     */
+    public GetTransactionResponse(
+            Long id,
+            String type,
+            BigDecimal amount,
+            String formattedAmount,
+            LocalDate transactionDate,
+            Long categoryId,
+            String categoryName,
+            String categoryType,
+            Long bucketId,
+            String bucketName,
+            String bucketType,
+            String note,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+    ) {
+        this(id, type, amount, formattedAmount, transactionDate, categoryId, categoryName, categoryType,
+                bucketId, bucketName, bucketType, note, createdAt, updatedAt, TransactionField.DETAIL);
+    }
+}
@@ -3,6 +3,9 @@ package com.sathira.miimoneypal.rest.transactions.get;
 import com.sathira.miimoneypal.records.bucket.Bucket;
 import com.sathira.miimoneypal.records.category.Category;
 import com.sathira.miimoneypal.records.transaction.Transaction;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
+
+import java.util.Set;
 
 /**
  * Interface for building GET transaction response.
@@ -14,9 +17,11 @@ public interface GetTransactionResponseBuilder {
      * Build response from transaction and related entities.
      *
      * @param transaction the transaction domain record
-     * @param category    the related category (null for bucket transactions)
-     * @param bucket      the related bucket (null for categorized transactions)
+     * @param category    the related category (null for bucket transactions or when not requested)
+     * @param bucket      the related bucket (null for categorized transactions or when not requested)
+     * @param fields      fields to return
      * @return response DTO with formatted data and related entity details
      */
-    GetTransactionResponse build(Transaction transaction, Category category, Bucket bucket);
+    GetTransactionResponse build(Transaction transaction, Category category, Bucket bucket,
+                                 Set<TransactionField> fields);
 }
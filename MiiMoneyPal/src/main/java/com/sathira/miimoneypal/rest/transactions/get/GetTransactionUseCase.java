@@ -5,6 +5,7 @@ import com.sathira.miimoneypal.exception.ResourceNotFoundException;
 import com.sathira.miimoneypal.records.bucket.Bucket;
 import com.sathira.miimoneypal.records.category.Category;
 import com.sathira.miimoneypal.records.transaction.Transaction;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
 import com.sathira.miimoneypal.repository.BucketDataAccess;
 import com.sathira.miimoneypal.repository.CategoryDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
@@ -12,6 +13,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
+
 /**
  * UseCase for fetching a single transaction by ID.
  * Enforces user-scoped access and includes related entity details.
@@ -30,22 +33,25 @@ public class GetTransactionUseCase
     @Transactional(readOnly = true)
     public GetTransactionResponse execute(GetTransactionRequest request, AppUser user) {
         // 1. Find transaction (enforces user ownership)
-        Transaction transaction = transactionDataAccess.findByIdAndUserId(request.id(), user.getId())
+        Set<TransactionField> fields = request.fields();
+        Transaction transaction = transactionDataAccess.findByIdAndUserId(request.id(), user.getId(), fields)
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction not found or access denied"));
 
-        // 2. Fetch related category if present
+        // 2. Fetch related category if present and its name or type is requested
         Category category = null;
-        if (transaction.categoryId() != null) {
+        if (transaction.categoryId() != null
+                && (fields.contains(TransactionField.CATEGORY_NAME) || fields.contains(TransactionField.CATEGORY_TYPE))) {
             category = categoryDataAccess.findById(transaction.categoryId()).orElse(null);
         }
 
-        // 3. Fetch related bucket if present
+        // 3. Fetch related bucket if present and its name or type is requested
         Bucket bucket = null;
-        if (transaction.bucketId() != null) {
+        if (transaction.bucketId() != null
+                && (fields.contains(TransactionField.BUCKET_NAME) || fields.contains(TransactionField.BUCKET_TYPE))) {
             bucket = bucketDataAccess.findById(transaction.bucketId()).orElse(null);
         }
 
         // 4. Build and return response
-        return responseBuilder.build(transaction, category, bucket);
+        return responseBuilder.build(transaction, category, bucket, fields);
     }
 }
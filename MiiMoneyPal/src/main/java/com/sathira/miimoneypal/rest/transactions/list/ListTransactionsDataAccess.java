@@ -1,10 +1,12 @@
 package com.sathira.miimoneypal.rest.transactions.list;
 
 import com.sathira.miimoneypal.records.transaction.Transaction;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
 import com.sathira.miimoneypal.records.transaction.TransactionType;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Data access contract for listing transactions with filters.
@@ -25,6 +27,7 @@ public interface ListTransactionsDataAccess {
      * @param searchTerm optional search term (searches in notes)
      * @param offset     pagination offset (0-based)
      * @param limit      pagination limit (page size)
+     * @param fields     response fields the rows are loaded for (columns no field needs are left null)
      * @return list of transactions matching filters
      */
     List<Transaction> findByFilters(
@@ -36,7 +39,8 @@ public interface ListTransactionsDataAccess {
             Long bucketId,
             String searchTerm,
             int offset,
-            int limit
+            int limit,
+            Set<TransactionField> fields
     );
 
     /**
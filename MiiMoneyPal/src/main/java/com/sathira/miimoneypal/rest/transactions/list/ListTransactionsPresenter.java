@@ -3,6 +3,7 @@ package com.sathira.miimoneypal.rest.transactions.list;
 import com.sathira.miimoneypal.records.bucket.Bucket;
 import com.sathira.miimoneypal.records.category.Category;
 import com.sathira.miimoneypal.records.transaction.Transaction;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
 import com.sathira.miimoneypal.repository.BucketDataAccess;
 import com.sathira.miimoneypal.repository.CategoryDataAccess;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,7 @@ import java.util.stream.Collectors;
 /**
  * Presenter for LIST transactions response.
  * Efficiently fetches related entities and transforms to paginated response.
+ * Category and bucket names are fetched only when requested through fields=.
  */
 @Component
 @RequiredArgsConstructor
@@ -30,58 +32,62 @@ public class ListTransactionsPresenter implements ListTransactionsResponseBuilde
             List<Transaction> transactions,
             int offset,
             int limit,
-            long totalItems
+            long totalItems,
+            Set<TransactionField> fields
     ) {
         // Early return for empty list
         if (transactions.isEmpty()) {
-            return ListTransactionsResponse.of(List.of(), offset, limit, totalItems);
+            return ListTransactionsResponse.of(List.of(), offset, limit, totalItems, fields);
         }
 
-        // Extract unique category and bucket IDs
-        Set<Long> categoryIds = transactions.stream()
-                .map(Transaction::categoryId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        Set<Long> bucketIds = transactions.stream()
-                .map(Transaction::bucketId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-
-        // Fetch categories and buckets in batches (cached lookups)
+        // Extract unique category and bucket IDs (only when their names are requested)
+        Set<Long> categoryIds = fields.contains(TransactionField.CATEGORY_NAME)
+                ? transactions.stream()
+                        .map(Transaction::categoryId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())
+                : Set.of();
+
+        Set<Long> bucketIds = fields.contains(TransactionField.BUCKET_NAME)
+                ? transactions.stream()
+                        .map(Transaction::bucketId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())
+                : Set.of();
+
+        // Fetch categories and buckets with one query each (none when no IDs)
         Map<Long, Category> categoryMap = fetchCategories(categoryIds);
         Map<Long, Bucket> bucketMap = fetchBuckets(bucketIds);
+        boolean formatAmount = fields.contains(TransactionField.FORMATTED_AMOUNT);
 
         // Transform each transaction to summary
         List<TransactionSummary> summaries = transactions.stream()
-                .map(transaction -> toSummary(transaction, categoryMap, bucketMap))
+                .map(transaction -> toSummary(transaction, categoryMap, bucketMap, formatAmount, fields))
                 .toList();
 
-        return ListTransactionsResponse.of(summaries, offset, limit, totalItems);
+        return ListTransactionsResponse.of(summaries, offset, limit, totalItems, fields);
     }
 
     /**
-     * Fetch categories by IDs and return as map.
+     * Fetch categories by IDs in a single query and return as map.
      */
     private Map<Long, Category> fetchCategories(Set<Long> categoryIds) {
-        Map<Long, Category> categoryMap = new HashMap<>();
-        for (Long categoryId : categoryIds) {
-            categoryDataAccess.findById(categoryId)
-                    .ifPresent(category -> categoryMap.put(categoryId, category));
+        if (categoryIds.isEmpty()) {
+            return Map.of();
         }
-        return categoryMap;
+        return categoryDataAccess.findAllByIds(categoryIds).stream()
+                .collect(Collectors.toMap(Category::id, category -> category));
     }
 
     /**
-     * Fetch buckets by IDs and return as map.
+     * Fetch buckets by IDs in a single query and return as map.
      */
     private Map<Long, Bucket> fetchBuckets(Set<Long> bucketIds) {
-        Map<Long, Bucket> bucketMap = new HashMap<>();
-        for (Long bucketId : bucketIds) {
-            bucketDataAccess.findById(bucketId)
-                    .ifPresent(bucket -> bucketMap.put(bucketId, bucket));
+        if (bucketIds.isEmpty()) {
+            return Map.of();
         }
-        return bucketMap;
+        return bucketDataAccess.findAllByIds(bucketIds).stream()
+                .collect(Collectors.toMap(Bucket::id, bucket -> bucket));
     }
 
     /**
@@ -90,7 +96,9 @@ public class ListTransactionsPresenter implements ListTransactionsResponseBuilde
     private TransactionSummary toSummary(
             Transaction transaction,
             Map<Long, Category> categoryMap,
-            Map<Long, Bucket> bucketMap
+            Map<Long, Bucket> bucketMap,
+            boolean formatAmount,
+            Set<TransactionField> fields
     ) {
         Category category = transaction.categoryId() != null
                 ? categoryMap.get(transaction.categoryId())
@@ -104,14 +112,15 @@ public class ListTransactionsPresenter implements ListTransactionsResponseBuilde
                 transaction.id(),
                 transaction.type().name(),
                 transaction.amount(),
-                formatAmount(transaction.amount()),
+                formatAmount ? formatAmount(transaction.amount()) : null,
                 transaction.transactionDate(),
-                category != null ? category.id() : null,
+                transaction.categoryId(),
                 category != null ? category.name() : null,
-                bucket != null ? bucket.id() : null,
+                transaction.bucketId(),
                 bucket != null ? bucket.name() : null,
                 transaction.note(),
-                transaction.createdAt()
+                transaction.createdAt(),
+                fields
         );
     }
 
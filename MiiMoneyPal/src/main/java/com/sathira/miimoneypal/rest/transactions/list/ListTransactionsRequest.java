@@ -1,11 +1,15 @@
 package com.sathira.miimoneypal.rest.transactions.list;
 
+import com.sathira.miimoneypal.exception.BadRequestException;
+import com.sathira.miimoneypal.models.request.RequestParameters;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
 import com.sathira.miimoneypal.records.transaction.TransactionType;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDate;
+import java.util.Set;
 
 /**
  * Request DTO for listing transactions with filters and pagination.
@@ -26,13 +30,36 @@ public record ListTransactionsRequest(
 
         @Min(value = 1, message = "Limit must be at least 1")
         @Max(value = 100, message = "Limit must not exceed 100")
-        Integer limit                   // Pagination limit (default: 20, max: 100)
+        Integer limit,                  // Pagination limit (default: 20, max: 100)
+
+        Set<TransactionField> fields    // Item fields to load and return (default: all)
 ) {
     /**
-     * Constructor with default values for pagination.
+     * Constructor with default values for pagination and fields.
      */
     public ListTransactionsRequest {
         offset = (offset != null) ? offset : 0;
         limit = (limit != null) ? limit : 20;
+        fields = (fields != null) ? fields : TransactionField.SUMMARY;
+    }
+
+    /**
+     * Binds the query parameters of GET /api/transactions, directly or inside a batch.
+     * Parameters keep the field names; fields= is a comma-separated list of item fields.
+     *
+     * @throws BadRequestException if a value cannot be converted or names an unknown field
+     */
+    public static ListTransactionsRequest from(RequestParameters params) {
+        return new ListTransactionsRequest(
+                params.get("type", TransactionType.class),
+                params.get("startDate", LocalDate.class),
+                params.get("endDate", LocalDate.class),
+                params.get("categoryId", Long.class),
+                params.get("bucketId", Long.class),
+                params.get("searchTerm", String.class),
+                params.get("offset", Integer.class),
+                params.get("limit", Integer.class),
+                TransactionField.parse(params.get("fields", String.class), TransactionField.SUMMARY)
+        );
     }
 }
@@ -1,11 +1,18 @@
 package com.sathira.miimoneypal.rest.transactions.list;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.sathira.miimoneypal.models.response.ApiResponse;
 import com.sathira.miimoneypal.models.response.OffsetSearchResponse;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
+
+import java.util.Set;
 
 /**
  * Response DTO for listing transactions with pagination.
  * Type alias for OffsetSearchResponse<TransactionSummary> to improve readability.
+ * Items carry the fields selected with fields= and are written with only those; {@code fields}
+ * repeats the selection for the columnar form, which writes one column per selected field
+ * even for an empty page.
  */
 public record ListTransactionsResponse(
         java.util.List<TransactionSummary> items,
@@ -14,8 +21,25 @@ public record ListTransactionsResponse(
         long totalItems,
         int totalPages,
         boolean hasNext,
-        boolean hasPrevious
+        boolean hasPrevious,
+        @JsonIgnore
+        Set<TransactionField> fields
 ) implements ApiResponse {
+    /**
+     * Response with every item field selected.
+     */
+    public ListTransactionsResponse(
+            java.util.List<TransactionSummary> items,
+            int page,
+            int size,
+            long totalItems,
+            int totalPages,
+            boolean hasNext,
+            boolean hasPrevious
+    ) {
+        this(items, page, size, totalItems, totalPages, hasNext, hasPrevious, TransactionField.SUMMARY);
+    }
+
     /**
      * Create response from items and pagination parameters.
      * Converts offset/limit to page/size terminology.
@@ -31,6 +55,26 @@ public record ListTransactionsResponse(
             int offset,
             int limit,
             long totalItems
+    ) {
+        return of(items, offset, limit, totalItems, TransactionField.SUMMARY);
+    }
+
+    /**
+     * Create response from items, pagination parameters and the selected item fields.
+     *
+     * @param items      list of transaction summaries
+     * @param offset     pagination offset (0-based)
+     * @param limit      pagination limit (page size)
+     * @param totalItems total number of items matching the filters
+     * @param fields     item fields to write
+     * @return paginated response
+     */
+    public static ListTransactionsResponse of(
+            java.util.List<TransactionSummary> items,
+            int offset,
+            int limit,
+            long totalItems,
+            Set<TransactionField> fields
     ) {
         int page = limit > 0 ? offset / limit : 0;
         int totalPages = limit > 0 ? (int) Math.ceil((double) totalItems / limit) : 0;
@@ -44,7 +88,8 @@ public record ListTransactionsResponse(
                 totalItems,
                 totalPages,
                 hasNext,
-                hasPrevious
+                hasPrevious,
+                fields
         );
     }
 
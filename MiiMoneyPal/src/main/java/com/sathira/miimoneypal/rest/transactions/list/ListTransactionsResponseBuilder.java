@@ -1,8 +1,10 @@
 package com.sathira.miimoneypal.rest.transactions.list;
 
 import com.sathira.miimoneypal.records.transaction.Transaction;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Interface for building LIST transactions response.
@@ -12,18 +14,21 @@ public interface ListTransactionsResponseBuilder {
 
     /**
      * Build paginated response from transactions and pagination metadata.
-     * Fetches related category/bucket names for all transactions efficiently.
+     * Fetches related category/bucket names for all transactions efficiently, and only when
+     * the names are among the requested fields.
      *
      * @param transactions list of transaction domain records
      * @param offset       pagination offset
      * @param limit        pagination limit
      * @param totalItems   total number of items matching filters
+     * @param fields       item fields to return
      * @return paginated response with transaction summaries
      */
     ListTransactionsResponse build(
             List<Transaction> transactions,
             int offset,
             int limit,
-            long totalItems
+            long totalItems,
+            Set<TransactionField> fields
     );
 }
@@ -34,7 +34,8 @@ public class ListTransactionsUseCase
                 request.bucketId(),
                 request.searchTerm(),
                 request.offset(),
-                request.limit()
+                request.limit(),
+                request.fields()
         );
 
         // 2. Count total items for pagination metadata
@@ -49,6 +50,6 @@ public class ListTransactionsUseCase
         );
 
         // 3. Build and return paginated response
-        return responseBuilder.build(transactions, request.offset(), request.limit(), totalItems);
+        return responseBuilder.build(transactions, request.offset(), request.limit(), totalItems, request.fields());
     }
 }
@@ -1,12 +1,18 @@
 package com.sathira.miimoneypal.rest.transactions.list;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
+import com.sathira.miimoneypal.records.transaction.TransactionFieldSelection;
+
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 /**
  * DTO representing a single transaction in the list response.
  * Contains essential transaction details without deep nesting.
+ * Only the fields in {@code fields} are written (fields= parameter); the rest are omitted.
  */
 public record TransactionSummary(
         Long id,
@@ -19,5 +25,27 @@ public record TransactionSummary(
         Long bucketId,
         String bucketName,
         String note,
-        LocalDateTime createdAt
-) {}
+        LocalDateTime createdAt,
+        @JsonIgnore
+        Set<TransactionField> fields
+) implements TransactionFieldSelection {
+    /**
+     * Summary with every list field selected.
+     */
+    public TransactionSummary(
+            Long id,
+            String type,
+            BigDecimal amount,
+            String formattedAmount,
+            LocalDate transactionDate,
+            Long categoryId,
+            String categoryName,
+            Long bucketId,
+            String bucketName,
+            String note,
+            LocalDateTime createdAt
+    ) {
+        this(id, type, amount, formattedAmount, transactionDate, categoryId, categoryName,
+                bucketId, bucketName, note, createdAt, TransactionField.SUMMARY);
+    }
+}
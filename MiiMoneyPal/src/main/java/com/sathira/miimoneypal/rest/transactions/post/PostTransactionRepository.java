@@ -2,7 +2,7 @@ package com.sathira.miimoneypal.rest.transactions.post;
 
 import com.sathira.miimoneypal.jooq.tables.records.TransactionsRecord;
 import com.sathira.miimoneypal.records.transaction.Transaction;
-import com.sathira.miimoneypal.records.transaction.TransactionType;
+import com.sathira.miimoneypal.repository.mapping.TransactionRows;
 import lombok.RequiredArgsConstructor;
 import org.jooq.DSLContext;
 import org.springframework.stereotype.Repository;
@@ -21,39 +21,24 @@ public class PostTransactionRepository implements PostTransactionDataAccess {
 
     @Override
     public Transaction create(Transaction transaction) {
-        TransactionsRecord record = dsl.newRecord(TRANSACTIONS);
-
-        // Set all fields (id, createdAt, updatedAt will be generated by database)
-        record.setUserId(transaction.userId());
-        record.setType(transaction.type().name());
-        record.setAmount(transaction.amount());
-        record.setTransactionDate(transaction.transactionDate());
-        record.setCategoryId(transaction.categoryId());
-        record.setBucketId(transaction.bucketId());
-        record.setNote(transaction.note());
-
-        // Insert and return generated values
-        record.store();
+        // Single INSERT ... RETURNING: id, created_at and updated_at come back from the database
+        // (record.store() only fetches the identity, leaving the timestamps null)
+        TransactionsRecord record = dsl.insertInto(TRANSACTIONS)
+                .set(TRANSACTIONS.USER_ID, transaction.userId())
+                .set(TRANSACTIONS.TYPE, transaction.type().name())
+                .set(TRANSACTIONS.AMOUNT, transaction.amount())
+                .set(TRANSACTIONS.TRANSACTION_DATE, transaction.transactionDate())
+                .set(TRANSACTIONS.CATEGORY_ID, transaction.categoryId())
+                .set(TRANSACTIONS.BUCKET_ID, transaction.bucketId())
+                .set(TRANSACTIONS.NOTE, transaction.note())
+                .returning()
+                .fetchOne();
+
+        if (record == null) {
+            throw new IllegalStateException("Failed to insert transaction - no record returned");
+        }
 
         // Convert back to domain record with generated values
-        return toDomainRecord(record);
-    }
-
-    /**
-     * Convert jOOQ TransactionsRecord to domain Transaction record.
-     */
-    private Transaction toDomainRecord(TransactionsRecord record) {
-        return Transaction.builder()
-                .id(record.getId())
-                .userId(record.getUserId())
-                .type(TransactionType.valueOf(record.getType()))
-                .amount(record.getAmount())
-                .transactionDate(record.getTransactionDate())
-                .categoryId(record.getCategoryId())
-                .bucketId(record.getBucketId())
-                .note(record.getNote())
-                .createdAt(record.getCreatedAt())
-                .updatedAt(record.getUpdatedAt())
-                .build();
+        return TransactionRows.toTransaction(record);
     }
 }
@@ -7,10 +7,12 @@ import com.sathira.miimoneypal.exception.ResourceNotFoundException;
 import com.sathira.miimoneypal.records.bucket.Bucket;
 import com.sathira.miimoneypal.records.category.Category;
 import com.sathira.miimoneypal.records.category.CategoryType;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
 import com.sathira.miimoneypal.records.transaction.Transaction;
 import com.sathira.miimoneypal.records.transaction.TransactionType;
 import com.sathira.miimoneypal.repository.BucketDataAccess;
 import com.sathira.miimoneypal.repository.CategoryDataAccess;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -31,6 +33,7 @@ public class PostTransactionUseCase
     private final PostTransactionDataAccess transactionDataAccess;
     private final CategoryDataAccess categoryDataAccess;
     private final BucketDataAccess bucketDataAccess;
+    private final OutboxDataAccess outboxDataAccess;
     private final PostTransactionResponseBuilder responseBuilder;
 
     @Override
@@ -88,7 +91,10 @@ public class PostTransactionUseCase
         // 4. Persist to database
         Transaction savedTransaction = transactionDataAccess.create(transaction);
 
-        // 5. Build and return response
+        // 5. Record change event in the same transaction
+        outboxDataAccess.append(OutboxEventType.TRANSACTION_CREATED, savedTransaction.id(), user.getId());
+
+        // 6. Build and return response
         return responseBuilder.build(savedTransaction, category, bucket);
     }
 
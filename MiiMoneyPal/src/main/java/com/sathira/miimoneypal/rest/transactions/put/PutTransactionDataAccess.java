@@ -21,11 +21,24 @@ public interface PutTransactionDataAccess {
     Optional<Transaction> findByIdAndUserId(Long id, Long userId);
 
     /**
-     * Update an existing transaction.
+     * Update an existing transaction in a single UPDATE ... RETURNING statement.
      * Only updates the provided fields; does not modify type, user_id, or id.
      *
      * @param transaction the transaction domain record with updated values
      * @return the updated transaction with new updated_at timestamp
      */
     Transaction update(Transaction transaction);
+
+    /**
+     * Update a transaction only if it still carries the version the client edited, in one
+     * UPDATE ... RETURNING statement. The WHERE clause checks ownership and version, that the
+     * category (or bucket) is the user's, active and fits the stored type, and that a withdrawal
+     * does not overdraw the bucket, so nothing is read beforehand.
+     *
+     * @param request the update request (request.updatedAt() is the expected version;
+     *                exactly one of categoryId/bucketId is set)
+     * @param userId  owner user ID
+     * @return the updated transaction with its category or bucket name, or empty if any check failed
+     */
+    Optional<UpdatedTransaction> updateIfUnmodified(PutTransactionRequest request, Long userId);
 }
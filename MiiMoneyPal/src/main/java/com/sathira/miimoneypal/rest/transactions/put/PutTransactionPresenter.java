@@ -35,6 +35,25 @@ public class PutTransactionPresenter implements PutTransactionResponseBuilder {
         );
     }
 
+    @Override
+    public PutTransactionResponse build(UpdatedTransaction updated) {
+        Transaction transaction = updated.transaction();
+        return new PutTransactionResponse(
+                transaction.id(),
+                transaction.type().name(),
+                transaction.amount(),
+                formatAmount(transaction.amount()),
+                transaction.transactionDate(),
+                transaction.categoryId(),
+                updated.categoryName(),
+                transaction.bucketId(),
+                updated.bucketName(),
+                transaction.note(),
+                transaction.createdAt(),
+                transaction.updatedAt()
+        );
+    }
+
     /**
      * Format amount as currency string (e.g., "$1,234.56").
      */
@@ -1,74 +1,135 @@
 package com.sathira.miimoneypal.rest.transactions.put;
 
+import com.sathira.miimoneypal.jooq.tables.Transactions;
 import com.sathira.miimoneypal.jooq.tables.records.TransactionsRecord;
+import com.sathira.miimoneypal.records.bucket.BucketStatus;
 import com.sathira.miimoneypal.records.transaction.Transaction;
 import com.sathira.miimoneypal.records.transaction.TransactionType;
+import com.sathira.miimoneypal.repository.mapping.TransactionRows;
 import lombok.RequiredArgsConstructor;
+import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.UpdateFromStep;
+import org.jooq.impl.DSL;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
+import static com.sathira.miimoneypal.jooq.tables.Buckets.BUCKETS;
+import static com.sathira.miimoneypal.jooq.tables.Categories.CATEGORIES;
 import static com.sathira.miimoneypal.jooq.tables.Transactions.TRANSACTIONS;
 
 /**
  * jOOQ implementation for updating transactions.
- * Handles user-scoped queries and updates with optimistic locking via updated_at.
+ * Handles user-scoped queries and single-statement updates (UPDATE ... RETURNING),
+ * with optimistic locking via updated_at when the client supplies its version.
+ * Versioned updates join the category or bucket with UPDATE ... FROM, so its checks
+ * and its name come with the same statement.
  */
 @Repository
 @RequiredArgsConstructor
 public class PutTransactionRepository implements PutTransactionDataAccess {
 
+    /**
+     * Alias for the category or bucket name returned next to the updated row.
+     */
+    private static final Field<String> RELATED_NAME = DSL.field(DSL.name("related_name"), String.class);
+
     private final DSLContext dsl;
 
     @Override
     public Optional<Transaction> findByIdAndUserId(Long id, Long userId) {
-        return dsl.selectFrom(TRANSACTIONS)
+        return TransactionRows.select(dsl)
+                .from(TRANSACTIONS)
                 .where(TRANSACTIONS.ID.eq(id))
                 .and(TRANSACTIONS.USER_ID.eq(userId))
-                .fetchOptional()
-                .map(this::toDomainRecord);
+                .fetchOptional(TransactionRows.TRANSACTION);
     }
 
     @Override
     public Transaction update(Transaction transaction) {
-        // Update the transaction record
-        int updatedRows = dsl.update(TRANSACTIONS)
+        return dsl.update(TRANSACTIONS)
                 .set(TRANSACTIONS.AMOUNT, transaction.amount())
                 .set(TRANSACTIONS.TRANSACTION_DATE, transaction.transactionDate())
                 .set(TRANSACTIONS.CATEGORY_ID, transaction.categoryId())
                 .set(TRANSACTIONS.BUCKET_ID, transaction.bucketId())
                 .set(TRANSACTIONS.NOTE, transaction.note())
-                .set(TRANSACTIONS.UPDATED_AT, java.time.LocalDateTime.now())
+                .set(TRANSACTIONS.UPDATED_AT, LocalDateTime.now())
                 .where(TRANSACTIONS.ID.eq(transaction.id()))
                 .and(TRANSACTIONS.USER_ID.eq(transaction.userId()))
-                .execute();
+                .returning()
+                .fetchOptional()
+                .map(TransactionRows::toTransaction)
+                .orElseThrow(() -> new IllegalStateException("Transaction update failed - no rows affected"));
+    }
 
-        if (updatedRows == 0) {
-            throw new IllegalStateException("Transaction update failed - no rows affected");
+    @Override
+    public Optional<UpdatedTransaction> updateIfUnmodified(PutTransactionRequest request, Long userId) {
+        Condition unmodified = TRANSACTIONS.ID.eq(request.id())
+                .and(TRANSACTIONS.USER_ID.eq(userId))
+                .and(TRANSACTIONS.UPDATED_AT.eq(request.updatedAt()));
+
+        if (request.categoryId() != null) {
+            // UPDATE ... FROM categories: the category must be the user's, active, and of the
+            // stored transaction's type (INCOME/EXPENSE are spelled the same in both tables)
+            return setFields(request)
+                    .from(CATEGORIES)
+                    .where(unmodified)
+                    .and(CATEGORIES.ID.eq(request.categoryId()))
+                    .and(CATEGORIES.USER_ID.eq(userId))
+                    .and(CATEGORIES.IS_ARCHIVED.eq(false))
+                    .and(TRANSACTIONS.TYPE.eq(CATEGORIES.TYPE))
+                    .returningResult(TRANSACTIONS.asterisk(), CATEGORIES.NAME.as(RELATED_NAME))
+                    .fetchOptional()
+                    .map(row -> new UpdatedTransaction(
+                            TransactionRows.toTransaction(row.into(TRANSACTIONS)), row.get(RELATED_NAME), null));
         }
 
-        // Fetch and return the updated record
-        return dsl.selectFrom(TRANSACTIONS)
-                .where(TRANSACTIONS.ID.eq(transaction.id()))
-                .fetchOne(this::toDomainRecord);
+        // UPDATE ... FROM buckets: the bucket must be the user's and active, the stored row an
+        // investment or withdrawal, and a withdrawal must be covered by the bucket's other rows
+        return setFields(request)
+                .from(BUCKETS)
+                .where(unmodified)
+                .and(BUCKETS.ID.eq(request.bucketId()))
+                .and(BUCKETS.USER_ID.eq(userId))
+                .and(BUCKETS.STATUS.ne(BucketStatus.ARCHIVED.name()))
+                .and(TRANSACTIONS.TYPE.in(TransactionType.INVESTMENT.name(), TransactionType.WITHDRAWAL.name()))
+                .and(TRANSACTIONS.TYPE.ne(TransactionType.WITHDRAWAL.name())
+                        .or(balanceOfOtherRows(request.bucketId(), request.id()).ge(request.amount())))
+                .returningResult(TRANSACTIONS.asterisk(), BUCKETS.NAME.as(RELATED_NAME))
+                .fetchOptional()
+                .map(row -> new UpdatedTransaction(
+                        TransactionRows.toTransaction(row.into(TRANSACTIONS)), null, row.get(RELATED_NAME)));
+    }
+
+    private UpdateFromStep<TransactionsRecord> setFields(PutTransactionRequest request) {
+        return dsl.update(TRANSACTIONS)
+                .set(TRANSACTIONS.AMOUNT, request.amount())
+                .set(TRANSACTIONS.TRANSACTION_DATE, request.transactionDate())
+                .set(TRANSACTIONS.CATEGORY_ID, request.categoryId())
+                .set(TRANSACTIONS.BUCKET_ID, request.bucketId())
+                .set(TRANSACTIONS.NOTE, request.note())
+                .set(TRANSACTIONS.UPDATED_AT, LocalDateTime.now());
     }
 
     /**
-     * Convert jOOQ TransactionsRecord to domain Transaction record.
+     * Bucket balance without the row being updated, as a scalar subquery
+     * (same rule as BucketRepository.calculateBalance).
      */
-    private Transaction toDomainRecord(TransactionsRecord record) {
-        return Transaction.builder()
-                .id(record.getId())
-                .userId(record.getUserId())
-                .type(TransactionType.valueOf(record.getType()))
-                .amount(record.getAmount())
-                .transactionDate(record.getTransactionDate())
-                .categoryId(record.getCategoryId())
-                .bucketId(record.getBucketId())
-                .note(record.getNote())
-                .createdAt(record.getCreatedAt())
-                .updatedAt(record.getUpdatedAt())
-                .build();
+    private Field<BigDecimal> balanceOfOtherRows(Long bucketId, Long excludedTransactionId) {
+        Transactions other = TRANSACTIONS.as("other");
+        return DSL.field(dsl.select(DSL.coalesce(
+                        DSL.sum(DSL.case_()
+                                .when(other.TYPE.eq(TransactionType.INVESTMENT.name()), other.AMOUNT)
+                                .when(other.TYPE.in(TransactionType.WITHDRAWAL.name(),
+                                        TransactionType.GOAL_COMPLETED.name()), other.AMOUNT.neg())
+                                .otherwise(BigDecimal.ZERO)),
+                        BigDecimal.ZERO))
+                .from(other)
+                .where(other.BUCKET_ID.eq(bucketId))
+                .and(other.ID.ne(excludedTransactionId)));
     }
 }
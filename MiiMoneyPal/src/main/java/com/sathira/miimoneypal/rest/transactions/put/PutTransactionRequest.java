@@ -4,11 +4,15 @@ import jakarta.validation.constraints.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 /**
  * Request DTO for updating a transaction.
  * Transaction type cannot be changed after creation.
  * Used as input validation for PUT /api/transactions/{id}.
+ *
+ * updatedAt is optional: when the client sends back the updated_at it last read,
+ * the update is applied only if the row still carries that version (optimistic locking).
  */
 public record PutTransactionRequest(
         @NotNull(message = "Transaction ID is required")
@@ -29,5 +33,7 @@ public record PutTransactionRequest(
         Long bucketId,    // Required for INVESTMENT/WITHDRAWAL, must be null for INCOME/EXPENSE
 
         @Size(max = 500, message = "Note must not exceed 500 characters")
-        String note
+        String note,
+
+        LocalDateTime updatedAt  // Optional version the client edited; stale versions are rejected with 409
 ) {}
@@ -19,4 +19,12 @@ public interface PutTransactionResponseBuilder {
      * @return response DTO with formatted data
      */
     PutTransactionResponse build(Transaction transaction, Category category, Bucket bucket);
+
+    /**
+     * Build response from a versioned update, which returns the related name with the row.
+     *
+     * @param updated the updated transaction and its category or bucket name
+     * @return response DTO with formatted data
+     */
+    PutTransactionResponse build(UpdatedTransaction updated);
 }
@@ -4,13 +4,16 @@ import com.sathira.miimoneypal.architecture.AuthenticatedUseCase;
 import com.sathira.miimoneypal.exception.BadRequestException;
 import com.sathira.miimoneypal.exception.BusinessRuleException;
 import com.sathira.miimoneypal.exception.ResourceNotFoundException;
+import com.sathira.miimoneypal.exception.StaleUpdateException;
 import com.sathira.miimoneypal.records.bucket.Bucket;
 import com.sathira.miimoneypal.records.category.Category;
 import com.sathira.miimoneypal.records.category.CategoryType;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
 import com.sathira.miimoneypal.records.transaction.Transaction;
 import com.sathira.miimoneypal.records.transaction.TransactionType;
 import com.sathira.miimoneypal.repository.BucketDataAccess;
 import com.sathira.miimoneypal.repository.CategoryDataAccess;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -22,6 +25,10 @@ import java.math.BigDecimal;
  * UseCase for updating transactions.
  * Enforces business rules including category/bucket validation,
  * balance constraints, and prevents modification of system transactions.
+ *
+ * When the request carries the updated_at version the client edited, nothing is read up
+ * front: ownership, version, category/bucket and withdrawal balance are checked by the
+ * UPDATE itself.
  */
 @Service
 @RequiredArgsConstructor
@@ -31,11 +38,17 @@ public class PutTransactionUseCase
     private final PutTransactionDataAccess transactionDataAccess;
     private final CategoryDataAccess categoryDataAccess;
     private final BucketDataAccess bucketDataAccess;
+    private final OutboxDataAccess outboxDataAccess;
     private final PutTransactionResponseBuilder responseBuilder;
 
     @Override
     @Transactional
     public PutTransactionResponse execute(PutTransactionRequest request, AppUser user) {
+        // Versioned updates skip the preliminary read
+        if (request.updatedAt() != null) {
+            return executeVersioned(request, user);
+        }
+
         // 1. Find existing transaction (enforces user ownership)
         Transaction existingTransaction = transactionDataAccess.findByIdAndUserId(request.id(), user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("Transaction not found or access denied"));
@@ -101,11 +114,97 @@ public class PutTransactionUseCase
 
         // 5. Persist update
         Transaction savedTransaction = transactionDataAccess.update(updatedTransaction);
+        outboxDataAccess.append(OutboxEventType.TRANSACTION_UPDATED, savedTransaction.id(), user.getId());
 
         // 6. Build and return response
         return responseBuilder.build(savedTransaction, category, bucket);
     }
 
+    /**
+     * Update path for requests carrying the client's updated_at version.
+     * One UPDATE ... RETURNING does the work and all the checks (see updateIfUnmodified);
+     * the rows it depends on are only read when it matched nothing, to explain why.
+     */
+    private PutTransactionResponse executeVersioned(PutTransactionRequest request, AppUser user) {
+        // 1. Exactly one of category/bucket identifies the kind of transaction
+        if ((request.categoryId() == null) == (request.bucketId() == null)) {
+            throw new BadRequestException("Exactly one of category_id or bucket_id is required");
+        }
+
+        // 2. Single UPDATE ... RETURNING guarded by ownership, version, category/bucket and balance
+        UpdatedTransaction updated = transactionDataAccess.updateIfUnmodified(request, user.getId())
+                .orElseThrow(() -> explainRejectedUpdate(request, user));
+
+        // 3. Record change event in the same transaction
+        outboxDataAccess.append(OutboxEventType.TRANSACTION_UPDATED, updated.transaction().id(), user.getId());
+
+        // 4. Build and return response
+        return responseBuilder.build(updated);
+    }
+
+    /**
+     * Work out why a versioned update matched no row.
+     * Only runs on the failure path, so the happy path stays a single statement.
+     */
+    private RuntimeException explainRejectedUpdate(PutTransactionRequest request, AppUser user) {
+        Transaction existingTransaction = transactionDataAccess.findByIdAndUserId(request.id(), user.getId())
+                .orElse(null);
+
+        if (existingTransaction == null) {
+            return new ResourceNotFoundException("Transaction not found or access denied");
+        }
+        if (existingTransaction.type() == TransactionType.GOAL_COMPLETED) {
+            return new BadRequestException("System-generated transactions cannot be modified");
+        }
+
+        if (request.categoryId() != null) {
+            Category category = categoryDataAccess.findByIdAndUserId(request.categoryId(), user.getId())
+                    .orElse(null);
+            if (category == null) {
+                return new ResourceNotFoundException("Category not found or access denied");
+            }
+            if (category.isArchived()) {
+                return new BusinessRuleException("Cannot use archived category: " + category.name());
+            }
+            if (!existingTransaction.isCategorized()) {
+                return new BadRequestException(existingTransaction.type() + " transactions require a bucket_id");
+            }
+            if (!category.type().name().equals(existingTransaction.type().name())) {
+                return new BusinessRuleException(
+                        String.format("Category '%s' is type %s but transaction is type %s",
+                                category.name(), category.type(), existingTransaction.type())
+                );
+            }
+        } else {
+            Bucket bucket = bucketDataAccess.findByIdAndUserId(request.bucketId(), user.getId())
+                    .orElse(null);
+            if (bucket == null) {
+                return new ResourceNotFoundException("Bucket not found or access denied");
+            }
+            if (bucket.isArchived()) {
+                return new BusinessRuleException("Cannot use archived bucket: " + bucket.name());
+            }
+            if (existingTransaction.isCategorized()) {
+                return new BadRequestException(existingTransaction.type() + " transactions require a category_id");
+            }
+            if (existingTransaction.type() == TransactionType.WITHDRAWAL
+                    && request.updatedAt().equals(existingTransaction.updatedAt())) {
+                // Version and references were fine, so the balance guard rejected the withdrawal
+                BigDecimal available = bucketDataAccess.calculateBalance(request.bucketId());
+                if (request.bucketId().equals(existingTransaction.bucketId())) {
+                    available = available.add(existingTransaction.amount());
+                }
+                if (available.compareTo(request.amount()) < 0) {
+                    return new BusinessRuleException(
+                            String.format("Insufficient balance in bucket '%s'. Available: %s, Requested withdrawal: %s",
+                                    bucket.name(), available, request.amount())
+                    );
+                }
+            }
+        }
+        return new StaleUpdateException("Transaction", request.id());
+    }
+
     /**
      * Validate category exists, belongs to user, matches transaction type, and is not archived.
      */
@@ -0,0 +1,13 @@
+package com.sathira.miimoneypal.rest.transactions.put;
+
+import com.sathira.miimoneypal.records.transaction.Transaction;
+
+/**
+ * Result of a versioned update: the updated row plus the name of the category or bucket
+ * it references, returned by the same UPDATE ... RETURNING statement.
+ */
+public record UpdatedTransaction(
+        Transaction transaction,
+        String categoryName,      // null for bucket transactions
+        String bucketName         // null for categorized transactions
+) {}
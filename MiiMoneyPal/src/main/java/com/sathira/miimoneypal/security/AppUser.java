@@ -22,6 +22,10 @@ public class AppUser implements UserDetails {
     private final String passwordHash;
     private final Role role;
 
+    // Identity of the access token this principal was authenticated with (null when loaded from the database)
+    private final String tokenId;
+    private final Long tokenExpiresAt;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         // Combine role authority with individual permissions
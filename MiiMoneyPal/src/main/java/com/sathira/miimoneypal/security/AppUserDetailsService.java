@@ -4,6 +4,7 @@ import com.sathira.miimoneypal.records.user.User;
 import com.sathira.miimoneypal.repository.UserDataAccess;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -20,11 +21,13 @@ import org.springframework.stereotype.Service;
  *   <li>Login endpoint: AuthenticationManager calls this to load user credentials</li>
  *   <li>Password verification: DaoAuthenticationProvider compares passwords using BCrypt</li>
  *   <li>JWT generation: After successful auth, JwtTokenProvider creates tokens</li>
+ *   <li>Cost upgrade: DaoAuthenticationProvider calls updatePassword when the stored
+ *       BCrypt cost differs from the configured strength</li>
  * </ul>
  */
 @Service
 @RequiredArgsConstructor
-public class AppUserDetailsService implements UserDetailsService {
+public class AppUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserDataAccess userDataAccess;
 
@@ -48,6 +51,22 @@ public class AppUserDetailsService implements UserDetailsService {
         return toAppUser(user);
     }
 
+    /**
+     * Persist a rehashed password after a successful login.
+     *
+     * <p>Called by DaoAuthenticationProvider only when PasswordEncoder.upgradeEncoding
+     * reports the stored hash as outdated; the raw password is never stored.</p>
+     *
+     * @param user the authenticated principal (AppUser)
+     * @param newPassword the new encoded password hash
+     * @return UserDetails carrying the new hash
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        AppUser appUser = (AppUser) user;
+        return toAppUser(userDataAccess.updatePasswordHash(appUser.getId(), newPassword));
+    }
+
     /**
      * Convert domain User record to Spring Security AppUser.
      *
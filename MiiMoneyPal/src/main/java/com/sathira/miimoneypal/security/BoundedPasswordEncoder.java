@@ -0,0 +1,146 @@
+package com.sathira.miimoneypal.security;
+
+import com.sathira.miimoneypal.exception.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PasswordEncoder that runs BCrypt on a dedicated, bounded thread pool.
+ *
+ * <p>BCrypt is deliberately CPU-expensive. Running it inline lets a login burst
+ * occupy every request thread, starving cheap API calls. Here hashing runs on
+ * a fixed number of worker threads behind a bounded queue; once both are full,
+ * further calls fail fast with {@link ServiceUnavailableException} (503) instead
+ * of piling up.</p>
+ *
+ * <p>{@link #upgradeEncoding(String)} reports any stored hash whose cost differs
+ * from the configured strength, so DaoAuthenticationProvider rehashes it on the
+ * next successful login (via UserDetailsPasswordService).</p>
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final PasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param strength      BCrypt log rounds (4-31)
+     * @param poolSize      Worker threads dedicated to hashing
+     * @param queueCapacity Calls allowed to wait for a worker; 0 = reject as soon as all workers are busy
+     */
+    public BoundedPasswordEncoder(int strength, int poolSize, int queueCapacity) {
+        this(new BCryptPasswordEncoder(strength), strength, poolSize, queueCapacity);
+    }
+
+    BoundedPasswordEncoder(PasswordEncoder delegate, int strength, int poolSize, int queueCapacity) {
+        if (poolSize < 1) {
+            throw new IllegalArgumentException("poolSize must be at least 1");
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("queueCapacity must not be negative");
+        }
+
+        this.delegate = delegate;
+        this.strength = strength;
+
+        BlockingQueue<Runnable> queue = queueCapacity == 0
+                ? new SynchronousQueue<>()
+                : new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                queue,
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        log.info("Password hashing pool: bcrypt strength={}, threads={}, queue={}", strength, poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * True when the stored hash was produced with a different cost than the configured strength.
+     * Non-BCrypt or malformed hashes are left alone (matches() already rejects them).
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return false;
+        }
+        return Integer.parseInt(matcher.group(2)) != strength;
+    }
+
+    /**
+     * Stop accepting work. Invoked by Spring on context shutdown (inferred destroy method).
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    /**
+     * Calls currently waiting for a hashing thread.
+     */
+    int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing pool saturated (active={}, queued={})",
+                    executor.getActiveCount(), executor.getQueue().size());
+            throw new ServiceUnavailableException("Too many authentication requests. Please retry shortly.", e);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Password hashing interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.sathira.miimoneypal.security.denylist;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Denylist of logged-out access tokens, keyed by their jti claim.
+ *
+ * <p>Access tokens are stateless, so logout records the token's ID here until the token
+ * would have expired anyway. The per-request check is a single {@link ConcurrentHashMap}
+ * lookup on the jti string the filter already holds - no allocation, no I/O. Entries are
+ * dropped by an {@link ExpiryTimingWheel} at their token's expiry, so the map only ever
+ * holds tokens that are both logged out and still unexpired.</p>
+ *
+ * <p>Entries are also appended to a {@link DenylistAppendLog} so a restart does not
+ * resurrect logged-out tokens. The log is loaded and compacted at startup and compacted
+ * again once dead records dominate it. If the log cannot be written the denylist keeps
+ * working in memory only.</p>
+ *
+ * <p>The denylist is per node. Behind a load balancer each instance only knows the
+ * logouts it handled itself.</p>
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist implements AutoCloseable {
+
+    // Compact once the file holds this many records beyond twice the live count
+    private static final long COMPACTION_SLACK = 1000;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final ExpiryTimingWheel wheel;
+    private final DenylistAppendLog appendLog;
+    private final LongSupplier clock;
+
+    @Autowired
+    public AccessTokenDenylist(
+            @Value("${auth.access-denylist.file:data/access-token-denylist.log}") String file,
+            @Value("${jwt.access-token-expiration:86400000}") long accessTokenExpiration,
+            @Value("${auth.access-denylist.tick-ms:60000}") long tickMillis
+    ) {
+        this(Path.of(file), accessTokenExpiration, tickMillis, System::currentTimeMillis);
+    }
+
+    AccessTokenDenylist(Path file, long accessTokenExpiration, long tickMillis, LongSupplier clock) {
+        this.clock = clock;
+        long now = clock.getAsLong();
+        this.wheel = new ExpiryTimingWheel(accessTokenExpiration, tickMillis, now);
+        this.appendLog = openLog(file);
+        restore(now);
+    }
+
+    /**
+     * Whether the access token with this jti has been logged out.
+     * Tokens without a jti (issued before it was added) are never denylisted.
+     */
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revoked.containsKey(tokenId);
+    }
+
+    /**
+     * Denylist an access token until its expiry. Already-expired tokens are ignored.
+     */
+    public void revoke(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= clock.getAsLong()) {
+            return;
+        }
+        if (revoked.putIfAbsent(tokenId, expiresAtMillis) != null) {
+            return;
+        }
+        wheel.schedule(tokenId, expiresAtMillis);
+        append(tokenId, expiresAtMillis);
+    }
+
+    @Scheduled(
+            initialDelayString = "${auth.access-denylist.tick-ms:60000}",
+            fixedDelayString = "${auth.access-denylist.tick-ms:60000}"
+    )
+    public void evictExpired() {
+        wheel.advance(clock.getAsLong(), revoked::remove);
+
+        if (appendLog != null && appendLog.records() > 2L * revoked.size() + COMPACTION_SLACK) {
+            compact();
+        }
+    }
+
+    int size() {
+        return revoked.size();
+    }
+
+    @PreDestroy
+    @Override
+    public void close() {
+        if (appendLog == null) {
+            return;
+        }
+        try {
+            appendLog.close();
+        } catch (IOException e) {
+            log.warn("Failed to close access token denylist log: {}", e.getMessage());
+        }
+    }
+
+    private void restore(long now) {
+        if (appendLog == null) {
+            return;
+        }
+        try {
+            List<DenylistAppendLog.Entry> entries = appendLog.load(now);
+            for (DenylistAppendLog.Entry entry : entries) {
+                String tokenId = entry.tokenId().toString();
+                revoked.put(tokenId, entry.expiresAtMillis());
+                wheel.schedule(tokenId, entry.expiresAtMillis());
+            }
+            log.info("Restored {} denylisted access token(s)", entries.size());
+        } catch (IOException e) {
+            log.warn("Failed to load access token denylist log: {}", e.getMessage());
+        }
+        compact();
+    }
+
+    private void append(String tokenId, long expiresAtMillis) {
+        if (appendLog == null) {
+            return;
+        }
+        try {
+            appendLog.append(UUID.fromString(tokenId), expiresAtMillis);
+        } catch (IllegalArgumentException e) {
+            // Every jti this server issues is a UUID; anything else stays in memory only
+            log.warn("Access token ID is not a UUID, not persisted: {}", tokenId);
+        } catch (IOException e) {
+            log.warn("Failed to persist denylisted access token: {}", e.getMessage());
+        }
+    }
+
+    private void compact() {
+        try {
+            // Snapshot inside rewrite: a concurrent revoke is either in it or appended afterwards
+            appendLog.rewrite(this::liveEntries);
+        } catch (IOException e) {
+            log.warn("Failed to compact access token denylist log: {}", e.getMessage());
+        }
+    }
+
+    private Map<UUID, Long> liveEntries() {
+        Map<UUID, Long> live = new HashMap<>();
+        revoked.forEach((tokenId, expiresAt) -> {
+            try {
+                live.put(UUID.fromString(tokenId), expiresAt);
+            } catch (IllegalArgumentException ignored) {
+                // Not persistable, see append
+            }
+        });
+        return live;
+    }
+
+    private static DenylistAppendLog openLog(Path file) {
+        try {
+            return new DenylistAppendLog(file);
+        } catch (IOException e) {
+            log.warn("Access token denylist log unavailable, logouts will not survive a restart: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.sathira.miimoneypal.security.denylist;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Append-only file of denylisted access tokens.
+ *
+ * <p>Fixed 24-byte records: token ID as a UUID (16 bytes) + expiry epoch millis (8 bytes).
+ * A torn trailing record from a crash is ignored on load. The file is rewritten with only
+ * live entries on startup and whenever dead records outnumber live ones.</p>
+ */
+class DenylistAppendLog implements AutoCloseable {
+
+    static final int RECORD_BYTES = 24;
+
+    private final Path path;
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+    private FileChannel channel;
+    private long records;
+
+    DenylistAppendLog(Path path) throws IOException {
+        this.path = path;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = openForAppend(path);
+        this.records = channel.size() / RECORD_BYTES;
+    }
+
+    /**
+     * Read every record that has not expired by {@code nowMillis}.
+     */
+    synchronized List<Entry> load(long nowMillis) throws IOException {
+        List<Entry> live = new ArrayList<>();
+        try (FileChannel reader = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * 1024);
+            while (reader.read(buffer) > 0 || buffer.position() > 0) {
+                buffer.flip();
+                while (buffer.remaining() >= RECORD_BYTES) {
+                    UUID tokenId = new UUID(buffer.getLong(), buffer.getLong());
+                    long expiresAt = buffer.getLong();
+                    if (expiresAt > nowMillis) {
+                        live.add(new Entry(tokenId, expiresAt));
+                    }
+                }
+                if (buffer.hasRemaining() && reader.position() == reader.size()) {
+                    break; // torn trailing record
+                }
+                buffer.compact();
+            }
+        }
+        return live;
+    }
+
+    synchronized void append(UUID tokenId, long expiresAtMillis) throws IOException {
+        record.clear();
+        record.putLong(tokenId.getMostSignificantBits())
+                .putLong(tokenId.getLeastSignificantBits())
+                .putLong(expiresAtMillis)
+                .flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+        // Logouts are rare; durability beats batching here
+        channel.force(false);
+        records++;
+    }
+
+    /**
+     * Replace the file with only the live entries (write temp, fsync, atomic rename).
+     *
+     * <p>The live set is taken under the same monitor {@link #append} holds, so an entry
+     * is either in the snapshot or appended to the new file after it - never appended to
+     * the old file and then dropped by the rename.</p>
+     */
+    synchronized void rewrite(Supplier<Map<UUID, Long>> liveEntries) throws IOException {
+        Map<UUID, Long> live = liveEntries.get();
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel writer = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * Math.max(1, live.size()));
+            live.forEach((tokenId, expiresAt) -> buffer
+                    .putLong(tokenId.getMostSignificantBits())
+                    .putLong(tokenId.getLeastSignificantBits())
+                    .putLong(expiresAt));
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                writer.write(buffer);
+            }
+            writer.force(true);
+        }
+
+        channel.close();
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = openForAppend(path);
+        records = live.size();
+    }
+
+    synchronized long records() {
+        return records;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private static FileChannel openForAppend(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    record Entry(UUID tokenId, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.sathira.miimoneypal.security.denylist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel that fires a callback for each key when its expiry passes.
+ *
+ * <p>The wheel has one bucket per tick across the maximum lifetime. Scheduling appends
+ * to the bucket of the expiry tick; {@link #advance} drains every bucket whose tick has
+ * passed. Cost is O(1) per schedule and O(expired) per advance, independent of how many
+ * keys are live.</p>
+ *
+ * <p>Expiries beyond the wheel's span are parked in the farthest bucket and rescheduled
+ * when drained. A key scheduled concurrently with the drain of its own bucket may wait
+ * one extra revolution before firing; callers only use this to free memory, so late
+ * eviction is harmless.</p>
+ */
+class ExpiryTimingWheel {
+
+    private final long tickMillis;
+    private final List<ConcurrentLinkedQueue<Entry>> buckets;
+
+    // Only advanced by the single eviction thread; read by schedulers
+    private volatile long currentTick;
+
+    ExpiryTimingWheel(long maxLifetimeMillis, long tickMillis, long nowMillis) {
+        if (tickMillis <= 0 || maxLifetimeMillis <= 0) {
+            throw new IllegalArgumentException("lifetime and tick must be positive");
+        }
+        this.tickMillis = tickMillis;
+
+        int size = (int) ((maxLifetimeMillis + tickMillis - 1) / tickMillis) + 1;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ConcurrentLinkedQueue<>());
+        }
+        this.currentTick = Math.floorDiv(nowMillis, tickMillis);
+    }
+
+    void schedule(String key, long expiresAtMillis) {
+        long current = currentTick;
+        long tick = Math.floorDiv(expiresAtMillis, tickMillis);
+        // Already due -> next advance; too far ahead -> farthest bucket, rescheduled on drain
+        tick = Math.max(tick, current);
+        tick = Math.min(tick, current + buckets.size() - 1);
+        bucket(tick).add(new Entry(key, expiresAtMillis));
+    }
+
+    /**
+     * Fire {@code onExpired} for every key whose expiry is at or before {@code nowMillis}.
+     * Must be called from one thread at a time.
+     */
+    void advance(long nowMillis, Consumer<String> onExpired) {
+        long target = Math.floorDiv(nowMillis, tickMillis);
+        // After a long pause one revolution covers every bucket
+        long tick = Math.max(currentTick, target - buckets.size() + 1);
+        List<Entry> notYetDue = new ArrayList<>();
+
+        for (; tick <= target; tick++) {
+            ConcurrentLinkedQueue<Entry> bucket = bucket(tick);
+            Entry entry;
+            while ((entry = bucket.poll()) != null) {
+                if (entry.expiresAtMillis() <= nowMillis) {
+                    onExpired.accept(entry.key());
+                } else {
+                    notYetDue.add(entry);
+                }
+            }
+        }
+        currentTick = target + 1;
+
+        for (Entry entry : notYetDue) {
+            schedule(entry.key(), entry.expiresAtMillis());
+        }
+    }
+
+    private ConcurrentLinkedQueue<Entry> bucket(long tick) {
+        return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+    }
+
+    private record Entry(String key, long expiresAtMillis) {
+    }
+}
@@ -1,7 +1,7 @@
 package com.sathira.miimoneypal.security.jwt;
 
 import com.sathira.miimoneypal.security.AppUser;
-import com.sathira.miimoneypal.security.Role;
+import com.sathira.miimoneypal.security.denylist.AccessTokenDenylist;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,6 +31,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     @Override
     protected void doFilterInternal(
@@ -41,23 +42,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
+            TokenClaims claims = StringUtils.hasText(jwt)
+                    ? jwtTokenProvider.parseClaims(jwt).orElse(null)
+                    : null;
+
+            if (claims != null) {
                 // Don't allow refresh tokens for API access
-                if (jwtTokenProvider.isRefreshToken(jwt)) {
+                if (claims.isRefreshToken()) {
                     log.warn("Refresh token used for API access attempt");
                     filterChain.doFilter(request, response);
                     return;
                 }
 
-                // Build AppUser from token claims (no DB lookup needed)
-                Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
-                String email = jwtTokenProvider.getEmailFromToken(jwt);
-                Role role = jwtTokenProvider.getRoleFromToken(jwt);
+                // Logged-out access tokens stay unauthenticated until they expire
+                if (accessTokenDenylist.isRevoked(claims.tokenId())) {
+                    log.debug("Denylisted access token used (user ID: {})", claims.userId());
+                    filterChain.doFilter(request, response);
+                    return;
+                }
 
+                // Build AppUser from token claims (no DB lookup needed)
                 AppUser appUser = AppUser.builder()
-                        .id(userId)
-                        .email(email)
-                        .role(role)
+                        .id(claims.userId())
+                        .email(claims.email())
+                        .role(claims.role())
+                        .tokenId(claims.tokenId())
+                        .tokenExpiresAt(claims.expiresAtMillis())
                         .build();
 
                 // Create authentication token
@@ -73,7 +83,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 // Set authentication in security context
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("Authenticated user: {} (ID: {})", email, userId);
+                log.debug("Authenticated user: {} (ID: {})", claims.email(), claims.userId());
             }
         } catch (Exception e) {
             log.error("Cannot set user authentication: {}", e.getMessage());
@@ -4,6 +4,7 @@ import com.sathira.miimoneypal.security.AppUser;
 import com.sathira.miimoneypal.security.Role;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -16,6 +17,8 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * JWT token provider for generating and validating access tokens.
@@ -25,6 +28,8 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    private static final String FAMILY_CLAIM = "fid";
+
     private final SecretKey secretKey;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
@@ -48,12 +53,31 @@ public class JwtTokenProvider {
 
     /**
      * Generate refresh token for token renewal.
+     * The token ID (jti) and rotation family are tracked server-side by RefreshTokenService.
+     */
+    public String generateRefreshToken(AppUser user, String tokenId, UUID familyId) {
+        return tokenBuilder(user, refreshTokenExpiration, "refresh")
+                .id(tokenId)
+                .claim(FAMILY_CLAIM, familyId.toString())
+                .compact();
+    }
+
+    /**
+     * Refresh token lifetime in milliseconds.
      */
-    public String generateRefreshToken(AppUser user) {
-        return generateToken(user, refreshTokenExpiration, "refresh");
+    public long getRefreshTokenExpiration() {
+        return refreshTokenExpiration;
     }
 
     private String generateToken(AppUser user, long expiration, String tokenType) {
+        return tokenBuilder(user, expiration, tokenType).compact();
+    }
+
+    /**
+     * Every token carries a random jti so an individual access token can be denylisted.
+     * Refresh tokens override it with their tracked token ID.
+     */
+    private JwtBuilder tokenBuilder(AppUser user, long expiration, String tokenType) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
@@ -62,10 +86,10 @@ public class JwtTokenProvider {
                 .claim("email", user.getEmail())
                 .claim("role", user.getRole().name())
                 .claim("type", tokenType)
+                .id(UUID.randomUUID().toString())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(secretKey)
-                .compact();
+                .signWith(secretKey);
     }
 
     /**
@@ -93,6 +117,48 @@ public class JwtTokenProvider {
         return Role.valueOf(roleName);
     }
 
+    /**
+     * Extract subject, token ID and family from a refresh token in one parse.
+     */
+    public RefreshTokenClaims getRefreshClaims(String token) {
+        Claims claims = parseToken(token);
+        String familyId = claims.get(FAMILY_CLAIM, String.class);
+        return new RefreshTokenClaims(
+                Long.parseLong(claims.getSubject()),
+                claims.getId(),
+                familyId != null ? UUID.fromString(familyId) : null
+        );
+    }
+
+    /**
+     * Verify a token and read every claim the authentication filter needs in one parse.
+     * Returns empty (and logs why) when the token is invalid, like {@link #validateToken}.
+     */
+    public Optional<TokenClaims> parseClaims(String token) {
+        try {
+            Claims claims = parseToken(token);
+            return Optional.of(new TokenClaims(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("email", String.class),
+                    Role.valueOf(claims.get("role", String.class)),
+                    claims.get("type", String.class),
+                    claims.getId(),
+                    claims.getExpiration().getTime()
+            ));
+        } catch (SignatureException e) {
+            log.error("Invalid JWT signature: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            log.error("Invalid JWT token: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            log.error("JWT token is expired: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("JWT token is unsupported: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("JWT claims string is empty: {}", e.getMessage());
+        }
+        return Optional.empty();
+    }
+
     /**
      * Check if token is a refresh token.
      */
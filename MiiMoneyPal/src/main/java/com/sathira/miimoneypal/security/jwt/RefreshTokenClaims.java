@@ -0,0 +1,23 @@
+package com.sathira.miimoneypal.security.jwt;
+
+import java.util.UUID;
+
+/**
+ * Claims of a verified refresh token, read in a single parse.
+ *
+ * @param userId   Subject
+ * @param tokenId  jti claim - its hash is the key in the refresh token store (null for legacy tokens)
+ * @param familyId Rotation family shared by every token descended from one login (null for legacy tokens)
+ */
+public record RefreshTokenClaims(
+        Long userId,
+        String tokenId,
+        UUID familyId
+) {
+    /**
+     * Tokens issued before server-side tracking carry no jti/family and cannot be rotated.
+     */
+    public boolean isTracked() {
+        return tokenId != null && familyId != null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.sathira.miimoneypal.security.jwt;
+
+import com.sathira.miimoneypal.security.Role;
+
+/**
+ * Claims of a verified token, read in a single parse.
+ *
+ * @param userId          Subject
+ * @param email           User's email
+ * @param role            User's role
+ * @param type            "access" or "refresh"
+ * @param tokenId         jti claim (null for tokens issued before it was added)
+ * @param expiresAtMillis exp claim as epoch millis
+ */
+public record TokenClaims(
+        Long userId,
+        String email,
+        Role role,
+        String type,
+        String tokenId,
+        long expiresAtMillis
+) {
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
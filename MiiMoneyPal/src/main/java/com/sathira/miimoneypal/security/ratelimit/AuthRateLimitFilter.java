@@ -0,0 +1,80 @@
+package com.sathira.miimoneypal.security.ratelimit;
+
+import com.sathira.miimoneypal.constants.EndPoints;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per-IP rate limiting for the public auth endpoints.
+ *
+ * <p>Only login, register and refresh are filtered; every other request is skipped
+ * by a single set lookup in {@link #shouldNotFilter}, so authenticated API paths pay
+ * effectively nothing. Limited requests get 429 with a Retry-After header.</p>
+ *
+ * <p>The client IP is {@code request.getRemoteAddr()}. Behind a proxy, enable
+ * {@code server.forward-headers-strategy} so it reflects the real client.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> RATE_LIMITED_PATHS = Set.of(
+            EndPoints.AUTH_LOGIN,
+            EndPoints.AUTH_REGISTER,
+            EndPoints.AUTH_REFRESH
+    );
+
+    private final AuthRateLimiter authRateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !RATE_LIMITED_PATHS.contains(request.getRequestURI()) || !authRateLimiter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        long retryAfterSeconds = authRateLimiter.tryAcquireForClient(request.getRemoteAddr());
+        if (retryAfterSeconds == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        log.warn("Rate limit exceeded for {} - URI: {}", request.getRemoteAddr(), request.getRequestURI());
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+
+        Map<String, Object> body = Map.of(
+                "status", HttpStatus.TOO_MANY_REQUESTS.value(),
+                "error", "Too Many Requests",
+                "message", "Too many requests. Please try again later.",
+                "path", request.getRequestURI(),
+                "timestamp", Instant.now().toString()
+        );
+
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,107 @@
+package com.sathira.miimoneypal.security.ratelimit;
+
+import com.sathira.miimoneypal.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limits for the unauthenticated auth endpoints (login, register, refresh).
+ *
+ * <p>Two independent token-bucket limiters:</p>
+ * <ul>
+ *   <li>Per client IP - applied by AuthRateLimitFilter before the request body is read</li>
+ *   <li>Per normalized email - applied by login/register use cases before BCrypt runs</li>
+ * </ul>
+ *
+ * <p>Metrics: {@code auth.rate_limit.requests} counter tagged with
+ * {@code key} (ip, email) and {@code outcome} (allowed, limited).</p>
+ */
+@Component
+public class AuthRateLimiter {
+
+    private static final String METRIC_NAME = "auth.rate_limit.requests";
+
+    private final boolean enabled;
+    private final TokenBucketRateLimiter ipLimiter;
+    private final TokenBucketRateLimiter emailLimiter;
+
+    // Counters are resolved once; incrementing is a single LongAdder add
+    private final Counter ipAllowed;
+    private final Counter ipLimited;
+    private final Counter emailAllowed;
+    private final Counter emailLimited;
+
+    public AuthRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${auth.rate-limit.enabled:true}") boolean enabled,
+            @Value("${auth.rate-limit.ip.burst:20}") int ipBurst,
+            @Value("${auth.rate-limit.ip.per-minute:30}") int ipPerMinute,
+            @Value("${auth.rate-limit.email.burst:5}") int emailBurst,
+            @Value("${auth.rate-limit.email.per-minute:5}") int emailPerMinute,
+            @Value("${auth.rate-limit.max-keys:100000}") int maxKeys
+    ) {
+        this.enabled = enabled;
+        this.ipLimiter = new TokenBucketRateLimiter(ipBurst, ipPerMinute, maxKeys);
+        this.emailLimiter = new TokenBucketRateLimiter(emailBurst, emailPerMinute, maxKeys);
+
+        this.ipAllowed = counter(meterRegistry, "ip", "allowed");
+        this.ipLimited = counter(meterRegistry, "ip", "limited");
+        this.emailAllowed = counter(meterRegistry, "email", "allowed");
+        this.emailLimited = counter(meterRegistry, "email", "limited");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Take a token for the client IP.
+     * @return 0 if allowed, otherwise seconds the client should wait
+     */
+    public long tryAcquireForClient(String clientIp) {
+        long waitNanos = ipLimiter.tryAcquire(clientIp);
+        if (waitNanos == 0) {
+            ipAllowed.increment();
+            return 0;
+        }
+        ipLimited.increment();
+        return toRetryAfterSeconds(waitNanos);
+    }
+
+    /**
+     * Take a token for the account email (case-insensitive, trimmed).
+     * @throws TooManyRequestsException if the email has exceeded its rate
+     */
+    public void checkEmail(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        long waitNanos = emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+        if (waitNanos == 0) {
+            emailAllowed.increment();
+            return;
+        }
+        emailLimited.increment();
+        throw new TooManyRequestsException(
+                "Too many attempts for this account. Please try again later.",
+                toRetryAfterSeconds(waitNanos)
+        );
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static Counter counter(MeterRegistry registry, String key, String outcome) {
+        return Counter.builder(METRIC_NAME)
+                .description("Auth endpoint requests checked by the rate limiter")
+                .tag("key", key)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
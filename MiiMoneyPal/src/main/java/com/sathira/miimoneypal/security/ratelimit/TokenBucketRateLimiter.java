@@ -0,0 +1,103 @@
+package com.sathira.miimoneypal.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Keyed, lock-free token-bucket rate limiter.
+ *
+ * <p>Each bucket is a single {@link AtomicLong} holding its "theoretical arrival time"
+ * (the GCRA formulation of a token bucket): taking a token advances it by one emission
+ * interval, and a request is allowed while it stays within {@code burst} intervals of now.
+ * One CAS per request, no locks and no allocation on the hot path for known keys.</p>
+ *
+ * <p>The buckets live in a Caffeine cache bounded by {@code maxKeys}. A bucket never runs
+ * more than {@code burst} intervals ahead of its last access, so once that long has passed
+ * it is full again and carries no state: entries expire after that much idle time, which
+ * Caffeine does incrementally instead of sweeping the whole map. When the map is full,
+ * Caffeine's size eviction (W-TinyLFU) drops the least valuable keys, so a flood of
+ * distinct keys cannot push out the buckets of keys that are actually being limited.
+ * Maintenance runs on the calling thread, which keeps the bound exact and the clock
+ * under the caller's control.</p>
+ */
+public class TokenBucketRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final LongSupplier nanoClock;
+
+    private final Cache<String, Bucket> buckets;
+
+    /**
+     * @param burst     Tokens available to an idle key (bucket capacity)
+     * @param perMinute Sustained refill rate
+     * @param maxKeys   Upper bound on tracked keys
+     */
+    public TokenBucketRateLimiter(int burst, int perMinute, int maxKeys) {
+        this(burst, perMinute, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int burst, int perMinute, int maxKeys, LongSupplier nanoClock) {
+        if (burst < 1 || perMinute < 1 || maxKeys < 1) {
+            throw new IllegalArgumentException("burst, perMinute and maxKeys must be positive");
+        }
+        this.emissionIntervalNanos = TimeUnit.MINUTES.toNanos(1) / perMinute;
+        this.burstToleranceNanos = emissionIntervalNanos * burst;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(burstToleranceNanos))
+                .ticker(nanoClock::getAsLong)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    /**
+     * Try to take one token for the key.
+     * @return 0 if allowed, otherwise nanoseconds until the next token is available
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        Bucket bucket = buckets.getIfPresent(key);
+        if (bucket == null) {
+            bucket = buckets.get(key, k -> new Bucket(now));
+        }
+        return bucket.tryAcquire(now, emissionIntervalNanos, burstToleranceNanos);
+    }
+
+    /**
+     * Number of keys currently tracked (after pending expiry and eviction).
+     */
+    int trackedKeys() {
+        buckets.cleanUp();
+        return Math.toIntExact(buckets.estimatedSize());
+    }
+
+    private static final class Bucket {
+
+        private final AtomicLong theoreticalArrival;
+
+        private Bucket(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        private long tryAcquire(long now, long emissionInterval, long burstTolerance) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now) + emissionInterval;
+                long excess = next - now - burstTolerance;
+                if (excess > 0) {
+                    return excess;
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
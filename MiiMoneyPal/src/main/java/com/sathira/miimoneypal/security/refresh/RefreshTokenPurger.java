@@ -0,0 +1,47 @@
+package com.sathira.miimoneypal.security.refresh;
+
+import com.sathira.miimoneypal.repository.RefreshTokenDataAccess;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Periodically deletes expired refresh tokens in bounded batches.
+ * Each batch is its own short statement, so purging never holds many row locks at once.
+ */
+@Slf4j
+@Component
+public class RefreshTokenPurger {
+
+    private final RefreshTokenDataAccess refreshTokenDataAccess;
+    private final int batchSize;
+
+    public RefreshTokenPurger(
+            RefreshTokenDataAccess refreshTokenDataAccess,
+            @Value("${auth.refresh-tokens.purge-batch-size:1000}") int batchSize
+    ) {
+        this.refreshTokenDataAccess = refreshTokenDataAccess;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${auth.refresh-tokens.purge-interval-ms:3600000}",
+            fixedDelayString = "${auth.refresh-tokens.purge-interval-ms:3600000}"
+    )
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        long total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenDataAccess.deleteExpiredBatch(now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            log.info("Purged {} expired refresh token(s)", total);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.sathira.miimoneypal.security.refresh;
+
+import com.sathira.miimoneypal.records.auth.RevokedTokenFamily;
+import com.sathira.miimoneypal.repository.RefreshTokenDataAccess;
+import com.sathira.miimoneypal.security.AppUser;
+import com.sathira.miimoneypal.security.jwt.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Issues, tracks and revokes refresh tokens.
+ *
+ * <p>Each refresh token carries a random token ID (jti) and a family ID. The store
+ * keeps only the SHA-256 of the token ID. Logout and reuse detection revoke a whole
+ * family; revoked families are also added to an in-memory {@link RevocationFilter}
+ * so that the refresh path only reads the store when the filter reports a possible hit.</p>
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenDataAccess refreshTokenDataAccess;
+    private final RevocationFilter revocationFilter;
+    private final long refreshTokenExpiration;
+
+    public RefreshTokenService(
+            JwtTokenProvider jwtTokenProvider,
+            RefreshTokenDataAccess refreshTokenDataAccess,
+            @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpiration,
+            @Value("${auth.refresh-tokens.revocation.slot-ms:86400000}") long slotMillis,
+            @Value("${auth.refresh-tokens.revocation.expected-per-slot:10000}") int expectedPerSlot,
+            @Value("${auth.refresh-tokens.revocation.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenDataAccess = refreshTokenDataAccess;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+        this.revocationFilter = new RevocationFilter(refreshTokenExpiration, slotMillis, expectedPerSlot, falsePositiveRate);
+    }
+
+    /**
+     * Issue the first refresh token of a new family (login, registration).
+     */
+    public String issue(AppUser user) {
+        return issue(user, UUID.randomUUID());
+    }
+
+    /**
+     * Issue a refresh token in an existing family (rotation).
+     */
+    public String issue(AppUser user, UUID familyId) {
+        String tokenId = UUID.randomUUID().toString();
+        LocalDateTime expiresAt = LocalDateTime.now().plus(Duration.ofMillis(refreshTokenExpiration));
+
+        refreshTokenDataAccess.save(hash(tokenId), familyId, user.getId(), expiresAt);
+        return jwtTokenProvider.generateRefreshToken(user, tokenId, familyId);
+    }
+
+    /**
+     * Whether a family has been revoked.
+     * The in-memory filter answers "no" for the common case without touching the store;
+     * a possible hit is confirmed with one indexed existence check.
+     */
+    public boolean isFamilyRevoked(UUID familyId) {
+        if (!revocationFilter.mightBeRevoked(familyId, System.currentTimeMillis())) {
+            return false;
+        }
+        return refreshTokenDataAccess.isFamilyRevoked(familyId);
+    }
+
+    /**
+     * Revoke every token in a family (logout, reuse detection).
+     */
+    public void revokeFamily(UUID familyId, Long userId) {
+        int revoked = refreshTokenDataAccess.revokeFamily(familyId, userId, LocalDateTime.now());
+        revocationFilter.add(familyId, System.currentTimeMillis() + refreshTokenExpiration);
+        log.debug("Revoked {} refresh token(s) in family {} for user {}", revoked, familyId, userId);
+    }
+
+    /**
+     * Hex SHA-256 of a token ID - the lookup key in the refresh token store.
+     */
+    public static String hash(String tokenId) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(tokenId.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Rebuild the in-memory filter from the store after startup, so revocations
+     * made before a restart keep short-circuiting.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmRevocationFilter() {
+        long now = System.currentTimeMillis();
+        long horizon = now + refreshTokenExpiration;
+        List<RevokedTokenFamily> families = refreshTokenDataAccess.findRevokedFamilies(LocalDateTime.now());
+
+        for (RevokedTokenFamily family : families) {
+            long expiresAt = family.expiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            // Clamp to the wheel's horizon; the store still rejects anything remembered for less time
+            revocationFilter.add(family.familyId(), Math.min(expiresAt, horizon));
+        }
+        log.info("Refresh token revocation filter warmed with {} revoked families", families.size());
+    }
+}
@@ -0,0 +1,155 @@
+package com.sathira.miimoneypal.security.refresh;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory Bloom filter of revoked refresh-token families, sliced into an expiry wheel.
+ *
+ * <p>A revoked family only matters until its last token expires. The wheel has one
+ * Bloom filter per time slot; a family is added to the slot covering its expiry. When
+ * the wheel comes round to a slot whose time has passed, the slot is cleared and reused,
+ * so the filter forgets expired revocations without ever deleting from a Bloom filter.</p>
+ *
+ * <p>{@link #mightBeRevoked} has no false negatives for families added on this node:
+ * "false" means definitely not revoked here, so the refresh path can skip the DB read.
+ * "true" must be confirmed against the store. Revocations made on other nodes are not
+ * visible here; the conditional rotation UPDATE still rejects them.</p>
+ *
+ * <p>Queries are lock-free bit reads. Adds take a per-slot lock only to reset a stale slot.</p>
+ */
+public class RevocationFilter {
+
+    private final Slot[] wheel;
+    private final long slotMillis;
+    private final int bitsPerSlot;
+    private final int hashFunctions;
+
+    /**
+     * @param maxLifetimeMillis   Longest time a revocation must be remembered (refresh token lifetime)
+     * @param slotMillis          Time covered by one wheel slot
+     * @param expectedPerSlot     Expected revocations per slot (sizes each Bloom filter)
+     * @param falsePositiveRate   Target false-positive rate per slot at the expected load
+     */
+    public RevocationFilter(long maxLifetimeMillis, long slotMillis, int expectedPerSlot, double falsePositiveRate) {
+        if (slotMillis <= 0 || maxLifetimeMillis <= 0 || expectedPerSlot <= 0) {
+            throw new IllegalArgumentException("lifetime, slot size and expected entries must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+
+        this.slotMillis = slotMillis;
+
+        // Standard Bloom sizing: m = -n ln p / (ln 2)^2, k = (m / n) ln 2
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedPerSlot * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bitsPerSlot = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitsPerSlot / expectedPerSlot * ln2));
+
+        // One extra slot so the slot currently being filled never overlaps the oldest live one
+        int slots = (int) ((maxLifetimeMillis + slotMillis - 1) / slotMillis) + 1;
+        this.wheel = new Slot[slots];
+        for (int i = 0; i < slots; i++) {
+            wheel[i] = new Slot((bitsPerSlot + 63) / 64);
+        }
+    }
+
+    /**
+     * Remember a revoked family until {@code expiresAtMillis}.
+     * Callers must not pass an expiry further ahead than the configured lifetime,
+     * or it would land on (and reset) a slot that is still live.
+     */
+    public void add(UUID familyId, long expiresAtMillis) {
+        long epoch = Math.floorDiv(expiresAtMillis, slotMillis);
+        Slot slot = wheel[(int) Math.floorMod(epoch, wheel.length)];
+
+        synchronized (slot) {
+            if (slot.epoch > epoch) {
+                // The wheel has already passed this expiry: nothing left to remember
+                return;
+            }
+            if (slot.epoch < epoch) {
+                slot.clear();
+                slot.epoch = epoch;
+            }
+            long hash1 = mix(familyId.getMostSignificantBits());
+            long hash2 = mix(familyId.getLeastSignificantBits()) | 1;
+            for (int i = 0; i < hashFunctions; i++) {
+                slot.set(bitIndex(hash1, hash2, i));
+            }
+        }
+    }
+
+    /**
+     * @return false if the family is definitely not revoked (as known to this node),
+     *         true if it may be revoked and must be checked against the store
+     */
+    public boolean mightBeRevoked(UUID familyId, long nowMillis) {
+        long currentEpoch = Math.floorDiv(nowMillis, slotMillis);
+        long hash1 = mix(familyId.getMostSignificantBits());
+        long hash2 = mix(familyId.getLeastSignificantBits()) | 1;
+
+        for (Slot slot : wheel) {
+            // Slots whose time has passed only hold expired revocations
+            if (slot.epoch < currentEpoch) {
+                continue;
+            }
+            if (slot.containsAll(hash1, hash2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int bitIndex(long hash1, long hash2, int i) {
+        return (int) Math.floorMod(hash1 + i * hash2, (long) bitsPerSlot);
+    }
+
+    /**
+     * SplitMix64 finalizer: spreads UUID halves (version bits, counters) across all 64 bits.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    private final class Slot {
+
+        private final AtomicLongArray words;
+        private volatile long epoch = Long.MIN_VALUE;
+
+        private Slot(int words) {
+            this.words = new AtomicLongArray(words);
+        }
+
+        private void set(int bit) {
+            long mask = 1L << bit;
+            int index = bit >>> 6;
+            long current;
+            do {
+                current = words.get(index);
+                if ((current & mask) != 0) {
+                    return;
+                }
+            } while (!words.compareAndSet(index, current, current | mask));
+        }
+
+        private boolean containsAll(long hash1, long hash2) {
+            for (int i = 0; i < hashFunctions; i++) {
+                int bit = bitIndex(hash1, hash2, i);
+                if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void clear() {
+            for (int i = 0; i < words.length(); i++) {
+                words.set(i, 0L);
+            }
+        }
+    }
+}
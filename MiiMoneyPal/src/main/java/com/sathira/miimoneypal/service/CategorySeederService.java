@@ -0,0 +1,50 @@
+package com.sathira.miimoneypal.service;
+
+import com.sathira.miimoneypal.records.category.CategoryType;
+import com.sathira.miimoneypal.records.category.DefaultCategory;
+import com.sathira.miimoneypal.repository.CategoryDataAccess;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Seeds the default categories for a newly registered user.
+ *
+ * The template is a static constant, so seeding costs no lookups and
+ * exactly one multi-row INSERT. It must be called inside the registration
+ * transaction so a failed signup leaves no orphaned categories.
+ */
+@Service
+@RequiredArgsConstructor
+public class CategorySeederService {
+
+    /**
+     * "Opening Balance" is system-protected; the rest can be renamed, archived or deleted.
+     */
+    public static final List<DefaultCategory> DEFAULT_CATEGORIES = List.of(
+            new DefaultCategory("Opening Balance", CategoryType.INCOME, true),
+            new DefaultCategory("Salary", CategoryType.INCOME, false),
+            new DefaultCategory("Freelance", CategoryType.INCOME, false),
+            new DefaultCategory("Gifts", CategoryType.INCOME, false),
+            new DefaultCategory("Other Income", CategoryType.INCOME, false),
+            new DefaultCategory("Food & Dining", CategoryType.EXPENSE, false),
+            new DefaultCategory("Transportation", CategoryType.EXPENSE, false),
+            new DefaultCategory("Utilities", CategoryType.EXPENSE, false),
+            new DefaultCategory("Entertainment", CategoryType.EXPENSE, false),
+            new DefaultCategory("Shopping", CategoryType.EXPENSE, false),
+            new DefaultCategory("Healthcare", CategoryType.EXPENSE, false),
+            new DefaultCategory("Other Expense", CategoryType.EXPENSE, false)
+    );
+
+    private final CategoryDataAccess categoryDataAccess;
+
+    /**
+     * Insert the default categories for the given user in one statement.
+     * @param userId The newly created user's ID
+     * @return Number of categories inserted
+     */
+    public int seedDefaults(Long userId) {
+        return categoryDataAccess.saveAll(userId, DEFAULT_CATEGORIES);
+    }
+}
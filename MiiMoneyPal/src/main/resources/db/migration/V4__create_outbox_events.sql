@@ -0,0 +1,19 @@
+-- V4: Transactional outbox for data change events
+-- Use cases insert a row in the same transaction as the change;
+-- a background publisher drains rows in batches and deletes them once handled
+
+-- ============================================
+-- Table: outbox_events
+-- Purpose: Compact change events (no payload - consumers re-read what they need)
+-- Design: No FK to users so deleting a user never blocks on undrained events
+-- ============================================
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(40) NOT NULL,
+    aggregate_id BIGINT,
+    user_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE outbox_events IS 'Pending change events, drained with SELECT ... FOR UPDATE SKIP LOCKED';
+COMMENT ON COLUMN outbox_events.aggregate_id IS 'ID of the changed transaction/category (NULL for bulk events)';
@@ -0,0 +1,29 @@
+-- V5: Server-side refresh token store
+-- Every issued refresh token is recorded by the SHA-256 hash of its token ID (jti claim).
+-- Tokens issued from one login form a family; each refresh rotates to a new token in the same family.
+-- Presenting an already-rotated token is treated as theft and revokes the whole family.
+
+-- ============================================
+-- Table: refresh_tokens
+-- Purpose: Rotation state and revocation for refresh tokens
+-- Design: The raw token is never stored, only the hash of its jti
+-- ============================================
+CREATE TABLE refresh_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    token_hash VARCHAR(64) NOT NULL UNIQUE,
+    family_id UUID NOT NULL,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    expires_at TIMESTAMP NOT NULL,
+    rotated_at TIMESTAMP,
+    revoked_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Family revocation (logout, reuse detection)
+CREATE INDEX idx_refresh_tokens_family ON refresh_tokens(family_id);
+-- Batched purge of expired rows
+CREATE INDEX idx_refresh_tokens_expires ON refresh_tokens(expires_at);
+
+COMMENT ON COLUMN refresh_tokens.token_hash IS 'Hex SHA-256 of the JWT jti claim';
+COMMENT ON COLUMN refresh_tokens.rotated_at IS 'Set when this token was exchanged for a new one; presenting it again is reuse';
+COMMENT ON COLUMN refresh_tokens.revoked_at IS 'Set when the whole family was revoked (logout or reuse detection)';
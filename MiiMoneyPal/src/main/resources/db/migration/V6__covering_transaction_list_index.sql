@@ -0,0 +1,18 @@
+-- flyway:executeInTransaction=false
+-- V6: Covering index for the transaction list
+-- The list query filters by user (plus optional type/date/category/bucket) and orders by
+-- transaction_date DESC, created_at DESC. Keying on the full sort order and carrying the other
+-- columns a list row needs lets PostgreSQL answer pages that skip the note (fields= without
+-- note) with an index-only scan, and the page count from the same index.
+-- It replaces idx_transactions_user_date, which is a prefix of the new key.
+--
+-- Both statements run CONCURRENTLY so writes to transactions are not blocked while the index
+-- builds on a live table. CONCURRENTLY cannot run inside a transaction, hence the directive on
+-- the first line. If a build is interrupted it leaves an INVALID index behind: drop
+-- idx_transactions_user_date_covering and rerun (IF NOT EXISTS would otherwise skip it).
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_transactions_user_date_covering
+    ON transactions(user_id, transaction_date DESC, created_at DESC)
+    INCLUDE (id, type, amount, category_id, bucket_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_transactions_user_date;
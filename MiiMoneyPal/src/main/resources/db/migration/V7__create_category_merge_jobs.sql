@@ -0,0 +1,28 @@
+-- V7: Background category merge jobs
+-- POST /api/categories/{id}/merge records a job and returns 202; the transactions are
+-- moved in chunks off the request thread, and clients poll the job for progress
+
+-- ============================================
+-- Table: category_merge_jobs
+-- Purpose: Status and progress of a category merge
+-- Design: No FK to categories - the source is deleted when the job completes
+-- ============================================
+CREATE TABLE category_merge_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    source_category_id BIGINT NOT NULL,
+    target_category_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'RUNNING' CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED')),
+    transactions_moved BIGINT NOT NULL DEFAULT 0,
+    chunks INTEGER NOT NULL DEFAULT 0,
+    error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP
+);
+
+-- At most one running merge per source category (INSERT ... ON CONFLICT DO NOTHING)
+CREATE UNIQUE INDEX idx_category_merge_jobs_running ON category_merge_jobs(source_category_id)
+    WHERE status = 'RUNNING';
+
+COMMENT ON COLUMN category_merge_jobs.transactions_moved IS 'Updated in the same transaction as each moved chunk';
+COMMENT ON COLUMN category_merge_jobs.error IS 'Failure message when status = FAILED; repeating the merge request starts a new job';
@@ -0,0 +1,12 @@
+-- V8: Lease on category merge jobs
+-- Every node resumes running jobs, so a job needs one owner. A runner claims a job by writing
+-- its own token and a lease expiry, renews the lease in every chunk transaction, and only the
+-- holder may move chunks or finish the job. A job whose lease expired (its runner or node died)
+-- is claimed by the next node that looks for unclaimed jobs.
+
+ALTER TABLE category_merge_jobs
+    ADD COLUMN claimed_by VARCHAR(36),
+    ADD COLUMN claimed_until TIMESTAMP;
+
+COMMENT ON COLUMN category_merge_jobs.claimed_by IS 'Token of the runner holding the job (one per run, not per node)';
+COMMENT ON COLUMN category_merge_jobs.claimed_until IS 'Lease expiry; renewed with every chunk, NULL until first claimed';
@@ -0,0 +1,74 @@
+package com.sathira.miimoneypal.architecture;
+
+import com.sathira.miimoneypal.exception.BadRequestException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for UseCaseMetricsInterceptor.
+ */
+@ExtendWith(MockitoExtension.class)
+class UseCaseMetricsInterceptorTest {
+
+    @Mock
+    private MethodInvocation invocation;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final UseCaseMetricsInterceptor interceptor = new UseCaseMetricsInterceptor(() -> registry);
+
+    /**
+     * Stand-in target; only its class name is used for tagging.
+     */
+    private static final class SampleUseCase {
+    }
+
+    @Test
+    @DisplayName("Should time successful executions tagged by use case")
+    void timesSuccessfulExecutions() throws Throwable {
+        // Given
+        when(invocation.getThis()).thenReturn(new SampleUseCase());
+        when(invocation.proceed()).thenReturn("ok");
+
+        // When
+        Object first = interceptor.invoke(invocation);
+        interceptor.invoke(invocation);
+
+        // Then
+        assertThat(first).isEqualTo("ok");
+        Timer timer = registry.get(UseCaseMetricsInterceptor.TIMER_NAME)
+                .tag("use_case", "SampleUseCase")
+                .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(registry.find(UseCaseMetricsInterceptor.ERROR_COUNTER_NAME).counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should count failures by exception type and still time them")
+    void countsFailures() throws Throwable {
+        // Given
+        when(invocation.getThis()).thenReturn(new SampleUseCase());
+        when(invocation.proceed()).thenThrow(new BadRequestException("Invalid"));
+
+        // When / Then
+        assertThatThrownBy(() -> interceptor.invoke(invocation))
+                .isInstanceOf(BadRequestException.class);
+
+        Counter errors = registry.get(UseCaseMetricsInterceptor.ERROR_COUNTER_NAME)
+                .tag("use_case", "SampleUseCase")
+                .tag("exception", "BadRequestException")
+                .counter();
+        assertThat(errors.count()).isEqualTo(1);
+        assertThat(registry.get(UseCaseMetricsInterceptor.TIMER_NAME).timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,124 @@
+package com.sathira.miimoneypal.concurrency;
+
+import com.sathira.miimoneypal.exception.DeadlineExceededException;
+import com.sathira.miimoneypal.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for AdaptiveBulkhead.
+ * Tests admission up to the limit, queueing, fast rejection, the request deadline and release accounting.
+ */
+class AdaptiveBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should shed at once when the limit is reached and no queue is allowed")
+    void rejectsWhenQueueFull() {
+        // Given
+        AdaptiveBulkhead bulkhead = bulkhead(1, 0, 1_000);
+        bulkhead.acquire();
+
+        // When / Then
+        assertThatThrownBy(bulkhead::acquire).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(rejected("queue_full")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should shed a queued request after the maximum wait")
+    void rejectsAfterMaxWait() {
+        // Given
+        AdaptiveBulkhead bulkhead = bulkhead(1, 1, 20);
+        bulkhead.acquire();
+
+        // When / Then
+        assertThatThrownBy(bulkhead::acquire).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(rejected("timeout")).isEqualTo(1);
+        assertThat(bulkhead.waiting()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hand a released permit to a queued request")
+    void queuedRequestGetsReleasedPermit() throws Exception {
+        // Given
+        AdaptiveBulkhead bulkhead = bulkhead(1, 1, 5_000);
+        AdaptiveBulkhead.Permit first = bulkhead.acquire();
+        CompletableFuture<AdaptiveBulkhead.Permit> queued = CompletableFuture.supplyAsync(bulkhead::acquire);
+        while (bulkhead.waiting() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When
+        first.release(true);
+
+        // Then
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(bulkhead.active()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stop waiting at the request deadline and report it as a deadline miss")
+    void stopsWaitingAtRequestDeadline() {
+        // Given
+        AdaptiveBulkhead bulkhead = bulkhead(1, 1, 60_000);
+        bulkhead.acquire();
+        RequestDeadline deadline = RequestDeadline.start(20);
+
+        try {
+            // When / Then
+            assertThatThrownBy(bulkhead::acquire).isInstanceOf(DeadlineExceededException.class);
+            assertThat(deadline.exceeded()).isTrue();
+            assertThat(rejected("timeout")).isZero();
+        } finally {
+            RequestDeadline.finish();
+        }
+    }
+
+    @Test
+    @DisplayName("Should count a permit released twice only once")
+    void releaseIsIdempotent() {
+        // Given
+        AdaptiveBulkhead bulkhead = bulkhead(2, 0, 0);
+        AdaptiveBulkhead.Permit permit = bulkhead.acquire();
+        bulkhead.acquire();
+
+        // When
+        permit.release(true);
+        permit.release(true);
+
+        // Then
+        assertThat(bulkhead.active()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should lower the limit when requests are dropped")
+    void dropsLowerTheLimit() {
+        // Given
+        AdaptiveBulkhead bulkhead = new AdaptiveBulkhead("heavy", new GradientLimit(1, 4, 4), 0, 0, meterRegistry);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            bulkhead.acquire().release(false);
+        }
+
+        // Then
+        assertThat(bulkhead.limit()).isEqualTo(1);
+        assertThat(meterRegistry.get("bulkhead.limit").tag("name", "heavy").gauge().value()).isEqualTo(1);
+    }
+
+    private AdaptiveBulkhead bulkhead(int limit, int maxQueue, long maxWaitMs) {
+        return new AdaptiveBulkhead("heavy", new GradientLimit(limit, limit, limit), maxQueue, maxWaitMs, meterRegistry);
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("bulkhead.rejected").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,116 @@
+package com.sathira.miimoneypal.concurrency;
+
+import com.sathira.miimoneypal.exception.DeadlineExceededException;
+import com.sathira.miimoneypal.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for AdmissionControlledDataSource.
+ * Tests permit accounting on close and failure, shedding after the timeout and the request deadline.
+ */
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlledDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection connection;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should hold a permit until the connection is closed, and release it only once")
+    void releasesPermitOnClose() throws SQLException {
+        // Given
+        when(pool.getConnection()).thenReturn(connection);
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(pool, 2, 100, meterRegistry);
+
+        // When
+        Connection admitted = dataSource.getConnection();
+
+        // Then
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+        admitted.close();
+        admitted.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Should shed with 503 when no permit frees up within the timeout")
+    void shedsAfterTimeout() throws SQLException {
+        // Given
+        when(pool.getConnection()).thenReturn(connection);
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(pool, 1, 20, meterRegistry);
+        dataSource.getConnection();
+
+        // When / Then
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(meterRegistry.get("db.admission.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should stop waiting at the request deadline and report it as a deadline miss")
+    void stopsWaitingAtRequestDeadline() throws SQLException {
+        // Given - admission timeout far beyond the request's remaining time
+        when(pool.getConnection()).thenReturn(connection);
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(pool, 1, 60_000, meterRegistry);
+        dataSource.getConnection();
+        RequestDeadline deadline = RequestDeadline.start(20);
+
+        try {
+            // When / Then
+            assertThatThrownBy(dataSource::getConnection)
+                    .isInstanceOf(DeadlineExceededException.class);
+            assertThat(deadline.exceeded()).isTrue();
+            assertThat(meterRegistry.get("db.admission.rejected").counter().count()).isZero();
+        } finally {
+            RequestDeadline.finish();
+        }
+    }
+
+    @Test
+    @DisplayName("Should return the permit when the pool fails to hand out a connection")
+    void releasesPermitWhenPoolFails() throws SQLException {
+        // Given
+        when(pool.getConnection()).thenThrow(new SQLException("pool timeout"));
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(pool, 1, 20, meterRegistry);
+
+        // When / Then
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class);
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should delegate other calls to the pooled connection")
+    void delegatesToConnection() throws SQLException {
+        // Given
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(false);
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(pool, 1, 20, meterRegistry);
+
+        // When
+        Connection admitted = dataSource.getConnection();
+
+        // Then
+        assertThat(admitted.getAutoCommit()).isFalse();
+        assertThat(admitted).isEqualTo(admitted);
+    }
+}
@@ -0,0 +1,95 @@
+package com.sathira.miimoneypal.concurrency;
+
+import com.sathira.miimoneypal.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for BulkheadInterceptor.
+ * Tests bulkhead resolution and that a saturated heavy bulkhead leaves interactive requests alone.
+ */
+class BulkheadInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AdaptiveBulkhead interactive = new AdaptiveBulkhead(
+            Bulkhead.INTERACTIVE, new GradientLimit(10, 10, 10), 0, 0, meterRegistry);
+    private final AdaptiveBulkhead heavy = new AdaptiveBulkhead(
+            Bulkhead.HEAVY, new GradientLimit(1, 1, 1), 0, 0, meterRegistry);
+    private final BulkheadInterceptor interceptor = new BulkheadInterceptor(
+            new Bulkheads(Map.of(Bulkhead.INTERACTIVE, interactive, Bulkhead.HEAVY, heavy)));
+
+    static class SampleController {
+
+        public void addExpense() {
+        }
+
+        @Bulkhead(Bulkhead.HEAVY)
+        public void merge() {
+        }
+
+        @Bulkhead("reports")
+        public void report() {
+        }
+    }
+
+    @Bulkhead(Bulkhead.HEAVY)
+    static class ExportController {
+
+        public void export() {
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve the method, then class bulkhead, else interactive")
+    void resolvesBulkhead() throws Exception {
+        assertThat(interceptor.bulkhead(handler(new SampleController(), "addExpense"))).isSameAs(interactive);
+        assertThat(interceptor.bulkhead(handler(new SampleController(), "merge"))).isSameAs(heavy);
+        assertThat(interceptor.bulkhead(handler(new ExportController(), "export"))).isSameAs(heavy);
+    }
+
+    @Test
+    @DisplayName("Should fail loudly for a bulkhead that is not configured")
+    void unknownBulkhead() {
+        assertThatThrownBy(() -> interceptor.bulkhead(handler(new SampleController(), "report")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep admitting interactive requests while the heavy bulkhead is full")
+    void heavyLoadDoesNotBlockInteractive() throws Exception {
+        // Given - a merge holds the only heavy permit
+        MockHttpServletRequest mergeRequest = new MockHttpServletRequest();
+        MockHttpServletResponse mergeResponse = new MockHttpServletResponse();
+        interceptor.preHandle(mergeRequest, mergeResponse, handler(new SampleController(), "merge"));
+
+        // When / Then - a second heavy request is shed, an interactive one still runs
+        assertThatThrownBy(() -> interceptor.preHandle(
+                new MockHttpServletRequest(), new MockHttpServletResponse(), handler(new SampleController(), "merge")))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        MockHttpServletRequest expenseRequest = new MockHttpServletRequest();
+        MockHttpServletResponse expenseResponse = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(
+                expenseRequest, expenseResponse, handler(new SampleController(), "addExpense"))).isTrue();
+        assertThat(interactive.active()).isEqualTo(1);
+
+        // And - completion returns the permits
+        interceptor.afterCompletion(expenseRequest, expenseResponse, handler(new SampleController(), "addExpense"), null);
+        interceptor.afterCompletion(mergeRequest, mergeResponse, handler(new SampleController(), "merge"), null);
+        assertThat(interactive.active()).isZero();
+        assertThat(heavy.active()).isZero();
+    }
+
+    private static HandlerMethod handler(Object controller, String method) throws NoSuchMethodException {
+        return new HandlerMethod(controller, controller.getClass().getMethod(method));
+    }
+}
@@ -0,0 +1,122 @@
+package com.sathira.miimoneypal.concurrency;
+
+import com.sathira.miimoneypal.exception.DeadlineExceededException;
+import org.jooq.ExecuteContext;
+import org.jooq.exception.DataAccessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for DeadlineExecuteListener.
+ * Tests the query timeout, refusal after the deadline and translation of cancelled statements.
+ */
+@ExtendWith(MockitoExtension.class)
+class DeadlineExecuteListenerTest {
+
+    @Mock
+    private ExecuteContext ctx;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private final DeadlineExecuteListener listener = new DeadlineExecuteListener();
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.finish();
+    }
+
+    @Test
+    @DisplayName("Should leave statements outside a request untouched")
+    void noDeadlineNoTimeout() throws SQLException {
+        // When
+        listener.prepareEnd(ctx);
+
+        // Then
+        verify(statement, never()).setQueryTimeout(anyInt());
+    }
+
+    @Test
+    @DisplayName("Should set the query timeout to the remaining budget rounded up to seconds")
+    void setsQueryTimeout() throws SQLException {
+        // Given
+        RequestDeadline.start(2_500);
+        when(ctx.statement()).thenReturn(statement);
+
+        // When
+        listener.prepareEnd(ctx);
+
+        // Then
+        verify(statement).setQueryTimeout(3);
+    }
+
+    @Test
+    @DisplayName("Should refuse a statement once the deadline has passed")
+    void refusesAfterDeadline() {
+        // Given
+        RequestDeadline deadline = RequestDeadline.start(0);
+        when(ctx.statement()).thenReturn(statement);
+
+        // When / Then
+        assertThatThrownBy(() -> listener.prepareEnd(ctx)).isInstanceOf(DeadlineExceededException.class);
+        assertThat(deadline.exceeded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should turn a statement cancelled after the deadline into DeadlineExceededException")
+    void translatesCancelledStatement() {
+        // Given
+        RequestDeadline deadline = RequestDeadline.start(0);
+        SQLException cancelled = new SQLException("canceling statement due to user request", "57014");
+        when(ctx.sqlException()).thenReturn(cancelled);
+        when(ctx.exception()).thenReturn(new DataAccessException("cancelled", cancelled));
+
+        // When
+        listener.exception(ctx);
+
+        // Then
+        ArgumentCaptor<RuntimeException> replaced = ArgumentCaptor.forClass(RuntimeException.class);
+        verify(ctx).exception(replaced.capture());
+        assertThat(replaced.getValue()).isInstanceOf(DeadlineExceededException.class);
+        assertThat(deadline.exceeded()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should leave other failures alone while the budget remains")
+    void keepsOtherFailures() {
+        // Given
+        RequestDeadline.start(10_000);
+        when(ctx.sqlException()).thenReturn(new SQLException("duplicate key", "23505"));
+        when(ctx.exception()).thenReturn(new DataAccessException("duplicate key"));
+
+        // When
+        listener.exception(ctx);
+
+        // Then
+        verify(ctx, never()).exception(any(RuntimeException.class));
+    }
+
+    @Test
+    @DisplayName("Should round partial seconds up and never go below one second")
+    void timeoutSeconds() {
+        assertThat(DeadlineExecuteListener.timeoutSeconds(1)).isEqualTo(1);
+        assertThat(DeadlineExecuteListener.timeoutSeconds(1_000_000_000L)).isEqualTo(1);
+        assertThat(DeadlineExecuteListener.timeoutSeconds(1_000_000_001L)).isEqualTo(2);
+    }
+}
@@ -0,0 +1,89 @@
+package com.sathira.miimoneypal.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for GradientLimit.
+ * Tests growth under steady latency, shrinking when latency rises, backoff and bounds.
+ */
+class GradientLimitTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    @DisplayName("Should grow towards the maximum while latency stays at the baseline")
+    void growsUnderSteadyLatency() {
+        // Given
+        GradientLimit limit = new GradientLimit(1, 10, 50);
+
+        // When - every sample arrives with the limit fully used
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(10 * MS, limit.limit());
+        }
+
+        // Then
+        assertThat(limit.limit()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Should shrink when latency rises well above the baseline")
+    void shrinksWhenLatencyRises() {
+        // Given - baseline of 10 ms at a limit of 40
+        GradientLimit limit = new GradientLimit(5, 40, 50);
+        limit.onSample(10 * MS, 40);
+        int before = limit.limit();
+
+        // When - requests now take 50 ms
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(50 * MS, limit.limit());
+        }
+
+        // Then
+        assertThat(limit.limit()).isLessThan(before).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should not grow while most of the limit is unused")
+    void doesNotGrowWhenAppLimited() {
+        // Given
+        GradientLimit limit = new GradientLimit(1, 20, 100);
+
+        // When - only 2 of 20 slots in use
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(10 * MS, 2);
+        }
+
+        // Then
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should back off on drops without going below the minimum")
+    void backsOffOnDrops() {
+        // Given
+        GradientLimit limit = new GradientLimit(3, 10, 20);
+
+        // When
+        limit.onDropped();
+        int afterOneDrop = limit.limit();
+        for (int i = 0; i < 50; i++) {
+            limit.onDropped();
+        }
+
+        // Then
+        assertThat(afterOneDrop).isEqualTo(9);
+        assertThat(limit.limit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject an inconsistent range")
+    void rejectsInvalidRange() {
+        assertThatThrownBy(() -> new GradientLimit(0, 1, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GradientLimit(2, 1, 3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GradientLimit(1, 4, 3)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
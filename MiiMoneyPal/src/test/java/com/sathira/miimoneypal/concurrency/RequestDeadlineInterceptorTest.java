@@ -0,0 +1,87 @@
+package com.sathira.miimoneypal.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RequestDeadlineInterceptor.
+ * Tests budget resolution (annotation, default, lowering client header) and the miss counter.
+ */
+class RequestDeadlineInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestDeadlineInterceptor interceptor = new RequestDeadlineInterceptor(5_000, 60_000, meterRegistry);
+
+    @TimeBudget(millis = 15_000)
+    static class SampleController {
+
+        public void plain() {
+        }
+
+        @TimeBudget(millis = 3_000)
+        public void search() {
+        }
+    }
+
+    @Test
+    @DisplayName("Should prefer the method budget over the class budget")
+    void methodBudgetWins() throws Exception {
+        assertThat(interceptor.budgetMillis(new MockHttpServletRequest(), handler("search"))).isEqualTo(3_000);
+        assertThat(interceptor.budgetMillis(new MockHttpServletRequest(), handler("plain"))).isEqualTo(15_000);
+    }
+
+    @Test
+    @DisplayName("Should let the client deadline header lower the budget but never raise it")
+    void clientHeaderOnlyLowers() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(RequestDeadlineInterceptor.DEADLINE_HEADER, "800");
+        assertThat(interceptor.budgetMillis(request, handler("search"))).isEqualTo(800);
+
+        MockHttpServletRequest greedy = new MockHttpServletRequest();
+        greedy.addHeader(RequestDeadlineInterceptor.DEADLINE_HEADER, "600000");
+        assertThat(interceptor.budgetMillis(greedy, handler("search"))).isEqualTo(3_000);
+        assertThat(interceptor.budgetMillis(greedy, handler("plain"))).isEqualTo(15_000);
+    }
+
+    @Test
+    @DisplayName("Should ignore a malformed or non-positive header")
+    void ignoresBadHeader() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(RequestDeadlineInterceptor.DEADLINE_HEADER, "soon");
+        assertThat(interceptor.budgetMillis(request, handler("search"))).isEqualTo(3_000);
+
+        MockHttpServletRequest zero = new MockHttpServletRequest();
+        zero.addHeader(RequestDeadlineInterceptor.DEADLINE_HEADER, "0");
+        assertThat(interceptor.budgetMillis(zero, handler("plain"))).isEqualTo(15_000);
+    }
+
+    @Test
+    @DisplayName("Should scope the deadline to the request and count misses by route")
+    void countsMisses() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/transactions");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/transactions");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        interceptor.preHandle(request, response, handler("search"));
+        RequestDeadline.current().markExceeded();
+        interceptor.afterCompletion(request, response, handler("search"), null);
+
+        // Then
+        assertThat(RequestDeadline.current()).isNull();
+        assertThat(meterRegistry.get("http.request.deadline.exceeded")
+                .tag("uri", "/api/transactions").counter().count()).isEqualTo(1);
+    }
+
+    private static HandlerMethod handler(String method) throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod(method));
+    }
+}
@@ -0,0 +1,89 @@
+package com.sathira.miimoneypal.models.request;
+
+import com.sathira.miimoneypal.exception.BadRequestException;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
+import com.sathira.miimoneypal.records.transaction.TransactionType;
+import com.sathira.miimoneypal.rest.transactions.get.GetTransactionRequest;
+import com.sathira.miimoneypal.rest.transactions.list.ListTransactionsRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for RequestParameters.
+ * Tests conversion of path variables and query parameters and the request DTO factories built on it.
+ */
+class RequestParametersTest {
+
+    private final DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+
+    @Test
+    @DisplayName("Should bind the transaction list filters, defaults and fields")
+    void bindsListRequest() {
+        // Given
+        RequestParameters params = params(Map.of(), query(
+                "type", "EXPENSE", "startDate", "2025-01-01", "searchTerm", "coffee beans", "fields", "amount"));
+
+        // When
+        ListTransactionsRequest request = ListTransactionsRequest.from(params);
+
+        // Then
+        assertThat(request).isEqualTo(new ListTransactionsRequest(
+                TransactionType.EXPENSE, LocalDate.of(2025, 1, 1), null, null, null, "coffee beans", 0, 20,
+                EnumSet.of(TransactionField.ID, TransactionField.AMOUNT)));
+    }
+
+    @Test
+    @DisplayName("Should read path variables before query parameters")
+    void bindsPathVariables() {
+        // Given
+        RequestParameters params = params(Map.of("id", "42"), query("id", "7"));
+
+        // When
+        GetTransactionRequest request = GetTransactionRequest.from(params);
+
+        // Then
+        assertThat(request.id()).isEqualTo(42L);
+        assertThat(request.fields()).isEqualTo(TransactionField.DETAIL);
+    }
+
+    @Test
+    @DisplayName("Should return null for absent parameters")
+    void absentIsNull() {
+        assertThat(params(Map.of(), query()).get("limit", Integer.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject values that cannot be converted with 400")
+    void rejectsInvalidValues() {
+        RequestParameters params = params(Map.of("id", "abc"), query("type", "SAVINGS"));
+
+        assertThatThrownBy(() -> params.get("id", Long.class))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'id'");
+        assertThatThrownBy(() -> ListTransactionsRequest.from(params))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'type'");
+    }
+
+    private RequestParameters params(Map<String, String> pathVariables, MultiValueMap<String, String> query) {
+        return new RequestParameters(pathVariables, query, conversionService);
+    }
+
+    private static MultiValueMap<String, String> query(String... namesAndValues) {
+        MultiValueMap<String, String> query = new LinkedMultiValueMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            query.add(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return query;
+    }
+}
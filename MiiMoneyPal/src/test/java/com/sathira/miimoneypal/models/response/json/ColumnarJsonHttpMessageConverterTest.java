@@ -0,0 +1,43 @@
+package com.sathira.miimoneypal.models.response.json;
+
+import com.sathira.miimoneypal.rest.categories.list.ListCategoriesResponse;
+import com.sathira.miimoneypal.rest.transactions.get.GetTransactionResponse;
+import com.sathira.miimoneypal.rest.transactions.list.ListTransactionsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.json.JsonMapper;
+
+import static com.sathira.miimoneypal.models.response.json.ColumnarJsonHttpMessageConverter.COLUMNAR_JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ColumnarJsonHttpMessageConverter.
+ * Tests that it only answers explicit columnar requests for the list responses.
+ */
+class ColumnarJsonHttpMessageConverterTest {
+
+    private final ColumnarJsonHttpMessageConverter converter =
+            new ColumnarJsonHttpMessageConverter(JsonMapper.builder().build());
+
+    @Test
+    @DisplayName("Should write the list responses when columnar JSON is requested")
+    void writesListsForColumnar() {
+        assertThat(converter.canWrite(ListTransactionsResponse.class, COLUMNAR_JSON)).isTrue();
+        assertThat(converter.canWrite(ListCategoriesResponse.class, COLUMNAR_JSON)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not offer columnar JSON unless asked, so */* still negotiates row JSON")
+    void notProducibleWithoutAccept() {
+        assertThat(converter.canWrite(ListTransactionsResponse.class, null)).isFalse();
+        assertThat(converter.canWrite(ListTransactionsResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should leave other responses and all request bodies to the regular converters")
+    void ignoresOtherTypesAndReads() {
+        assertThat(converter.canWrite(GetTransactionResponse.class, COLUMNAR_JSON)).isFalse();
+        assertThat(converter.canRead(ListTransactionsResponse.class, COLUMNAR_JSON)).isFalse();
+    }
+}
@@ -0,0 +1,154 @@
+package com.sathira.miimoneypal.models.response.json;
+
+import com.sathira.miimoneypal.records.transaction.TransactionField;
+import com.sathira.miimoneypal.rest.categories.list.CategorySummary;
+import com.sathira.miimoneypal.rest.categories.list.ListCategoriesResponse;
+import com.sathira.miimoneypal.rest.transactions.list.ListTransactionsResponse;
+import com.sathira.miimoneypal.rest.transactions.list.TransactionSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ColumnarResponseModule.
+ * Each column must hold, at index i, the value row JSON has for item i.
+ */
+class ColumnarResponseModuleTest {
+
+    private final JsonMapper rows = mapper().build();
+    private final JsonMapper columnar = mapper().addModule(new ColumnarResponseModule()).build();
+
+    private static JsonMapper.Builder mapper() {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .addModule(new FieldSelectionModule())
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    }
+
+    @Test
+    @DisplayName("Should transpose a transaction page into one array per field and drop formatted_amount")
+    void transposesTransactions() {
+        // Given
+        ListTransactionsResponse response = ListTransactionsResponse.of(transactions(25), 25, 25, 60);
+
+        // When
+        JsonNode expected = rows.readTree(rows.writeValueAsBytes(response));
+        JsonNode actual = columnar.readTree(columnar.writeValueAsBytes(response));
+
+        // Then
+        assertColumnsMatchRows(expected.get("items"), actual.get("items"), "formatted_amount");
+        for (String field : List.of("page", "size", "total_items", "total_pages", "has_next", "has_previous")) {
+            assertThat(actual.get(field)).as(field).isEqualTo(expected.get(field));
+        }
+    }
+
+    @Test
+    @DisplayName("Should transpose the category list including null flags")
+    void transposesCategories() {
+        // Given
+        ListCategoriesResponse response = new ListCategoriesResponse(List.of(
+                new CategorySummary(1L, "Food", "EXPENSE", "#FF5733", "restaurant", true, false),
+                new CategorySummary(2L, "Side gig", "INCOME", null, null, null, true)
+        ), 2);
+
+        // When
+        JsonNode expected = rows.readTree(rows.writeValueAsBytes(response));
+        JsonNode actual = columnar.readTree(columnar.writeValueAsBytes(response));
+
+        // Then
+        assertColumnsMatchRows(expected.get("categories"), actual.get("categories"));
+        assertThat(actual.get("total").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should write empty columns for an empty page and null for a null list")
+    void emptyAndNullLists() {
+        JsonNode empty = columnar.readTree(columnar.writeValueAsString(ListTransactionsResponse.of(List.of(), 0, 20, 0)));
+        assertThat(empty.get("items").get("id").isArray()).isTrue();
+        assertThat(empty.get("items").get("id").size()).isZero();
+
+        JsonNode absent = columnar.readTree(columnar.writeValueAsString(new ListCategoriesResponse(null, 0)));
+        assertThat(absent.get("categories").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should write only the columns selected with fields=")
+    void writesSelectedColumns() {
+        // Given
+        Set<TransactionField> fields =
+                TransactionField.parse("amount,formatted_amount,category_name", TransactionField.SUMMARY);
+        ListTransactionsResponse response = ListTransactionsResponse.of(transactions(5, fields), 0, 5, 5, fields);
+
+        // When
+        JsonNode expected = rows.readTree(rows.writeValueAsBytes(response)).get("items");
+        JsonNode items = columnar.readTree(columnar.writeValueAsBytes(response)).get("items");
+
+        // Then
+        assertThat(items.properties()).extracting(Map.Entry::getKey).containsExactly("id", "amount", "category_name");
+        assertColumnsMatchRows(expected, items, "formatted_amount");
+    }
+
+    @Test
+    @DisplayName("Should be smaller than row JSON for a full page")
+    void smallerThanRows() {
+        ListTransactionsResponse response = ListTransactionsResponse.of(transactions(100), 0, 100, 1_000);
+
+        assertThat(columnar.writeValueAsBytes(response).length)
+                .isLessThan(rows.writeValueAsBytes(response).length * 2 / 3);
+    }
+
+    private static void assertColumnsMatchRows(JsonNode rowArray, JsonNode columns, String... omitted) {
+        List<String> skip = List.of(omitted);
+        int fields = 0;
+        for (Map.Entry<String, JsonNode> property : rowArray.get(0).properties()) {
+            String name = property.getKey();
+            if (skip.contains(name)) {
+                assertThat(columns.has(name)).as(name).isFalse();
+                continue;
+            }
+            fields++;
+            JsonNode column = columns.get(name);
+            assertThat(column).as(name).isNotNull();
+            assertThat(column.size()).as(name).isEqualTo(rowArray.size());
+            for (int i = 0; i < rowArray.size(); i++) {
+                assertThat(column.get(i)).as(name + "[" + i + "]").isEqualTo(rowArray.get(i).get(name));
+            }
+        }
+        assertThat(columns.size()).isEqualTo(fields);
+    }
+
+    private static List<TransactionSummary> transactions(int count) {
+        return transactions(count, TransactionField.SUMMARY);
+    }
+
+    private static List<TransactionSummary> transactions(int count, Set<TransactionField> fields) {
+        List<TransactionSummary> items = new ArrayList<>(count);
+        LocalDate date = LocalDate.of(2026, 3, 1);
+        for (int i = 0; i < count; i++) {
+            boolean bucket = i % 4 == 0;
+            BigDecimal amount = BigDecimal.valueOf(1_000 + i * 137L, 2);
+            items.add(new TransactionSummary(
+                    (long) i, bucket ? "SAVINGS" : "EXPENSE", amount, "$" + amount.toPlainString(),
+                    date.minusDays(i % 30),
+                    bucket ? null : 10L + i % 6, bucket ? null : "Category " + i % 6,
+                    bucket ? 3L : null, bucket ? "Emergency fund" : null,
+                    i % 3 == 0 ? null : "note " + i,
+                    LocalDateTime.of(2026, 3, 1, 8, i % 60),
+                    fields
+            ));
+        }
+        return items;
+    }
+}
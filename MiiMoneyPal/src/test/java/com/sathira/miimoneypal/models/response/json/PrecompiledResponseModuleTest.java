@@ -0,0 +1,198 @@
+package com.sathira.miimoneypal.models.response.json;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.sathira.miimoneypal.records.transaction.TransactionField;
+import com.sathira.miimoneypal.rest.categories.list.CategorySummary;
+import com.sathira.miimoneypal.rest.categories.list.ListCategoriesResponse;
+import com.sathira.miimoneypal.rest.transactions.get.GetTransactionResponse;
+import com.sathira.miimoneypal.rest.transactions.list.ListTransactionsResponse;
+import com.sathira.miimoneypal.rest.transactions.list.TransactionSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.PropertyNamingStrategies;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.lang.reflect.RecordComponent;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PrecompiledResponseModule.
+ * Every sample must serialize to exactly the bytes the reflective path produces under the
+ * application's Jackson settings (SNAKE_CASE, ISO dates, fields= selection).
+ */
+class PrecompiledResponseModuleTest {
+
+    private final JsonMapper reflective = mapper().build();
+    private final JsonMapper precompiled = mapper().addModule(new PrecompiledResponseModule()).build();
+
+    private static JsonMapper.Builder mapper() {
+        return JsonMapper.builder()
+                .findAndAddModules()
+                .addModule(new FieldSelectionModule())
+                .propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+    }
+
+    @Test
+    @DisplayName("Should write a transaction page byte-for-byte like the reflective serializer")
+    void listTransactionsMatches() {
+        // Given
+        List<TransactionSummary> items = new ArrayList<>();
+        items.add(summary(1L, "EXPENSE", new BigDecimal("1250.50"), 3L, null, "Lunch \"team\" caf\u00e9\n"));
+        items.add(summary(2L, "GOAL_COMPLETED", new BigDecimal("1E+3"), null, 7L, null));
+        items.add(summary(3L, "INCOME", new BigDecimal("99999999999999.9999"), 1L, null, ""));
+        ListTransactionsResponse response = ListTransactionsResponse.of(items, 20, 20, 43);
+
+        // When / Then
+        assertSameBytes(response);
+    }
+
+    @Test
+    @DisplayName("Should write empty and null transaction lists like the reflective serializer")
+    void emptyAndNullListsMatch() {
+        assertSameBytes(ListTransactionsResponse.of(List.of(), 0, 20, 0));
+        assertSameBytes(new ListTransactionsResponse(null, 0, 0, 0, 0, false, false));
+        assertSameBytes(new ListCategoriesResponse(null, 0));
+    }
+
+    @Test
+    @DisplayName("Should write a transaction with every nullable field null like the reflective serializer")
+    void allNullTransactionMatches() {
+        assertSameBytes(new TransactionSummary(null, null, null, null, null, null, null, null, null, null, null));
+        assertSameBytes(new GetTransactionResponse(
+                null, null, null, null, null, null, null, null, null, null, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Should write transaction detail byte-for-byte like the reflective serializer")
+    void getTransactionMatches() {
+        // Given
+        GetTransactionResponse response = new GetTransactionResponse(
+                42L, "SAVINGS", new BigDecimal("500.00"), "Rs. 500.00",
+                LocalDate.of(2026, 2, 28), null, null, null,
+                9L, "Japan trip", "SAVINGS_GOAL", "monthly <deposit>",
+                LocalDateTime.of(2026, 2, 28, 9, 15, 0),
+                LocalDateTime.of(2026, 3, 1, 23, 59, 59, 123_456_789)
+        );
+
+        // When / Then
+        assertSameBytes(response);
+    }
+
+    @Test
+    @DisplayName("Should write the category list byte-for-byte like the reflective serializer")
+    void listCategoriesMatches() {
+        // Given
+        ListCategoriesResponse response = new ListCategoriesResponse(List.of(
+                new CategorySummary(1L, "Food", "EXPENSE", "#FF5733", "restaurant", true, false),
+                new CategorySummary(2L, "Side gig", "INCOME", null, null, false, true),
+                new CategorySummary(3L, "Legacy", "EXPENSE", null, null, null, null)
+        ), 3);
+
+        // When / Then
+        assertSameBytes(response);
+    }
+
+    @Test
+    @DisplayName("Should write only the item fields selected with fields=")
+    void listTransactionsWritesSelectedFields() {
+        // Given
+        Set<TransactionField> fields = TransactionField.parse("amount, transaction_date", TransactionField.SUMMARY);
+        ListTransactionsResponse response = ListTransactionsResponse.of(
+                List.of(summary(1L, "EXPENSE", new BigDecimal("12.50"), 3L, null, "Lunch", fields)), 0, 20, 1,
+                fields);
+
+        // When
+        JsonNode json = precompiled.readTree(precompiled.writeValueAsString(response));
+
+        // Then
+        assertThat(json.get("items").get(0).properties()).extracting(Map.Entry::getKey)
+                .containsExactly("id", "amount", "transaction_date");
+        assertThat(json.get("items").get(0).get("amount").decimalValue()).isEqualByComparingTo("12.50");
+        assertThat(json.get("total_items").asLong()).isEqualTo(1);
+        assertSameBytes(response);
+    }
+
+    @Test
+    @DisplayName("Should write only the detail fields selected with fields=")
+    void getTransactionWritesSelectedFields() {
+        // Given
+        GetTransactionResponse response = new GetTransactionResponse(
+                42L, "EXPENSE", new BigDecimal("500.00"), null,
+                LocalDate.of(2026, 2, 28), 3L, "Food", "EXPENSE",
+                null, null, null, null,
+                LocalDateTime.of(2026, 2, 28, 9, 15, 0), null,
+                TransactionField.parse("category_name,category_type,updated_at", TransactionField.DETAIL));
+
+        // When
+        JsonNode json = precompiled.readTree(precompiled.writeValueAsString(response));
+
+        // Then
+        assertThat(json.properties()).extracting(Map.Entry::getKey)
+                .containsExactly("id", "category_name", "category_type", "updated_at");
+        assertThat(json.get("updated_at").isNull()).isTrue();
+        assertSameBytes(response);
+    }
+
+    @Test
+    @DisplayName("Should cover every record component (fails when a component is added without a serializer field)")
+    void serializersCoverEveryComponent() {
+        assertThat(fieldCount(new TransactionSummary(1L, null, null, null, null, null, null, null, null, null, null)))
+                .isEqualTo(serializedComponents(TransactionSummary.class));
+        assertThat(fieldCount(new GetTransactionResponse(
+                1L, null, null, null, null, null, null, null, null, null, null, null, null, null)))
+                .isEqualTo(serializedComponents(GetTransactionResponse.class));
+        assertThat(fieldCount(new CategorySummary(1L, null, null, null, null, null, null)))
+                .isEqualTo(serializedComponents(CategorySummary.class));
+        assertThat(fieldCount(new ListTransactionsResponse(List.of(), 0, 0, 0, 0, false, false)))
+                .isEqualTo(serializedComponents(ListTransactionsResponse.class));
+        assertThat(fieldCount(new ListCategoriesResponse(List.of(), 0)))
+                .isEqualTo(serializedComponents(ListCategoriesResponse.class));
+    }
+
+    private void assertSameBytes(Object response) {
+        assertThat(precompiled.writeValueAsBytes(response)).isEqualTo(reflective.writeValueAsBytes(response));
+        assertThat(precompiled.writeValueAsString(response)).isEqualTo(reflective.writeValueAsString(response));
+    }
+
+    private int fieldCount(Object response) {
+        return precompiled.readTree(precompiled.writeValueAsString(response)).size();
+    }
+
+    /**
+     * Record components that reach the JSON (the fields selection is carried, not written).
+     */
+    private static int serializedComponents(Class<? extends Record> type) {
+        return (int) Arrays.stream(type.getRecordComponents())
+                .map(RecordComponent::getAccessor)
+                .filter(accessor -> !accessor.isAnnotationPresent(JsonIgnore.class))
+                .count();
+    }
+
+    private static TransactionSummary summary(Long id, String type, BigDecimal amount, Long categoryId,
+                                              Long bucketId, String note) {
+        return summary(id, type, amount, categoryId, bucketId, note, TransactionField.SUMMARY);
+    }
+
+    private static TransactionSummary summary(Long id, String type, BigDecimal amount, Long categoryId,
+                                              Long bucketId, String note, Set<TransactionField> fields) {
+        return new TransactionSummary(
+                id, type, amount, "Rs. " + amount.toPlainString(),
+                LocalDate.of(2026, 1, 31),
+                categoryId, categoryId == null ? null : "Food",
+                bucketId, bucketId == null ? null : "Emergency fund",
+                note,
+                LocalDateTime.of(2026, 1, 31, 12, 0, 0, 500_000_000),
+                fields
+        );
+    }
+}
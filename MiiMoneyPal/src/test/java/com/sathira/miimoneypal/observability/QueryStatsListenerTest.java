@@ -0,0 +1,118 @@
+package com.sathira.miimoneypal.observability;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jooq.ExecuteContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for QueryStatsListener.
+ * Tests per-request accumulation (including work handed to other threads) and per-repository-method timers.
+ */
+@ExtendWith(MockitoExtension.class)
+class QueryStatsListenerTest {
+
+    @Mock
+    private ExecuteContext ctx;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final QueryStatsListener listener = new QueryStatsListener(registry, 60_000, false);
+
+    /**
+     * Stand-in caller; the listener tags timers with the nearest *Repository frame.
+     */
+    private final class SampleRepository {
+        void findSomething() {
+            listener.executeEnd(ctx);
+            listener.recordEnd(ctx);
+            listener.recordEnd(ctx);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestQueryStats.finish();
+    }
+
+    @Test
+    @DisplayName("Should add statements, DB time and rows to the current request")
+    void accumulatesRequestStats() {
+        // Given
+        RequestQueryStats stats = RequestQueryStats.start();
+        when(ctx.data(QueryStatsListener.START_KEY)).thenReturn(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(5));
+
+        // When
+        new SampleRepository().findSomething();
+        new SampleRepository().findSomething();
+
+        // Then
+        assertThat(stats.statements()).isEqualTo(2);
+        assertThat(stats.rows()).isEqualTo(4);
+        assertThat(stats.dbNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+    }
+
+    @Test
+    @DisplayName("Should add statements of wrapped tasks on other threads to the request")
+    void accumulatesWrappedTasks() {
+        // Given - a request handing four tasks to virtual threads, as a batch does
+        RequestQueryStats stats = RequestQueryStats.start();
+        when(ctx.data(QueryStatsListener.START_KEY)).thenReturn(System.nanoTime());
+
+        // When
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 4; i++) {
+                executor.submit(stats.wrap(() -> {
+                    new SampleRepository().findSomething();
+                    return null;
+                })::get);
+            }
+        }
+
+        // Then
+        assertThat(stats.statements()).isEqualTo(4);
+        assertThat(stats.rows()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should time statements by calling repository method")
+    void timesByRepositoryMethod() {
+        // Given
+        when(ctx.data(QueryStatsListener.START_KEY)).thenReturn(System.nanoTime());
+
+        // When - outside a request
+        new SampleRepository().findSomething();
+
+        // Then
+        Timer timer = registry.get(QueryStatsListener.TIMER_NAME)
+                .tag("repository", "QueryStatsListenerTest$SampleRepository")
+                .tag("method", "findSomething")
+                .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(RequestQueryStats.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should ignore statements that were never started")
+    void ignoresUnstartedStatements() {
+        // Given
+        when(ctx.data(QueryStatsListener.START_KEY)).thenReturn(null);
+
+        // When
+        listener.executeEnd(ctx);
+
+        // Then
+        assertThat(registry.find(QueryStatsListener.TIMER_NAME).timer()).isNull();
+    }
+}
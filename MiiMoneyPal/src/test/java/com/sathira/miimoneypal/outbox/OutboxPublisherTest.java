@@ -0,0 +1,121 @@
+package com.sathira.miimoneypal.outbox;
+
+import com.sathira.miimoneypal.records.outbox.OutboxEvent;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboxPublisher.
+ * Focuses on batch hand-off and that events are only deleted after listeners succeed.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxPublisherTest {
+
+    @Mock
+    private OutboxDataAccess outboxDataAccess;
+    @Mock
+    private OutboxEventListener listener;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private OutboxPublisher publisher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        publisher = new OutboxPublisher(outboxDataAccess, List.of(listener), transactionTemplate, true, 10, 100);
+
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Should hand locked batch to listeners and delete it")
+    void shouldPublishAndDeleteBatch() {
+        // Given
+        List<OutboxEvent> events = List.of(
+                event(1L, OutboxEventType.TRANSACTION_CREATED),
+                event(2L, OutboxEventType.CATEGORY_UPDATED)
+        );
+        when(outboxDataAccess.lockNextBatch(10)).thenReturn(events);
+
+        // When
+        int drained = publisher.drainBatch();
+
+        // Then
+        assertThat(drained).isEqualTo(2);
+        verify(listener).onEvents(events);
+        verify(outboxDataAccess).deleteByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should keep events when a listener fails")
+    void shouldKeepEventsWhenListenerFails() {
+        // Given
+        List<OutboxEvent> events = List.of(event(1L, OutboxEventType.TRANSACTION_DELETED));
+        when(outboxDataAccess.lockNextBatch(10)).thenReturn(events);
+        doThrow(new IllegalStateException("listener down")).when(listener).onEvents(events);
+
+        // When/Then - exception propagates so the draining transaction rolls back
+        assertThatThrownBy(() -> publisher.drainBatch())
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(outboxDataAccess, never()).deleteByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when outbox is empty")
+    void shouldSkipEmptyOutbox() {
+        // Given
+        when(outboxDataAccess.lockNextBatch(10)).thenReturn(List.of());
+
+        // When
+        int drained = publisher.drainBatch();
+
+        // Then
+        assertThat(drained).isZero();
+        verifyNoInteractions(listener);
+        verify(outboxDataAccess, never()).deleteByIds(anyList());
+    }
+
+    @Test
+    @DisplayName("Should keep events when no listener is registered")
+    void shouldKeepEventsWithoutListeners() {
+        // Given
+        OutboxPublisher idle = new OutboxPublisher(outboxDataAccess, List.of(), transactionTemplate, true, 10, 100);
+
+        // When
+        int drained = idle.drainBatch();
+        idle.start();
+
+        // Then - nothing locked or deleted, no worker started
+        assertThat(drained).isZero();
+        assertThat(idle.isRunning()).isFalse();
+        verifyNoInteractions(outboxDataAccess);
+    }
+
+    private OutboxEvent event(Long id, OutboxEventType type) {
+        return OutboxEvent.builder()
+                .id(id)
+                .eventType(type)
+                .aggregateId(100L + id)
+                .userId(1L)
+                .build();
+    }
+}
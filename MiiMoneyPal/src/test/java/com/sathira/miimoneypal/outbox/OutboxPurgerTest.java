@@ -0,0 +1,126 @@
+package com.sathira.miimoneypal.outbox;
+
+import com.sathira.miimoneypal.records.outbox.OutboxEvent;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for OutboxPurger.
+ * Runs against an in-memory outbox with no listener registered, the case in which nothing else
+ * ever deletes events.
+ */
+class OutboxPurgerTest {
+
+    private static final long RETENTION_MS = 60_000;
+
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+    private final OutboxPurger purger = new OutboxPurger(outbox, List.of(), RETENTION_MS, 10);
+
+    @Test
+    @DisplayName("Should delete expired events in batches until none are left and keep recent ones")
+    void shouldDeleteExpiredInBatches() {
+        // Given - 25 expired events (more than two batches) and 3 within retention
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 25; i++) {
+            outbox.add(now.minusMinutes(10));
+        }
+        for (int i = 0; i < 3; i++) {
+            outbox.add(now.minusSeconds(5));
+        }
+
+        // When
+        purger.purgeExpired();
+
+        // Then
+        assertThat(outbox.size()).isEqualTo(3);
+        assertThat(outbox.batches).containsExactly(10, 10, 5);
+    }
+
+    @Test
+    @DisplayName("Should keep the table bounded by the retention window while mutations keep appending")
+    void shouldKeepTableBounded() {
+        // Given - one simulated hour of 100 events per minute, purging every 5 minutes
+        LocalDateTime start = LocalDateTime.now().minusHours(1);
+        int peak = 0;
+
+        // When
+        for (int minute = 0; minute < 60; minute++) {
+            for (int i = 0; i < 100; i++) {
+                outbox.add(start.plusMinutes(minute));
+            }
+            if (minute % 5 == 4) {
+                outbox.clock = start.plusMinutes(minute);
+                purger.purgeExpired();
+            }
+            peak = Math.max(peak, outbox.size());
+        }
+
+        // Then - never more than retention (1 minute) plus one purge interval of events
+        assertThat(peak).isLessThanOrEqualTo(100 * (1 + 5 + 1));
+        assertThat(outbox.size()).isLessThanOrEqualTo(100 * 2);
+    }
+
+    /**
+     * Outbox table kept in a list; the purge cutoff is shifted by {@link #clock} so a
+     * simulated timeline can be purged with the real wall-clock cutoff.
+     */
+    private static final class InMemoryOutbox implements OutboxDataAccess {
+
+        private final List<OutboxEvent> rows = new ArrayList<>();
+        private final List<Integer> batches = new ArrayList<>();
+        private LocalDateTime clock;
+        private long nextId = 1;
+
+        void add(LocalDateTime createdAt) {
+            rows.add(OutboxEvent.builder()
+                    .id(nextId++)
+                    .eventType(OutboxEventType.TRANSACTION_CREATED)
+                    .userId(1L)
+                    .createdAt(createdAt)
+                    .build());
+        }
+
+        int size() {
+            return rows.size();
+        }
+
+        @Override
+        public void append(OutboxEventType eventType, Long aggregateId, Long userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<OutboxEvent> lockNextBatch(int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteByIds(List<Long> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int deleteCreatedBeforeBatch(LocalDateTime cutoff, int limit) {
+            LocalDateTime effective = clock != null
+                    ? clock.minusNanos(RETENTION_MS * 1_000_000)
+                    : cutoff;
+            List<OutboxEvent> expired = rows.stream()
+                    .filter(event -> !event.createdAt().isAfter(effective))
+                    .sorted(Comparator.comparing(OutboxEvent::id))
+                    .limit(limit)
+                    .toList();
+            rows.removeAll(expired);
+            batches.add(expired.size());
+            return expired.size();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.sathira.miimoneypal.records.transaction;
+
+import com.sathira.miimoneypal.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for TransactionField.
+ * Tests parsing of the fields= parameter against each endpoint's allow-list.
+ */
+class TransactionFieldTest {
+
+    @Test
+    @DisplayName("Should select every allowed field when fields= is absent or blank")
+    void defaultsToAllowedFields() {
+        assertThat(TransactionField.parse(null, TransactionField.SUMMARY)).isSameAs(TransactionField.SUMMARY);
+        assertThat(TransactionField.parse("  ", TransactionField.DETAIL)).isSameAs(TransactionField.DETAIL);
+    }
+
+    @Test
+    @DisplayName("Should parse wire names and always include the id")
+    void parsesWireNamesAndAddsId() {
+        assertThat(TransactionField.parse("amount, category_name,,note", TransactionField.SUMMARY))
+                .containsExactly(TransactionField.ID, TransactionField.AMOUNT,
+                        TransactionField.CATEGORY_NAME, TransactionField.NOTE);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown names and fields the endpoint does not offer")
+    void rejectsFieldsOutsideAllowList() {
+        assertThatThrownBy(() -> TransactionField.parse("amount,password", TransactionField.DETAIL))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'password'");
+        assertThatThrownBy(() -> TransactionField.parse("updated_at", TransactionField.SUMMARY))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("'updated_at'");
+        assertThatThrownBy(() -> TransactionField.parse("AMOUNT", TransactionField.SUMMARY))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("Should use snake_case response names")
+    void wireNamesAreSnakeCase() {
+        assertThat(TransactionField.FORMATTED_AMOUNT.wireName()).isEqualTo("formatted_amount");
+        assertThat(TransactionField.BUCKET_TYPE.wireName()).isEqualTo("bucket_type");
+    }
+}
@@ -0,0 +1,86 @@
+package com.sathira.miimoneypal.repository;
+
+import com.sathira.miimoneypal.records.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for UserCache.
+ * Tests lookup by ID and email, eviction and the transaction-completion eviction.
+ */
+class UserCacheTest {
+
+    private final UserCache userCache = new UserCache(100, 60_000);
+
+    private static User user(String email) {
+        return User.builder()
+                .id(1L)
+                .email(email)
+                .passwordHash("hash")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should find a cached user by ID and by email in any case")
+    void findsByIdAndEmail() {
+        // Given
+        userCache.put(user("Test@Example.com"));
+
+        // Then
+        assertThat(userCache.getById(1L)).isPresent();
+        assertThat(userCache.getByEmail("test@example.com")).isPresent();
+        assertThat(userCache.getByEmail("TEST@EXAMPLE.COM")).isPresent();
+        assertThat(userCache.getByEmail("other@example.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should drop both lookups when the user is evicted by ID")
+    void evictsById() {
+        // Given
+        userCache.put(user("test@example.com"));
+
+        // When
+        userCache.evict(1L);
+
+        // Then
+        assertThat(userCache.getById(1L)).isEmpty();
+        assertThat(userCache.getByEmail("test@example.com")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not serve a user under an email it no longer has")
+    void ignoresStaleEmailIndex() {
+        // Given - email changed and the new version was cached
+        userCache.put(user("old@example.com"));
+        userCache.put(user("new@example.com"));
+
+        // Then
+        assertThat(userCache.getByEmail("old@example.com")).isEmpty();
+        assertThat(userCache.getByEmail("new@example.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should evict again when the surrounding transaction completes")
+    void evictsAfterTransactionCompletion() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userCache.evict(1L);
+            // A later read in the same transaction caches uncommitted data
+            userCache.put(user("test@example.com"));
+
+            // When - transaction rolls back
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            // Then
+            assertThat(userCache.getById(1L)).isEmpty();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
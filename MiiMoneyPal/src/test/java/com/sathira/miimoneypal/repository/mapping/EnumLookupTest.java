@@ -0,0 +1,35 @@
+package com.sathira.miimoneypal.repository.mapping;
+
+import com.sathira.miimoneypal.records.transaction.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for EnumLookup.
+ */
+class EnumLookupTest {
+
+    private final EnumLookup<TransactionType> lookup = EnumLookup.of(TransactionType.class);
+
+    @Test
+    @DisplayName("Should resolve every constant exactly like valueOf")
+    void matchesValueOf() {
+        for (TransactionType type : TransactionType.values()) {
+            assertThat(lookup.parse(type.name())).isSameAs(TransactionType.valueOf(type.name()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject unknown and null names with the enum in the message")
+    void rejectsUnknownNames() {
+        assertThatThrownBy(() -> lookup.parse("income"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("TransactionType");
+        assertThatThrownBy(() -> lookup.parse(null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("TransactionType");
+    }
+}
@@ -0,0 +1,101 @@
+package com.sathira.miimoneypal.repository.mapping;
+
+import com.sathira.miimoneypal.records.transaction.Transaction;
+import com.sathira.miimoneypal.records.transaction.TransactionType;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.sathira.miimoneypal.jooq.tables.Transactions.TRANSACTIONS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TransactionRows.
+ * Runs the shared select against a mocked JDBC result, so the column order, the type
+ * conversion and the canonical-constructor mapping are exercised without a database.
+ */
+class TransactionRowsTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 3, 1, 9, 30);
+
+    @Test
+    @DisplayName("Should map selected rows straight into Transaction records")
+    void mapsRows() {
+        // Given
+        DSLContext dsl = mockDsl(
+                row(1L, "EXPENSE", "12.50", 4L, null, "lunch"),
+                row(2L, "INVESTMENT", "500.00", null, 9L, null)
+        );
+
+        // When
+        List<Transaction> transactions = TransactionRows.select(dsl)
+                .from(TRANSACTIONS)
+                .fetch(TransactionRows.TRANSACTION);
+
+        // Then
+        assertThat(transactions).containsExactly(
+                new Transaction(1L, 7L, TransactionType.EXPENSE, new BigDecimal("12.50"), LocalDate.of(2026, 3, 1),
+                        4L, null, "lunch", CREATED, CREATED),
+                new Transaction(2L, 7L, TransactionType.INVESTMENT, new BigDecimal("500.00"), LocalDate.of(2026, 3, 1),
+                        null, 9L, null, CREATED, CREATED)
+        );
+    }
+
+    @Test
+    @DisplayName("Should map a RETURNING TransactionsRecord the same way")
+    void mapsTableRecord() {
+        // Given
+        var record = DSL.using(SQLDialect.POSTGRES).newRecord(TRANSACTIONS);
+        record.setId(3L);
+        record.setUserId(7L);
+        record.setType("GOAL_COMPLETED");
+        record.setAmount(new BigDecimal("1000.00"));
+        record.setTransactionDate(LocalDate.of(2026, 3, 1));
+        record.setBucketId(9L);
+        record.setCreatedAt(CREATED);
+        record.setUpdatedAt(CREATED);
+
+        // When
+        Transaction transaction = TransactionRows.toTransaction(record);
+
+        // Then
+        assertThat(transaction.type()).isEqualTo(TransactionType.GOAL_COMPLETED);
+        assertThat(transaction.bucketId()).isEqualTo(9L);
+        assertThat(transaction.categoryId()).isNull();
+    }
+
+    private static Object[] row(Long id, String type, String amount, Long categoryId, Long bucketId, String note) {
+        return new Object[]{id, 7L, type, new BigDecimal(amount), LocalDate.of(2026, 3, 1),
+                categoryId, bucketId, note, CREATED, CREATED};
+    }
+
+    /**
+     * A DSLContext whose every query returns the given rows in the TRANSACTIONS column order.
+     */
+    private static DSLContext mockDsl(Object[]... rows) {
+        DSLContext create = DSL.using(SQLDialect.POSTGRES);
+        Field<?>[] columns = {TRANSACTIONS.ID, TRANSACTIONS.USER_ID, TRANSACTIONS.TYPE, TRANSACTIONS.AMOUNT,
+                TRANSACTIONS.TRANSACTION_DATE, TRANSACTIONS.CATEGORY_ID, TRANSACTIONS.BUCKET_ID, TRANSACTIONS.NOTE,
+                TRANSACTIONS.CREATED_AT, TRANSACTIONS.UPDATED_AT};
+        Result<Record> result = create.newResult(columns);
+        for (Object[] values : rows) {
+            Record record = create.newRecord(columns);
+            record.fromArray(values);
+            result.add(record);
+        }
+        return DSL.using(new MockConnection(context -> new MockResult[]{new MockResult(rows.length, result)}),
+                SQLDialect.POSTGRES);
+    }
+}
@@ -1,24 +1,35 @@
 package com.sathira.miimoneypal.rest.auth;
 
+import com.jayway.jsonpath.JsonPath;
+import com.sathira.miimoneypal.constants.EndPoints;
+import com.sathira.miimoneypal.support.StatementBudgetExtension;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
 /**
  * Integration test for Auth module.
- * Verifies that the Spring application context loads successfully with all auth components.
- *
- * Full HTTP integration tests can be run manually using tools like curl or Postman.
+ * Verifies that the Spring application context loads successfully with all auth components,
+ * and that each auth endpoint stays within its SQL statement budget.
  */
 @SpringBootTest
 @Testcontainers
 class AuthControllerIntegrationTest {
 
+    private static final String PASSWORD = "password123";
+
     @Container
     static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest");
 
@@ -27,8 +38,13 @@ class AuthControllerIntegrationTest {
         registry.add("spring.datasource.url", postgres::getJdbcUrl);
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
+        // Every test registers its own user from the same client address
+        registry.add("auth.rate-limit.enabled", () -> "false");
     }
 
+    @RegisterExtension
+    StatementBudgetExtension sql = new StatementBudgetExtension();
+
     @Test
     @DisplayName("Should load application context successfully with auth module")
     void contextLoads() {
@@ -40,4 +56,81 @@ class AuthControllerIntegrationTest {
         // - JwtTokenProvider, SecurityConfig
         // - Database connection via Testcontainers
     }
+
+    @Test
+    @DisplayName("Register should insert user, default categories and refresh token (3 statements)")
+    void registerStatementBudget() throws Exception {
+        sql.perform(3, post(EndPoints.AUTH_REGISTER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(credentialsJson(uniqueEmail())))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Login should read the user once and insert a refresh token (2 statements)")
+    void loginStatementBudget() throws Exception {
+        // Given
+        String email = uniqueEmail();
+        register(email);
+
+        // When / Then
+        sql.perform(2, post(EndPoints.AUTH_LOGIN)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(credentialsJson(email)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Refresh should read the user, spend the token and insert its successor (3 statements)")
+    void refreshStatementBudget() throws Exception {
+        // Given
+        String registered = register(uniqueEmail());
+
+        // When / Then
+        sql.perform(3, post(EndPoints.AUTH_REFRESH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshTokenJson(JsonPath.read(registered, "$.refresh_token"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Logout should revoke the token family in one statement")
+    void logoutStatementBudget() throws Exception {
+        // Given
+        String registered = register(uniqueEmail());
+        String accessToken = JsonPath.read(registered, "$.access_token");
+
+        // When / Then
+        sql.perform(1, post(EndPoints.AUTH_LOGOUT)
+                        .header("Authorization", "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(refreshTokenJson(JsonPath.read(registered, "$.refresh_token"))))
+                .andExpect(status().isOk());
+    }
+
+    // ========== Helpers ==========
+
+    private String register(String email) throws Exception {
+        return sql.perform(post(EndPoints.AUTH_REGISTER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(credentialsJson(email)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+    }
+
+    private static String uniqueEmail() {
+        return "auth-" + UUID.randomUUID() + "@example.com";
+    }
+
+    private static String credentialsJson(String email) {
+        return """
+                {"email": "%s", "password": "%s"}
+                """.formatted(email, PASSWORD);
+    }
+
+    private static String refreshTokenJson(String refreshToken) {
+        return """
+                {"refresh_token": "%s"}
+                """.formatted(refreshToken);
+    }
 }
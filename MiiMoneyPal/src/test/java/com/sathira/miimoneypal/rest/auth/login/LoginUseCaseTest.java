@@ -1,10 +1,13 @@
 package com.sathira.miimoneypal.rest.auth.login;
 
+import com.sathira.miimoneypal.exception.TooManyRequestsException;
 import com.sathira.miimoneypal.records.user.User;
 import com.sathira.miimoneypal.repository.UserDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
 import com.sathira.miimoneypal.security.Role;
 import com.sathira.miimoneypal.security.jwt.JwtTokenProvider;
+import com.sathira.miimoneypal.security.refresh.RefreshTokenService;
+import com.sathira.miimoneypal.security.ratelimit.AuthRateLimiter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,15 +30,17 @@ import static org.mockito.Mockito.*;
 class LoginUseCaseTest {
 
     @Mock private AuthenticationManager authenticationManager;
+    @Mock private AuthRateLimiter authRateLimiter;
     @Mock private UserDataAccess userDataAccess;
     @Mock private JwtTokenProvider jwtTokenProvider;
+    @Mock private RefreshTokenService refreshTokenService;
     @Mock private LoginResponseBuilder responseBuilder;
 
     private LoginUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new LoginUseCase(authenticationManager, userDataAccess, jwtTokenProvider, responseBuilder);
+        useCase = new LoginUseCase(authenticationManager, authRateLimiter, userDataAccess, jwtTokenProvider, refreshTokenService, responseBuilder);
     }
 
     @Test
@@ -60,7 +65,7 @@ class LoginUseCaseTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(auth);
         when(userDataAccess.findById(1L)).thenReturn(Optional.of(user));
         when(jwtTokenProvider.generateAccessToken(appUser)).thenReturn("accessToken");
-        when(jwtTokenProvider.generateRefreshToken(appUser)).thenReturn("refreshToken");
+        when(refreshTokenService.issue(appUser)).thenReturn("refreshToken");
         when(responseBuilder.build(user, "accessToken", "refreshToken"))
                 .thenReturn(new LoginResponse(1L, "test@example.com", "LKR", "accessToken", "refreshToken", 86400000L, 604800000L));
 
@@ -84,4 +89,19 @@ class LoginUseCaseTest {
         assertThatThrownBy(() -> useCase.execute(request))
                 .isInstanceOf(BadCredentialsException.class);
     }
+
+    @Test
+    @DisplayName("Should reject rate-limited email before authenticating")
+    void shouldRejectRateLimitedEmail() {
+        // Given
+        LoginRequest request = new LoginRequest(" Test@Example.com ", "password123");
+        doThrow(new TooManyRequestsException("Too many attempts", 12))
+                .when(authRateLimiter).checkEmail("test@example.com");
+
+        // When/Then
+        assertThatThrownBy(() -> useCase.execute(request))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        verifyNoInteractions(authenticationManager);
+    }
 }
@@ -1,9 +1,13 @@
 package com.sathira.miimoneypal.rest.auth.refresh;
 
 import com.sathira.miimoneypal.exception.BadRequestException;
+import com.sathira.miimoneypal.records.auth.RefreshToken;
 import com.sathira.miimoneypal.records.user.User;
+import com.sathira.miimoneypal.repository.RefreshTokenDataAccess;
 import com.sathira.miimoneypal.repository.UserDataAccess;
 import com.sathira.miimoneypal.security.jwt.JwtTokenProvider;
+import com.sathira.miimoneypal.security.jwt.RefreshTokenClaims;
+import com.sathira.miimoneypal.security.refresh.RefreshTokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,51 +16,58 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class RefreshUseCaseTest {
 
+    private static final UUID FAMILY_ID = UUID.fromString("3f1c2a4e-8b7d-4c6a-9e1f-0a2b3c4d5e6f");
+    private static final String TOKEN_ID = "token-id-1";
+
     @Mock private JwtTokenProvider jwtTokenProvider;
     @Mock private UserDataAccess userDataAccess;
+    @Mock private RefreshTokenDataAccess refreshTokenDataAccess;
+    @Mock private RefreshTokenService refreshTokenService;
     @Mock private RefreshResponseBuilder responseBuilder;
 
     private RefreshUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new RefreshUseCase(jwtTokenProvider, userDataAccess, responseBuilder);
+        useCase = new RefreshUseCase(jwtTokenProvider, userDataAccess, refreshTokenDataAccess,
+                refreshTokenService, responseBuilder);
     }
 
     @Test
-    @DisplayName("Should refresh access token with valid refresh token")
+    @DisplayName("Should rotate refresh token and return new access token")
     void shouldRefreshTokenSuccessfully() {
         // Given
         RefreshRequest request = new RefreshRequest("validRefreshToken");
-        User user = User.builder()
-                .id(1L)
-                .email("test@example.com")
-                .passwordHash("hash")
-                .build();
-
-        when(jwtTokenProvider.validateToken("validRefreshToken")).thenReturn(true);
-        when(jwtTokenProvider.isRefreshToken("validRefreshToken")).thenReturn(true);
-        when(jwtTokenProvider.getUserIdFromToken("validRefreshToken")).thenReturn(1L);
-        when(userDataAccess.findById(1L)).thenReturn(Optional.of(user));
+        givenValidRefreshToken("validRefreshToken", 1L);
+        when(userDataAccess.findById(1L)).thenReturn(Optional.of(user(1L)));
+        when(refreshTokenService.isFamilyRevoked(FAMILY_ID)).thenReturn(false);
+        when(refreshTokenDataAccess.markRotated(eq(RefreshTokenService.hash(TOKEN_ID)), any()))
+                .thenReturn(Optional.of(storedToken(LocalDateTime.now(), null)));
         when(jwtTokenProvider.generateAccessToken(any())).thenReturn("newAccessToken");
-        when(responseBuilder.build("newAccessToken"))
-                .thenReturn(new RefreshResponse("newAccessToken", 86400000L));
+        when(refreshTokenService.issue(any(), eq(FAMILY_ID))).thenReturn("newRefreshToken");
+        when(responseBuilder.build("newAccessToken", "newRefreshToken"))
+                .thenReturn(new RefreshResponse("newAccessToken", 86400000L, "newRefreshToken", 604800000L));
 
         // When
         RefreshResponse response = useCase.execute(request);
 
         // Then
         assertThat(response.accessToken()).isEqualTo("newAccessToken");
+        assertThat(response.refreshToken()).isEqualTo("newRefreshToken");
+        verify(refreshTokenDataAccess, never()).findByTokenHash(any());
     }
 
     @Test
@@ -91,9 +102,7 @@ class RefreshUseCaseTest {
     void shouldThrowExceptionForDeletedUser() {
         // Given
         RefreshRequest request = new RefreshRequest("validRefreshToken");
-        when(jwtTokenProvider.validateToken("validRefreshToken")).thenReturn(true);
-        when(jwtTokenProvider.isRefreshToken("validRefreshToken")).thenReturn(true);
-        when(jwtTokenProvider.getUserIdFromToken("validRefreshToken")).thenReturn(999L);
+        givenValidRefreshToken("validRefreshToken", 999L);
         when(userDataAccess.findById(999L)).thenReturn(Optional.empty());
 
         // When/Then
@@ -101,4 +110,69 @@ class RefreshUseCaseTest {
                 .isInstanceOf(BadCredentialsException.class)
                 .hasMessageContaining("User not found");
     }
+
+    @Test
+    @DisplayName("Should reject token from a revoked family without rotating")
+    void shouldRejectRevokedFamily() {
+        // Given
+        RefreshRequest request = new RefreshRequest("loggedOutToken");
+        givenValidRefreshToken("loggedOutToken", 1L);
+        when(userDataAccess.findById(1L)).thenReturn(Optional.of(user(1L)));
+        when(refreshTokenService.isFamilyRevoked(FAMILY_ID)).thenReturn(true);
+
+        // When/Then
+        assertThatThrownBy(() -> useCase.execute(request))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("revoked");
+
+        verifyNoInteractions(refreshTokenDataAccess);
+    }
+
+    @Test
+    @DisplayName("Should revoke the whole family when an already-rotated token is reused")
+    void shouldRevokeFamilyOnReuse() {
+        // Given
+        RefreshRequest request = new RefreshRequest("stolenToken");
+        givenValidRefreshToken("stolenToken", 1L);
+        String tokenHash = RefreshTokenService.hash(TOKEN_ID);
+        when(userDataAccess.findById(1L)).thenReturn(Optional.of(user(1L)));
+        when(refreshTokenService.isFamilyRevoked(FAMILY_ID)).thenReturn(false);
+        when(refreshTokenDataAccess.markRotated(eq(tokenHash), any())).thenReturn(Optional.empty());
+        when(refreshTokenDataAccess.findByTokenHash(tokenHash))
+                .thenReturn(Optional.of(storedToken(LocalDateTime.now().minusMinutes(5), null)));
+
+        // When/Then
+        assertThatThrownBy(() -> useCase.execute(request))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("reuse detected");
+
+        verify(refreshTokenService).revokeFamily(FAMILY_ID, 1L);
+        verify(refreshTokenService, never()).issue(any(), any());
+    }
+
+    private void givenValidRefreshToken(String token, Long userId) {
+        when(jwtTokenProvider.validateToken(token)).thenReturn(true);
+        when(jwtTokenProvider.isRefreshToken(token)).thenReturn(true);
+        when(jwtTokenProvider.getRefreshClaims(token)).thenReturn(new RefreshTokenClaims(userId, TOKEN_ID, FAMILY_ID));
+    }
+
+    private User user(Long id) {
+        return User.builder()
+                .id(id)
+                .email("test@example.com")
+                .passwordHash("hash")
+                .build();
+    }
+
+    private RefreshToken storedToken(LocalDateTime rotatedAt, LocalDateTime revokedAt) {
+        return RefreshToken.builder()
+                .id(10L)
+                .tokenHash(RefreshTokenService.hash(TOKEN_ID))
+                .familyId(FAMILY_ID)
+                .userId(1L)
+                .expiresAt(LocalDateTime.now().plusDays(7))
+                .rotatedAt(rotatedAt)
+                .revokedAt(revokedAt)
+                .build();
+    }
 }
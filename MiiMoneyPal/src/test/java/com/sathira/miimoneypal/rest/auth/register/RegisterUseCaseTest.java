@@ -5,6 +5,9 @@ import com.sathira.miimoneypal.records.user.User;
 import com.sathira.miimoneypal.repository.UserDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
 import com.sathira.miimoneypal.security.jwt.JwtTokenProvider;
+import com.sathira.miimoneypal.security.refresh.RefreshTokenService;
+import com.sathira.miimoneypal.security.ratelimit.AuthRateLimiter;
+import com.sathira.miimoneypal.service.CategorySeederService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,15 +28,18 @@ import static org.mockito.Mockito.*;
 class RegisterUseCaseTest {
 
     @Mock private UserDataAccess userDataAccess;
+    @Mock private CategorySeederService categorySeederService;
     @Mock private PasswordEncoder passwordEncoder;
     @Mock private JwtTokenProvider jwtTokenProvider;
+    @Mock private RefreshTokenService refreshTokenService;
+    @Mock private AuthRateLimiter authRateLimiter;
     @Mock private RegisterResponseBuilder responseBuilder;
 
     private RegisterUseCase useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new RegisterUseCase(userDataAccess, passwordEncoder, jwtTokenProvider, responseBuilder);
+        useCase = new RegisterUseCase(userDataAccess, categorySeederService, passwordEncoder, jwtTokenProvider, refreshTokenService, authRateLimiter, responseBuilder);
     }
 
     @Test
@@ -52,7 +58,7 @@ class RegisterUseCaseTest {
         when(passwordEncoder.encode("password123")).thenReturn("hashedPassword");
         when(userDataAccess.save(any(User.class))).thenReturn(savedUser);
         when(jwtTokenProvider.generateAccessToken(any(AppUser.class))).thenReturn("accessToken");
-        when(jwtTokenProvider.generateRefreshToken(any(AppUser.class))).thenReturn("refreshToken");
+        when(refreshTokenService.issue(any(AppUser.class))).thenReturn("refreshToken");
         when(responseBuilder.build(savedUser, "accessToken", "refreshToken"))
                 .thenReturn(new RegisterResponse(1L, "test@example.com", "USD", "accessToken", "refreshToken", 86400000L, 604800000L));
 
@@ -68,6 +74,9 @@ class RegisterUseCaseTest {
         ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
         verify(userDataAccess).save(userCaptor.capture());
         assertThat(userCaptor.getValue().email()).isEqualTo("test@example.com");
+
+        // Verify default categories are seeded for the new user
+        verify(categorySeederService).seedDefaults(1L);
     }
 
     @Test
@@ -86,7 +95,7 @@ class RegisterUseCaseTest {
         when(passwordEncoder.encode(any())).thenReturn("hashedPassword");
         when(userDataAccess.save(any(User.class))).thenReturn(savedUser);
         when(jwtTokenProvider.generateAccessToken(any())).thenReturn("token");
-        when(jwtTokenProvider.generateRefreshToken(any())).thenReturn("refresh");
+        when(refreshTokenService.issue(any())).thenReturn("refresh");
         when(responseBuilder.build(any(), any(), any()))
                 .thenReturn(new RegisterResponse(1L, "test@example.com", "LKR", "token", "refresh", 86400000L, 604800000L));
 
@@ -110,5 +119,7 @@ class RegisterUseCaseTest {
         assertThatThrownBy(() -> useCase.execute(request))
                 .isInstanceOf(DuplicateResourceException.class)
                 .hasMessageContaining("email");
+
+        verifyNoInteractions(categorySeederService);
     }
 }
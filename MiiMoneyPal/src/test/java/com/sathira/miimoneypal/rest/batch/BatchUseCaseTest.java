@@ -0,0 +1,351 @@
+package com.sathira.miimoneypal.rest.batch;
+
+import com.sathira.miimoneypal.concurrency.AdaptiveBulkhead;
+import com.sathira.miimoneypal.concurrency.Bulkhead;
+import com.sathira.miimoneypal.concurrency.Bulkheads;
+import com.sathira.miimoneypal.concurrency.GradientLimit;
+import com.sathira.miimoneypal.concurrency.RequestDeadline;
+import com.sathira.miimoneypal.concurrency.RequestDeadlineInterceptor;
+import com.sathira.miimoneypal.exception.GlobalExceptionHandler;
+import com.sathira.miimoneypal.exception.ResourceNotFoundException;
+import com.sathira.miimoneypal.models.response.ErrorResponse;
+import com.sathira.miimoneypal.records.category.CategoryType;
+import com.sathira.miimoneypal.records.transaction.TransactionType;
+import com.sathira.miimoneypal.rest.categories.get.GetCategoryRequest;
+import com.sathira.miimoneypal.rest.categories.get.GetCategoryResponse;
+import com.sathira.miimoneypal.rest.categories.get.GetCategoryUseCase;
+import com.sathira.miimoneypal.rest.categories.list.ListCategoriesRequest;
+import com.sathira.miimoneypal.rest.categories.list.ListCategoriesResponse;
+import com.sathira.miimoneypal.rest.categories.list.ListCategoriesUseCase;
+import com.sathira.miimoneypal.rest.transactions.get.GetTransactionUseCase;
+import com.sathira.miimoneypal.rest.transactions.list.ListTransactionsRequest;
+import com.sathira.miimoneypal.rest.transactions.list.ListTransactionsResponse;
+import com.sathira.miimoneypal.rest.transactions.list.ListTransactionsUseCase;
+import com.sathira.miimoneypal.security.AppUser;
+import com.sathira.miimoneypal.security.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.WebRequest;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for BatchUseCase.
+ * Focuses on routing, per-item status and error mapping, ordering, concurrent execution and the
+ * per-endpoint bulkheads and time budgets sub-requests run under.
+ */
+@ExtendWith(MockitoExtension.class)
+class BatchUseCaseTest {
+
+    @Mock
+    private GetTransactionUseCase getTransactionUseCase;
+    @Mock
+    private ListTransactionsUseCase listTransactionsUseCase;
+    @Mock
+    private GetCategoryUseCase getCategoryUseCase;
+    @Mock
+    private ListCategoriesUseCase listCategoriesUseCase;
+    @Mock
+    private ObjectProvider<Bulkheads> bulkheadsProvider;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BatchRoutes routes;
+    private BatchUseCase useCase;
+    private AppUser testUser;
+
+    @BeforeEach
+    void setUp() {
+        routes = new BatchRoutes(
+                getTransactionUseCase,
+                listTransactionsUseCase,
+                getCategoryUseCase,
+                listCategoriesUseCase,
+                new DefaultFormattingConversionService()
+        );
+        useCase = useCase(bulkhead(10));
+
+        testUser = AppUser.builder()
+                .id(1L)
+                .email("test@example.com")
+                .passwordHash("hash")
+                .role(Role.USER)
+                .build();
+
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("POST", "/api/batch")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should answer every sub-request in request order with its own status")
+    void shouldAnswerInOrder() {
+        // Given
+        ListCategoriesResponse categories = new ListCategoriesResponse(List.of(), 0);
+        GetCategoryResponse category = category(7L);
+        when(listCategoriesUseCase.execute(any(), eq(testUser))).thenReturn(categories);
+        when(getCategoryUseCase.execute(new GetCategoryRequest(7L), testUser)).thenReturn(category);
+        when(getCategoryUseCase.execute(new GetCategoryRequest(8L), testUser))
+                .thenThrow(new ResourceNotFoundException("Category", 8L));
+
+        BatchRequest request = new BatchRequest(List.of(
+                new BatchRequest.Item("categories", null, "/api/categories"),
+                new BatchRequest.Item("missing", "GET", "/api/categories/8"),
+                new BatchRequest.Item("category", "GET", "/api/categories/7")
+        ));
+
+        // When
+        BatchResponse response = useCase.execute(request, testUser);
+
+        // Then
+        assertThat(response.responses()).extracting(BatchResponse.Item::id)
+                .containsExactly("categories", "missing", "category");
+        assertThat(response.responses()).extracting(BatchResponse.Item::status)
+                .containsExactly(200, 404, 200);
+        assertThat(response.responses().get(0).body()).isSameAs(categories);
+        assertThat(response.responses().get(2).body()).isSameAs(category);
+        assertThat(((ErrorResponse) response.responses().get(1).body()).path()).isEqualTo("/api/categories/8");
+    }
+
+    @Test
+    @DisplayName("Should bind query parameters like the endpoint does")
+    void shouldBindQueryParameters() {
+        // Given
+        when(listTransactionsUseCase.execute(any(), eq(testUser)))
+                .thenReturn(new ListTransactionsResponse(List.of(), 0, 5, 0, 0, false, false));
+        BatchRequest request = new BatchRequest(List.of(new BatchRequest.Item(null, null,
+                "/api/transactions?type=EXPENSE&startDate=2025-01-01&searchTerm=coffee%20beans&limit=5")));
+
+        // When
+        BatchResponse response = useCase.execute(request, testUser);
+
+        // Then
+        assertThat(response.responses().getFirst().status()).isEqualTo(200);
+        ArgumentCaptor<ListTransactionsRequest> captor = ArgumentCaptor.forClass(ListTransactionsRequest.class);
+        verify(listTransactionsUseCase).execute(captor.capture(), eq(testUser));
+        assertThat(captor.getValue()).isEqualTo(new ListTransactionsRequest(
+                TransactionType.EXPENSE, LocalDate.of(2025, 1, 1), null, null, null, "coffee beans", 0, 5, null));
+    }
+
+    @Test
+    @DisplayName("Should fail unsupported sub-requests individually")
+    void shouldRejectUnsupportedSubRequests() {
+        // Given
+        BatchRequest request = new BatchRequest(List.of(
+                new BatchRequest.Item("write", "DELETE", "/api/categories/7"),
+                new BatchRequest.Item("unknown", "GET", "/api/buckets"),
+                new BatchRequest.Item("malformed", "GET", "/api/categories?type=SAVINGS")
+        ));
+
+        // When
+        BatchResponse response = useCase.execute(request, testUser);
+
+        // Then
+        assertThat(response.responses()).extracting(BatchResponse.Item::status)
+                .containsExactly(400, 404, 400);
+        verifyNoInteractions(getCategoryUseCase, listCategoriesUseCase);
+    }
+
+    @Test
+    @DisplayName("Should run independent sub-requests concurrently")
+    void shouldRunConcurrently() {
+        // Given - each call waits for the other; sequential execution would time out
+        CyclicBarrier bothRunning = new CyclicBarrier(2);
+        when(listCategoriesUseCase.execute(new ListCategoriesRequest(CategoryType.EXPENSE, null), testUser))
+                .thenAnswer(invocation -> {
+                    bothRunning.await(5, TimeUnit.SECONDS);
+                    return new ListCategoriesResponse(List.of(), 0);
+                });
+        when(getCategoryUseCase.execute(new GetCategoryRequest(7L), testUser))
+                .thenAnswer(invocation -> {
+                    bothRunning.await(5, TimeUnit.SECONDS);
+                    return category(7L);
+                });
+        BatchRequest request = new BatchRequest(List.of(
+                new BatchRequest.Item(null, null, "/api/categories?type=EXPENSE"),
+                new BatchRequest.Item(null, null, "/api/categories/7")
+        ));
+
+        // When
+        BatchResponse response = useCase.execute(request, testUser);
+
+        // Then
+        assertThat(response.responses()).extracting(BatchResponse.Item::status).containsExactly(200, 200);
+    }
+
+    @Test
+    @DisplayName("Should hold a permit of the endpoint's bulkhead while a sub-request runs")
+    void shouldHoldBulkheadPermit() {
+        // Given
+        when(getCategoryUseCase.execute(new GetCategoryRequest(7L), testUser)).thenAnswer(invocation -> {
+            assertThat(activeInteractive()).isEqualTo(1);
+            return category(7L);
+        });
+        BatchRequest request = new BatchRequest(List.of(new BatchRequest.Item(null, null, "/api/categories/7")));
+
+        // When
+        BatchResponse response = useCase.execute(request, testUser);
+
+        // Then - the assertion inside the call passed and the permit was returned
+        assertThat(response.responses().getFirst().status()).isEqualTo(200);
+        assertThat(activeInteractive()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should shed a sub-request with 503 when its endpoint's bulkhead is full")
+    void shouldShedWhenBulkheadFull() {
+        // Given - another request holds the only interactive permit
+        AdaptiveBulkhead full = bulkhead(1);
+        useCase = useCase(full);
+        AdaptiveBulkhead.Permit held = full.acquire();
+        BatchRequest request = new BatchRequest(List.of(new BatchRequest.Item(null, null, "/api/categories/7")));
+
+        // When
+        BatchResponse response = useCase.execute(request, testUser);
+
+        // Then
+        assertThat(response.responses().getFirst().status()).isEqualTo(503);
+        verify(getCategoryUseCase, never()).execute(any(), any());
+        held.release(true);
+    }
+
+    @Test
+    @DisplayName("Should run each sub-request under its endpoint's time budget within the batch deadline")
+    void shouldApplyEndpointTimeBudget() throws Exception {
+        // Given - the batch runs under the 5 s default; the transaction list has a 3 s budget
+        RequestDeadlineInterceptor deadlines = new RequestDeadlineInterceptor(5_000, 60_000, meterRegistry);
+        MockHttpServletRequest batchRequest = new MockHttpServletRequest("POST", "/api/batch");
+        MockHttpServletResponse batchResponse = new MockHttpServletResponse();
+        HandlerMethod batchHandler = new HandlerMethod(
+                new BatchController(useCase), BatchController.class.getMethod("batch", BatchRequest.class, AppUser.class));
+        deadlines.preHandle(batchRequest, batchResponse, batchHandler);
+
+        when(listTransactionsUseCase.execute(any(), eq(testUser))).thenAnswer(invocation -> {
+            assertThat(RequestDeadline.current().budgetMillis()).isEqualTo(3_000);
+            return new ListTransactionsResponse(List.of(), 0, 20, 0, 0, false, false);
+        });
+        when(getCategoryUseCase.execute(new GetCategoryRequest(7L), testUser)).thenAnswer(invocation -> {
+            assertThat(RequestDeadline.current().budgetMillis()).isEqualTo(5_000);
+            return category(7L);
+        });
+        BatchRequest request = new BatchRequest(List.of(
+                new BatchRequest.Item(null, null, "/api/transactions"),
+                new BatchRequest.Item(null, null, "/api/categories/7")
+        ));
+
+        // When
+        BatchResponse response;
+        try {
+            response = useCase.execute(request, testUser);
+        } finally {
+            deadlines.afterCompletion(batchRequest, batchResponse, batchHandler, null);
+        }
+
+        // Then - the assertions inside the calls passed
+        assertThat(response.responses()).extracting(BatchResponse.Item::status).containsExactly(200, 200);
+    }
+
+    @Test
+    @DisplayName("Should answer 500 for an item whose exception handler cannot be called")
+    void shouldFallBackWhenHandlerCannotBeCalled() {
+        // Given - a handler without the WebRequest parameter the batch passes
+        useCase = new BatchUseCase(routes, new MisdeclaredExceptionHandler(), bulkheadsProvider, 4);
+        when(getCategoryUseCase.execute(new GetCategoryRequest(7L), testUser))
+                .thenThrow(new IllegalStateException("broken"));
+        when(getCategoryUseCase.execute(new GetCategoryRequest(8L), testUser))
+                .thenThrow(new ResourceNotFoundException("Category", 8L));
+        BatchRequest request = new BatchRequest(List.of(
+                new BatchRequest.Item("broken", null, "/api/categories/7"),
+                new BatchRequest.Item("missing", null, "/api/categories/8")
+        ));
+
+        // When
+        BatchResponse response = useCase.execute(request, testUser);
+
+        // Then - the broken item becomes a 500, the other keeps its own handler's answer
+        assertThat(response.responses()).extracting(BatchResponse.Item::status).containsExactly(500, 404);
+        assertThat(((ErrorResponse) response.responses().get(0).body()).path()).isEqualTo("/api/categories/7");
+    }
+
+    @Test
+    @DisplayName("Every GlobalExceptionHandler handler should take (exception, WebRequest) as the batch calls it")
+    void exceptionHandlersShouldTakeExceptionAndWebRequest() {
+        // Given
+        List<Method> handlers = Arrays.stream(GlobalExceptionHandler.class.getDeclaredMethods())
+                .filter(method -> method.isAnnotationPresent(ExceptionHandler.class))
+                .toList();
+
+        // Then
+        assertThat(handlers).isNotEmpty().allSatisfy(method -> {
+            Class<?>[] parameters = method.getParameterTypes();
+            assertThat(parameters).as(method.getName()).hasSize(2);
+            assertThat(parameters[0]).as(method.getName()).isAssignableTo(Exception.class);
+            for (Class<? extends Throwable> handled : method.getAnnotation(ExceptionHandler.class).value()) {
+                assertThat(handled).as(method.getName()).isAssignableTo(parameters[0]);
+            }
+            assertThat(parameters[1]).as(method.getName()).isEqualTo(WebRequest.class);
+            assertThat(method.getReturnType()).as(method.getName()).isEqualTo(ResponseEntity.class);
+        });
+    }
+
+    private BatchUseCase useCase(AdaptiveBulkhead interactive) {
+        when(bulkheadsProvider.getIfAvailable()).thenReturn(new Bulkheads(Map.of(Bulkhead.INTERACTIVE, interactive)));
+        return new BatchUseCase(routes, new GlobalExceptionHandler(), bulkheadsProvider, 4);
+    }
+
+    private AdaptiveBulkhead bulkhead(int limit) {
+        return new AdaptiveBulkhead(Bulkhead.INTERACTIVE, new GradientLimit(limit, limit, limit), 0, 0, meterRegistry);
+    }
+
+    private double activeInteractive() {
+        return meterRegistry.get("bulkhead.active").tag("name", Bulkhead.INTERACTIVE).gauge().value();
+    }
+
+    private static GetCategoryResponse category(Long id) {
+        return new GetCategoryResponse(id, "Food", "EXPENSE", "#FF0000", "food", false, false, null, null);
+    }
+
+    /**
+     * Adds a handler Spring MVC could call but the batch cannot.
+     */
+    static class MisdeclaredExceptionHandler extends GlobalExceptionHandler {
+
+        @ExceptionHandler(IllegalStateException.class)
+        public ResponseEntity<ErrorResponse> handleIllegalState(IllegalStateException ex) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
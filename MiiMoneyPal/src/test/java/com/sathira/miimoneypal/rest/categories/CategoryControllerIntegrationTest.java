@@ -0,0 +1,205 @@
+package com.sathira.miimoneypal.rest.categories;
+
+import com.jayway.jsonpath.JsonPath;
+import com.sathira.miimoneypal.constants.EndPoints;
+import com.sathira.miimoneypal.support.StatementBudgetExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration test for Category module.
+ * Verifies that each category endpoint stays within its SQL statement budget.
+ */
+@SpringBootTest
+@Testcontainers
+class CategoryControllerIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        // Every test registers its own user from the same client address
+        registry.add("auth.rate-limit.enabled", () -> "false");
+    }
+
+    @RegisterExtension
+    StatementBudgetExtension sql = new StatementBudgetExtension();
+
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String registered = sql.perform(post(EndPoints.AUTH_REGISTER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "cat-%s@example.com", "password": "password123"}
+                                """.formatted(UUID.randomUUID())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        accessToken = JsonPath.read(registered, "$.access_token");
+    }
+
+    @Test
+    @DisplayName("POST: duplicate check, insert, outbox event (3 statements)")
+    void postStatementBudget() throws Exception {
+        sql.perform(3, authorized(post(EndPoints.CATEGORIES))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(categoryJson("Groceries")))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("GET by id: one statement")
+    void getStatementBudget() throws Exception {
+        // Given
+        long id = createExpenseCategory("Groceries");
+
+        // When / Then
+        sql.perform(1, authorized(get(EndPoints.CATEGORIES_BY_ID, id)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET list: one statement")
+    void listStatementBudget() throws Exception {
+        sql.perform(1, authorized(get(EndPoints.CATEGORIES)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("PUT with rename, no version: read, duplicate check, update, outbox event (4 statements)")
+    void putStatementBudget() throws Exception {
+        // Given
+        long id = createExpenseCategory("Groceries");
+
+        // When / Then
+        sql.perform(4, authorized(put(EndPoints.CATEGORIES_BY_ID, id))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"id": %d, "name": "Supermarket"}
+                                """.formatted(id)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("DELETE unused: read, usage check, delete, outbox event (4 statements)")
+    void deleteStatementBudget() throws Exception {
+        // Given
+        long id = createExpenseCategory("Groceries");
+
+        // When / Then
+        sql.perform(4, authorized(delete(EndPoints.CATEGORIES_BY_ID, id)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Merge: two reads, archive, job insert (4 statements); the job then finishes in the background")
+    void mergeStatementBudget() throws Exception {
+        // Given
+        long sourceId = createExpenseCategory("Groceries");
+        long targetId = createExpenseCategory("Supermarket");
+        sql.perform(authorized(post(EndPoints.TRANSACTIONS))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"type": "EXPENSE", "amount": 10.00, "transaction_date": "%s", "category_id": %d}
+                                """.formatted(LocalDate.now(), sourceId)))
+                .andExpect(status().isCreated());
+
+        // When
+        String accepted = sql.perform(4, authorized(post(EndPoints.CATEGORIES_MERGE, sourceId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"target_category_id": %d}
+                                """.formatted(targetId)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        long jobId = ((Number) JsonPath.read(accepted, "$.job_id")).longValue();
+
+        // Then - poll until the background job completes
+        String job = awaitMergeJob(jobId);
+        assertThat((Integer) JsonPath.read(job, "$.transactions_moved")).isEqualTo(1);
+        assertThat((Integer) JsonPath.read(job, "$.transactions_remaining")).isZero();
+        sql.perform(authorized(get(EndPoints.CATEGORIES_BY_ID, sourceId)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("GET merge job: job read, remaining count (2 statements)")
+    void mergeJobStatementBudget() throws Exception {
+        // Given
+        long sourceId = createExpenseCategory("Groceries");
+        long targetId = createExpenseCategory("Supermarket");
+        String accepted = sql.perform(authorized(post(EndPoints.CATEGORIES_MERGE, sourceId))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"target_category_id": %d}
+                                """.formatted(targetId)))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        long jobId = ((Number) JsonPath.read(accepted, "$.job_id")).longValue();
+
+        // When / Then
+        sql.perform(2, authorized(get(EndPoints.CATEGORIES_MERGE_JOB, jobId)))
+                .andExpect(status().isOk());
+    }
+
+    // ========== Helpers ==========
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + accessToken);
+    }
+
+    private String awaitMergeJob(long jobId) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (true) {
+            String job = sql.perform(authorized(get(EndPoints.CATEGORIES_MERGE_JOB, jobId)))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            String jobStatus = JsonPath.read(job, "$.status");
+            if (!"RUNNING".equals(jobStatus) || System.currentTimeMillis() > deadline) {
+                assertThat(jobStatus).isEqualTo("COMPLETED");
+                return job;
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private long createExpenseCategory(String name) throws Exception {
+        String created = sql.perform(authorized(post(EndPoints.CATEGORIES))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(categoryJson(name)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(created, "$.id")).longValue();
+    }
+
+    private static String categoryJson(String name) {
+        return """
+                {"name": "%s", "type": "EXPENSE"}
+                """.formatted(name);
+    }
+}
@@ -0,0 +1,247 @@
+package com.sathira.miimoneypal.rest.categories.merge;
+
+import com.sathira.miimoneypal.concurrency.AdaptiveBulkhead;
+import com.sathira.miimoneypal.concurrency.Bulkhead;
+import com.sathira.miimoneypal.concurrency.Bulkheads;
+import com.sathira.miimoneypal.concurrency.GradientLimit;
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+import com.sathira.miimoneypal.records.category.MergeJobStatus;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MergeCategoryJobRunner.
+ * Focuses on claiming the job, chunked reassignment with progress, the heavy bulkhead permit per
+ * chunk, delete-only-when-done ordering and failure handling.
+ */
+@ExtendWith(MockitoExtension.class)
+class MergeCategoryJobRunnerTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final long LEASE_MS = 60_000;
+    private static final Duration LEASE = Duration.ofMillis(LEASE_MS);
+
+    @Mock
+    private MergeCategoryDataAccess dataAccess;
+    @Mock
+    private OutboxDataAccess outboxDataAccess;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ObjectProvider<Bulkheads> bulkheadsProvider;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MergeCategoryJobRunner runner;
+    private CategoryMergeJob job;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        runner = new MergeCategoryJobRunner(
+                dataAccess, outboxDataAccess, transactionTemplate, bulkheadsProvider, CHUNK_SIZE, LEASE_MS);
+        job = CategoryMergeJob.builder()
+                .id(100L)
+                .userId(1L)
+                .sourceCategoryId(10L)
+                .targetCategoryId(20L)
+                .status(MergeJobStatus.RUNNING)
+                .build();
+
+        lenient().when(dataAccess.claimJob(eq(100L), anyString(), eq(LEASE))).thenReturn(true);
+        lenient().when(dataAccess.renewJob(eq(100L), anyString(), eq(LEASE))).thenReturn(true);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            ((Consumer<Object>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("Should move transactions in chunks, record progress and delete source only when empty")
+    void shouldMergeInChunksThenDeleteSource() {
+        // Given - 5 transactions with chunk size 2 -> chunks of 2, 2, 1, then empty
+        when(dataAccess.reassignChunk(10L, 20L, 1L, CHUNK_SIZE)).thenReturn(2, 2, 1, 0);
+        when(dataAccess.completeJob(eq(100L), anyString())).thenReturn(true);
+
+        // When
+        runner.run(job);
+
+        // Then - claimed first, four chunk statements each after a lease renewal, progress per
+        // non-empty chunk, complete and delete last, all as the same owner
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        InOrder inOrder = inOrder(dataAccess);
+        inOrder.verify(dataAccess).claimJob(eq(100L), owner.capture(), eq(LEASE));
+        inOrder.verify(dataAccess).renewJob(100L, owner.getValue(), LEASE);
+        inOrder.verify(dataAccess).reassignChunk(10L, 20L, 1L, CHUNK_SIZE);
+        inOrder.verify(dataAccess).recordChunk(100L, 2);
+        inOrder.verify(dataAccess).reassignChunk(10L, 20L, 1L, CHUNK_SIZE);
+        inOrder.verify(dataAccess).recordChunk(100L, 2);
+        inOrder.verify(dataAccess).reassignChunk(10L, 20L, 1L, CHUNK_SIZE);
+        inOrder.verify(dataAccess).recordChunk(100L, 1);
+        inOrder.verify(dataAccess).reassignChunk(10L, 20L, 1L, CHUNK_SIZE);
+        inOrder.verify(dataAccess).completeJob(100L, owner.getValue());
+        inOrder.verify(dataAccess).deleteById(10L);
+        verify(dataAccess, times(4)).renewJob(100L, owner.getValue(), LEASE);
+        verify(outboxDataAccess).append(OutboxEventType.CATEGORY_MERGED, 10L, 1L);
+        verify(dataAccess, never()).failJob(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should not delete or publish when the job was completed or taken over meanwhile")
+    void shouldSkipCompletionWhenAlreadyCompleted() {
+        // Given
+        when(dataAccess.reassignChunk(10L, 20L, 1L, CHUNK_SIZE)).thenReturn(0);
+        when(dataAccess.completeJob(eq(100L), anyString())).thenReturn(false);
+
+        // When
+        runner.run(job);
+
+        // Then
+        verify(dataAccess, never()).deleteById(any());
+        verifyNoInteractions(outboxDataAccess);
+    }
+
+    @Test
+    @DisplayName("Should not run a job another runner holds")
+    void shouldSkipJobHeldByAnotherRunner() {
+        // Given
+        when(dataAccess.claimJob(eq(100L), anyString(), eq(LEASE))).thenReturn(false);
+
+        // When
+        runner.run(job);
+
+        // Then
+        verify(dataAccess, never()).reassignChunk(anyLong(), anyLong(), anyLong(), anyInt());
+        verify(dataAccess, never()).completeJob(any(), any());
+        verify(dataAccess, never()).failJob(any(), any(), any());
+        verifyNoInteractions(transactionTemplate, outboxDataAccess);
+    }
+
+    @Test
+    @DisplayName("Should stop without finishing the job when another runner took it over")
+    void shouldStopWhenClaimLost() {
+        // Given - the lease expired after the first chunk and another node claimed the job
+        when(dataAccess.renewJob(eq(100L), anyString(), eq(LEASE))).thenReturn(true, false);
+        when(dataAccess.reassignChunk(10L, 20L, 1L, CHUNK_SIZE)).thenReturn(2);
+
+        // When
+        runner.run(job);
+
+        // Then - one chunk moved, then nothing: no completion, no failure, no delete
+        verify(dataAccess, times(1)).reassignChunk(10L, 20L, 1L, CHUNK_SIZE);
+        verify(dataAccess, never()).completeJob(any(), any());
+        verify(dataAccess, never()).failJob(any(), any(), any());
+        verify(dataAccess, never()).deleteById(any());
+        verifyNoInteractions(outboxDataAccess);
+    }
+
+    @Test
+    @DisplayName("Should hold a heavy bulkhead permit for every chunk and release it after")
+    void shouldHoldHeavyPermitPerChunk() {
+        // Given
+        heavyBulkhead();
+        List<Double> activeDuringChunk = new ArrayList<>();
+        when(dataAccess.reassignChunk(10L, 20L, 1L, CHUNK_SIZE)).thenAnswer(invocation -> {
+            activeDuringChunk.add(activeHeavy());
+            return activeDuringChunk.size() < 3 ? 2 : 0;
+        });
+        when(dataAccess.completeJob(eq(100L), anyString())).thenReturn(true);
+
+        // When
+        runner.run(job);
+
+        // Then
+        assertThat(activeDuringChunk).containsExactly(1.0, 1.0, 1.0);
+        assertThat(activeHeavy()).isZero();
+        verify(dataAccess).deleteById(10L);
+    }
+
+    @Test
+    @DisplayName("Should wait for a full heavy bulkhead instead of failing the job")
+    void shouldWaitForFullHeavyBulkhead() throws Exception {
+        // Given - a bulk edit holds the only heavy permit and releases it shortly
+        AdaptiveBulkhead.Permit held = heavyBulkhead().acquire();
+        when(dataAccess.reassignChunk(10L, 20L, 1L, CHUNK_SIZE)).thenReturn(0);
+        when(dataAccess.completeJob(eq(100L), anyString())).thenReturn(true);
+        Thread releaser = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            held.release(true);
+        });
+
+        // When
+        runner.run(job);
+        releaser.join();
+
+        // Then
+        verify(dataAccess).deleteById(10L);
+        verify(dataAccess, never()).failJob(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should mark the job failed and keep the source when a chunk fails")
+    void shouldMarkFailedOnError() {
+        // Given
+        when(dataAccess.reassignChunk(10L, 20L, 1L, CHUNK_SIZE))
+                .thenReturn(2)
+                .thenThrow(new TransientDataAccessResourceException("connection lost"));
+
+        // When
+        runner.run(job);
+
+        // Then
+        verify(dataAccess).failJob(eq(100L), anyString(), contains("connection lost"));
+        verify(dataAccess, never()).completeJob(any(), any());
+        verify(dataAccess, never()).deleteById(any());
+        verifyNoInteractions(outboxDataAccess);
+    }
+
+    /**
+     * A heavy bulkhead with one permit and no queue, registered for the runner.
+     */
+    private AdaptiveBulkhead heavyBulkhead() {
+        AdaptiveBulkhead heavy = new AdaptiveBulkhead(Bulkhead.HEAVY, new GradientLimit(1, 1, 1), 0, 0, meterRegistry);
+        AdaptiveBulkhead interactive = new AdaptiveBulkhead(
+                Bulkhead.INTERACTIVE, new GradientLimit(10, 10, 10), 0, 0, meterRegistry);
+        when(bulkheadsProvider.getIfAvailable())
+                .thenReturn(new Bulkheads(Map.of(Bulkhead.HEAVY, heavy, Bulkhead.INTERACTIVE, interactive)));
+        runner = new MergeCategoryJobRunner(
+                dataAccess, outboxDataAccess, transactionTemplate, bulkheadsProvider, CHUNK_SIZE, LEASE_MS);
+        return heavy;
+    }
+
+    private double activeHeavy() {
+        return meterRegistry.get("bulkhead.active").tag("name", Bulkhead.HEAVY).gauge().value();
+    }
+}
@@ -0,0 +1,261 @@
+package com.sathira.miimoneypal.rest.categories.merge;
+
+import com.sathira.miimoneypal.exception.BusinessRuleException;
+import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.category.CategoryMergeJob;
+import com.sathira.miimoneypal.records.category.CategoryType;
+import com.sathira.miimoneypal.records.category.MergeJobStatus;
+import com.sathira.miimoneypal.security.AppUser;
+import com.sathira.miimoneypal.security.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MergeCategoryUseCase.
+ * Focuses on validation, chain rejection, archive-before-job ordering and handing the job
+ * to the runner after commit.
+ */
+@ExtendWith(MockitoExtension.class)
+class MergeCategoryUseCaseTest {
+
+    @Mock
+    private MergeCategoryDataAccess dataAccess;
+    @Mock
+    private MergeCategoryJobRunner jobRunner;
+    @Mock
+    private MergeCategoryResponseBuilder responseBuilder;
+
+    private MergeCategoryUseCase useCase;
+    private AppUser testUser;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new MergeCategoryUseCase(dataAccess, jobRunner, responseBuilder);
+
+        testUser = AppUser.builder()
+                .id(1L)
+                .email("test@example.com")
+                .passwordHash("hash")
+                .role(Role.USER)
+                .build();
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Should archive the source, record a job and hand it to the runner")
+    void shouldStartMergeJob() {
+        // Given
+        Category source = category(10L, "Dining", CategoryType.EXPENSE, false, false);
+        Category target = category(20L, "Food", CategoryType.EXPENSE, false, false);
+        CategoryMergeJob job = job(100L, 10L, 20L);
+
+        when(dataAccess.findByIdAndUserId(10L, 1L)).thenReturn(Optional.of(source));
+        when(dataAccess.findByIdAndUserId(20L, 1L)).thenReturn(Optional.of(target));
+        when(dataAccess.startJob(10L, 20L, 1L)).thenReturn(Optional.of(job));
+
+        // When
+        useCase.execute(new MergeCategoryRequest(10L, 20L), testUser);
+        verify(jobRunner, never()).run(any());
+        commit();
+
+        // Then - archived before the job exists, runner started after commit, no chunk on the request thread
+        InOrder inOrder = inOrder(dataAccess, jobRunner);
+        inOrder.verify(dataAccess).lockCategories(10L, 20L);
+        inOrder.verify(dataAccess).archive(10L);
+        inOrder.verify(dataAccess).startJob(10L, 20L, 1L);
+        inOrder.verify(jobRunner).run(job);
+        verify(dataAccess, never()).reassignChunk(anyLong(), anyLong(), anyLong(), anyInt());
+        verify(responseBuilder).build(source, target, job);
+    }
+
+    @Test
+    @DisplayName("Should return the running job when the source is already being merged")
+    void shouldReturnRunningJob() {
+        // Given - an earlier request archived the source and started the job
+        Category source = category(10L, "Dining", CategoryType.EXPENSE, false, true);
+        Category target = category(20L, "Food", CategoryType.EXPENSE, false, false);
+        CategoryMergeJob running = job(100L, 10L, 20L);
+
+        when(dataAccess.findByIdAndUserId(10L, 1L)).thenReturn(Optional.of(source));
+        when(dataAccess.findByIdAndUserId(20L, 1L)).thenReturn(Optional.of(target));
+        when(dataAccess.findRunningJob(10L)).thenReturn(Optional.of(running));
+
+        // When
+        useCase.execute(new MergeCategoryRequest(10L, 20L), testUser);
+        commit();
+
+        // Then - not archived again, not run twice
+        verify(dataAccess, never()).archive(any());
+        verify(dataAccess, never()).startJob(any(), any(), any());
+        verify(jobRunner, never()).run(any());
+        verify(responseBuilder).build(source, target, running);
+    }
+
+    @Test
+    @DisplayName("Should reject a second merge of the source into a different target")
+    void shouldRejectDifferentTargetWhileRunning() {
+        // Given
+        Category source = category(10L, "Dining", CategoryType.EXPENSE, false, true);
+        Category target = category(30L, "Groceries", CategoryType.EXPENSE, false, false);
+
+        when(dataAccess.findByIdAndUserId(10L, 1L)).thenReturn(Optional.of(source));
+        when(dataAccess.findByIdAndUserId(30L, 1L)).thenReturn(Optional.of(target));
+        when(dataAccess.findRunningJob(10L)).thenReturn(Optional.of(job(100L, 10L, 20L)));
+
+        // When/Then
+        assertThatThrownBy(() -> useCase.execute(new MergeCategoryRequest(10L, 30L), testUser))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("already being merged into category 20");
+
+        verify(jobRunner, never()).run(any());
+    }
+
+    @Test
+    @DisplayName("Should reject merging a category that a running job is still merging into")
+    void shouldRejectSourceReceivingRunningMerge() {
+        // Given - Dining (10) -> Food (20) is running; now Food -> Groceries (30) is requested
+        Category source = category(20L, "Food", CategoryType.EXPENSE, false, false);
+        Category target = category(30L, "Groceries", CategoryType.EXPENSE, false, false);
+
+        when(dataAccess.findByIdAndUserId(20L, 1L)).thenReturn(Optional.of(source));
+        when(dataAccess.findByIdAndUserId(30L, 1L)).thenReturn(Optional.of(target));
+        when(dataAccess.findRunningJob(20L)).thenReturn(Optional.empty());
+        when(dataAccess.findRunningJob(30L)).thenReturn(Optional.empty());
+        when(dataAccess.isMergeTarget(20L)).thenReturn(true);
+
+        // When/Then
+        assertThatThrownBy(() -> useCase.execute(new MergeCategoryRequest(20L, 30L), testUser))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("still receiving transactions from another merge");
+
+        verify(dataAccess).lockCategories(20L, 30L);
+        verify(dataAccess, never()).archive(any());
+        verify(dataAccess, never()).startJob(any(), any(), any());
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject merging into a category that a running job is merging away")
+    void shouldRejectTargetOfRunningMerge() {
+        // Given - Food (20) -> Groceries (30) is running; now Dining (10) -> Food is requested
+        Category source = category(10L, "Dining", CategoryType.EXPENSE, false, false);
+        Category target = category(20L, "Food", CategoryType.EXPENSE, false, false);
+
+        when(dataAccess.findByIdAndUserId(10L, 1L)).thenReturn(Optional.of(source));
+        when(dataAccess.findByIdAndUserId(20L, 1L)).thenReturn(Optional.of(target));
+        when(dataAccess.findRunningJob(10L)).thenReturn(Optional.empty());
+        when(dataAccess.findRunningJob(20L)).thenReturn(Optional.of(job(100L, 20L, 30L)));
+
+        // When/Then
+        assertThatThrownBy(() -> useCase.execute(new MergeCategoryRequest(10L, 20L), testUser))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("is being merged into another category");
+
+        verify(dataAccess, never()).archive(any());
+        verify(dataAccess, never()).startJob(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject merging categories of different types")
+    void shouldRejectTypeMismatch() {
+        // Given
+        Category source = category(10L, "Bonus", CategoryType.INCOME, false, false);
+        Category target = category(20L, "Food", CategoryType.EXPENSE, false, false);
+
+        when(dataAccess.findByIdAndUserId(10L, 1L)).thenReturn(Optional.of(source));
+        when(dataAccess.findByIdAndUserId(20L, 1L)).thenReturn(Optional.of(target));
+
+        // When/Then
+        assertThatThrownBy(() -> useCase.execute(new MergeCategoryRequest(10L, 20L), testUser))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("Cannot merge INCOME category");
+
+        verify(dataAccess, never()).startJob(any(), any(), any());
+        verify(jobRunner, never()).run(any());
+    }
+
+    @Test
+    @DisplayName("Should reject merging a system category")
+    void shouldRejectSystemSource() {
+        // Given
+        Category source = category(10L, "Opening Balance", CategoryType.INCOME, true, false);
+        Category target = category(20L, "Salary", CategoryType.INCOME, false, false);
+
+        when(dataAccess.findByIdAndUserId(10L, 1L)).thenReturn(Optional.of(source));
+        when(dataAccess.findByIdAndUserId(20L, 1L)).thenReturn(Optional.of(target));
+
+        // When/Then
+        assertThatThrownBy(() -> useCase.execute(new MergeCategoryRequest(10L, 20L), testUser))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("System categories cannot be merged");
+
+        verify(dataAccess, never()).archive(any());
+    }
+
+    @Test
+    @DisplayName("Should hand every unclaimed running job to the runner")
+    void shouldResumeRunningJobs() {
+        // Given
+        CategoryMergeJob first = job(100L, 10L, 20L);
+        CategoryMergeJob second = job(101L, 11L, 20L);
+        when(dataAccess.findUnclaimedJobs()).thenReturn(List.of(first, second));
+
+        // When
+        useCase.resumeRunningJobs();
+
+        // Then
+        verify(jobRunner).run(first);
+        verify(jobRunner).run(second);
+    }
+
+    /**
+     * Run what the use case registered to happen after its transaction commits.
+     */
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private Category category(Long id, String name, CategoryType type, boolean isSystem, boolean isArchived) {
+        return Category.builder()
+                .id(id)
+                .userId(1L)
+                .name(name)
+                .type(type)
+                .isSystem(isSystem)
+                .isArchived(isArchived)
+                .build();
+    }
+
+    private CategoryMergeJob job(Long id, Long sourceId, Long targetId) {
+        return CategoryMergeJob.builder()
+                .id(id)
+                .userId(1L)
+                .sourceCategoryId(sourceId)
+                .targetCategoryId(targetId)
+                .status(MergeJobStatus.RUNNING)
+                .build();
+    }
+}
@@ -1,22 +1,50 @@
 package com.sathira.miimoneypal.rest.transactions;
 
+import com.jayway.jsonpath.JsonPath;
+import com.sathira.miimoneypal.constants.EndPoints;
+import com.sathira.miimoneypal.models.response.json.ColumnarJsonHttpMessageConverter;
+import com.sathira.miimoneypal.observability.RequestQueryStats;
+import com.sathira.miimoneypal.support.StatementBudgetExtension;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
  * Integration test for Transaction module.
- * Verifies that all transaction components are properly wired and application context loads.
+ * Verifies that all transaction components are properly wired and application context loads,
+ * that each transaction endpoint stays within its SQL statement budget, and that the list is
+ * served through MVC's message converters in the JSON, CBOR and columnar wire formats.
  */
 @SpringBootTest
 @Testcontainers
 class TransactionControllerIntegrationTest {
 
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
     @Container
     static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:latest")
             .withDatabaseName("testdb")
@@ -28,6 +56,30 @@ class TransactionControllerIntegrationTest {
         registry.add("spring.datasource.url", postgres::getJdbcUrl);
         registry.add("spring.datasource.username", postgres::getUsername);
         registry.add("spring.datasource.password", postgres::getPassword);
+        // Every test registers its own user from the same client address
+        registry.add("auth.rate-limit.enabled", () -> "false");
+    }
+
+    @RegisterExtension
+    StatementBudgetExtension sql = new StatementBudgetExtension();
+
+    private String accessToken;
+    private long groceriesId;
+    private long diningId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String registered = sql.perform(post(EndPoints.AUTH_REGISTER)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "tx-%s@example.com", "password": "password123"}
+                                """.formatted(UUID.randomUUID())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        accessToken = JsonPath.read(registered, "$.access_token");
+
+        groceriesId = createExpenseCategory("Groceries");
+        diningId = createExpenseCategory("Dining Out");
     }
 
     @Test
@@ -43,4 +95,211 @@ class TransactionControllerIntegrationTest {
 
         // If this test passes, the transaction module is properly integrated
     }
+
+    @Test
+    @DisplayName("POST expense: category check, insert, outbox event (3 statements)")
+    void postExpenseStatementBudget() throws Exception {
+        sql.perform(3, authorized(post(EndPoints.TRANSACTIONS))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(expenseJson(groceriesId, "12.50")))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("GET by id: transaction and its category (2 statements)")
+    void getStatementBudget() throws Exception {
+        // Given
+        long id = createExpense(groceriesId);
+
+        // When / Then
+        sql.perform(2, authorized(get(EndPoints.TRANSACTIONS_BY_ID, id)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET list: page, count and one batched category lookup regardless of page size (3 statements)")
+    void listStatementBudget() throws Exception {
+        // Given - transactions spread over two categories
+        createExpense(groceriesId);
+        createExpense(groceriesId);
+        createExpense(diningId);
+
+        // When / Then
+        sql.perform(3, authorized(get(EndPoints.TRANSACTIONS)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("PUT without version: read, category check, update, outbox event (4 statements)")
+    void putStatementBudget() throws Exception {
+        // Given
+        long id = createExpense(groceriesId);
+
+        // When / Then
+        sql.perform(4, authorized(put(EndPoints.TRANSACTIONS_BY_ID, id))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"id": %d, "amount": 20.00, "transaction_date": "%s", "category_id": %d}
+                                """.formatted(id, LocalDate.now(), diningId)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("DELETE: read, delete, outbox event (3 statements)")
+    void deleteStatementBudget() throws Exception {
+        // Given
+        long id = createExpense(groceriesId);
+
+        // When / Then
+        sql.perform(3, authorized(delete(EndPoints.TRANSACTIONS_BY_ID, id)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Bulk recategorize within one batch: category check, update, outbox event, empty batch (4 statements)")
+    void bulkRecategorizeStatementBudget() throws Exception {
+        // Given
+        createExpense(groceriesId);
+        createExpense(groceriesId);
+
+        // When / Then
+        sql.perform(4, authorized(post(EndPoints.TRANSACTIONS_BULK_RECATEGORIZE))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"category_id": %d, "target_category_id": %d}
+                                """.formatted(groceriesId, diningId)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Bulk delete within one batch: delete, outbox event, empty batch (3 statements)")
+    void bulkDeleteStatementBudget() throws Exception {
+        // Given
+        createExpense(groceriesId);
+        createExpense(groceriesId);
+
+        // When / Then
+        sql.perform(3, authorized(post(EndPoints.TRANSACTIONS_BULK_DELETE))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"category_id": %d}
+                                """.formatted(groceriesId)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Batch of GET by id and GET list: sub-requests on other threads count toward the budget (5 statements)")
+    void batchStatementBudget() throws Exception {
+        // Given
+        long id = createExpense(groceriesId);
+
+        // When
+        RequestQueryStats stats = (RequestQueryStats) sql.perform(5, authorized(post(EndPoints.BATCH))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"requests": [
+                                  {"id": "one", "path": "%s/%d"},
+                                  {"id": "list", "path": "%s"}
+                                ]}
+                                """.formatted(EndPoints.TRANSACTIONS, id, EndPoints.TRANSACTIONS)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.responses[0].status").value(200))
+                .andExpect(jsonPath("$.responses[1].status").value(200))
+                .andReturn().getRequest().getAttribute(RequestQueryStats.REQUEST_ATTRIBUTE);
+
+        // Then - 2 for the transaction and 3 for the list, none lost on the sub-request threads
+        assertThat(stats.statements()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("GET list with fields=amount: the MVC JSON response carries only id and amount per item")
+    void listWithSelectedFields() throws Exception {
+        // Given
+        createExpense(groceriesId);
+
+        // When
+        String body = sql.perform(3, authorized(get(EndPoints.TRANSACTIONS)).param("fields", "amount"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // Then - item keys come from the real response body, not a test mapper
+        Map<String, Object> item = JsonPath.read(body, "$.items[0]");
+        assertThat(item).containsOnlyKeys("id", "amount");
+        assertThat(JsonPath.<Integer>read(body, "$.total_items")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET list as CBOR: the MVC converter writes the selected fields in binary")
+    void listAsCbor() throws Exception {
+        // Given
+        createExpense(groceriesId);
+
+        // When
+        byte[] body = sql.perform(3, authorized(get(EndPoints.TRANSACTIONS))
+                        .param("fields", "amount")
+                        .accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode page = new CBORMapper().readTree(body);
+        assertThat(page.get("items").get(0).properties()).extracting(Map.Entry::getKey)
+                .containsExactly("id", "amount");
+        assertThat(page.get("items").get(0).get("amount").decimalValue()).isEqualByComparingTo("10.00");
+        assertThat(page.get("total_items").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET list as columnar JSON: one array per selected field")
+    void listAsColumnarJson() throws Exception {
+        // Given
+        createExpense(groceriesId);
+        createExpense(diningId);
+
+        // When / Then
+        sql.perform(3, authorized(get(EndPoints.TRANSACTIONS))
+                        .param("fields", "amount")
+                        .accept(ColumnarJsonHttpMessageConverter.COLUMNAR_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(ColumnarJsonHttpMessageConverter.COLUMNAR_JSON))
+                .andExpect(jsonPath("$.items.id.length()").value(2))
+                .andExpect(jsonPath("$.items.amount.length()").value(2))
+                .andExpect(jsonPath("$.items.transaction_date").doesNotExist())
+                .andExpect(jsonPath("$.total_items").value(2));
+    }
+
+    // ========== Helpers ==========
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header("Authorization", "Bearer " + accessToken);
+    }
+
+    private long createExpenseCategory(String name) throws Exception {
+        String created = sql.perform(authorized(post(EndPoints.CATEGORIES))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "%s", "type": "EXPENSE"}
+                                """.formatted(name)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(created, "$.id")).longValue();
+    }
+
+    private long createExpense(long categoryId) throws Exception {
+        String created = sql.perform(authorized(post(EndPoints.TRANSACTIONS))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(expenseJson(categoryId, "10.00")))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").isNumber())
+                .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(created, "$.id")).longValue();
+    }
+
+    private static String expenseJson(long categoryId, String amount) {
+        return """
+                {"type": "EXPENSE", "amount": %s, "transaction_date": "%s", "category_id": %d}
+                """.formatted(amount, LocalDate.now(), categoryId);
+    }
 }
@@ -0,0 +1,108 @@
+package com.sathira.miimoneypal.rest.transactions.bulkdelete;
+
+import com.sathira.miimoneypal.exception.BadRequestException;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
+import com.sathira.miimoneypal.records.transaction.TransactionFilter;
+import com.sathira.miimoneypal.records.transaction.TransactionType;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
+import com.sathira.miimoneypal.security.AppUser;
+import com.sathira.miimoneypal.security.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BulkDeleteTransactionsUseCase.
+ * Focuses on batching and the required-filter guard.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkDeleteTransactionsUseCaseTest {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Mock
+    private BulkDeleteTransactionsDataAccess dataAccess;
+    @Mock
+    private OutboxDataAccess outboxDataAccess;
+    @Mock
+    private BulkDeleteTransactionsResponseBuilder responseBuilder;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private BulkDeleteTransactionsUseCase useCase;
+    private AppUser testUser;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new BulkDeleteTransactionsUseCase(
+                dataAccess,
+                outboxDataAccess,
+                responseBuilder,
+                transactionTemplate,
+                BATCH_SIZE
+        );
+
+        testUser = AppUser.builder()
+                .id(1L)
+                .email("test@example.com")
+                .passwordHash("hash")
+                .role(Role.USER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should delete in batches until nothing matches")
+    @SuppressWarnings("unchecked")
+    void shouldDeleteInBatches() {
+        // Given - 250 matching rows -> batches of 100, 100, 50, then empty
+        BulkDeleteTransactionsRequest request = new BulkDeleteTransactionsRequest(
+                TransactionType.EXPENSE,
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31),
+                null,
+                null,
+                null
+        );
+        TransactionFilter filter = request.filter();
+
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        when(dataAccess.deleteBatch(1L, filter, BATCH_SIZE))
+                .thenReturn(100, 100, 50, 0);
+
+        // When
+        useCase.execute(request, testUser);
+
+        // Then - one outbox event per non-empty batch
+        verify(dataAccess, times(4)).deleteBatch(1L, filter, BATCH_SIZE);
+        verify(outboxDataAccess, times(3)).append(OutboxEventType.TRANSACTIONS_BULK_DELETED, null, 1L);
+        verify(responseBuilder).build(250L, 3);
+    }
+
+    @Test
+    @DisplayName("Should reject bulk delete without any filter")
+    void shouldRejectUnfilteredDelete() {
+        // Given
+        BulkDeleteTransactionsRequest request = new BulkDeleteTransactionsRequest(
+                null, null, null, null, null, "   "
+        );
+
+        // When/Then
+        assertThatThrownBy(() -> useCase.execute(request, testUser))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("at least one filter");
+
+        verifyNoInteractions(dataAccess, transactionTemplate);
+    }
+}
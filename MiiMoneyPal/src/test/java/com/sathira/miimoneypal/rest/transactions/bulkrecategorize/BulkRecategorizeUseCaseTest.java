@@ -0,0 +1,117 @@
+package com.sathira.miimoneypal.rest.transactions.bulkrecategorize;
+
+import com.sathira.miimoneypal.exception.BusinessRuleException;
+import com.sathira.miimoneypal.records.category.Category;
+import com.sathira.miimoneypal.records.category.CategoryType;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
+import com.sathira.miimoneypal.records.transaction.TransactionFilter;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
+import com.sathira.miimoneypal.security.AppUser;
+import com.sathira.miimoneypal.security.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BulkRecategorizeUseCase.
+ * Focuses on batching and target category validation.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkRecategorizeUseCaseTest {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Mock
+    private BulkRecategorizeDataAccess dataAccess;
+    @Mock
+    private OutboxDataAccess outboxDataAccess;
+    @Mock
+    private BulkRecategorizeResponseBuilder responseBuilder;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private BulkRecategorizeUseCase useCase;
+    private AppUser testUser;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new BulkRecategorizeUseCase(
+                dataAccess,
+                outboxDataAccess,
+                responseBuilder,
+                transactionTemplate,
+                BATCH_SIZE
+        );
+
+        testUser = AppUser.builder()
+                .id(1L)
+                .email("test@example.com")
+                .passwordHash("hash")
+                .role(Role.USER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should recategorize in batches until nothing is left to move")
+    @SuppressWarnings("unchecked")
+    void shouldRecategorizeInBatches() {
+        // Given - move everything from category 5 matching "coffee" into category 7
+        BulkRecategorizeRequest request = new BulkRecategorizeRequest(
+                null, null, null, 5L, null, "coffee", 7L
+        );
+        TransactionFilter filter = request.filter();
+        Category target = category(7L, false);
+
+        when(dataAccess.findCategoryByIdAndUserId(7L, 1L)).thenReturn(Optional.of(target));
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Integer>) invocation.getArgument(0)).doInTransaction(null));
+        when(dataAccess.recategorizeBatch(1L, filter, 7L, BATCH_SIZE))
+                .thenReturn(100, 20, 0);
+
+        // When
+        useCase.execute(request, testUser);
+
+        // Then
+        verify(dataAccess, times(3)).recategorizeBatch(1L, filter, 7L, BATCH_SIZE);
+        verify(outboxDataAccess, times(2)).append(OutboxEventType.TRANSACTIONS_RECATEGORIZED, null, 1L);
+        verify(responseBuilder).build(target, 120L, 2);
+    }
+
+    @Test
+    @DisplayName("Should reject archived target category")
+    void shouldRejectArchivedTarget() {
+        // Given
+        BulkRecategorizeRequest request = new BulkRecategorizeRequest(
+                null, null, null, 5L, null, null, 7L
+        );
+        when(dataAccess.findCategoryByIdAndUserId(7L, 1L)).thenReturn(Optional.of(category(7L, true)));
+
+        // When/Then
+        assertThatThrownBy(() -> useCase.execute(request, testUser))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("archived category");
+
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    private Category category(Long id, boolean isArchived) {
+        return Category.builder()
+                .id(id)
+                .userId(1L)
+                .name("Groceries")
+                .type(CategoryType.EXPENSE)
+                .isArchived(isArchived)
+                .build();
+    }
+}
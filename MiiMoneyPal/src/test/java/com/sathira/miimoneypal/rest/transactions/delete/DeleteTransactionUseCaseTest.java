@@ -2,8 +2,10 @@ package com.sathira.miimoneypal.rest.transactions.delete;
 
 import com.sathira.miimoneypal.exception.BadRequestException;
 import com.sathira.miimoneypal.exception.ResourceNotFoundException;
+import com.sathira.miimoneypal.records.outbox.OutboxEventType;
 import com.sathira.miimoneypal.records.transaction.Transaction;
 import com.sathira.miimoneypal.records.transaction.TransactionType;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
 import com.sathira.miimoneypal.security.Role;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +34,8 @@ class DeleteTransactionUseCaseTest {
     @Mock
     private DeleteTransactionDataAccess transactionDataAccess;
     @Mock
+    private OutboxDataAccess outboxDataAccess;
+    @Mock
     private DeleteTransactionResponseBuilder responseBuilder;
 
     private DeleteTransactionUseCase useCase;
@@ -39,7 +43,7 @@ class DeleteTransactionUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new DeleteTransactionUseCase(transactionDataAccess, responseBuilder);
+        useCase = new DeleteTransactionUseCase(transactionDataAccess, outboxDataAccess, responseBuilder);
 
         testUser = AppUser.builder()
                 .id(1L)
@@ -85,6 +89,7 @@ class DeleteTransactionUseCaseTest {
         assertThat(response.deletedTransactionId()).isEqualTo(1L);
         assertThat(response.message()).contains("deleted successfully");
         verify(transactionDataAccess).deleteByIdAndUserId(1L, 1L);
+        verify(outboxDataAccess).append(OutboxEventType.TRANSACTION_DELETED, 1L, 1L);
     }
 
     @Test
@@ -112,6 +117,7 @@ class DeleteTransactionUseCaseTest {
                 .hasMessageContaining("System-generated transactions cannot be deleted");
 
         verify(transactionDataAccess, never()).deleteByIdAndUserId(anyLong(), anyLong());
+        verifyNoInteractions(outboxDataAccess);
     }
 
     @Test
@@ -129,5 +135,6 @@ class DeleteTransactionUseCaseTest {
                 .hasMessageContaining("Transaction not found or access denied");
 
         verify(transactionDataAccess, never()).deleteByIdAndUserId(anyLong(), anyLong());
+        verifyNoInteractions(outboxDataAccess);
     }
 }
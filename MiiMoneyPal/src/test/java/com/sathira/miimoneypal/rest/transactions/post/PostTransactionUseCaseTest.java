@@ -12,6 +12,7 @@ import com.sathira.miimoneypal.records.transaction.Transaction;
 import com.sathira.miimoneypal.records.transaction.TransactionType;
 import com.sathira.miimoneypal.repository.BucketDataAccess;
 import com.sathira.miimoneypal.repository.CategoryDataAccess;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
 import com.sathira.miimoneypal.security.Role;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +48,8 @@ class PostTransactionUseCaseTest {
     @Mock
     private BucketDataAccess bucketDataAccess;
     @Mock
+    private OutboxDataAccess outboxDataAccess;
+    @Mock
     private PostTransactionResponseBuilder responseBuilder;
 
     private PostTransactionUseCase useCase;
@@ -58,6 +61,7 @@ class PostTransactionUseCaseTest {
                 transactionDataAccess,
                 categoryDataAccess,
                 bucketDataAccess,
+                outboxDataAccess,
                 responseBuilder
         );
 
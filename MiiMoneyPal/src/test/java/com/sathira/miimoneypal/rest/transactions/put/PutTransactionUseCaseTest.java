@@ -2,6 +2,7 @@ package com.sathira.miimoneypal.rest.transactions.put;
 
 import com.sathira.miimoneypal.exception.BadRequestException;
 import com.sathira.miimoneypal.exception.BusinessRuleException;
+import com.sathira.miimoneypal.exception.StaleUpdateException;
 import com.sathira.miimoneypal.records.bucket.Bucket;
 import com.sathira.miimoneypal.records.bucket.BucketStatus;
 import com.sathira.miimoneypal.records.bucket.BucketType;
@@ -9,6 +10,7 @@ import com.sathira.miimoneypal.records.transaction.Transaction;
 import com.sathira.miimoneypal.records.transaction.TransactionType;
 import com.sathira.miimoneypal.repository.BucketDataAccess;
 import com.sathira.miimoneypal.repository.CategoryDataAccess;
+import com.sathira.miimoneypal.repository.OutboxDataAccess;
 import com.sathira.miimoneypal.security.AppUser;
 import com.sathira.miimoneypal.security.Role;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,6 +43,8 @@ class PutTransactionUseCaseTest {
     @Mock
     private BucketDataAccess bucketDataAccess;
     @Mock
+    private OutboxDataAccess outboxDataAccess;
+    @Mock
     private PutTransactionResponseBuilder responseBuilder;
 
     private PutTransactionUseCase useCase;
@@ -52,6 +56,7 @@ class PutTransactionUseCaseTest {
                 transactionDataAccess,
                 categoryDataAccess,
                 bucketDataAccess,
+                outboxDataAccess,
                 responseBuilder
         );
 
@@ -73,7 +78,8 @@ class PutTransactionUseCaseTest {
                 LocalDate.now(),
                 null,
                 1L,
-                "Updated note"
+                "Updated note",
+                null
         );
 
         Transaction goalCompletedTransaction = Transaction.builder()
@@ -107,7 +113,8 @@ class PutTransactionUseCaseTest {
                 LocalDate.now(),
                 null,
                 1L,
-                "Updated withdrawal"
+                "Updated withdrawal",
+                null
         );
 
         Transaction existingTransaction = Transaction.builder()
@@ -169,7 +176,8 @@ class PutTransactionUseCaseTest {
                 LocalDate.now(),
                 null,
                 1L,
-                "Updated withdrawal"
+                "Updated withdrawal",
+                null
         );
 
         Transaction existingTransaction = Transaction.builder()
@@ -217,7 +225,8 @@ class PutTransactionUseCaseTest {
                 LocalDate.now(),
                 null,
                 1L,
-                "Updated withdrawal"
+                "Updated withdrawal",
+                null
         );
 
         Transaction existingTransaction = Transaction.builder()
@@ -267,4 +276,147 @@ class PutTransactionUseCaseTest {
         // Then - No exception, update executed
         verify(transactionDataAccess).update(any(Transaction.class));
     }
+
+    @Test
+    @DisplayName("Should skip preliminary read when client supplies updated_at version")
+    void shouldSkipPreliminaryReadWhenVersionSupplied() {
+        // Given - Client edited the version it last read
+        LocalDateTime version = LocalDateTime.now().minusMinutes(5);
+        PutTransactionRequest request = new PutTransactionRequest(
+                1L,
+                new BigDecimal("150.00"),
+                LocalDate.now(),
+                null,
+                1L,
+                "Versioned update",
+                version
+        );
+
+        Transaction updatedTransaction = Transaction.builder()
+                .id(1L)
+                .userId(1L)
+                .type(TransactionType.INVESTMENT)
+                .amount(new BigDecimal("150.00"))
+                .transactionDate(LocalDate.now())
+                .bucketId(1L)
+                .createdAt(version.minusDays(1))
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        UpdatedTransaction updated = new UpdatedTransaction(updatedTransaction, null, "Savings");
+        when(transactionDataAccess.updateIfUnmodified(request, 1L))
+                .thenReturn(Optional.of(updated));
+        when(responseBuilder.build(updated))
+                .thenReturn(mock(PutTransactionResponse.class));
+
+        // When
+        useCase.execute(request, testUser);
+
+        // Then - Single guarded UPDATE, nothing read before it
+        verify(transactionDataAccess, never()).findByIdAndUserId(any(), any());
+        verify(transactionDataAccess, never()).update(any());
+        verifyNoInteractions(bucketDataAccess, categoryDataAccess);
+    }
+
+    @Test
+    @DisplayName("Should reject update when supplied updated_at version is stale")
+    void shouldRejectStaleVersion() {
+        // Given - Row was modified after the client read it
+        LocalDateTime staleVersion = LocalDateTime.now().minusHours(1);
+        PutTransactionRequest request = new PutTransactionRequest(
+                1L,
+                new BigDecimal("150.00"),
+                LocalDate.now(),
+                null,
+                1L,
+                "Versioned update",
+                staleVersion
+        );
+
+        Bucket bucket = Bucket.builder()
+                .id(1L)
+                .userId(1L)
+                .name("Savings")
+                .type(BucketType.PERPETUAL_ASSET)
+                .status(BucketStatus.ACTIVE)
+                .build();
+
+        Transaction currentTransaction = Transaction.builder()
+                .id(1L)
+                .userId(1L)
+                .type(TransactionType.INVESTMENT)
+                .amount(new BigDecimal("100.00"))
+                .transactionDate(LocalDate.now())
+                .bucketId(1L)
+                .createdAt(staleVersion.minusDays(1))
+                .updatedAt(LocalDateTime.now())
+                .build();
+
+        when(transactionDataAccess.updateIfUnmodified(request, 1L))
+                .thenReturn(Optional.empty());
+        when(transactionDataAccess.findByIdAndUserId(1L, 1L))
+                .thenReturn(Optional.of(currentTransaction));
+        when(bucketDataAccess.findByIdAndUserId(1L, 1L))
+                .thenReturn(Optional.of(bucket));
+
+        // When/Then
+        assertThatThrownBy(() -> useCase.execute(request, testUser))
+                .isInstanceOf(StaleUpdateException.class)
+                .hasMessageContaining("modified by another request");
+
+        verify(responseBuilder, never()).build(any(UpdatedTransaction.class));
+    }
+
+    @Test
+    @DisplayName("Should reject versioned WITHDRAWAL update that overdraws the bucket")
+    void shouldRejectVersionedWithdrawalThatOverdrawsBucket() {
+        // Given - Increasing a $300 withdrawal to $500 would leave the bucket negative
+        LocalDateTime version = LocalDateTime.now().minusMinutes(5);
+        PutTransactionRequest request = new PutTransactionRequest(
+                1L,
+                new BigDecimal("500.00"),
+                LocalDate.now(),
+                null,
+                1L,
+                "Versioned withdrawal",
+                version
+        );
+
+        Bucket bucket = Bucket.builder()
+                .id(1L)
+                .userId(1L)
+                .name("Savings")
+                .type(BucketType.PERPETUAL_ASSET)
+                .status(BucketStatus.ACTIVE)
+                .build();
+
+        Transaction currentTransaction = Transaction.builder()
+                .id(1L)
+                .userId(1L)
+                .type(TransactionType.WITHDRAWAL)
+                .amount(new BigDecimal("300.00"))
+                .transactionDate(LocalDate.now())
+                .bucketId(1L)
+                .createdAt(LocalDateTime.now().minusDays(1))
+                .updatedAt(version)
+                .build();
+
+        // The UPDATE's balance guard matched no row
+        when(transactionDataAccess.updateIfUnmodified(request, 1L))
+                .thenReturn(Optional.empty());
+        when(transactionDataAccess.findByIdAndUserId(1L, 1L))
+                .thenReturn(Optional.of(currentTransaction));
+        when(bucketDataAccess.findByIdAndUserId(1L, 1L))
+                .thenReturn(Optional.of(bucket));
+        // Balance still includes the current $300 withdrawal: $400 available for the new amount
+        when(bucketDataAccess.calculateBalance(1L))
+                .thenReturn(new BigDecimal("100.00"));
+
+        // When/Then
+        assertThatThrownBy(() -> useCase.execute(request, testUser))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("Insufficient balance")
+                .hasMessageContaining("Available: 400.00");
+        verify(outboxDataAccess, never()).append(any(), any(), any());
+    }
 }
@@ -157,4 +157,32 @@ class AppUserDetailsServiceTest {
 
         verify(userDataAccess).findByEmail(mixedCaseEmail);
     }
+
+    @Test
+    @DisplayName("Should persist rehashed password and return principal with new hash")
+    void updatePassword_persistsNewHash() {
+        // Given
+        AppUser principal = AppUser.builder()
+                .id(1L)
+                .email("test@example.com")
+                .passwordHash("$2a$10$hashedPassword")
+                .role(Role.USER)
+                .build();
+        User upgradedUser = User.builder()
+                .id(1L)
+                .email("test@example.com")
+                .passwordHash("$2a$12$upgradedHash")
+                .currencySymbol("LKR")
+                .build();
+
+        when(userDataAccess.updatePasswordHash(1L, "$2a$12$upgradedHash"))
+                .thenReturn(upgradedUser);
+
+        // When
+        UserDetails result = appUserDetailsService.updatePassword(principal, "$2a$12$upgradedHash");
+
+        // Then
+        assertThat(result.getPassword()).isEqualTo("$2a$12$upgradedHash");
+        verify(userDataAccess).updatePasswordHash(1L, "$2a$12$upgradedHash");
+    }
 }
@@ -0,0 +1,105 @@
+package com.sathira.miimoneypal.security;
+
+import com.sathira.miimoneypal.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for BoundedPasswordEncoder.
+ * Tests delegation, fail-fast saturation and cost-upgrade detection.
+ */
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        if (encoder != null) {
+            encoder.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should encode and match on the hashing pool")
+    void encodeAndMatch() {
+        // Given - minimum cost keeps the test fast
+        encoder = new BoundedPasswordEncoder(4, 1, 1);
+
+        // When
+        String hash = encoder.encode("password123");
+
+        // Then
+        assertThat(hash).startsWith("$2a$04$");
+        assertThat(encoder.matches("password123", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should fail fast with 503 exception when pool and queue are full")
+    void rejectsWhenSaturated() throws Exception {
+        // Given - one worker, one queue slot, and a delegate that blocks until released
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = mock(PasswordEncoder.class);
+        when(blocking.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hash";
+        });
+        encoder = new BoundedPasswordEncoder(blocking, 4, 1, 1);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        awaitQueued();
+
+        // When/Then - third call has nowhere to go
+        assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("Should request upgrade only when stored cost differs from configured cost")
+    void upgradeEncodingComparesCost() {
+        // Given
+        encoder = new BoundedPasswordEncoder(5, 1, 1);
+        String cost4 = new BCryptPasswordEncoder(4).encode("password123");
+        String cost5 = new BCryptPasswordEncoder(5).encode("password123");
+        String cost6 = new BCryptPasswordEncoder(6).encode("password123");
+
+        // Then - both lower and higher costs are rehashed
+        assertThat(encoder.upgradeEncoding(cost4)).isTrue();
+        assertThat(encoder.upgradeEncoding(cost5)).isFalse();
+        assertThat(encoder.upgradeEncoding(cost6)).isTrue();
+        assertThat(encoder.upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+    }
+
+    /**
+     * Wait until the second call has been submitted and is sitting in the queue.
+     */
+    private void awaitQueued() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (encoder.queuedTasks() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(encoder.queuedTasks()).isEqualTo(1);
+    }
+}
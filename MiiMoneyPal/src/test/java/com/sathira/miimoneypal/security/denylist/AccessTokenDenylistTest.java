@@ -0,0 +1,149 @@
+package com.sathira.miimoneypal.security.denylist;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AccessTokenDenylist.
+ * Tests lookup, eviction at expiry and persistence across restarts.
+ */
+class AccessTokenDenylistTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toMillis(1);
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+    private static final long NOW = 1_000 * HOUR;
+
+    @TempDir
+    Path dir;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+
+    private AccessTokenDenylist denylist() {
+        return new AccessTokenDenylist(dir.resolve("denylist.log"), 24 * HOUR, MINUTE, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should report revoked tokens and nothing else")
+    void reportsRevokedTokens() {
+        // Given
+        AccessTokenDenylist denylist = denylist();
+        String revoked = UUID.randomUUID().toString();
+
+        // When
+        denylist.revoke(revoked, NOW + HOUR);
+
+        // Then
+        assertThat(denylist.isRevoked(revoked)).isTrue();
+        assertThat(denylist.isRevoked(UUID.randomUUID().toString())).isFalse();
+        assertThat(denylist.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should ignore tokens that have already expired")
+    void ignoresExpiredTokens() {
+        // Given
+        AccessTokenDenylist denylist = denylist();
+        String expired = UUID.randomUUID().toString();
+
+        // When
+        denylist.revoke(expired, NOW - 1);
+
+        // Then
+        assertThat(denylist.isRevoked(expired)).isFalse();
+        assertThat(denylist.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict a token once it expires")
+    void evictsAtExpiry() {
+        // Given
+        AccessTokenDenylist denylist = denylist();
+        String shortLived = UUID.randomUUID().toString();
+        String longLived = UUID.randomUUID().toString();
+        denylist.revoke(shortLived, NOW + HOUR);
+        denylist.revoke(longLived, NOW + 2 * HOUR);
+
+        // When - just before, then after the first expiry
+        clock.set(NOW + HOUR - 1);
+        denylist.evictExpired();
+        boolean keptBeforeExpiry = denylist.isRevoked(shortLived);
+        clock.set(NOW + HOUR + MINUTE);
+        denylist.evictExpired();
+
+        // Then
+        assertThat(keptBeforeExpiry).isTrue();
+        assertThat(denylist.isRevoked(shortLived)).isFalse();
+        assertThat(denylist.isRevoked(longLived)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should evict everything due after a pause longer than the wheel")
+    void evictsAfterLongPause() {
+        // Given
+        AccessTokenDenylist denylist = denylist();
+        denylist.revoke(UUID.randomUUID().toString(), NOW + HOUR);
+        denylist.revoke(UUID.randomUUID().toString(), NOW + 20 * HOUR);
+
+        // When - eviction did not run for two days
+        clock.set(NOW + 48 * HOUR);
+        denylist.evictExpired();
+
+        // Then
+        assertThat(denylist.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should restore unexpired entries after a restart")
+    void restoresAfterRestart() {
+        // Given
+        AccessTokenDenylist before = denylist();
+        String stillValid = UUID.randomUUID().toString();
+        String expiresDuringDowntime = UUID.randomUUID().toString();
+        before.revoke(stillValid, NOW + 3 * HOUR);
+        before.revoke(expiresDuringDowntime, NOW + HOUR);
+        before.close();
+
+        // When
+        clock.set(NOW + 2 * HOUR);
+        AccessTokenDenylist after = denylist();
+
+        // Then
+        assertThat(after.isRevoked(stillValid)).isTrue();
+        assertThat(after.isRevoked(expiresDuringDowntime)).isFalse();
+        assertThat(after.size()).isEqualTo(1);
+        after.close();
+    }
+
+    @Test
+    @DisplayName("Should compact the log to live entries and ignore a torn trailing record")
+    void compactsAndIgnoresTornRecord() throws IOException {
+        // Given - two entries, then a partial record as if the process died mid-write
+        Path file = dir.resolve("denylist.log");
+        AccessTokenDenylist before = denylist();
+        String kept = UUID.randomUUID().toString();
+        before.revoke(kept, NOW + 3 * HOUR);
+        before.revoke(UUID.randomUUID().toString(), NOW + HOUR);
+        before.close();
+        Files.write(file, new byte[7], StandardOpenOption.APPEND);
+
+        // When
+        clock.set(NOW + 2 * HOUR);
+        AccessTokenDenylist after = denylist();
+        after.close();
+
+        // Then - startup compaction leaves exactly the one live record
+        assertThat(after.isRevoked(kept)).isTrue();
+        assertThat(Files.size(file)).isEqualTo(DenylistAppendLog.RECORD_BYTES);
+    }
+}
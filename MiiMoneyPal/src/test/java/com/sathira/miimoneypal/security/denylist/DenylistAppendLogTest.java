@@ -0,0 +1,67 @@
+package com.sathira.miimoneypal.security.denylist;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for DenylistAppendLog.
+ * Focuses on appends racing with compaction.
+ */
+class DenylistAppendLogTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final long EXPIRES_AT = NOW + 60_000L;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should keep an entry appended while the live set is being taken")
+    void keepsAppendRacingWithRewrite() throws Exception {
+        // Given
+        DenylistAppendLog appendLog = new DenylistAppendLog(dir.resolve("denylist.log"));
+        UUID live = UUID.randomUUID();
+        UUID racing = UUID.randomUUID();
+        appendLog.append(live, EXPIRES_AT);
+
+        Thread appender = new Thread(() -> {
+            try {
+                appendLog.append(racing, EXPIRES_AT);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        // When - the racing entry misses the snapshot, and its append arrives mid-rewrite
+        appendLog.rewrite(() -> {
+            appender.start();
+            awaitBlocked(appender);
+            return Map.of(live, EXPIRES_AT);
+        });
+        appender.join();
+
+        // Then - appended to the compacted file, not to the one the rename replaced
+        assertThat(appendLog.load(NOW))
+                .extracting(DenylistAppendLog.Entry::tokenId)
+                .containsExactlyInAnyOrder(live, racing);
+        assertThat(appendLog.records()).isEqualTo(2);
+        appendLog.close();
+    }
+
+    private static void awaitBlocked(Thread thread) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (thread.getState() != Thread.State.BLOCKED && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(thread.getState()).isEqualTo(Thread.State.BLOCKED);
+    }
+}
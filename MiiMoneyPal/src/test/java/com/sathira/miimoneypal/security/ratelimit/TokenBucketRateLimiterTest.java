@@ -0,0 +1,90 @@
+package com.sathira.miimoneypal.security.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TokenBucketRateLimiter.
+ * Uses a manual clock to test burst, refill, key isolation and map bounds.
+ */
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    @DisplayName("Should allow a full burst then limit with the time until the next token")
+    void allowsBurstThenLimits() {
+        // Given - 3 tokens, refill 6/minute (one token every 10 seconds)
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, 6, 100, clock::get);
+
+        // Then
+        assertThat(limiter.tryAcquire("1.2.3.4")).isZero();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isZero();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isZero();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isEqualTo(TimeUnit.SECONDS.toNanos(10));
+    }
+
+    @Test
+    @DisplayName("Should refill one token per emission interval")
+    void refillsOverTime() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 6, 100, clock::get);
+        assertThat(limiter.tryAcquire("user@example.com")).isZero();
+        assertThat(limiter.tryAcquire("user@example.com")).isPositive();
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // Then
+        assertThat(limiter.tryAcquire("user@example.com")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep separate buckets per key")
+    void isolatesKeys() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 100, clock::get);
+
+        // Then
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+        assertThat(limiter.tryAcquire("b")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should bound tracked keys by evicting when full")
+    void boundsTrackedKeys() {
+        // Given - at most 2 keys, 1 token each
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 2, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // When - new keys while both buckets are still draining
+        assertThat(limiter.tryAcquire("c")).isZero();
+        assertThat(limiter.tryAcquire("d")).isZero();
+
+        // Then - new keys get their own bucket, never one shared with other keys
+        assertThat(limiter.trackedKeys()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should drop refilled buckets")
+    void sweepsIdleBuckets() {
+        // Given
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 60, 2, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // When - both buckets refill and expire
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        assertThat(limiter.tryAcquire("c")).isZero();
+
+        // Then
+        assertThat(limiter.trackedKeys()).isEqualTo(1);
+    }
+}
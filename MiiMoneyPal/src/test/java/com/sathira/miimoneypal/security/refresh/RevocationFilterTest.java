@@ -0,0 +1,85 @@
+package com.sathira.miimoneypal.security.refresh;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RevocationFilter.
+ * Tests membership, expiry via the wheel and the false-positive rate at expected load.
+ */
+class RevocationFilterTest {
+
+    private static final long DAY = TimeUnit.DAYS.toMillis(1);
+    private static final long NOW = 1_000 * DAY;
+
+    @Test
+    @DisplayName("Should report added families and no false negatives")
+    void reportsAddedFamilies() {
+        // Given
+        RevocationFilter filter = new RevocationFilter(7 * DAY, DAY, 1_000, 0.01);
+        UUID revoked = UUID.randomUUID();
+
+        // When
+        filter.add(revoked, NOW + 3 * DAY);
+
+        // Then
+        assertThat(filter.mightBeRevoked(revoked, NOW)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should forget a family once its slot has expired")
+    void forgetsExpiredFamilies() {
+        // Given
+        RevocationFilter filter = new RevocationFilter(7 * DAY, DAY, 1_000, 0.01);
+        UUID revoked = UUID.randomUUID();
+        filter.add(revoked, NOW + DAY);
+
+        // Then - still remembered within its slot, forgotten after
+        assertThat(filter.mightBeRevoked(revoked, NOW + DAY)).isTrue();
+        assertThat(filter.mightBeRevoked(revoked, NOW + 2 * DAY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reuse a slot for a later generation without keeping old entries")
+    void reusesSlotsAcrossGenerations() {
+        // Given - 7-day lifetime with 1-day slots = 8 slots in the wheel
+        RevocationFilter filter = new RevocationFilter(7 * DAY, DAY, 1_000, 0.01);
+        UUID old = UUID.randomUUID();
+        UUID current = UUID.randomUUID();
+        filter.add(old, NOW);
+
+        // When - 8 days later the same slot is reused
+        filter.add(current, NOW + 8 * DAY);
+
+        // Then
+        assertThat(filter.mightBeRevoked(current, NOW + 2 * DAY)).isTrue();
+        assertThat(filter.mightBeRevoked(old, NOW)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep false positives near the configured rate at expected load")
+    void falsePositiveRateIsBounded() {
+        // Given - 1,000 revocations in one slot, 1% target
+        RevocationFilter filter = new RevocationFilter(7 * DAY, DAY, 1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.add(UUID.randomUUID(), NOW + DAY);
+        }
+
+        // When
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightBeRevoked(UUID.randomUUID(), NOW)) {
+                falsePositives++;
+            }
+        }
+
+        // Then - generous bound to keep the test stable
+        assertThat((double) falsePositives / probes).isLessThan(0.03);
+    }
+}
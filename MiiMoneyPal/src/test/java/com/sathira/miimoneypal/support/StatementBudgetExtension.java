@@ -0,0 +1,74 @@
+package com.sathira.miimoneypal.support;
+
+import com.sathira.miimoneypal.observability.QueryStatsFilter;
+import com.sathira.miimoneypal.observability.RequestQueryStats;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JUnit extension that runs MockMvc requests against the Spring context (with the
+ * query stats filter and the security filter chain) and fails a request that executes
+ * more SQL statements than its declared budget.
+ *
+ * <p>The count is the request's {@link RequestQueryStats}, the same figure published as
+ * {@code http.request.db.statements}, so statements a request runs on other threads
+ * (batch sub-requests) count toward its budget.</p>
+ *
+ * <p>Usage in a {@code @SpringBootTest}:</p>
+ * <pre>
+ * &#64;RegisterExtension
+ * StatementBudgetExtension sql = new StatementBudgetExtension();
+ *
+ * sql.perform(2, get("/api/transactions").header(...))   // fails above 2 statements
+ *         .andExpect(status().isOk());
+ * </pre>
+ *
+ * <p>Setup requests that should not be measured use {@link #perform(RequestBuilder)}.</p>
+ */
+public class StatementBudgetExtension implements BeforeEachCallback {
+
+    private MockMvc mockMvc;
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        WebApplicationContext applicationContext =
+                (WebApplicationContext) SpringExtension.getApplicationContext(context);
+        Filter queryStatsFilter = applicationContext.getBean(QueryStatsFilter.class);
+        Filter securityFilterChain = applicationContext.getBean("springSecurityFilterChain", Filter.class);
+
+        mockMvc = MockMvcBuilders.webAppContextSetup(applicationContext)
+                .addFilters(queryStatsFilter, securityFilterChain)
+                .build();
+    }
+
+    /**
+     * Perform a request without a statement budget (test setup).
+     */
+    public ResultActions perform(RequestBuilder request) throws Exception {
+        return mockMvc.perform(request);
+    }
+
+    /**
+     * Perform a request and assert it executed at most {@code budget} SQL statements.
+     */
+    public ResultActions perform(int budget, RequestBuilder request) throws Exception {
+        ResultActions result = mockMvc.perform(request);
+        RequestQueryStats stats = (RequestQueryStats) result.andReturn().getRequest()
+                .getAttribute(RequestQueryStats.REQUEST_ATTRIBUTE);
+
+        assertThat(stats).as("query stats of the request").isNotNull();
+        assertThat(stats.statements())
+                .as("SQL statements executed by the request (budget %d)", budget)
+                .isLessThanOrEqualTo(budget);
+        return result;
+    }
+}